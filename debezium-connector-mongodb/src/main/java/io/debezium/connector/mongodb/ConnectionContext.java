@@ -142,6 +142,33 @@ public int maxNumberOfCopyThreads() {
         return config.getInteger(MongoDbConnectorConfig.MAX_COPY_THREADS);
     }
 
+    /**
+     * @return the approximate size in bytes of the ranges into which large collections are split during an initial sync, or 0
+     *         if collections are not to be split
+     */
+    public long initialSyncSplitSizeInBytes() {
+        return config.getInteger(MongoDbConnectorConfig.INITIAL_SYNC_SPLIT_SIZE_MB) * 1024L * 1024L;
+    }
+
+    /**
+     * @return the number of events in each batch returned by the oplog cursor, or 0 if the server's default is to be used
+     */
+    public int oplogBatchSize() {
+        return config.getInteger(MongoDbConnectorConfig.OPLOG_BATCH_SIZE);
+    }
+
+    /**
+     * @return the maximum time in milliseconds the server waits for new oplog events, or 0 if the server's default is to be used
+     */
+    public long oplogMaxAwaitTimeInMillis() {
+        return config.getLong(MongoDbConnectorConfig.OPLOG_MAX_AWAIT_TIME_MS);
+    }
+
+    public MongoDbConnectorConfig.CaptureMode captureMode() {
+        return MongoDbConnectorConfig.CaptureMode.parse(config.getString(MongoDbConnectorConfig.CAPTURE_MODE),
+                                                        MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
+    }
+
     /**
      * Obtain a client that will repeated try to obtain a client to the primary node of the replica set, waiting (and using
      * this context's back-off strategy) if required until the primary becomes available.
@@ -5,12 +5,19 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.bson.conversions.Bson;
 
 import io.debezium.config.Configuration;
 import io.debezium.function.Predicates;
 import io.debezium.util.Collect;
+import io.debezium.util.Strings;
 
 /**
  * A utility that is contains filters for acceptable collections.
@@ -20,9 +27,12 @@
 public final class Filters {
 
     protected static final Set<String> BUILT_IN_DB_NAMES = Collect.unmodifiableSet("local", "admin");
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\\\d");
 
     private final Predicate<CollectionId> collectionFilter;
     private final Predicate<String> databaseFilter;
+    private final Bson oplogNamespaceFilter;
+    private final Bson changeStreamNamespaceFilter;
 
     /**
      * Create an instance of the filters.
@@ -52,6 +62,57 @@ public Filters(Configuration config) {
         }
         Predicate<CollectionId> isNotBuiltIn = this::isNotBuiltIn;
         this.collectionFilter = isNotBuiltIn.and(collectionFilter);
+
+        // Only the whitelists can be pushed into the oplog query, since the server-side filter may match more
+        // namespaces than the predicates above but must not match fewer ...
+        List<Bson> namespaceFilters = new ArrayList<>();
+        Bson changeStreamNamespaceFilter = null;
+        if (dbWhitelist != null && !dbWhitelist.trim().isEmpty()) {
+            addIfNotNull(namespaceFilters, regexFilter("ns", dbWhitelist, "\\."));
+            // The database and collection names are separate fields of change events, but the collection whitelist
+            // matches the whole namespace, so only the database whitelist is used ...
+            changeStreamNamespaceFilter = regexFilter("ns.db", dbWhitelist, "$");
+        }
+        if (whitelist != null && !whitelist.trim().isEmpty()) {
+            addIfNotNull(namespaceFilters, regexFilter("ns", whitelist, "$"));
+        }
+        if (namespaceFilters.isEmpty()) {
+            this.oplogNamespaceFilter = null;
+        }
+        else {
+            // Events without a namespace are replica set events, which always have to be read ...
+            this.oplogNamespaceFilter = com.mongodb.client.model.Filters.or(com.mongodb.client.model.Filters.eq("ns", ""),
+                                                                            com.mongodb.client.model.Filters.and(namespaceFilters));
+        }
+        this.changeStreamNamespaceFilter = changeStreamNamespaceFilter;
+    }
+
+    private static Bson regexFilter(String fieldName, String regexPatterns, String suffix) {
+        StringJoiner alternatives = new StringJoiner("|", "^(?:", ")" + suffix);
+        for (Pattern pattern : Strings.listOfRegex(regexPatterns, Pattern.CASE_INSENSITIVE)) {
+            if (!isSupportedByServer(pattern.pattern())) {
+                return null;
+            }
+            alternatives.add(pattern.pattern());
+        }
+        return com.mongodb.client.model.Filters.regex(fieldName, Pattern.compile(alternatives.toString(), Pattern.CASE_INSENSITIVE));
+    }
+
+    private static void addIfNotNull(List<Bson> filters, Bson filter) {
+        if (filter != null) {
+            filters.add(filter);
+        }
+    }
+
+    /**
+     * Determine whether the given Java regular expression has the same meaning for the PCRE library used by the MongoDB
+     * server once it is combined with the other patterns. PCRE does not support character class intersections, and has no
+     * equivalent for most of the {@code \p} classes. An end anchor would precede the suffix appended to the combined pattern,
+     * and back references would refer to the groups of the preceding patterns, so such patterns aren't pushed down either.
+     */
+    private static boolean isSupportedByServer(String regex) {
+        return !regex.contains("&&") && !regex.contains("\\p") && !regex.contains("\\P") && regex.indexOf('$') < 0
+                && !BACK_REFERENCE.matcher(regex).find();
     }
     
     /**
@@ -72,6 +133,29 @@ public Predicate<CollectionId> collectionFilter() {
         return collectionFilter;
     }
     
+    /**
+     * Get the query predicate on the {@code ns} field of oplog events that excludes the events on databases and collections
+     * that are not whitelisted, so that they are not sent by the server at all. Any event matched by this predicate still has
+     * to be checked using the {@link #databaseFilter() database} and {@link #collectionFilter() collection} filters. Events
+     * without a namespace are always matched.
+     *
+     * @return the predicate, or {@code null} if there are no whitelists or they cannot be expressed as a server-side query
+     */
+    public Bson oplogNamespaceFilter() {
+        return oplogNamespaceFilter;
+    }
+
+    /**
+     * Get the query predicate on the {@code ns.db} field of change stream events that excludes the events on databases that
+     * are not whitelisted. Any event matched by this predicate still has to be checked using the
+     * {@link #databaseFilter() database} and {@link #collectionFilter() collection} filters.
+     *
+     * @return the predicate, or {@code null} if there is no database whitelist or it cannot be expressed as a server-side query
+     */
+    public Bson changeStreamNamespaceFilter() {
+        return changeStreamNamespaceFilter;
+    }
+
     protected boolean isNotBuiltIn(CollectionId id) {
         return !BUILT_IN_DB_NAMES.contains(id.dbName());
     }
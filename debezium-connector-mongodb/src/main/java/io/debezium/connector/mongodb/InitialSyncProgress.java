@@ -0,0 +1,181 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The progress of an initial sync of a replica set, which is recorded in the {@link SourceInfo#lastOffset(String) offsets}
+ * so that an interrupted initial sync can skip the collections and ranges of collections that were already copied.
+ * <p>
+ * Collections that are copied as a whole are simply marked as copied. Collections that are split into ranges of their
+ * {@code _id} values record the keys at which they were split, so that a resumed initial sync uses exactly the same
+ * ranges, along with the indexes of the ranges that were copied. Here's a JSON-like representation of the progress of
+ * an initial sync that copied the {@code "dbA.small"} collection and the first and third range of the
+ * {@code "dbA.large"} collection:
+ *
+ * <pre>
+ * {
+ *     "dbA.small" : true,
+ *     "dbA.large" : { "splits" : [ 1000000, 2000000, 3000000 ], "copied" : [ 0, 2 ] }
+ * }
+ * </pre>
+ */
+@ThreadSafe
+public final class InitialSyncProgress {
+
+    private static final String SPLITS = "splits";
+    private static final String COPIED = "copied";
+
+    private final Document collections;
+    private volatile String json;
+
+    public InitialSyncProgress() {
+        this(new Document());
+    }
+
+    private InitialSyncProgress(Document collections) {
+        this.collections = collections;
+        this.json = collections.toJson();
+    }
+
+    /**
+     * Read the progress recorded in an offset.
+     *
+     * @param json the JSON representation of the progress; may not be null
+     * @return the progress; never null
+     * @throws ConnectException if the representation is not valid
+     */
+    public static InitialSyncProgress parse(String json) {
+        try {
+            return new InitialSyncProgress(Document.parse(json));
+        }
+        catch (JsonParseException e) {
+            throw new ConnectException("Source offset '" + SourceInfo.INITIAL_SYNC_PROGRESS + "' parameter value " + json
+                    + " could not be parsed", e);
+        }
+    }
+
+    /**
+     * Get the keys at which the given collection was split into ranges.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     * @return the {@code _id} values at which the collection was split, or {@code null} if the collection has not been
+     *         split
+     */
+    public synchronized List<Object> splitKeys(String namespace) {
+        Object value = collections.get(namespace);
+        if (value instanceof Document) {
+            return Collections.unmodifiableList(splitsOf((Document) value));
+        }
+        return null;
+    }
+
+    /**
+     * Record the keys at which the given collection was split into ranges. The range with index {@code i} contains the
+     * documents with an {@code _id} at or above the split key {@code i - 1} and below the split key {@code i}.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     * @param splitKeys the {@code _id} values at which the collection is split, in ascending order; may not be null
+     */
+    public synchronized void recordSplitKeys(String namespace, List<Object> splitKeys) {
+        if (!collections.containsKey(namespace)) {
+            collections.put(namespace, new Document(SPLITS, new ArrayList<>(splitKeys)).append(COPIED, new ArrayList<Integer>()));
+            json = collections.toJson();
+        }
+    }
+
+    /**
+     * Determine whether the given collection was completely copied.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     * @return {@code true} if the collection was copied, or {@code false} otherwise
+     */
+    public synchronized boolean isCopied(String namespace) {
+        return Boolean.TRUE.equals(collections.get(namespace));
+    }
+
+    /**
+     * Determine whether the given range of a collection was copied.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     * @param range the index of the range
+     * @return {@code true} if the range or the whole collection was copied, or {@code false} otherwise
+     */
+    public synchronized boolean isCopied(String namespace, int range) {
+        Object value = collections.get(namespace);
+        if (value instanceof Document) {
+            return copiedOf((Document) value).contains(range);
+        }
+        return Boolean.TRUE.equals(value);
+    }
+
+    /**
+     * Record that the given collection was completely copied.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     */
+    public synchronized void markCopied(String namespace) {
+        collections.put(namespace, Boolean.TRUE);
+        json = collections.toJson();
+    }
+
+    /**
+     * Record that the given range of a collection was copied. Once all of its ranges are copied, the collection is
+     * recorded as {@link #markCopied(String) completely copied}.
+     *
+     * @param namespace the namespace of the collection; may not be null
+     * @param range the index of the range
+     */
+    public synchronized void markCopied(String namespace, int range) {
+        Object value = collections.get(namespace);
+        if (!(value instanceof Document)) {
+            markCopied(namespace);
+            return;
+        }
+        Document split = (Document) value;
+        List<Integer> copied = copiedOf(split);
+        if (!copied.contains(range)) {
+            copied.add(range);
+        }
+        if (copied.size() > splitsOf(split).size()) {
+            collections.put(namespace, Boolean.TRUE);
+        }
+        json = collections.toJson();
+    }
+
+    /**
+     * Get the JSON representation of this progress, as recorded in the offsets.
+     *
+     * @return the JSON representation; never null
+     */
+    public String toJson() {
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> splitsOf(Document split) {
+        return (List<Object>) split.get(SPLITS, List.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> copiedOf(Document split) {
+        return (List<Integer>) split.get(COPIED, List.class);
+    }
+}
@@ -14,6 +14,7 @@
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.config.Field.ValidationOutput;
 
@@ -25,6 +26,82 @@ public class MongoDbConnectorConfig extends CommonConnectorConfig {
     private static final String DATABASE_LIST_NAME = "database.list";
     private static final String COLLECTION_LIST_NAME = "collection.list";
 
+    /**
+     * The set of predefined CaptureMode options or aliases.
+     */
+    public enum CaptureMode implements EnumeratedValue {
+
+        /**
+         * Read the changes by tailing the oplog of each replica set.
+         */
+        OPLOG("oplog", false),
+
+        /**
+         * Read the changes using a change stream on each replica set.
+         */
+        CHANGE_STREAMS("change_streams", false),
+
+        /**
+         * Read the changes using a change stream on each replica set, looking up the full document of each update.
+         */
+        CHANGE_STREAMS_UPDATE_FULL("change_streams_update_full", true);
+
+        private final String value;
+        private final boolean fullUpdate;
+
+        CaptureMode(String value, boolean fullUpdate) {
+            this.value = value;
+            this.fullUpdate = fullUpdate;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return {@code true} if the changes are read using change streams, or {@code false} if the oplog is read directly
+         */
+        public boolean usesChangeStreams() {
+            return this != OPLOG;
+        }
+
+        /**
+         * @return {@code true} if the change events of updates include the full document after the update
+         */
+        public boolean isFullUpdate() {
+            return fullUpdate;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static CaptureMode parse(String value) {
+            if (value == null) return null;
+            value = value.trim();
+            for (CaptureMode option : CaptureMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) return option;
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static CaptureMode parse(String value, String defaultValue) {
+            CaptureMode mode = parse(value);
+            if (mode == null && defaultValue != null) mode = parse(defaultValue);
+            return mode;
+        }
+    }
+
     /**
      * The comma-separated list of hostname and port pairs (in the form 'host' or 'host:port') of the MongoDB servers in the
      * replica set.
@@ -103,6 +180,54 @@ public class MongoDbConnectorConfig extends CommonConnectorConfig {
                                                       .withDescription("Maximum number of threads used to perform an intial sync of the collections in a replica set. "
                                                               + "Defaults to 1.");
 
+    public static final Field INITIAL_SYNC_SPLIT_SIZE_MB = Field.create("initial.sync.split.size.mb")
+                                                                .withDisplayName("Collection split size for initial sync (MB)")
+                                                                .withType(Type.INT)
+                                                                .withWidth(Width.SHORT)
+                                                                .withImportance(Importance.LOW)
+                                                                .withDefault(0)
+                                                                .withValidation(Field::isNonNegativeInteger)
+                                                                .withDescription("The approximate size in megabytes of the ranges of '_id' values into which collections "
+                                                                        + "larger than this size are split during an initial sync. The ranges are copied concurrently "
+                                                                        + "by the initial sync threads, and an interrupted initial sync resumes with the ranges that "
+                                                                        + "were not yet copied. Defaults to 0, which copies each collection as a whole and starts an interrupted "
+                                                                        + "initial sync over.");
+
+    public static final Field OPLOG_BATCH_SIZE = Field.create("oplog.batch.size")
+                                                      .withDisplayName("Oplog cursor batch size")
+                                                      .withType(Type.INT)
+                                                      .withWidth(Width.SHORT)
+                                                      .withImportance(Importance.LOW)
+                                                      .withDefault(0)
+                                                      .withValidation(Field::isNonNegativeInteger)
+                                                      .withDescription("The number of oplog events that the server returns in each batch while the oplog is tailed. "
+                                                              + "Defaults to 0, which uses the server's default batch size.");
+
+    public static final Field OPLOG_MAX_AWAIT_TIME_MS = Field.create("oplog.max.await.time.ms")
+                                                             .withDisplayName("Maximum time to await oplog events (ms)")
+                                                             .withType(Type.LONG)
+                                                             .withWidth(Width.SHORT)
+                                                             .withImportance(Importance.LOW)
+                                                             .withDefault(0L)
+                                                             .withValidation(Field::isNonNegativeLong)
+                                                             .withDescription("The maximum time in milliseconds that the server waits for new oplog events before "
+                                                                     + "returning an empty batch to the tailing cursor. "
+                                                                     + "Defaults to 0, which uses the server's default of 1 second.");
+
+    public static final Field CAPTURE_MODE = Field.create("capture.mode")
+                                                  .withDisplayName("Capture mode")
+                                                  .withEnum(CaptureMode.class, CaptureMode.OPLOG)
+                                                  .withWidth(Width.SHORT)
+                                                  .withImportance(Importance.MEDIUM)
+                                                  .withDescription("The method used to capture the changes of each replica set. "
+                                                          + "Options include: "
+                                                          + "'oplog' (the default) to tail the oplog directly; "
+                                                          + "'change_streams' to use a change stream, which requires MongoDB 4.0 or later, "
+                                                          + "filters the events on the server and records the resume token of the last event in the offsets; and "
+                                                          + "'change_streams_update_full' same as 'change_streams' except that the events of updates also "
+                                                          + "include the full document after the update. The '" + OPLOG_BATCH_SIZE.name() + "' and '"
+                                                          + OPLOG_MAX_AWAIT_TIME_MS.name() + "' options also apply to change streams.");
+
     public static final Field CONNECT_BACKOFF_INITIAL_DELAY_MS = Field.create("connect.backoff.initial.delay.ms")
                                                                       .withDisplayName("Initial delay before reconnection (ms)")
                                                                       .withType(Type.LONG)
@@ -201,7 +326,8 @@ public class MongoDbConnectorConfig extends CommonConnectorConfig {
 
     public static Field.Set ALL_FIELDS = Field.setOf(USER, PASSWORD, HOSTS, LOGICAL_NAME,
                                                      SSL_ENABLED, SSL_ALLOW_INVALID_HOSTNAMES,
-                                                     MAX_COPY_THREADS, CommonConnectorConfig.MAX_QUEUE_SIZE,
+                                                     MAX_COPY_THREADS, INITIAL_SYNC_SPLIT_SIZE_MB, CommonConnectorConfig.MAX_QUEUE_SIZE,
+                                                     OPLOG_BATCH_SIZE, OPLOG_MAX_AWAIT_TIME_MS, CAPTURE_MODE,
                                                      CommonConnectorConfig.MAX_BATCH_SIZE,
                                                      CommonConnectorConfig.POLL_INTERVAL_MS,
                                                      MAX_FAILED_CONNECTIONS,
@@ -226,7 +352,8 @@ protected static ConfigDef configDef() {
                     CONNECT_BACKOFF_MAX_DELAY_MS, MAX_FAILED_CONNECTIONS, AUTO_DISCOVER_MEMBERS,
                     SSL_ENABLED, SSL_ALLOW_INVALID_HOSTNAMES);
         Field.group(config, "Events", DATABASE_WHITELIST, DATABASE_BLACKLIST, COLLECTION_WHITELIST, COLLECTION_BLACKLIST, CommonConnectorConfig.TOMBSTONES_ON_DELETE);
-        Field.group(config, "Connector", MAX_COPY_THREADS, CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS);
+        Field.group(config, "Connector", CAPTURE_MODE, MAX_COPY_THREADS, INITIAL_SYNC_SPLIT_SIZE_MB, OPLOG_BATCH_SIZE, OPLOG_MAX_AWAIT_TIME_MS,
+                    CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS);
         return config;
     }
 
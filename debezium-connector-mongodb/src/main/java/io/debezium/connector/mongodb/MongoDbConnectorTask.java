@@ -25,7 +25,6 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
-import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.common.BaseSourceTask;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
@@ -38,7 +37,8 @@
  * Generally, the {@link MongoDbConnector} assigns each replica set to a separate task, although multiple
  * replica sets will be assigned to each task when the maximum number of tasks is limited. Regardless, every task will use a
  * separate thread to replicate the contents of each replica set, and each replication thread may use multiple threads
- * to perform an initial sync of the replica set.
+ * to perform an initial sync of the replica set. The records of each replica set are held in {@link ReplicaSetQueues separate
+ * queues}, from which every poll takes a fair share.
  *
  * @see MongoDbConnector
  * @see MongoDbConnectorConfig
@@ -55,7 +55,7 @@ public final class MongoDbConnectorTask extends BaseSourceTask {
     private final RecordBatchSummarizer recordSummarizer = new RecordBatchSummarizer();
 
     // These are all effectively constants between start(...) and stop(...)
-    private volatile ChangeEventQueue<SourceRecord> queue;
+    private volatile ReplicaSetQueues queues;
     private volatile String taskName;
     private volatile MongoDbTaskContext taskContext;
     private volatile Throwable replicatorError;
@@ -89,13 +89,15 @@ public void start(Configuration config) {
 
             MongoDbConnectorConfig connectorConfig = new MongoDbConnectorConfig(config);
 
-            // Set up the task record queue ...
-            this.queue = new ChangeEventQueue.Builder<SourceRecord>()
-                    .pollInterval(connectorConfig.getPollInterval())
-                    .maxBatchSize(connectorConfig.getMaxBatchSize())
-                    .maxQueueSize(connectorConfig.getMaxQueueSize())
-                    .loggingContextSupplier(this::getLoggingContext)
-                    .build();
+            // Set up the record queue of each replica set, which share the configured maximum queue size but can each hold
+            // at least a complete batch ...
+            final List<String> replicaSetNames = new ArrayList<>();
+            replicaSets.validReplicaSets().forEach(replicaSet -> replicaSetNames.add(replicaSet.replicaSetName()));
+            final int maxBatchSize = connectorConfig.getMaxBatchSize();
+            final int maxQueueSizePerReplicaSet = Math.max(maxBatchSize, connectorConfig.getMaxQueueSize() / replicaSetNames.size());
+            this.queues = new ReplicaSetQueues(replicaSetNames, connectorConfig.getPollInterval(), maxBatchSize,
+                                               maxQueueSizePerReplicaSet, taskContext.getClock(), this::getLoggingContext);
+            this.queues.registerMetrics(taskContext, logger);
 
             // Get the offsets for each of replica set partition ...
             SourceInfo source = taskContext.source();
@@ -116,7 +118,8 @@ public void start(Configuration config) {
             logger.info("Starting {} thread(s) to replicate replica sets: {}", numThreads, replicaSets);
             replicaSets.validReplicaSets().forEach(replicaSet -> {
                 // Create a replicator for this replica set ...
-                Replicator replicator = new Replicator(taskContext, replicaSet, queue::enqueue, this::failedReplicator);
+                Replicator replicator = new Replicator(taskContext, replicaSet, queues.recorderFor(replicaSet.replicaSetName()),
+                                                       this::failedReplicator);
                 replicators.add(replicator);
                 // and submit it for execution ...
                 executor.submit(() -> {
@@ -152,7 +155,7 @@ public List<SourceRecord> poll() throws InterruptedException {
         if (replicatorError != null) {
             throw new ConnectException("Failing connector task, at least one of the replicators has failed");
         }
-        List<SourceRecord> records = queue.poll();
+        List<SourceRecord> records = queues.poll();
         recordSummarizer.accept(records);
         return records;
     }
@@ -172,6 +175,9 @@ public void stop() {
                     ++counter;
                 }
                 logger.info("Stopped MongoDB replication task by stopping {} replicator threads", counter);
+                if (queues != null) {
+                    queues.unregisterMetrics(logger);
+                }
             }
         } catch (Throwable e) {
             logger.error("Unexpected error shutting down the MongoDB replication task", e);
@@ -5,6 +5,9 @@
  */
 package io.debezium.connector.mongodb;
 
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.CdcSourceTaskContext;
@@ -60,4 +63,9 @@ public String serverName() {
     public ConnectionContext getConnectionContext() {
         return connectionContext;
     }
+
+    public ObjectName metricName(String replicaSetName) throws MalformedObjectNameException {
+        return new ObjectName("debezium.mongodb:type=connector-metrics,context=replica-set,server=" + serverName
+                + ",replica-set=" + replicaSetName);
+    }
 }
@@ -6,7 +6,9 @@
 package io.debezium.connector.mongodb;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.kafka.connect.data.Schema;
@@ -46,15 +48,23 @@ public class RecordMakers {
         operationLiterals.put("u", Operation.UPDATE);
         operationLiterals.put("d", Operation.DELETE);
     }
+    private static final Map<String, Operation> changeOperationTypes = new HashMap<>();
+    static {
+        changeOperationTypes.put("insert", Operation.CREATE);
+        changeOperationTypes.put("update", Operation.UPDATE);
+        changeOperationTypes.put("replace", Operation.UPDATE);
+        changeOperationTypes.put("delete", Operation.DELETE);
+    }
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create(logger);
     private final SourceInfo source;
     private final TopicSelector topicSelector;
-    private final Map<CollectionId, RecordsForCollection> recordMakerByCollectionId = new HashMap<>();
+    private final Map<CollectionId, RecordsForCollection> recordMakerByCollectionId = new ConcurrentHashMap<>();
     private final Function<Document, String> valueTransformer;
     private final BlockingConsumer<SourceRecord> recorder;
     private final boolean emitTombstonesOnDelete;
+    private final boolean fullUpdate;
 
     /**
      * Create the record makers using the supplied components.
@@ -64,12 +74,28 @@ public class RecordMakers {
      * @param recorder the potentially blocking consumer function to be called for each generated record; may not be null
      */
     public RecordMakers(SourceInfo source, TopicSelector topicSelector, BlockingConsumer<SourceRecord> recorder, boolean emitTombstonesOnDelete) {
+        this(source, topicSelector, recorder, emitTombstonesOnDelete, false);
+    }
+
+    /**
+     * Create the record makers using the supplied components.
+     *
+     * @param source the connector's source information; may not be null
+     * @param topicSelector the selector for topic names; may not be null
+     * @param recorder the potentially blocking consumer function to be called for each generated record; may not be null
+     * @param emitTombstonesOnDelete whether a tombstone is to be generated after each delete event
+     * @param fullUpdate whether the records of updates read from change streams are to include the full document after the
+     *            update, as with the {@link MongoDbConnectorConfig.CaptureMode#CHANGE_STREAMS_UPDATE_FULL} capture mode
+     */
+    public RecordMakers(SourceInfo source, TopicSelector topicSelector, BlockingConsumer<SourceRecord> recorder, boolean emitTombstonesOnDelete,
+                        boolean fullUpdate) {
         this.source = source;
         this.topicSelector = topicSelector;
         JsonWriterSettings writerSettings = new JsonWriterSettings(JsonMode.STRICT, "", ""); // most compact JSON
         this.valueTransformer = (doc) -> doc.toJson(writerSettings);
         this.recorder = recorder;
         this.emitTombstonesOnDelete = emitTombstonesOnDelete;
+        this.fullUpdate = fullUpdate;
     }
 
     /**
@@ -81,7 +107,8 @@ public RecordMakers(SourceInfo source, TopicSelector topicSelector, BlockingCons
     public RecordsForCollection forCollection(CollectionId collectionId) {
         return recordMakerByCollectionId.computeIfAbsent(collectionId, id -> {
             String topicName = topicSelector.getTopic(collectionId);
-            return new RecordsForCollection(collectionId, source, topicName, schemaNameAdjuster, valueTransformer, recorder, emitTombstonesOnDelete);
+            return new RecordsForCollection(collectionId, source, topicName, schemaNameAdjuster, valueTransformer, recorder, emitTombstonesOnDelete,
+                                            fullUpdate);
         });
     }
 
@@ -99,9 +126,11 @@ public static final class RecordsForCollection {
         private final Function<Document, String> valueTransformer;
         private final BlockingConsumer<SourceRecord> recorder;
         private final boolean emitTombstonesOnDelete;
+        private final boolean fullUpdate;
 
         protected RecordsForCollection(CollectionId collectionId, SourceInfo source, String topicName, SchemaNameAdjuster adjuster,
-                Function<Document, String> valueTransformer, BlockingConsumer<SourceRecord> recorder, boolean emitTombstonesOnDelete) {
+                Function<Document, String> valueTransformer, BlockingConsumer<SourceRecord> recorder, boolean emitTombstonesOnDelete,
+                boolean fullUpdate) {
             this.sourcePartition = source.partition(collectionId.replicaSetName());
             this.collectionId = collectionId;
             this.replicaSetName = this.collectionId.replicaSetName();
@@ -123,6 +152,7 @@ protected RecordsForCollection(CollectionId collectionId, SourceInfo source, Str
             this.valueTransformer = (doc) -> doc.toJson(writerSettings, MongoClient.getDefaultCodecRegistry().get(Document.class));
             this.recorder = recorder;
             this.emitTombstonesOnDelete = emitTombstonesOnDelete;
+            this.fullUpdate = fullUpdate;
         }
 
         /**
@@ -149,8 +179,9 @@ public int recordObject(CollectionId id, Document object, long timestamp) throws
             final Map<String, ?> offset = source.lastOffset(replicaSetName);
             String objId = idObjToJson(object);
             assert objId != null;
-            return createRecords(sourceValue, offset, Operation.READ, objId, object, timestamp);
+            return createRecords(sourceValue, offset, Operation.READ, objId, object, null, timestamp);
         }
+
         /**
          * Generate and record one or more source records to describe the given event.
          *
@@ -169,11 +200,56 @@ public int recordEvent(Document oplogEvent, long timestamp) throws InterruptedEx
             String objId = o2 != null ? idObjToJson(o2) : idObjToJson(patchObj);
             assert objId != null;
             Operation operation = operationLiterals.get(oplogEvent.getString("op"));
-            return createRecords(sourceValue, offset, operation, objId, patchObj, timestamp);
+            return createRecords(sourceValue, offset, operation, objId, patchObj, null, timestamp);
+        }
+
+        /**
+         * Generate and record one or more source records to describe the given change stream event. Updates are described by
+         * the same kind of idempotent patch document as updates read from the oplog, and also include the current version of
+         * the document when the record makers were created for full updates.
+         *
+         * @param changeEvent the change stream event; may not be null
+         * @param timestamp the timestamp at which this operation is occurring
+         * @return the number of source records that were generated; will be 0 or more
+         * @throws InterruptedException if the calling thread was interrupted while waiting to submit a record to
+         *             the blocking consumer
+         */
+        public int recordChange(Document changeEvent, long timestamp) throws InterruptedException {
+            String operationType = changeEvent.getString("operationType");
+            Operation operation = changeOperationTypes.get(operationType);
+            if (operation == null) {
+                // Events that do not change a single document, like dropping a collection, are not recorded ...
+                return 0;
+            }
+            final Struct sourceValue = source.offsetStructForChange(replicaSetName, changeEvent);
+            final Map<String, ?> offset = source.lastOffset(replicaSetName);
+            String objId = idObjToJson(changeEvent.get("documentKey"));
+            assert objId != null;
+            Document fullDocument = changeEvent.get("fullDocument", Document.class);
+            Document objectValue = "update".equals(operationType) ? patchFor(changeEvent.get("updateDescription", Document.class))
+                    : fullDocument;
+            // replace events always contain the full document, which only becomes the 'after' value of updates in full update
+            // mode, so that the records of replacements are the same as when reading the oplog otherwise ...
+            return createRecords(sourceValue, offset, operation, objId, objectValue, fullUpdate ? fullDocument : null, timestamp);
+        }
+
+        private Document patchFor(Document updateDescription) {
+            Document patch = new Document();
+            Document updatedFields = updateDescription.get("updatedFields", Document.class);
+            if (updatedFields != null && !updatedFields.isEmpty()) {
+                patch.append("$set", updatedFields);
+            }
+            List<?> removedFields = updateDescription.get("removedFields", List.class);
+            if (removedFields != null && !removedFields.isEmpty()) {
+                Document unset = new Document();
+                removedFields.forEach(field -> unset.append(field.toString(), true));
+                patch.append("$unset", unset);
+            }
+            return patch;
         }
 
         protected int createRecords(Struct source, Map<String, ?> offset, Operation operation, String objId, Document objectValue,
-                                    long timestamp)
+                                    Document fullDocument, long timestamp)
                 throws InterruptedException {
             Integer partition = null;
             Struct key = keyFor(objId);
@@ -189,6 +265,10 @@ protected int createRecords(Struct source, Map<String, ?> offset, Operation oper
                     // The object is the idempotent patch document ...
                     String patchStr = valueTransformer.apply(objectValue);
                     value.put("patch", patchStr);
+                    if (fullDocument != null) {
+                        // The current version of the document, as looked up by a change stream ...
+                        value.put(FieldName.AFTER, valueTransformer.apply(fullDocument));
+                    }
                     break;
                 case DELETE:
                     // The delete event has nothing of any use, other than the _id which we already have in our key.
@@ -0,0 +1,27 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+/**
+ * Metrics of the queue holding the records of one replica set until they are polled by Kafka Connect.
+ */
+public interface ReplicaSetQueueMetricsMXBean {
+
+    String getReplicaSetName();
+
+    int getQueueTotalCapacity();
+    int getQueueRemainingCapacity();
+    int getQueueDepth();
+    long getProducerWaitTimeInMillis();
+
+    long getTotalNumberOfPolledRecords();
+
+    /**
+     * @return the time in milliseconds between the last polled event occurring in the replica set and it being polled, or
+     *         {@code -1} if no event has been polled yet
+     */
+    long getMillisecondsBehindSource();
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext.PreviousContext;
+
+/**
+ * The handover point between the replicators of a task and the Kafka Connect polling thread, which holds the records of each
+ * replica set in a separate bounded {@link ChangeEventQueue}. The threads replicating a replica set therefore only contend
+ * with each other, and a replica set with a backlog of records can neither fill the queues of the other replica sets nor
+ * take up whole batches: each poll visits the replica sets round robin, giving every replica set with records an equal share
+ * of the batch and passing the share a replica set cannot use on to the others.
+ * <p>
+ * Like a single {@link ChangeEventQueue}, a poll returns the available records right away, and otherwise waits until a
+ * complete batch has arrived or the poll interval has passed.
+ */
+@ThreadSafe
+public final class ReplicaSetQueues {
+
+    private final ReplicaSetQueue[] queues;
+    private final Duration pollInterval;
+    private final int maxBatchSize;
+    private final Clock clock;
+    private final Supplier<PreviousContext> loggingContextSupplier;
+
+    private final AtomicReference<Thread> waitingConsumer = new AtomicReference<>();
+    private volatile int consumerWakeupThreshold;
+
+    /**
+     * The index of the queue visited first by the next poll; only accessed by the polling thread.
+     */
+    private int nextQueue;
+
+    /**
+     * @param replicaSetNames the names of the replica sets; may not be null or empty
+     * @param pollInterval the maximum time a poll waits for a complete batch
+     * @param maxBatchSize the maximum number of records returned by a poll
+     * @param maxQueueSize the maximum number of records held for each replica set
+     * @param clock the clock used to compute how far behind the replica sets the polled records are
+     * @param loggingContextSupplier the supplier of the logging context used while polling
+     */
+    public ReplicaSetQueues(Collection<String> replicaSetNames, Duration pollInterval, int maxBatchSize, int maxQueueSize,
+                            Clock clock, Supplier<PreviousContext> loggingContextSupplier) {
+        if (replicaSetNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica set is required");
+        }
+        this.pollInterval = pollInterval;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = clock;
+        this.loggingContextSupplier = loggingContextSupplier;
+        this.queues = replicaSetNames.stream()
+                                     .map(replicaSetName -> new ReplicaSetQueue(replicaSetName,
+                                             new ChangeEventQueue.Builder<SourceRecord>()
+                                                     .pollInterval(pollInterval)
+                                                     .maxBatchSize(maxBatchSize)
+                                                     .maxQueueSize(maxQueueSize)
+                                                     .loggingContextSupplier(loggingContextSupplier)
+                                                     .build()))
+                                     .toArray(ReplicaSetQueue[]::new);
+    }
+
+    /**
+     * Get the consumer that adds records to the queue of the given replica set. The consumer blocks while that queue is full.
+     *
+     * @param replicaSetName the name of the replica set; may not be null
+     * @return the consumer; never null
+     * @throws IllegalArgumentException if the replica set is not known
+     */
+    public BlockingConsumer<SourceRecord> recorderFor(String replicaSetName) {
+        final ReplicaSetQueue queue = queueFor(replicaSetName);
+        return record -> {
+            queue.records.enqueue(record);
+            wakeUpConsumer();
+        };
+    }
+
+    /**
+     * Get the metrics of the queue of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; may not be null
+     * @return the metrics; never null
+     * @throws IllegalArgumentException if the replica set is not known
+     */
+    public ReplicaSetQueueMetricsMXBean metricsFor(String replicaSetName) {
+        return queueFor(replicaSetName);
+    }
+
+    /**
+     * Returns the next batch of records from the queues of all the replica sets. Any records available when this method is
+     * called are returned right away; otherwise it waits until {@code maxBatchSize} records have arrived or the poll interval
+     * has passed. May be empty in case no records have arrived in the maximum waiting time.
+     *
+     * @return the records; may be empty but never null
+     * @throws InterruptedException if this thread has been interrupted while waiting for more records to arrive
+     */
+    public List<SourceRecord> poll() throws InterruptedException {
+        PreviousContext previousContext = loggingContextSupplier.get();
+        try {
+            int available = queueDepth();
+            if (available == 0) {
+                final long start = System.nanoTime();
+                final long batchDeadline = start + pollInterval.toNanos();
+                final long returnDeadline = start + Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL).toNanos();
+                while (available == 0 || (available < maxBatchSize && System.nanoTime() - batchDeadline < 0)) {
+                    final long now = System.nanoTime();
+                    if (now - returnDeadline >= 0) {
+                        return Collections.emptyList();
+                    }
+                    // wait for a complete batch until the poll interval has passed, for any record afterwards
+                    if (now - batchDeadline < 0) {
+                        awaitRecords(maxBatchSize, batchDeadline);
+                    }
+                    else {
+                        awaitRecords(1, returnDeadline);
+                    }
+                    available = queueDepth();
+                }
+            }
+            return drain(Math.min(available, maxBatchSize));
+        }
+        finally {
+            previousContext.restore();
+        }
+    }
+
+    /**
+     * Register the metrics of the queue of each replica set.
+     *
+     * @param context the task context; may not be null
+     * @param logger the logger for any registration failures; may not be null
+     */
+    public void registerMetrics(MongoDbTaskContext context, Logger logger) {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (ReplicaSetQueue queue : queues) {
+            ObjectName name = null;
+            try {
+                name = context.metricName(queue.replicaSetName);
+                mBeanServer.registerMBean(queue, name);
+                queue.metricName = name;
+            }
+            catch (JMException e) {
+                logger.warn("Error while register the MBean '{}': {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Unregister the metrics of the queue of each replica set.
+     *
+     * @param logger the logger for any failures; may not be null
+     */
+    public void unregisterMetrics(Logger logger) {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (ReplicaSetQueue queue : queues) {
+            if (queue.metricName != null) {
+                try {
+                    mBeanServer.unregisterMBean(queue.metricName);
+                }
+                catch (JMException e) {
+                    logger.error("Unable to unregister the MBean '{}'", queue.metricName);
+                }
+                finally {
+                    queue.metricName = null;
+                }
+            }
+        }
+    }
+
+    private ReplicaSetQueue queueFor(String replicaSetName) {
+        for (ReplicaSetQueue queue : queues) {
+            if (queue.replicaSetName.equals(replicaSetName)) {
+                return queue;
+            }
+        }
+        throw new IllegalArgumentException("Unknown replica set " + replicaSetName);
+    }
+
+    private int queueDepth() {
+        int depth = 0;
+        for (ReplicaSetQueue queue : queues) {
+            depth += queue.records.queueDepth();
+        }
+        return depth;
+    }
+
+    private void awaitRecords(int threshold, long deadline) throws InterruptedException {
+        final Thread consumer = Thread.currentThread();
+        consumerWakeupThreshold = threshold;
+        waitingConsumer.set(consumer);
+        try {
+            // producers publish their records before checking for a waiting consumer, so this check can't miss a wakeup
+            if (queueDepth() < threshold) {
+                LockSupport.parkNanos(this, deadline - System.nanoTime());
+            }
+        }
+        finally {
+            waitingConsumer.set(null);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void wakeUpConsumer() {
+        final Thread consumer = waitingConsumer.get();
+        // only the producer clearing the waiting consumer wakes it up, so it isn't woken up once per record
+        if (consumer != null && queueDepth() >= consumerWakeupThreshold && waitingConsumer.compareAndSet(consumer, null)) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private List<SourceRecord> drain(int maxRecords) {
+        final List<SourceRecord> records = new ArrayList<>(maxRecords);
+        final int first = nextQueue;
+        int remaining = maxRecords;
+        while (remaining > 0) {
+            int queuesWithRecords = 0;
+            for (ReplicaSetQueue queue : queues) {
+                if (queue.records.queueDepth() > 0) {
+                    queuesWithRecords++;
+                }
+            }
+            if (queuesWithRecords == 0) {
+                break;
+            }
+            // every queue with records gets an equal share of the rest of the batch, starting with a different queue on
+            // each poll so that the remainder of the division isn't always given to the same replica set
+            final int share = Math.max(1, remaining / queuesWithRecords);
+            for (int i = 0; i < queues.length && remaining > 0; i++) {
+                remaining -= queues[(first + i) % queues.length].pollInto(records, Math.min(share, remaining));
+            }
+        }
+        nextQueue = (first + 1) % queues.length;
+        return records;
+    }
+
+    private final class ReplicaSetQueue implements ReplicaSetQueueMetricsMXBean {
+        private final String replicaSetName;
+        private final ChangeEventQueue<SourceRecord> records;
+        private final AtomicLong polledRecords = new AtomicLong();
+        private volatile long millisecondsBehindSource = -1;
+        private volatile ObjectName metricName;
+
+        private ReplicaSetQueue(String replicaSetName, ChangeEventQueue<SourceRecord> records) {
+            this.replicaSetName = replicaSetName;
+            this.records = records;
+        }
+
+        private int pollInto(List<SourceRecord> batch, int maxRecords) {
+            final List<SourceRecord> polled = records.pollAvailable(maxRecords);
+            if (polled.isEmpty()) {
+                return 0;
+            }
+            batch.addAll(polled);
+            polledRecords.addAndGet(polled.size());
+            // the offsets of the events of MongoDB record the time of the event in seconds
+            final Object eventTime = polled.get(polled.size() - 1).sourceOffset().get(SourceInfo.TIMESTAMP);
+            if (eventTime instanceof Number && ((Number) eventTime).longValue() > 0) {
+                millisecondsBehindSource = Math.max(0, clock.currentTimeInMillis() - ((Number) eventTime).longValue() * 1000);
+            }
+            return polled.size();
+        }
+
+        @Override
+        public String getReplicaSetName() {
+            return replicaSetName;
+        }
+
+        @Override
+        public int getQueueTotalCapacity() {
+            return records.totalCapacity();
+        }
+
+        @Override
+        public int getQueueRemainingCapacity() {
+            return records.remainingCapacity();
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return records.queueDepth();
+        }
+
+        @Override
+        public long getProducerWaitTimeInMillis() {
+            return records.totalProducerWaitTimeInMillis();
+        }
+
+        @Override
+        public long getTotalNumberOfPolledRecords() {
+            return polledRecords.get();
+        }
+
+        @Override
+        public long getMillisecondsBehindSource() {
+            return millisecondsBehindSource;
+        }
+    }
+}
@@ -5,12 +5,16 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -19,20 +23,31 @@
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.Block;
 import com.mongodb.CursorType;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoCommandException;
 import com.mongodb.ServerAddress;
+import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.changestream.FullDocument;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.mongodb.RecordMakers.RecordsForCollection;
@@ -67,11 +82,23 @@
  * oplog is <a href="https://docs.mongodb.com/manual/core/replica-set-oplog/">idempotent</a>. So, as long as we read the oplog
  * from the same point in time (or earlier) than we <em>started</em> our copy operation, and apply <em>all</em> of the changes
  * <em>in the same order</em>, then the state of all documents described by this connector will be the same.
+ * <p>
+ * Collections larger than the {@link MongoDbConnectorConfig#INITIAL_SYNC_SPLIT_SIZE_MB configured size} are split into ranges
+ * of their {@code _id} values, which are copied concurrently just like separate collections. When collections are split, the
+ * collections and ranges that have been copied are recorded in the offsets, so that an interrupted initial sync can be resumed
+ * from the same start time without copying them again, as long as the oplog still contains that time. Otherwise an interrupted
+ * initial sync is started over, as it always used to be.
  *
  * <h2>Restart</h2>
  * If prior runs of the replicator have recorded offsets in the {@link MongoDbTaskContext#source() source information}, then
  * when the replicator starts it will simply start reading the primary's oplog starting at the same point it last left off.
  *
+ * <h2>Change streams</h2>
+ * Depending on the {@link MongoDbConnectorConfig#CAPTURE_MODE capture mode}, the replicator reads the changes from a
+ * <a href="https://docs.mongodb.com/manual/changeStreams/">change stream</a> of the whole replica set rather than from the
+ * oplog itself. The change stream starts at the same <em>start time</em> after an initial sync, and is resumed after the
+ * resume token of the last event recorded in the offsets on restart.
+ *
  * <h2>Handling problems</h2>
  * <p>
  * This replicator does each of its tasks using a connection to the primary. If the replicator is not able to establish a
@@ -89,6 +116,29 @@ public class Replicator {
 
     private static final String AUTHORIZATION_FAILURE_MESSAGE = "Command failed with error 13";
 
+    /**
+     * The maximum number of ranges into which a collection is split, since the split keys are recorded in the offsets; more
+     * ranges would hardly copy a collection faster, as they are shared by the copy threads anyway.
+     */
+    private static final int MAX_RANGES_PER_COLLECTION = 256;
+
+    /**
+     * The number of documents sampled for each range when the split keys cannot be computed by the {@code splitVector} command.
+     */
+    private static final int SAMPLES_PER_RANGE = 10;
+
+    /**
+     * The fields of the oplog events that are used to produce records and offsets.
+     */
+    private static final Bson OPLOG_EVENT_FIELDS = Projections.include("ts", "h", "op", "ns", "o", "o2");
+
+    private static final Codec<Document> DOCUMENT_CODEC = MongoClient.getDefaultCodecRegistry().get(Document.class);
+
+    /**
+     * The types of the change stream events that are used to produce records.
+     */
+    private static final List<String> CHANGE_OPERATION_TYPES = Arrays.asList("insert", "update", "replace", "delete");
+
     private final MongoDbTaskContext context;
     private final ExecutorService copyThreads;
     private final ReplicaSet replicaSet;
@@ -118,7 +168,8 @@ public Replicator(MongoDbTaskContext context, ReplicaSet replicaSet, BlockingCon
         final String copyThreadName = "copy-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
         this.copyThreads = Threads.newFixedThreadPool(MongoDbConnector.class, context.serverName(), copyThreadName, context.getConnectionContext().maxNumberOfCopyThreads());
         this.bufferedRecorder = new BufferableRecorder(recorder);
-        this.recordMakers = new RecordMakers(this.source, context.topicSelector(), this.bufferedRecorder, context.isEmitTombstoneOnDelete());
+        this.recordMakers = new RecordMakers(this.source, context.topicSelector(), this.bufferedRecorder, context.isEmitTombstoneOnDelete(),
+                                            context.getConnectionContext().captureMode().isFullUpdate());
         this.clock = this.context.getClock();
         this.onFailure = onFailure;
     }
@@ -141,12 +192,19 @@ public void run() {
             try {
                 if (establishConnectionToPrimary()) {
                     if (isInitialSyncExpected()) {
-                        recordCurrentOplogPosition();
+                        if (!isInitialSyncResumable()) {
+                            recordCurrentOplogPosition();
+                        }
                         if (!performInitialSync()) {
                             return;
                         }
                     }
-                    readOplog();
+                    if (usesChangeStreams()) {
+                        readChangeStream();
+                    }
+                    else {
+                        readOplog();
+                    }
                 }
             }
             catch (Throwable t) {
@@ -183,9 +241,31 @@ protected boolean establishConnectionToPrimary() {
     }
 
     /**
-     * Obtain the current position of the oplog, and record it in the source.
+     * Determine whether changes are read from the change stream rather than from the oplog.
+     *
+     * @return {@code true} if the change stream is read, or {@code false} if the oplog is read
+     */
+    protected boolean usesChangeStreams() {
+        return context.getConnectionContext().captureMode().usesChangeStreams();
+    }
+
+    /**
+     * Obtain the current position of the oplog, and record it in the source. When the change stream is read, the position is
+     * the operation time of the primary, so that the oplog isn't read at all.
      */
     protected void recordCurrentOplogPosition() {
+        if (usesChangeStreams()) {
+            primaryClient.execute("get operation time", primary -> {
+                Document result = primary.getDatabase("admin").runCommand(new Document("isMaster", 1));
+                BsonTimestamp operationTime = result.get("operationTime", BsonTimestamp.class);
+                if (operationTime == null) {
+                    throw new ConnectException("The primary of replica set '" + rsName + "' did not report an operation time, which "
+                            + "is required to read the change stream");
+                }
+                source.offsetStructForEvent(replicaSet.replicaSetName(), new Document("ts", operationTime).append("ns", ""));
+            });
+            return;
+        }
         primaryClient.execute("get oplog position", primary -> {
             MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
             Document last = oplog.find().sort(new Document("$natural", -1)).limit(1).first(); // may be null
@@ -213,15 +293,14 @@ protected boolean isInitialSyncExpected() {
                     // The last snapshot was not completed, so do it again ...
                     logger.info("The previous initial sync was incomplete for '{}', so initiating another initial sync", rsName);
                     performSnapshot = true;
+                } else if (usesChangeStreams()) {
+                    // The change stream is resumed at the last recorded offset, which fails if that is no longer in the oplog ...
+                    logger.info("The change stream of '{}' will be resumed, so no initial sync will be performed", rsName);
                 } else {
                     // There is no ongoing initial sync, so look to see if our last recorded offset still exists in the oplog.
                     BsonTimestamp lastRecordedTs = source.lastOffsetTimestamp(rsName);
 
-                    BsonTimestamp firstAvailableTs = primaryClient.execute("get oplog position", primary -> {
-                        MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
-                        Document firstEvent = oplog.find().sort(new Document("$natural", 1)).limit(1).first(); // may be null
-                        return SourceInfo.extractEventTimestamp(firstEvent);
-                    });
+                    BsonTimestamp firstAvailableTs = firstAvailableOplogTimestamp();
 
                     if (firstAvailableTs == null) {
                         logger.info("The oplog contains no entries, so performing initial sync of replica set '{}'", rsName);
@@ -246,6 +325,72 @@ protected boolean isInitialSyncExpected() {
         return performSnapshot;
     }
 
+    /**
+     * Determine if an interrupted initial sync can be resumed. This requires the {@link InitialSyncProgress progress} of the
+     * initial sync to have been recorded in the offsets, and the oplog to still contain the position at which the interrupted
+     * initial sync started, since the oplog has to be read from that position once the initial sync is completed. The progress
+     * is only recorded when collections are {@link MongoDbConnectorConfig#INITIAL_SYNC_SPLIT_SIZE_MB split}, and so an initial
+     * sync is only resumed while splitting is configured.
+     *
+     * @return {@code true} if the initial sync is to be resumed, or {@code false} if it is to be started over
+     */
+    protected boolean isInitialSyncResumable() {
+        InitialSyncProgress progress = source.initialSyncProgress(rsName);
+        if (progress == null) {
+            return false;
+        }
+        if (!isInitialSyncProgressRecorded()) {
+            logger.info("Starting over the interrupted initial sync of replica set '{}', since collections are no longer split", rsName);
+            source.discardInitialSyncProgress(rsName);
+            return false;
+        }
+        BsonTimestamp startTs = source.lastOffsetTimestamp(rsName);
+        if (context.getConnectionContext().performSnapshotEvenIfNotNeeded() || !isAvailableInOplog(startTs)) {
+            logger.info("Starting over the interrupted initial sync of replica set '{}', which cannot be resumed from {}", rsName, startTs);
+            source.discardInitialSyncProgress(rsName);
+            return false;
+        }
+        logger.info("Resuming the interrupted initial sync of replica set '{}' at {} with progress {}", rsName, startTs, progress);
+        return true;
+    }
+
+    /**
+     * Determine if the oplog still contains the given position. The oplog isn't read when the change stream is read, in which
+     * case resuming the change stream fails if the position is no longer available.
+     *
+     * @param ts the timestamp of the position; may not be null
+     * @return {@code true} if the oplog can be read from the position, or {@code false} otherwise
+     */
+    protected boolean isAvailableInOplog(BsonTimestamp ts) {
+        if (usesChangeStreams()) {
+            return true;
+        }
+        BsonTimestamp firstAvailableTs = firstAvailableOplogTimestamp();
+        return firstAvailableTs != null && ts.compareTo(firstAvailableTs) >= 0;
+    }
+
+    /**
+     * Determine if the progress of an initial sync is recorded in the offsets, which is only worthwhile when collections are split.
+     *
+     * @return {@code true} if an interrupted initial sync can be resumed, or {@code false} if it has to be started over
+     */
+    protected boolean isInitialSyncProgressRecorded() {
+        return context.getConnectionContext().initialSyncSplitSizeInBytes() > 0;
+    }
+
+    /**
+     * Obtain the timestamp of the first event in the oplog.
+     *
+     * @return the timestamp of the first event, or {@code null} if the oplog is empty
+     */
+    protected BsonTimestamp firstAvailableOplogTimestamp() {
+        return primaryClient.execute("get oplog position", primary -> {
+            MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
+            Document firstEvent = oplog.find().sort(new Document("$natural", 1)).limit(1).first(); // may be null
+            return SourceInfo.extractEventTimestamp(firstEvent);
+        });
+    }
+
     /**
      * Perform the initial sync of the collections in the replica set.
      *
@@ -253,7 +398,8 @@ protected boolean isInitialSyncExpected() {
      */
     protected boolean performInitialSync() {
         logger.info("Beginning initial sync of '{}' at {}", rsName, source.lastOffset(rsName));
-        source.startInitialSync(replicaSet.replicaSetName());
+        final boolean recordProgress = isInitialSyncProgressRecorded();
+        source.startInitialSync(replicaSet.replicaSetName(), recordProgress);
 
         // Set up our recorder to buffer the last record ...
         try {
@@ -267,33 +413,41 @@ protected boolean performInitialSync() {
         // Get the current timestamp of this processor ...
         final long syncStart = clock.currentTimeInMillis();
 
-        // We need to copy each collection, so put the collection IDs into a queue ...
+        // We need to copy each collection or each range of a split collection that was not yet copied, so put them into a queue ...
         final List<CollectionId> collections = primaryClient.collections();
-        final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
-        final int numThreads = Math.min(collections.size(), context.getConnectionContext().maxNumberOfCopyThreads());
+        // without splitting, the progress is only tracked locally and the initial sync is started over when interrupted ...
+        final InitialSyncProgress progress = recordProgress ? source.initialSyncProgress(rsName) : new InitialSyncProgress();
+        final List<CollectionRange> ranges = new ArrayList<>();
+        for (CollectionId id : collections) {
+            ranges.addAll(rangesToCopy(id, progress));
+        }
+        final Queue<CollectionRange> rangesToCopy = new ConcurrentLinkedQueue<>(ranges);
+        final int numThreads = Math.min(ranges.size(), context.getConnectionContext().maxNumberOfCopyThreads());
         final CountDownLatch latch = new CountDownLatch(numThreads);
         final AtomicBoolean aborted = new AtomicBoolean(false);
         final AtomicInteger replicatorThreadCounter = new AtomicInteger(0);
-        final AtomicInteger numCollectionsCopied = new AtomicInteger();
+        final AtomicInteger numRangesCopied = new AtomicInteger();
         final AtomicLong numDocumentsCopied = new AtomicLong();
 
-        // And start threads to pull collection IDs from the queue and perform the copies ...
-        logger.info("Preparing to use {} thread(s) to sync {} collection(s): {}",
-                    numThreads, collections.size(), Strings.join(", ", collections));
+        // And start threads to pull ranges from the queue and perform the copies ...
+        logger.info("Preparing to use {} thread(s) to sync {} range(s) of {} collection(s): {}",
+                    numThreads, ranges.size(), collections.size(), Strings.join(", ", collections));
         for (int i = 0; i != numThreads; ++i) {
             copyThreads.submit(() -> {
                 context.configureLoggingContext(replicaSet.replicaSetName() + "-sync" + replicatorThreadCounter.incrementAndGet());
-                // Continue to pull a collection ID and copy the collection ...
+                // Continue to pull a range and copy its documents ...
                 try {
-                    CollectionId id = null;
-                    while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+                    CollectionRange range = null;
+                    while (!aborted.get() && (range = rangesToCopy.poll()) != null) {
                         long start = clock.currentTimeInMillis();
-                        logger.info("Starting initial sync of '{}'", id);
-                        long numDocs = copyCollection(id, syncStart);
-                        numCollectionsCopied.incrementAndGet();
+                        logger.info("Starting initial sync of {}", range);
+                        range.markStarted(progress);
+                        long numDocs = copyRange(range, syncStart);
+                        range.markCopied(progress);
+                        numRangesCopied.incrementAndGet();
                         numDocumentsCopied.addAndGet(numDocs);
                         long duration = clock.currentTimeInMillis() - start;
-                        logger.info("Completing initial sync of {} documents from '{}' in {}", numDocs, id, Strings.duration(duration));
+                        logger.info("Completing initial sync of {} documents from {} in {}", numDocs, range, Strings.duration(duration));
                     }
                 } catch (InterruptedException e) {
                     // Do nothing so that this thread is terminated ...
@@ -317,9 +471,9 @@ protected boolean performInitialSync() {
         // Therefore, check the aborted state here ...
         long syncDuration = clock.currentTimeInMillis() - syncStart;
         if (aborted.get()) {
-            int remaining = collections.size() - numCollectionsCopied.get();
-            logger.info("Initial sync aborted after {} with {} of {} collections incomplete",
-                        Strings.duration(syncDuration), remaining, collections.size());
+            int remaining = ranges.size() - numRangesCopied.get();
+            logger.info("Initial sync aborted after {} with {} of {} ranges incomplete",
+                        Strings.duration(syncDuration), remaining, ranges.size());
             return false;
         }
 
@@ -338,6 +492,152 @@ protected boolean performInitialSync() {
         return true;
     }
 
+    /**
+     * Determine the ranges of the collection that remain to be copied. Collections larger than the
+     * {@link ConnectionContext#initialSyncSplitSizeInBytes() split size} are split into ranges of their {@code _id} values,
+     * unless they were already split by the interrupted initial sync being resumed.
+     *
+     * @param collectionId the identifier of the collection to be copied; may not be null
+     * @param progress the progress of the initial sync; may not be null
+     * @return the ranges that were not yet copied; never null but possibly empty
+     */
+    protected List<CollectionRange> rangesToCopy(CollectionId collectionId, InitialSyncProgress progress) {
+        String namespace = collectionId.namespace();
+        if (progress.isCopied(namespace)) {
+            logger.info("Skipping '{}', which was copied by the interrupted initial sync", collectionId);
+            return Collections.emptyList();
+        }
+        List<Object> splitKeys = progress.splitKeys(namespace);
+        long splitSize = context.getConnectionContext().initialSyncSplitSizeInBytes();
+        if (splitKeys == null && splitSize > 0) {
+            splitKeys = primaryClient.execute("split '" + collectionId + "'", primary -> {
+                return splitKeys(primary, collectionId, splitSize);
+            });
+        }
+        if (splitKeys == null || splitKeys.isEmpty()) {
+            return Collections.singletonList(new CollectionRange(collectionId));
+        }
+        List<CollectionRange> ranges = new ArrayList<>(splitKeys.size() + 1);
+        for (int i = 0; i <= splitKeys.size(); ++i) {
+            if (!progress.isCopied(namespace, i)) {
+                ranges.add(new CollectionRange(collectionId, splitKeys, i,
+                                               i > 0 ? splitKeys.get(i - 1) : null,
+                                               i < splitKeys.size() ? splitKeys.get(i) : null));
+            }
+        }
+        logger.info("Split '{}' into {} ranges, of which {} remain to be copied", collectionId, splitKeys.size() + 1, ranges.size());
+        return ranges;
+    }
+
+    /**
+     * Determine the {@code _id} values at which the collection is to be split into ranges of about the given size. The split
+     * keys are computed by the {@code splitVector} command, or from a sample of the documents if that command is not
+     * available (e.g., because the user is not authorized to run it).
+     *
+     * @param primary the connection to the replica set's primary node; may not be null
+     * @param collectionId the identifier of the collection to be split; may not be null
+     * @param splitSize the approximate size of each range in bytes; must be positive
+     * @return the {@code _id} values at which the collection is to be split, in ascending order; never null but empty if the
+     *         collection is not larger than the split size
+     */
+    protected List<Object> splitKeys(MongoClient primary, CollectionId collectionId, long splitSize) {
+        MongoDatabase db = primary.getDatabase(collectionId.dbName());
+        Document stats = db.runCommand(new Document("collStats", collectionId.name()));
+        long size = ((Number) stats.get("size")).longValue();
+        if (size <= splitSize) {
+            return Collections.emptyList();
+        }
+        List<Object> splitKeys = new ArrayList<>();
+        try {
+            Document result = db.runCommand(new Document("splitVector", collectionId.namespace())
+                                                    .append("keyPattern", new Document("_id", 1))
+                                                    .append("maxChunkSizeBytes", splitSize));
+            for (Object key : result.get("splitKeys", List.class)) {
+                splitKeys.add(((Document) key).get("_id"));
+            }
+        }
+        catch (MongoCommandException e) {
+            logger.info("Unable to split '{}' using splitVector ({}), so sampling its documents instead", collectionId, e.getErrorMessage());
+            int numRanges = (int) Math.min(size / splitSize + 1, MAX_RANGES_PER_COLLECTION);
+            List<Object> sampledIds = new ArrayList<>();
+            db.getCollection(collectionId.name())
+              .aggregate(Arrays.asList(Aggregates.sample(numRanges * SAMPLES_PER_RANGE),
+                                       Aggregates.project(Projections.include("_id")),
+                                       Aggregates.sort(Sorts.ascending("_id"))))
+              .allowDiskUse(true)
+              .forEach((Block<Document>) doc -> sampledIds.add(doc.get("_id")));
+            for (int i = SAMPLES_PER_RANGE; i < sampledIds.size(); i += SAMPLES_PER_RANGE) {
+                Object key = sampledIds.get(i);
+                if (splitKeys.isEmpty() || !key.equals(splitKeys.get(splitKeys.size() - 1))) {
+                    splitKeys.add(key);
+                }
+            }
+        }
+        // Keep the number of ranges bounded, since the split keys are recorded in the offsets ...
+        if (splitKeys.size() >= MAX_RANGES_PER_COLLECTION) {
+            int step = (splitKeys.size() + MAX_RANGES_PER_COLLECTION - 2) / (MAX_RANGES_PER_COLLECTION - 1);
+            List<Object> fewerKeys = new ArrayList<>(MAX_RANGES_PER_COLLECTION - 1);
+            for (int i = step - 1; i < splitKeys.size(); i += step) {
+                fewerKeys.add(splitKeys.get(i));
+            }
+            splitKeys = fewerKeys;
+        }
+        return splitKeys;
+    }
+
+    /**
+     * Copy the range of the collection, sending to the recorder a record for each document.
+     *
+     * @param range the range of the collection to be copied; may not be null
+     * @param timestamp the timestamp in milliseconds at which the copy operation was started
+     * @return number of documents that were copied
+     * @throws InterruptedException if the thread was interrupted while the copy operation was running
+     */
+    protected long copyRange(CollectionRange range, long timestamp) throws InterruptedException {
+        AtomicLong docCount = new AtomicLong();
+        primaryClient.executeBlocking("sync " + range, primary -> {
+            docCount.set(copyRange(primary, range, timestamp));
+        });
+        return docCount.get();
+    }
+
+    /**
+     * Copy the range of the collection, sending to the recorder a record for each document. The documents are read using
+     * the {@code _id} index bounds rather than a query on the {@code _id} values, so that each range includes the
+     * documents with {@code _id} values of any type.
+     *
+     * @param primary the connection to the replica set's primary node; may not be null
+     * @param range the range of the collection to be copied; may not be null
+     * @param timestamp the timestamp in milliseconds at which the copy operation was started
+     * @return number of documents that were copied
+     * @throws InterruptedException if the thread was interrupted while the copy operation was running
+     */
+    protected long copyRange(MongoClient primary, CollectionRange range, long timestamp) throws InterruptedException {
+        if (range.isWholeCollection()) {
+            return copyCollection(primary, range.collectionId(), timestamp);
+        }
+        CollectionId collectionId = range.collectionId();
+        RecordsForCollection factory = recordMakers.forCollection(collectionId);
+        MongoDatabase db = primary.getDatabase(collectionId.dbName());
+        MongoCollection<Document> docCollection = db.getCollection(collectionId.name());
+        FindIterable<Document> results = docCollection.find().hint(new Document("_id", 1));
+        if (range.lowerBound() != null) {
+            results = results.min(new Document("_id", range.lowerBound()));
+        }
+        if (range.upperBound() != null) {
+            results = results.max(new Document("_id", range.upperBound()));
+        }
+        long counter = 0;
+        try (MongoCursor<Document> cursor = results.iterator()) {
+            while (cursor.hasNext()) {
+                Document doc = cursor.next();
+                logger.trace("Found existing doc in {}: {}", collectionId, doc);
+                counter += factory.recordObject(collectionId, doc, timestamp);
+            }
+        }
+        return counter;
+    }
+
     /**
      * Copy the collection, sending to the recorder a record for each document.
      *
@@ -398,18 +698,47 @@ protected void readOplog(MongoClient primary) {
         logger.info("Reading oplog for '{}' primary {} starting at {}", replicaSet, primary.getAddress(), oplogStart);
 
         // Include none of the cluster-internal operations and only those events since the previous timestamp ...
-        MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
+        MongoCollection<RawBsonDocument> oplog = primary.getDatabase("local").getCollection("oplog.rs", RawBsonDocument.class);
         Bson filter = Filters.and(Filters.gt("ts", oplogStart), // start just after our last position
                                   Filters.exists("fromMigrate", false)); // skip internal movements across shards
-        FindIterable<Document> results = oplog.find(filter)
-                                              .sort(new Document("$natural", 1)) // force forwards collection scan
-                                              .oplogReplay(true) // tells Mongo to not rely on indexes
-                                              .cursorType(CursorType.TailableAwait); // tail and await new data
+        Bson namespaceFilter = context.filters().oplogNamespaceFilter();
+        if (namespaceFilter != null) {
+            // skip most events on collections that are not captured on the server ...
+            filter = Filters.and(filter, namespaceFilter);
+        }
+        FindIterable<RawBsonDocument> results = oplog.find(filter)
+                                                     .projection(OPLOG_EVENT_FIELDS) // only the fields we use
+                                                     .sort(new Document("$natural", 1)) // force forwards collection scan
+                                                     .oplogReplay(true) // tells Mongo to not rely on indexes
+                                                     .cursorType(CursorType.TailableAwait); // tail and await new data
+        int batchSize = context.getConnectionContext().oplogBatchSize();
+        if (batchSize > 0) {
+            results = results.batchSize(batchSize);
+        }
+        long maxAwaitTime = context.getConnectionContext().oplogMaxAwaitTimeInMillis();
+        if (maxAwaitTime > 0) {
+            results = results.maxAwaitTime(maxAwaitTime, TimeUnit.MILLISECONDS);
+        }
         // Read as much of the oplog as we can ...
         ServerAddress primaryAddress = primary.getAddress();
-        try (MongoCursor<Document> cursor = results.iterator()) {
+        try (MongoCursor<RawBsonDocument> cursor = results.iterator()) {
             while (running.get() && cursor.hasNext()) {
-                if (!handleOplogEvent(primaryAddress, cursor.next())) {
+                RawBsonDocument rawEvent = cursor.next();
+                if (skipUntil != null) {
+                    if (rawEvent.getTimestamp("clusterTime").compareTo(skipUntil) <= 0) {
+                        logger.trace("Skipping change event at the start time {}", skipUntil);
+                        continue;
+                    }
+                    skipUntil = null;
+                }
+                // Only the namespace is read from the raw event to skip events on collections that are not captured,
+                // all the other events are decoded ...
+                BsonValue ns = rawEvent.get("ns");
+                if (ns != null && ns.isString() && isSkippedNamespace(ns.asString().getValue())) {
+                    logger.trace("Skipping event on namespace {}", ns);
+                    continue;
+                }
+                if (!handleOplogEvent(primaryAddress, rawEvent.decode(DOCUMENT_CODEC))) {
                     // Something happened, and we're supposed to stop reading
                     return;
                 }
@@ -417,6 +746,107 @@ protected void readOplog(MongoClient primary) {
         }
     }
 
+    /**
+     * Repeatedly obtain a connection to the replica set's current primary and use that primary to read the change stream of
+     * the replica set. This method will continue to run even if there are errors or problems, in which case the change
+     * stream is resumed after the last event that was read. The method will return when a sufficient number of errors occur
+     * or if the current thread doing the reading is interrupted.
+     */
+    protected void readChangeStream() {
+        primaryClient.execute("read change stream on '" + replicaSet + "'", (Consumer<MongoClient>)this::readChangeStream);
+    }
+
+    /**
+     * Use the given primary to read the change stream of the replica set.
+     *
+     * @param primary the connection to the replica set's primary node; may not be null
+     */
+    protected void readChangeStream(MongoClient primary) {
+        ConnectionContext connectionContext = context.getConnectionContext();
+        // Include only the events on single documents, and only on whitelisted databases ...
+        Bson filter = Filters.in("operationType", CHANGE_OPERATION_TYPES);
+        Bson namespaceFilter = context.filters().changeStreamNamespaceFilter();
+        if (namespaceFilter != null) {
+            filter = Filters.and(filter, namespaceFilter);
+        }
+        ChangeStreamIterable<Document> changeStream = primary.watch(Collections.singletonList(Aggregates.match(filter)));
+        if (connectionContext.captureMode().isFullUpdate()) {
+            changeStream = changeStream.fullDocument(FullDocument.UPDATE_LOOKUP);
+        }
+        int batchSize = connectionContext.oplogBatchSize();
+        if (batchSize > 0) {
+            changeStream = changeStream.batchSize(batchSize);
+        }
+        long maxAwaitTime = connectionContext.oplogMaxAwaitTimeInMillis();
+        if (maxAwaitTime > 0) {
+            changeStream = changeStream.maxAwaitTime(maxAwaitTime, TimeUnit.MILLISECONDS);
+        }
+
+        String resumeToken = source.lastResumeToken(rsName);
+        BsonTimestamp start = source.lastOffsetTimestamp(rsName);
+        // the events at the start time have already been read or were part of the initial sync, but the change stream
+        // includes them when started at an operation time ...
+        BsonTimestamp skipUntil = null;
+        if (resumeToken != null) {
+            logger.info("Reading change stream for '{}' primary {} after resume token {}", replicaSet, primary.getAddress(), resumeToken);
+            changeStream = changeStream.resumeAfter(BsonDocument.parse(resumeToken));
+        }
+        else if (source.hasOffset(rsName) && start.getTime() > 0) {
+            logger.info("Reading change stream for '{}' primary {} starting after {}", replicaSet, primary.getAddress(), start);
+            changeStream = changeStream.startAtOperationTime(start);
+            skipUntil = start;
+        }
+        else {
+            logger.info("Reading change stream for '{}' primary {} starting now", replicaSet, primary.getAddress());
+        }
+
+        try (MongoCursor<RawBsonDocument> cursor = changeStream.withDocumentClass(RawBsonDocument.class).iterator()) {
+            while (running.get() && cursor.hasNext()) {
+                RawBsonDocument rawEvent = cursor.next();
+                // Only the namespace is read from the raw event to skip events on collections that are not captured,
+                // all the other events are decoded ...
+                BsonDocument ns = rawEvent.getDocument("ns");
+                String dbName = ns.getString("db").getValue();
+                String collectionName = ns.getString("coll").getValue();
+                if (isSkippedNamespace(dbName + "." + collectionName)) {
+                    logger.trace("Skipping change event on namespace {}.{}", dbName, collectionName);
+                    continue;
+                }
+                Document event = rawEvent.decode(DOCUMENT_CODEC);
+                logger.debug("Found change event: {}", event);
+                RecordsForCollection factory = recordMakers.forCollection(new CollectionId(rsName, dbName, collectionName));
+                try {
+                    factory.recordChange(event, clock.currentTimeInMillis());
+                }
+                catch (InterruptedException e) {
+                    Thread.interrupted();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Determine whether the events with the given namespace can be skipped without being decoded, since they are events on
+     * a database command or on documents in a collection that is not captured.
+     *
+     * @param ns the namespace of an oplog event; may be null or empty for replica set events
+     * @return {@code true} if the events with the namespace can be skipped, or {@code false} if they are to be handled
+     */
+    protected boolean isSkippedNamespace(String ns) {
+        int delimIndex = ns != null ? ns.indexOf('.') : -1;
+        if (delimIndex <= 0) {
+            return false;
+        }
+        String dbName = ns.substring(0, delimIndex);
+        String collectionName = ns.substring(delimIndex + 1);
+        if ("$cmd".equals(collectionName)) {
+            return true;
+        }
+        return !context.filters().databaseFilter().test(dbName)
+                || !context.filters().collectionFilter().test(new CollectionId(rsName, dbName, collectionName));
+    }
+
     /**
      * Handle a single oplog event.
      *
@@ -492,6 +922,81 @@ protected boolean handleOplogEvent(ServerAddress primaryAddress, Document event)
         return true;
     }
 
+    /**
+     * A part of a collection copied during an initial sync, which is either the whole collection or the documents with
+     * {@code _id} values at or above an optional lower bound and below an optional upper bound.
+     */
+    protected static final class CollectionRange {
+        private final CollectionId collectionId;
+        private final List<Object> splitKeys;
+        private final int index;
+        private final Object lowerBound;
+        private final Object upperBound;
+
+        public CollectionRange(CollectionId collectionId) {
+            this(collectionId, null, -1, null, null);
+        }
+
+        public CollectionRange(CollectionId collectionId, List<Object> splitKeys, int index, Object lowerBound, Object upperBound) {
+            this.collectionId = collectionId;
+            this.splitKeys = splitKeys;
+            this.index = index;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        public CollectionId collectionId() {
+            return collectionId;
+        }
+
+        public boolean isWholeCollection() {
+            return index < 0;
+        }
+
+        public Object lowerBound() {
+            return lowerBound;
+        }
+
+        public Object upperBound() {
+            return upperBound;
+        }
+
+        /**
+         * Record in the progress of the initial sync that this range is being copied. The split keys of a collection are only
+         * recorded once its first range is copied, so that the offsets don't hold the split keys of all the collections
+         * waiting to be copied.
+         *
+         * @param progress the progress of the initial sync; may not be null
+         */
+        public void markStarted(InitialSyncProgress progress) {
+            if (!isWholeCollection()) {
+                progress.recordSplitKeys(collectionId.namespace(), splitKeys);
+            }
+        }
+
+        /**
+         * Record in the progress of the initial sync that this range was copied.
+         *
+         * @param progress the progress of the initial sync; may not be null
+         */
+        public void markCopied(InitialSyncProgress progress) {
+            if (isWholeCollection()) {
+                progress.markCopied(collectionId.namespace());
+            }
+            else {
+                progress.markCopied(collectionId.namespace(), index);
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (isWholeCollection()) {
+                return "'" + collectionId + "'";
+            }
+            return "range #" + index + " of '" + collectionId + "'";
+        }
+    }
+
     /**
      * A {@link BlockingConsumer BlockingConsumer<SourceRecord>} implementation that will buffer the last source record
      * only during an initial sync, so that when the initial sync is complete the last record's offset can be updated
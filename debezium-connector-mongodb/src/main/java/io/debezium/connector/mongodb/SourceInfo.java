@@ -49,7 +49,10 @@
  * Since each event in MongoDB's oplog is identified by a {@link BSONTimestamp} that tracks the time and the order of the
  * event for that particular time (e.g., multiple events that occur at the same time will have unique orders), the offset
  * includes the BSONTimetamp representation. (The event's {@code h} field is the unique ID for the operation, so this is also
- * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field.
+ * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field
+ * along with the {@link InitialSyncProgress progress} of the initial sync in the {@code initsync_copied} field. When the
+ * connector reads change streams rather than the oplog, the offset also includes the JSON representation of the resume token
+ * of the last event in the {@code resume_token} field.
  * <p>
  * Here's a JSON-like representation of an example timestamp:
  *
@@ -77,9 +80,11 @@ public final class SourceInfo extends AbstractSourceInfo {
     public static final String ORDER = "ord";
     public static final String OPERATION_ID = "h";
     public static final String INITIAL_SYNC = "initsync";
+    public static final String INITIAL_SYNC_PROGRESS = "initsync_copied";
+    public static final String RESUME_TOKEN = "resume_token";
 
     private static final BsonTimestamp INITIAL_TIMESTAMP = new BsonTimestamp();
-    private static final Position INITIAL_POSITION = new Position(INITIAL_TIMESTAMP, null);
+    private static final Position INITIAL_POSITION = new Position(INITIAL_TIMESTAMP, null, null);
 
     /**
      * A {@link Schema} definition for a {@link Struct} used to store the {@link #partition(String)} and {@link #lastOffset}
@@ -100,19 +105,22 @@ public final class SourceInfo extends AbstractSourceInfo {
     private final ConcurrentMap<String, Map<String, String>> sourcePartitionsByReplicaSetName = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Position> positionsByReplicaSetName = new ConcurrentHashMap<>();
     private final Set<String> initialSyncReplicaSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ConcurrentMap<String, InitialSyncProgress> initialSyncProgressByReplicaSetName = new ConcurrentHashMap<>();
 
     @Immutable
     protected static final class Position {
         private final Long opId;
         private final BsonTimestamp ts;
+        private final String resumeToken;
 
-        public Position(int ts, int order, Long opId) {
-            this(new BsonTimestamp(ts, order), opId);
+        public Position(int ts, int order, Long opId, String resumeToken) {
+            this(new BsonTimestamp(ts, order), opId, resumeToken);
         }
 
-        public Position(BsonTimestamp ts, Long opId) {
+        public Position(BsonTimestamp ts, Long opId, String resumeToken) {
             this.ts = ts;
             this.opId = opId;
+            this.resumeToken = resumeToken;
             assert this.ts != null;
         }
 
@@ -131,6 +139,10 @@ public int getInc() {
         public Long getOperationId() {
             return this.opId;
         }
+
+        public String getResumeToken() {
+            return this.resumeToken;
+        }
     }
 
     /**
@@ -188,6 +200,17 @@ public BsonTimestamp lastOffsetTimestamp(String replicaSetName) {
         return existing != null ? existing.ts : INITIAL_TIMESTAMP;
     }
 
+    /**
+     * Get the resume token of the last change stream event read from the replica set.
+     *
+     * @param replicaSetName the name of the replica set name for which the resume token is to be obtained; may not be null
+     * @return the JSON representation of the resume token, or {@code null} if no change stream event has been read
+     */
+    public String lastResumeToken(String replicaSetName) {
+        Position existing = positionsByReplicaSetName.get(replicaSetName);
+        return existing != null ? existing.getResumeToken() : null;
+    }
+
     /**
      * Get the Kafka Connect detail about the source "offset" for the named database, which describes the given position in the
      * database where we have last read. If the database has not yet been seen, this records the starting position
@@ -200,14 +223,26 @@ public BsonTimestamp lastOffsetTimestamp(String replicaSetName) {
         Position existing = positionsByReplicaSetName.get(replicaSetName);
         if (existing == null) existing = INITIAL_POSITION;
         if (isInitialSyncOngoing(replicaSetName)) {
-            return Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
-                                     ORDER, Integer.valueOf(existing.getInc()),
-                                     OPERATION_ID, existing.getOperationId(),
-                                     INITIAL_SYNC, true);
+            Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+                                                           ORDER, Integer.valueOf(existing.getInc()),
+                                                           OPERATION_ID, existing.getOperationId(),
+                                                           INITIAL_SYNC, true);
+            InitialSyncProgress progress = initialSyncProgressByReplicaSetName.get(replicaSetName);
+            if (progress != null) {
+                offset.put(INITIAL_SYNC_PROGRESS, progress.toJson());
+            }
+            if (existing.getResumeToken() != null) {
+                offset.put(RESUME_TOKEN, existing.getResumeToken());
+            }
+            return offset;
+        }
+        Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+                                                       ORDER, Integer.valueOf(existing.getInc()),
+                                                       OPERATION_ID, existing.getOperationId());
+        if (existing.getResumeToken() != null) {
+            offset.put(RESUME_TOKEN, existing.getResumeToken());
         }
-        return Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
-                                 ORDER, Integer.valueOf(existing.getInc()),
-                                 OPERATION_ID, existing.getOperationId());
+        return offset;
     }
 
     /**
@@ -240,13 +275,36 @@ public Struct offsetStructForEvent(String replicaSetName, Document oplogEvent) {
         if (oplogEvent != null) {
             BsonTimestamp ts = extractEventTimestamp(oplogEvent);
             Long opId = oplogEvent.getLong("h");
-            position = new Position(ts, opId);
+            position = new Position(ts, opId, null);
             namespace = oplogEvent.getString("ns");
         }
         positionsByReplicaSetName.put(replicaSetName, position);
         return offsetStructFor(replicaSetName, namespace, position, isInitialSyncOngoing(replicaSetName));
     }
 
+    /**
+     * Get a {@link Struct} representation of the source {@link #partition(String) partition} and {@link #lastOffset(String)
+     * offset} information for an event read from a change stream. The Struct complies with the {@link #schema} for the MongoDB
+     * connector.
+     *
+     * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
+     * @param changeEvent the change stream event that was last read; may not be null
+     * @return the source partition and offset {@link Struct}; never null
+     * @see #schema()
+     */
+    public Struct offsetStructForChange(String replicaSetName, Document changeEvent) {
+        BsonTimestamp ts = changeEvent.get("clusterTime", BsonTimestamp.class);
+        if (ts == null) {
+            ts = lastOffsetTimestamp(replicaSetName);
+        }
+        Document resumeToken = changeEvent.get("_id", Document.class);
+        Position position = new Position(ts, null, resumeToken != null ? resumeToken.toJson() : null);
+        Document ns = changeEvent.get("ns", Document.class);
+        String namespace = ns != null ? ns.getString("db") + "." + ns.getString("coll") : "";
+        positionsByReplicaSetName.put(replicaSetName, position);
+        return offsetStructFor(replicaSetName, namespace, position, isInitialSyncOngoing(replicaSetName));
+    }
+
     /**
      * Utility to extract the {@link BsonTimestamp timestamp} value from the event.
      *
@@ -285,7 +343,8 @@ public boolean hasOffset(String replicaSetName) {
 
     /**
      * Set the source offset, as read from Kafka Connect, for the given replica set. This method does nothing if the supplied map
-     * is null.
+     * is null. An offset recorded during an initial sync is only used if it includes the progress of the initial sync, in which
+     * case the initial sync is considered {@link #isInitialSyncOngoing(String) ongoing} and can be resumed.
      *
      * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
      * @param sourceOffset the previously-recorded Kafka Connect source offset; may be null
@@ -298,12 +357,19 @@ public boolean setOffsetFor(String replicaSetName, Map<String, ?> sourceOffset)
         // We have previously recorded at least one offset for this database ...
         boolean initSync = booleanOffsetValue(sourceOffset, INITIAL_SYNC);
         if (initSync) {
-            return false;
+            Object progress = sourceOffset.get(INITIAL_SYNC_PROGRESS);
+            if (progress == null) {
+                return false;
+            }
+            initialSyncProgressByReplicaSetName.put(replicaSetName, InitialSyncProgress.parse(progress.toString()));
+            initialSyncReplicaSets.add(replicaSetName);
         }
         int time = intOffsetValue(sourceOffset, TIMESTAMP);
         int order = intOffsetValue(sourceOffset, ORDER);
         Long operationId = longOffsetValue(sourceOffset, OPERATION_ID);
-        positionsByReplicaSetName.put(replicaSetName, new Position(time, order, operationId));
+        Object resumeToken = sourceOffset.get(RESUME_TOKEN);
+        positionsByReplicaSetName.put(replicaSetName, new Position(time, order, operationId,
+                                                                   resumeToken != null ? resumeToken.toString() : null));
         return true;
     }
 
@@ -322,11 +388,30 @@ public boolean setOffsetFor(Map<String, String> partition, Map<String, ?> source
     }
 
     /**
-     * Record that an initial sync has started for the given replica set.
+     * Record that an initial sync has started for the given replica set. The progress of an initial sync that was
+     * {@link #setOffsetFor(String, Map) restored} from the offsets is kept, so that the initial sync continues where it left off.
      *
      * @param replicaSetName the name of the replica set; never null
      */
     public void startInitialSync(String replicaSetName) {
+        startInitialSync(replicaSetName, true);
+    }
+
+    /**
+     * Record that an initial sync has started for the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param recordProgress {@code true} if the {@link #initialSyncProgress(String) progress} of the initial sync is to be
+     *            recorded in the offsets, which keeps the progress of an initial sync that was restored from the offsets, or
+     *            {@code false} if an interrupted initial sync is to be started over
+     */
+    public void startInitialSync(String replicaSetName, boolean recordProgress) {
+        if (recordProgress) {
+            initialSyncProgressByReplicaSetName.computeIfAbsent(replicaSetName, rsName -> new InitialSyncProgress());
+        }
+        else {
+            initialSyncProgressByReplicaSetName.remove(replicaSetName);
+        }
         initialSyncReplicaSets.add(replicaSetName);
     }
 
@@ -337,6 +422,27 @@ public void startInitialSync(String replicaSetName) {
      */
     public void stopInitialSync(String replicaSetName) {
         initialSyncReplicaSets.remove(replicaSetName);
+        initialSyncProgressByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Discard the progress of an initial sync that was {@link #setOffsetFor(String, Map) restored} from the offsets, so that
+     * the next initial sync of the replica set starts over.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     */
+    public void discardInitialSyncProgress(String replicaSetName) {
+        initialSyncProgressByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Get the progress of the initial sync of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the progress of the initial sync, or {@code null} if no initial sync has been started or restored
+     */
+    public InitialSyncProgress initialSyncProgress(String replicaSetName) {
+        return initialSyncProgressByReplicaSetName.get(replicaSetName);
     }
 
     /**
@@ -7,9 +7,17 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mongodb.MongoClient;
+
 /**
  * @author Randall Hauch
  */
@@ -161,6 +169,124 @@ public void shouldExcludeCollectionCoveredByLiteralInBlacklist() {
         assertCollectionIncluded("db2.collectionA");
     }
 
+    @Test
+    public void shouldNotFilterOplogNamespacesWithoutWhitelist() {
+        filters = build.excludeDatabases("db1").excludeCollections("db2.collectionA").createFilters();
+        assertThat(filters.oplogNamespaceFilter()).isNull();
+    }
+
+    @Test
+    public void shouldFilterOplogNamespacesByDatabaseWhitelist() {
+        filters = build.includeDatabases("db1,mongo.*").createFilters();
+        assertOplogNamespaceIncluded("");
+        assertOplogNamespaceIncluded("db1.collectionA");
+        assertOplogNamespaceIncluded("DB1.collectionA");
+        assertOplogNamespaceIncluded("mongo2.collectionA");
+        assertOplogNamespaceExcluded("db2.collectionA");
+        assertOplogNamespaceExcluded("db12.collectionA");
+    }
+
+    @Test
+    public void shouldFilterOplogNamespacesByCollectionWhitelist() {
+        filters = build.includeCollections("db1.collectionA,db2.coll.*").createFilters();
+        assertOplogNamespaceIncluded("");
+        assertOplogNamespaceIncluded("db1.collectionA");
+        assertOplogNamespaceIncluded("db2.collectionB");
+        assertOplogNamespaceExcluded("db1.collectionAB");
+        assertOplogNamespaceExcluded("db1.collectionB");
+        assertOplogNamespaceExcluded("db3.collectionA");
+    }
+
+    @Test
+    public void shouldFilterOplogNamespacesOnlyByWhitelistSupportedByServer() {
+        filters = build.includeDatabases("db1,\\p{Lower}+").createFilters();
+        assertThat(filters.oplogNamespaceFilter()).isNull();
+
+        filters = build.includeDatabases("db1$").createFilters();
+        assertThat(filters.oplogNamespaceFilter()).isNull();
+        assertThat(filters.changeStreamNamespaceFilter()).isNull();
+
+        filters = build.includeDatabases("(d)b\\1").createFilters();
+        assertThat(filters.oplogNamespaceFilter()).isNull();
+        assertThat(filters.changeStreamNamespaceFilter()).isNull();
+
+        filters = build.includeCollections("db1.collectionA").createFilters();
+        assertOplogNamespaceIncluded("db1.collectionA");
+        assertOplogNamespaceExcluded("db1.collectionB");
+    }
+
+    @Test
+    public void shouldFilterChangeStreamNamespacesOnlyByDatabaseWhitelist() {
+        filters = build.includeCollections("db1.collectionA").createFilters();
+        assertThat(filters.changeStreamNamespaceFilter()).isNull();
+
+        filters = build.includeDatabases("db1,mongo.*").createFilters();
+        BsonValue condition = filters.changeStreamNamespaceFilter()
+                                     .toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry())
+                                     .get("ns.db");
+        assertThat(matches(condition, "db1")).isTrue();
+        assertThat(matches(condition, "DB1")).isTrue();
+        assertThat(matches(condition, "mongo2")).isTrue();
+        assertThat(matches(condition, "db12")).isFalse();
+        assertThat(matches(condition, "db2")).isFalse();
+    }
+
+    protected void assertOplogNamespaceIncluded(String ns) {
+        assertThat(matches(oplogNamespaceFilter(), ns)).isTrue();
+    }
+
+    protected void assertOplogNamespaceExcluded(String ns) {
+        assertThat(matches(oplogNamespaceFilter(), ns)).isFalse();
+    }
+
+    private BsonDocument oplogNamespaceFilter() {
+        assertThat(filters.oplogNamespaceFilter()).isNotNull();
+        return filters.oplogNamespaceFilter().toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry());
+    }
+
+    /**
+     * Evaluate the subset of the query language used by the oplog namespace filter.
+     */
+    private static boolean matches(BsonDocument query, String ns) {
+        for (Map.Entry<String, BsonValue> entry : query.entrySet()) {
+            boolean matches;
+            switch (entry.getKey()) {
+                case "$or":
+                    matches = entry.getValue().asArray().stream().anyMatch(value -> matches(value.asDocument(), ns));
+                    break;
+                case "$and":
+                    matches = entry.getValue().asArray().stream().allMatch(value -> matches(value.asDocument(), ns));
+                    break;
+                case "ns":
+                    matches = matches(entry.getValue(), ns);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected query operator " + entry.getKey());
+            }
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(BsonValue condition, String ns) {
+        if (condition.isString()) {
+            return condition.asString().getValue().equals(ns);
+        }
+        String regex;
+        String options;
+        if (condition.isRegularExpression()) {
+            regex = condition.asRegularExpression().getPattern();
+            options = condition.asRegularExpression().getOptions();
+        }
+        else {
+            regex = condition.asDocument().getString("$regex").getValue();
+            options = condition.asDocument().getString("$options", new BsonString("")).getValue();
+        }
+        return Pattern.compile(regex, options.contains("i") ? Pattern.CASE_INSENSITIVE : 0).matcher(ns).find();
+    }
+
     protected void assertCollectionIncluded(String fullyQualifiedTableName) {
         CollectionId id = CollectionId.parse("rs1." + fullyQualifiedTableName);
         assertThat(id).isNotNull();
@@ -0,0 +1,88 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the {@link InitialSyncProgress} recorded in the offsets of an initial sync.
+ */
+public class InitialSyncProgressTest {
+
+    private static final ObjectId FIRST_SPLIT = new ObjectId("5ab1e8f9a8c4d1b2c3d4e5f6");
+    private static final ObjectId SECOND_SPLIT = new ObjectId("5ab1e8f9a8c4d1b2c3d4e5f7");
+
+    private InitialSyncProgress progress;
+
+    @Before
+    public void beforeEach() {
+        progress = new InitialSyncProgress();
+    }
+
+    @Test
+    public void shouldRecordCopiedCollections() {
+        assertThat(progress.isCopied("dbA.small")).isFalse();
+        assertThat(progress.splitKeys("dbA.small")).isNull();
+
+        progress.markCopied("dbA.small");
+
+        assertThat(progress.isCopied("dbA.small")).isTrue();
+        assertThat(progress.isCopied("dbA.small", 0)).isTrue();
+        assertThat(progress.isCopied("dbA.other")).isFalse();
+    }
+
+    @Test
+    public void shouldRecordCopiedRanges() {
+        progress.recordSplitKeys("dbA.large", Arrays.asList(FIRST_SPLIT, SECOND_SPLIT));
+        progress.markCopied("dbA.large", 2);
+
+        assertThat(progress.splitKeys("dbA.large")).isEqualTo(Arrays.asList(FIRST_SPLIT, SECOND_SPLIT));
+        assertThat(progress.isCopied("dbA.large")).isFalse();
+        assertThat(progress.isCopied("dbA.large", 0)).isFalse();
+        assertThat(progress.isCopied("dbA.large", 2)).isTrue();
+
+        progress.markCopied("dbA.large", 0);
+        progress.markCopied("dbA.large", 1);
+
+        assertThat(progress.isCopied("dbA.large")).isTrue();
+        assertThat(progress.splitKeys("dbA.large")).isNull();
+    }
+
+    @Test
+    public void shouldKeepSplitKeysRecordedFirst() {
+        progress.recordSplitKeys("dbA.large", Arrays.asList(FIRST_SPLIT, SECOND_SPLIT));
+        progress.recordSplitKeys("dbA.large", Arrays.asList(SECOND_SPLIT));
+
+        assertThat(progress.splitKeys("dbA.large")).isEqualTo(Arrays.asList(FIRST_SPLIT, SECOND_SPLIT));
+    }
+
+    @Test
+    public void shouldRestoreProgressFromJson() {
+        progress.markCopied("dbA.small");
+        progress.recordSplitKeys("dbA.large", Arrays.asList(FIRST_SPLIT, 42L));
+        progress.markCopied("dbA.large", 1);
+
+        InitialSyncProgress restored = InitialSyncProgress.parse(progress.toJson());
+
+        assertThat(restored.isCopied("dbA.small")).isTrue();
+        assertThat(restored.splitKeys("dbA.large")).isEqualTo(Arrays.asList(FIRST_SPLIT, 42L));
+        assertThat(restored.isCopied("dbA.large", 0)).isFalse();
+        assertThat(restored.isCopied("dbA.large", 1)).isTrue();
+        assertThat(restored.toJson()).isEqualTo(progress.toJson());
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldFailToRestoreInvalidJson() {
+        InitialSyncProgress.parse("{ \"dbA.small\" : ");
+    }
+}
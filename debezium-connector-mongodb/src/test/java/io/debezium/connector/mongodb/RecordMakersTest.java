@@ -9,6 +9,7 @@
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 
@@ -198,6 +199,115 @@ public void shouldGenerateRecordForDeleteEventWithoutTombstone() throws Interrup
         assertThat(actualSource).isEqualTo(expectedSource);
     }
 
+    @Test
+    public void shouldGenerateRecordForChangeStreamInsertEvent() throws InterruptedException {
+        CollectionId collectionId = new CollectionId("rs0", "dbA", "c1");
+        ObjectId objId = new ObjectId();
+        Document obj = new Document().append("_id", objId).append("name", "Sally");
+        Document event = new Document().append("_id", new Document("_data", "token1"))
+                                       .append("operationType", "insert")
+                                       .append("clusterTime", new BsonTimestamp(1000, 1))
+                                       .append("ns", new Document("db", "dbA").append("coll", "c1"))
+                                       .append("documentKey", new Document("_id", objId))
+                                       .append("fullDocument", obj);
+        RecordsForCollection records = recordMakers.forCollection(collectionId);
+        assertThat(records.recordChange(event, 1002)).isEqualTo(1);
+        assertThat(produced.size()).isEqualTo(1);
+        SourceRecord record = produced.get(0);
+        Struct key = (Struct) record.key();
+        Struct value = (Struct) record.value();
+        assertThat(key.get("id")).isEqualTo("{ \"$oid\" : \"" + objId + "\"}");
+        assertThat(value.getString(FieldName.AFTER)).isEqualTo(obj.toJson(WRITER_SETTINGS));
+        assertThat(value.getString(FieldName.OPERATION)).isEqualTo(Operation.CREATE.code());
+        assertThat(value.getStruct(FieldName.SOURCE).getString(SourceInfo.NAMESPACE)).isEqualTo("dbA.c1");
+        assertThat(value.getStruct(FieldName.SOURCE).getInt32(SourceInfo.TIMESTAMP)).isEqualTo(1000);
+        assertThat(record.sourceOffset().get(SourceInfo.RESUME_TOKEN)).isEqualTo("{ \"_data\" : \"token1\" }");
+    }
+
+    @Test
+    public void shouldGenerateRecordForChangeStreamUpdateEvent() throws InterruptedException {
+        recordMakers = new RecordMakers(source, topicSelector, produced::add, emitTombstonesOnDelete, true);
+        CollectionId collectionId = new CollectionId("rs0", "dbA", "c1");
+        ObjectId objId = new ObjectId();
+        Document fullDocument = new Document().append("_id", objId).append("name", "Sally");
+        Document event = new Document().append("_id", new Document("_data", "token2"))
+                                       .append("operationType", "update")
+                                       .append("clusterTime", new BsonTimestamp(1000, 2))
+                                       .append("ns", new Document("db", "dbA").append("coll", "c1"))
+                                       .append("documentKey", new Document("_id", objId))
+                                       .append("updateDescription", new Document("updatedFields", new Document("name", "Sally"))
+                                               .append("removedFields", Arrays.asList("age")))
+                                       .append("fullDocument", fullDocument);
+        RecordsForCollection records = recordMakers.forCollection(collectionId);
+        assertThat(records.recordChange(event, 1002)).isEqualTo(1);
+        assertThat(produced.size()).isEqualTo(1);
+        SourceRecord record = produced.get(0);
+        Struct key = (Struct) record.key();
+        Struct value = (Struct) record.value();
+        Document patch = new Document("$set", new Document("name", "Sally")).append("$unset", new Document("age", true));
+        assertThat(key.get("id")).isEqualTo(JSONSerializers.getStrict().serialize(objId));
+        assertThat(value.getString("patch")).isEqualTo(patch.toJson(WRITER_SETTINGS));
+        assertThat(value.getString(FieldName.AFTER)).isEqualTo(fullDocument.toJson(WRITER_SETTINGS));
+        assertThat(value.getString(FieldName.OPERATION)).isEqualTo(Operation.UPDATE.code());
+    }
+
+    @Test
+    public void shouldNotIncludeReplacementDocumentAsAfterValueUnlessFullUpdate() throws InterruptedException {
+        CollectionId collectionId = new CollectionId("rs0", "dbA", "c1");
+        ObjectId objId = new ObjectId();
+        Document replacement = new Document().append("_id", objId).append("name", "Sally");
+        Document event = new Document().append("_id", new Document("_data", "token2"))
+                                       .append("operationType", "replace")
+                                       .append("clusterTime", new BsonTimestamp(1000, 2))
+                                       .append("ns", new Document("db", "dbA").append("coll", "c1"))
+                                       .append("documentKey", new Document("_id", objId))
+                                       .append("fullDocument", replacement);
+
+        // like an update read from the oplog, the replacement is only described by the patch ...
+        assertThat(recordMakers.forCollection(collectionId).recordChange(event, 1002)).isEqualTo(1);
+        Struct value = (Struct) produced.get(0).value();
+        assertThat(value.getString("patch")).isEqualTo(replacement.toJson(WRITER_SETTINGS));
+        assertThat(value.getString(FieldName.AFTER)).isNull();
+        assertThat(value.getString(FieldName.OPERATION)).isEqualTo(Operation.UPDATE.code());
+
+        // while it's also the document after the update in full update mode ...
+        recordMakers = new RecordMakers(source, topicSelector, produced::add, emitTombstonesOnDelete, true);
+        assertThat(recordMakers.forCollection(collectionId).recordChange(event, 1002)).isEqualTo(1);
+        value = (Struct) produced.get(1).value();
+        assertThat(value.getString("patch")).isEqualTo(replacement.toJson(WRITER_SETTINGS));
+        assertThat(value.getString(FieldName.AFTER)).isEqualTo(replacement.toJson(WRITER_SETTINGS));
+    }
+
+    @Test
+    public void shouldGenerateRecordsForChangeStreamDeleteEvent() throws InterruptedException {
+        CollectionId collectionId = new CollectionId("rs0", "dbA", "c1");
+        ObjectId objId = new ObjectId();
+        Document event = new Document().append("_id", new Document("_data", "token3"))
+                                       .append("operationType", "delete")
+                                       .append("clusterTime", new BsonTimestamp(1000, 3))
+                                       .append("ns", new Document("db", "dbA").append("coll", "c1"))
+                                       .append("documentKey", new Document("_id", objId));
+        RecordsForCollection records = recordMakers.forCollection(collectionId);
+        assertThat(records.recordChange(event, 1002)).isEqualTo(2);
+        Struct value = (Struct) produced.get(0).value();
+        assertThat(value.getString(FieldName.AFTER)).isNull();
+        assertThat(value.getString("patch")).isNull();
+        assertThat(value.getString(FieldName.OPERATION)).isEqualTo(Operation.DELETE.code());
+        assertThat(produced.get(1).value()).isNull();
+    }
+
+    @Test
+    public void shouldNotGenerateRecordsForChangeStreamEventsOnCollections() throws InterruptedException {
+        Document event = new Document().append("_id", new Document("_data", "token4"))
+                                       .append("operationType", "drop")
+                                       .append("clusterTime", new BsonTimestamp(1000, 4))
+                                       .append("ns", new Document("db", "dbA").append("coll", "c1"));
+        RecordsForCollection records = recordMakers.forCollection(new CollectionId("rs0", "dbA", "c1"));
+        assertThat(records.recordChange(event, 1002)).isEqualTo(0);
+        assertThat(produced).isEmpty();
+        assertThat(source.lastResumeToken("rs0")).isNull();
+    }
+
     @Test
     public void shouldGenerateRecordsWithCorrectlySerializedId() throws InterruptedException {
         CollectionId collectionId = new CollectionId("rs0", "dbA", "c1");
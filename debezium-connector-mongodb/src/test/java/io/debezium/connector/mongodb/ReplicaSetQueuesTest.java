@@ -0,0 +1,153 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.function.BlockingConsumer;
+import io.debezium.util.Collect;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Tests of the fair draining of the {@link ReplicaSetQueues} of a task.
+ */
+public class ReplicaSetQueuesTest {
+
+    private static final long NOW = 1_500_000_000_000L;
+
+    private ReplicaSetQueues queues;
+
+    @Before
+    public void beforeEach() {
+        queues = new ReplicaSetQueues(Arrays.asList("rs0", "rs1", "rs2"), Duration.ofSeconds(10), 6, 20, () -> NOW,
+                                      () -> LoggingContext.forConnector("test", "test", "test"));
+    }
+
+    @Test
+    public void shouldShareBatchAmongReplicaSetsWithRecords() throws InterruptedException {
+        enqueue("rs0", 10);
+        enqueue("rs1", 2);
+
+        List<SourceRecord> batch = queues.poll();
+
+        assertThat(batch).hasSize(6);
+        assertThat(count(batch, "rs0")).isEqualTo(4);
+        assertThat(count(batch, "rs1")).isEqualTo(2);
+        assertThat(queues.metricsFor("rs0").getQueueDepth()).isEqualTo(6);
+        assertThat(queues.metricsFor("rs1").getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotLetReplicaSetWithBacklogStarveOthers() throws InterruptedException {
+        enqueue("rs0", 18);
+        enqueue("rs1", 3);
+        enqueue("rs2", 3);
+
+        // the batch is shared equally while all replica sets have enough records ...
+        List<SourceRecord> batch = queues.poll();
+        assertThat(batch).hasSize(6);
+        assertThat(count(batch, "rs0")).isEqualTo(2);
+        assertThat(count(batch, "rs1")).isEqualTo(2);
+        assertThat(count(batch, "rs2")).isEqualTo(2);
+
+        // the shares rs1 and rs2 can't use are passed on to rs0 ...
+        batch = queues.poll();
+        assertThat(batch).hasSize(6);
+        assertThat(count(batch, "rs0")).isEqualTo(4);
+        assertThat(count(batch, "rs1")).isEqualTo(1);
+        assertThat(count(batch, "rs2")).isEqualTo(1);
+
+        // and once they have been drained, the backlog of rs0 gets whole batches ...
+        assertThat(count(queues.poll(), "rs0")).isEqualTo(6);
+        assertThat(queues.metricsFor("rs0").getTotalNumberOfPolledRecords()).isEqualTo(12);
+        assertThat(queues.metricsFor("rs0").getQueueDepth()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldPreserveOrderOfRecordsOfReplicaSet() throws InterruptedException {
+        enqueue("rs0", 5);
+        enqueue("rs1", 5);
+
+        List<SourceRecord> first = queues.poll();
+        List<SourceRecord> second = queues.poll();
+
+        assertThat(sequences(first, "rs0")).isEqualTo(Arrays.asList(0, 1, 2));
+        assertThat(sequences(second, "rs0")).isEqualTo(Arrays.asList(3, 4));
+        assertThat(sequences(first, "rs1")).isEqualTo(Arrays.asList(0, 1, 2));
+        assertThat(sequences(second, "rs1")).isEqualTo(Arrays.asList(3, 4));
+    }
+
+    @Test
+    public void shouldWakeUpPollAsSoonAsBatchIsComplete() throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                enqueue("rs0", 3);
+                enqueue("rs2", 3);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        long start = System.nanoTime();
+        assertThat(queues.poll()).hasSize(6);
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        producer.join();
+    }
+
+    @Test
+    public void shouldRecordHowFarBehindSourcePolledRecordsAre() throws InterruptedException {
+        assertThat(queues.metricsFor("rs0").getMillisecondsBehindSource()).isEqualTo(-1);
+
+        queues.recorderFor("rs0").accept(record("rs0", 0, (int) (NOW / 1000) - 3));
+        queues.poll();
+
+        assertThat(queues.metricsFor("rs0").getMillisecondsBehindSource()).isEqualTo(3000);
+        assertThat(queues.metricsFor("rs0").getQueueTotalCapacity()).isEqualTo(20);
+        assertThat(queues.metricsFor("rs1").getMillisecondsBehindSource()).isEqualTo(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownReplicaSet() {
+        queues.recorderFor("rs3");
+    }
+
+    private void enqueue(String replicaSetName, int count) throws InterruptedException {
+        BlockingConsumer<SourceRecord> recorder = queues.recorderFor(replicaSetName);
+        for (int i = 0; i < count; i++) {
+            recorder.accept(record(replicaSetName, i, 0));
+        }
+    }
+
+    private static SourceRecord record(String replicaSetName, int sequence, int timestamp) {
+        return new SourceRecord(Collect.hashMapOf(SourceInfo.REPLICA_SET_NAME, replicaSetName),
+                                Collect.hashMapOf(SourceInfo.TIMESTAMP, timestamp, SourceInfo.ORDER, sequence),
+                                "topic", null, null);
+    }
+
+    private static int count(List<SourceRecord> batch, String replicaSetName) {
+        return sequences(batch, replicaSetName).size();
+    }
+
+    private static List<Integer> sequences(List<SourceRecord> batch, String replicaSetName) {
+        return batch.stream()
+                    .filter(record -> replicaSetName.equals(SourceInfo.replicaSetNameForPartition(record.sourcePartition())))
+                    .map(record -> (Integer) record.sourceOffset().get(SourceInfo.ORDER))
+                    .collect(Collectors.toList());
+    }
+}
@@ -7,6 +7,7 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
@@ -212,6 +213,104 @@ public void shouldReturnRecordedOffsetForUsedReplicaNameDuringInitialSync() {
         assertThat(struct.getBoolean(SourceInfo.INITIAL_SYNC)).isEqualTo(true);
     }
 
+    @Test
+    public void shouldRecordInitialSyncProgressInOffset() {
+        source.startInitialSync(REPLICA_SET_NAME);
+        source.initialSyncProgress(REPLICA_SET_NAME).markCopied("dbA.collectA");
+
+        Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC)).isEqualTo(true);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC_PROGRESS)).isEqualTo(source.initialSyncProgress(REPLICA_SET_NAME).toJson());
+
+        source.stopInitialSync(REPLICA_SET_NAME);
+        offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.containsKey(SourceInfo.INITIAL_SYNC)).isFalse();
+        assertThat(offset.containsKey(SourceInfo.INITIAL_SYNC_PROGRESS)).isFalse();
+        assertThat(source.initialSyncProgress(REPLICA_SET_NAME)).isNull();
+    }
+
+    @Test
+    public void shouldNotRecordInitialSyncProgressInOffsetUnlessRequested() {
+        source.startInitialSync(REPLICA_SET_NAME, false);
+
+        Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC)).isEqualTo(true);
+        assertThat(offset.containsKey(SourceInfo.INITIAL_SYNC_PROGRESS)).isFalse();
+        assertThat(source.initialSyncProgress(REPLICA_SET_NAME)).isNull();
+
+        // so the interrupted initial sync is started over ...
+        source = new SourceInfo("serverX");
+        assertThat(source.setOffsetFor(REPLICA_SET_NAME, offset)).isFalse();
+        assertThat(source.isInitialSyncOngoing(REPLICA_SET_NAME)).isFalse();
+    }
+
+    @Test
+    public void shouldRestoreInterruptedInitialSyncWithProgress() {
+        Document event = new Document().append("ts", new BsonTimestamp(100, 2))
+                                       .append("h", Long.valueOf(1987654321))
+                                       .append("ns", "dbA.collectA");
+        source.startInitialSync(REPLICA_SET_NAME);
+        source.offsetStructForEvent(REPLICA_SET_NAME, event);
+        source.initialSyncProgress(REPLICA_SET_NAME).markCopied("dbA.collectA");
+        Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+
+        source = new SourceInfo("serverX");
+        assertThat(source.setOffsetFor(REPLICA_SET_NAME, offset)).isTrue();
+
+        assertThat(source.hasOffset(REPLICA_SET_NAME)).isTrue();
+        assertThat(source.isInitialSyncOngoing(REPLICA_SET_NAME)).isTrue();
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+        assertThat(source.initialSyncProgress(REPLICA_SET_NAME).isCopied("dbA.collectA")).isTrue();
+
+        // Starting the initial sync again keeps the restored progress ...
+        source.startInitialSync(REPLICA_SET_NAME);
+        assertThat(source.initialSyncProgress(REPLICA_SET_NAME).isCopied("dbA.collectA")).isTrue();
+    }
+
+    @Test
+    public void shouldNotRestoreInterruptedInitialSyncWithoutProgress() {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.TIMESTAMP, 100);
+        offset.put(SourceInfo.ORDER, 2);
+        offset.put(SourceInfo.INITIAL_SYNC, true);
+
+        assertThat(source.setOffsetFor(REPLICA_SET_NAME, offset)).isFalse();
+
+        assertThat(source.hasOffset(REPLICA_SET_NAME)).isFalse();
+        assertThat(source.isInitialSyncOngoing(REPLICA_SET_NAME)).isFalse();
+        assertThat(source.initialSyncProgress(REPLICA_SET_NAME)).isNull();
+    }
+
+    @Test
+    public void shouldRecordResumeTokenOfChangeEventInOffset() {
+        Document event = new Document().append("_id", new Document("_data", "token1"))
+                                       .append("clusterTime", new BsonTimestamp(100, 2))
+                                       .append("ns", new Document("db", "dbA").append("coll", "collectA"));
+        Struct struct = source.offsetStructForChange(REPLICA_SET_NAME, event);
+        assertThat(struct.getString(SourceInfo.NAMESPACE)).isEqualTo("dbA.collectA");
+        assertThat(struct.getInt32(SourceInfo.TIMESTAMP)).isEqualTo(100);
+        assertThat(struct.getInt32(SourceInfo.ORDER)).isEqualTo(2);
+        Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.RESUME_TOKEN)).isEqualTo("{ \"_data\" : \"token1\" }");
+
+        source = new SourceInfo("serverX");
+        assertThat(source.setOffsetFor(REPLICA_SET_NAME, offset)).isTrue();
+
+        assertThat(source.lastResumeToken(REPLICA_SET_NAME)).isEqualTo("{ \"_data\" : \"token1\" }");
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+    }
+
+    @Test
+    public void shouldNotRecordResumeTokenOfOplogEvent() {
+        Document event = new Document().append("ts", new BsonTimestamp(100, 2))
+                                       .append("h", Long.valueOf(1987654321))
+                                       .append("ns", "dbA.collectA");
+        source.offsetStructForEvent(REPLICA_SET_NAME, event);
+
+        assertThat(source.lastResumeToken(REPLICA_SET_NAME)).isNull();
+        assertThat(source.lastOffset(REPLICA_SET_NAME).containsKey(SourceInfo.RESUME_TOKEN)).isFalse();
+    }
+
     @Test
     public void versionIsPresent() {
         assertThat(source.offsetStructForEvent("rs", null).getString(AbstractSourceInfo.DEBEZIUM_VERSION_KEY)).isEqualTo(Module.version());
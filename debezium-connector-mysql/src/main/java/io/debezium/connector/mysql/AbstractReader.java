@@ -20,6 +20,7 @@
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
@@ -38,6 +39,7 @@ public abstract class AbstractReader implements Reader {
     protected final MySqlTaskContext context;
     protected final MySqlConnection connectionContext;
     private final BlockingQueue<SourceRecord> records;
+    private final BatchHandoff batchHandoff;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicBoolean success = new AtomicBoolean(false);
     private final AtomicReference<ConnectException> failure = new AtomicReference<>();
@@ -57,10 +59,19 @@ public AbstractReader(String name, MySqlTaskContext context) {
         this.name = name;
         this.context = context;
         this.connectionContext = context.getConnectionContext();
-        this.records = new LinkedBlockingDeque<>(context.getConnectorConfig().getMaxQueueSize());
         this.maxBatchSize = context.getConnectorConfig().getMaxBatchSize();
         this.pollInterval = context.getConnectorConfig().getPollInterval();
-        this.metronome = Metronome.parker(pollInterval, Clock.SYSTEM);
+        final Duration batchHandoffMaxLatency = context.batchHandoffMaxLatency();
+        if (batchHandoffMaxLatency.isZero()) {
+            this.records = new LinkedBlockingDeque<>(context.getConnectorConfig().getMaxQueueSize());
+            this.batchHandoff = null;
+            this.metronome = Metronome.parker(pollInterval, Clock.SYSTEM);
+        } else {
+            // records are handed over in whole batches, so neither the queue nor the parking between polls is needed
+            this.records = null;
+            this.batchHandoff = new BatchHandoff(context.getConnectorConfig().getMaxQueueSize(), maxBatchSize, batchHandoffMaxLatency);
+            this.metronome = null;
+        }
     }
 
     @Override
@@ -234,6 +245,20 @@ public List<SourceRecord> poll() throws InterruptedException {
         }
 
         logger.trace("Polling for next batch of records");
+        final List<SourceRecord> batch = batchHandoff != null ? pollBatchHandoff() : pollRecordQueue();
+
+        if (batch.isEmpty() && success.get() && (batchHandoff != null ? batchHandoff.isEmpty() : records.isEmpty())) {
+            // We found no records but the operation completed successfully, so we're done
+            this.running.set(false);
+            cleanupResources();
+            return null;
+        }
+        pollComplete(batch);
+        logger.trace("Completed batch of {} records", batch.size());
+        return batch;
+    }
+
+    private List<SourceRecord> pollRecordQueue() throws InterruptedException {
         List<SourceRecord> batch = new ArrayList<>(maxBatchSize);
         final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
         while (running.get() && (records.drainTo(batch, maxBatchSize) == 0) && !success.get()) {
@@ -247,18 +272,39 @@ public List<SourceRecord> poll() throws InterruptedException {
                 break;
             }
         }
+        return batch;
+    }
 
-        if (batch.isEmpty() && success.get() && records.isEmpty()) {
-            // We found no records but the operation completed successfully, so we're done
-            this.running.set(false);
-            cleanupResources();
-            return null;
+    private List<SourceRecord> pollBatchHandoff() throws InterruptedException {
+        List<SourceRecord> batch = Collections.emptyList();
+        final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+        while (running.get() && !success.get()) {
+            // Wait for a batch to be handed over, waking up regularly to check for a failure or a stop ...
+            batch = batchHandoff.poll(pollInterval);
+            if (!batch.isEmpty()) {
+                return batch;
+            }
+
+            failureException = this.failure.get();
+            if (failureException != null) throw failureException;
+            if (timeout.expired()) {
+                break;
+            }
+        }
+        if (success.get()) {
+            // No more records will be added, so there is no need to wait for a partially filled batch ...
+            batch = batchHandoff.drain();
         }
-        pollComplete(batch);
-        logger.trace("Completed batch of {} records", batch.size());
         return batch;
     }
 
+    /**
+     * @return the batch handoff used to pass records to the poll loop, or {@code null} if records are passed through a queue
+     */
+    BatchHandoff batchHandoff() {
+        return batchHandoff;
+    }
+
     /**
      * This method is normally called by {@link #poll()} when there this reader finishes normally and all generated
      * records are consumed prior to being {@link #stop() stopped}. However, if this reader is explicitly
@@ -297,7 +343,11 @@ protected void enqueueRecord(SourceRecord record) throws InterruptedException {
             if (logger.isTraceEnabled()) {
                 logger.trace("Enqueuing source record: {}", record);
             }
-            this.records.put(record);
+            if (batchHandoff != null) {
+                this.batchHandoff.put(record);
+            } else {
+                this.records.put(record);
+            }
         }
     }
 }
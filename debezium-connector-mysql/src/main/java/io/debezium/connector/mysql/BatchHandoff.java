@@ -0,0 +1,206 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * A handover point between a reader's producer thread(s) and the Kafka Connect polling thread which passes records in whole
+ * batches rather than one by one.
+ * <p>
+ * Producers append records to a pre-sized batch; once it holds {@code maxBatchSize} records it is published to the poller as
+ * a whole and a new batch is started. The poller is signalled only when a batch is published, so the two sides meet once
+ * per batch instead of once per record. To bound the latency under light load, the poller takes over a partially filled
+ * batch once its oldest record has waited for {@code maxLatency}.
+ * <p>
+ * At most {@code maxQueueSize / maxBatchSize} batches (including the one being filled) are held at any time; producers are
+ * blocked while that many batches are waiting to be polled.
+ */
+class BatchHandoff {
+
+    private final int maxBatchSize;
+    private final int maxPublishedBatches;
+    private final long maxLatencyNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchPublished = lock.newCondition();
+    private final Condition batchTaken = lock.newCondition();
+    private final Deque<List<SourceRecord>> published = new ArrayDeque<>();
+    private List<SourceRecord> filling;
+    private long fillingStartedNanos;
+    private boolean pollerWaitingForFirstRecord;
+
+    private final AtomicLong producerWaitNanos = new AtomicLong();
+    private final AtomicLong pollerWaitNanos = new AtomicLong();
+    private final AtomicLong numberOfBatches = new AtomicLong();
+    private final AtomicLong numberOfPartialBatches = new AtomicLong();
+
+    /**
+     * @param maxQueueSize the maximum number of records held; must be positive
+     * @param maxBatchSize the number of records in a complete batch; must be positive
+     * @param maxLatency the maximum time a record is held in a partially filled batch before the poller takes it over
+     */
+    BatchHandoff(int maxQueueSize, int maxBatchSize, Duration maxLatency) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxPublishedBatches = Math.max(1, maxQueueSize / maxBatchSize - 1);
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.filling = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Add a record to the batch currently being filled, publishing that batch if it is complete. This method blocks while
+     * the maximum number of batches is waiting to be polled.
+     *
+     * @param record the record; may not be null
+     * @throws InterruptedException if interrupted while waiting for a batch to be polled
+     */
+    void put(SourceRecord record) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (filling.isEmpty()) {
+                fillingStartedNanos = System.nanoTime();
+                if (pollerWaitingForFirstRecord) {
+                    // let the poller know when this batch will have to be taken over
+                    batchPublished.signal();
+                }
+            }
+            filling.add(record);
+            if (filling.size() >= maxBatchSize) {
+                if (published.size() >= maxPublishedBatches) {
+                    final long start = System.nanoTime();
+                    try {
+                        while (published.size() >= maxPublishedBatches && filling.size() >= maxBatchSize) {
+                            batchTaken.await();
+                        }
+                    } finally {
+                        producerWaitNanos.addAndGet(System.nanoTime() - start);
+                    }
+                    if (filling.size() < maxBatchSize) {
+                        // the poller has taken over the batch while waiting
+                        return;
+                    }
+                }
+                published.add(filling);
+                filling = new ArrayList<>(maxBatchSize);
+                batchPublished.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the next complete batch, or the partially filled batch once its oldest record has waited for the maximum latency.
+     *
+     * @param timeout the maximum time to wait for a batch
+     * @return the batch; empty if there was none within the given time, but never null
+     * @throws InterruptedException if interrupted while waiting for a batch
+     */
+    List<SourceRecord> poll(Duration timeout) throws InterruptedException {
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (!published.isEmpty()) {
+                    return takePublished();
+                }
+                final long now = System.nanoTime();
+                if (!filling.isEmpty() && now - (fillingStartedNanos + maxLatencyNanos) >= 0) {
+                    return takeFilling();
+                }
+                if (now - deadline >= 0) {
+                    return Collections.emptyList();
+                }
+                final long waitUntil = filling.isEmpty() ? deadline : Math.min(deadline, fillingStartedNanos + maxLatencyNanos);
+                pollerWaitingForFirstRecord = filling.isEmpty();
+                try {
+                    batchPublished.awaitNanos(waitUntil - now);
+                } finally {
+                    pollerWaitingForFirstRecord = false;
+                }
+            }
+        } finally {
+            pollerWaitNanos.addAndGet(System.nanoTime() - start);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the next complete batch or, if there is none, the partially filled batch without waiting. Used once the producers
+     * have completed.
+     *
+     * @return the batch; may be empty but never null
+     */
+    List<SourceRecord> drain() {
+        lock.lock();
+        try {
+            if (!published.isEmpty()) {
+                return takePublished();
+            }
+            return filling.isEmpty() ? Collections.emptyList() : takeFilling();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return published.isEmpty() && filling.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<SourceRecord> takePublished() {
+        numberOfBatches.incrementAndGet();
+        batchTaken.signalAll();
+        return published.poll();
+    }
+
+    private List<SourceRecord> takeFilling() {
+        numberOfBatches.incrementAndGet();
+        numberOfPartialBatches.incrementAndGet();
+        final List<SourceRecord> batch = filling;
+        filling = new ArrayList<>(maxBatchSize);
+        batchTaken.signalAll();
+        return batch;
+    }
+
+    long getProducerWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerWaitNanos.get());
+    }
+
+    long getPollerWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(pollerWaitNanos.get());
+    }
+
+    long getNumberOfBatches() {
+        return numberOfBatches.get();
+    }
+
+    long getNumberOfPartialBatches() {
+        return numberOfPartialBatches.get();
+    }
+
+    void resetMetrics() {
+        producerWaitNanos.set(0);
+        pollerWaitNanos.set(0);
+        numberOfBatches.set(0);
+        numberOfPartialBatches.set(0);
+    }
+}
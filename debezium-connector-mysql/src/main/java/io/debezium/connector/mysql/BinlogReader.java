@@ -28,6 +28,7 @@
 import com.github.shyiko.mysql.binlog.network.SSLMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
+import io.debezium.connector.mysql.RecordMakers.PreparedRecords;
 import io.debezium.connector.mysql.RecordMakers.RecordsForTable;
 import io.debezium.function.BlockingConsumer;
 import io.debezium.heartbeat.Heartbeat;
@@ -42,6 +43,7 @@
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -87,6 +89,7 @@ public class BinlogReader extends AbstractReader {
     private com.github.shyiko.mysql.binlog.GtidSet gtidSet;
     private Heartbeat heartbeat;
     private MySqlConnection connectionContext;
+    private volatile ParallelRecordConverter parallelConverter;
 
     public static class BinlogPosition {
         final String filename;
@@ -231,7 +234,7 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
         client.setEventDeserializer(eventDeserializer);
 
         // Set up for JMX ...
-        metrics = new BinlogReaderMetrics(client, context.dbSchema());
+        metrics = new BinlogReaderMetrics(client, context.dbSchema(), batchHandoff());
         heartbeat = Heartbeat.create(context.config(), context.topicSelector().getHeartbeatTopic(),
                 context.getConnectorConfig().getLogicalName(), () -> OffsetPosition.build(source.partition(), source.offset()));
     }
@@ -248,6 +251,14 @@ public void doDestroy() {
 
     @Override
     protected void doStart() {
+        final int conversionThreads = context.binlogConversionThreads();
+        if (conversionThreads > 0) {
+            // Convert rows on a pool of threads, emitting the records in binlog order ...
+            logger.info("Converting binlog rows using {} threads", conversionThreads);
+            parallelConverter = new ParallelRecordConverter(context.getConnectorConfig().getLogicalName(), conversionThreads,
+                    conversionThreads * 4, super::enqueueRecord, this::failed);
+        }
+
         // Register our event handlers ...
         eventHandlers.put(EventType.STOP, this::handleServerStop);
         eventHandlers.put(EventType.HEARTBEAT, this::handleServerHeartbeat);
@@ -360,6 +371,7 @@ protected void doStop() {
                 logger.debug("Stopping binlog reader, last recorded offset: {}", lastOffset);
                 client.disconnect();
             }
+            stopParallelConverter();
             cleanupResources();
         } catch (IOException e) {
             logger.error("Unexpected error when disconnecting from the MySQL binary log reader", e);
@@ -368,9 +380,29 @@ protected void doStop() {
 
     @Override
     protected void doCleanup() {
+        stopParallelConverter();
         logger.debug("Completed writing all records that were read from the binlog before being stopped");
     }
 
+    private void stopParallelConverter() {
+        final ParallelRecordConverter converter = parallelConverter;
+        if (converter != null) {
+            converter.shutdown();
+        }
+    }
+
+    /**
+     * Enqueue a record produced on the binlog thread itself. When rows are converted in parallel, this first waits until the
+     * records of all previously read rows have been enqueued, so that records are always enqueued in binlog order.
+     */
+    @Override
+    protected void enqueueRecord(SourceRecord record) throws InterruptedException {
+        if (parallelConverter != null) {
+            parallelConverter.flush();
+        }
+        super.enqueueRecord(record);
+    }
+
     @Override
     protected void pollComplete(List<SourceRecord> batch) {
         // Record a bit about this batch ...
@@ -633,7 +665,7 @@ protected void handleQueryEvent(Event event) throws InterruptedException {
                     MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER.name());
         }
         context.dbSchema().applyDdl(context.source(), command.getDatabase(), command.getSql(), (dbName, statements) -> {
-            if (recordSchemaChangesInSourceRecords && recordMakers.schemaChanges(dbName, statements, super::enqueueRecord) > 0) {
+            if (recordSchemaChangesInSourceRecords && recordMakers.schemaChanges(dbName, statements, this::enqueueRecord) > 0) {
                 logger.debug("Recorded DDL statements for database '{}': {}", dbName, statements);
             }
         });
@@ -757,11 +789,22 @@ protected void handleInsert(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
-                for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.create(rows.get(row), ts, row, numRows);
+                if (parallelConverter != null) {
+                    List<PreparedRecords> conversions = new ArrayList<>(numRows - startingRowNumber);
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        conversions.add(recordMaker.prepareCreate(rows.get(row), ts, row, numRows));
+                    }
+                    parallelConverter.submit(conversions);
+                } else {
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        count += recordMaker.create(rows.get(row), ts, row, numRows);
+                    }
                 }
                 if (logger.isDebugEnabled()) {
-                    if (startingRowNumber != 0) {
+                    if (parallelConverter != null) {
+                        // the records are only known once the worker threads have converted the rows ...
+                        logger.debug("Submitted {} insert row(s) for conversion in event: {}", numRows - startingRowNumber, event);
+                    } else if (startingRowNumber != 0) {
                         logger.debug("Recorded {} insert record(s) for last {} row(s) in event: {}",
                                      count, numRows - startingRowNumber, event);
                     } else {
@@ -806,14 +849,26 @@ protected void handleUpdate(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
-                for (int row = startingRowNumber; row != numRows; ++row) {
-                    Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
-                    Serializable[] before = changes.getKey();
-                    Serializable[] after = changes.getValue();
-                    count += recordMaker.update(before, after, ts, row, numRows);
+                if (parallelConverter != null) {
+                    List<PreparedRecords> conversions = new ArrayList<>(numRows - startingRowNumber);
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
+                        conversions.add(recordMaker.prepareUpdate(changes.getKey(), changes.getValue(), ts, row, numRows));
+                    }
+                    parallelConverter.submit(conversions);
+                } else {
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
+                        Serializable[] before = changes.getKey();
+                        Serializable[] after = changes.getValue();
+                        count += recordMaker.update(before, after, ts, row, numRows);
+                    }
                 }
                 if (logger.isDebugEnabled()) {
-                    if (startingRowNumber != 0) {
+                    if (parallelConverter != null) {
+                        // the records are only known once the worker threads have converted the rows ...
+                        logger.debug("Submitted {} update row(s) for conversion in event: {}", numRows - startingRowNumber, event);
+                    } else if (startingRowNumber != 0) {
                         logger.debug("Recorded {} update record(s) for last {} row(s) in event: {}",
                                      count, numRows - startingRowNumber, event);
                     } else {
@@ -857,11 +912,22 @@ protected void handleDelete(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
-                for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.delete(rows.get(row), ts, row, numRows);
+                if (parallelConverter != null) {
+                    List<PreparedRecords> conversions = new ArrayList<>(numRows - startingRowNumber);
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        conversions.add(recordMaker.prepareDelete(rows.get(row), ts, row, numRows));
+                    }
+                    parallelConverter.submit(conversions);
+                } else {
+                    for (int row = startingRowNumber; row != numRows; ++row) {
+                        count += recordMaker.delete(rows.get(row), ts, row, numRows);
+                    }
                 }
                 if (logger.isDebugEnabled()) {
-                    if (startingRowNumber != 0) {
+                    if (parallelConverter != null) {
+                        // the records are only known once the worker threads have converted the rows ...
+                        logger.debug("Submitted {} delete row(s) for conversion in event: {}", numRows - startingRowNumber, event);
+                    } else if (startingRowNumber != 0) {
                         logger.debug("Recorded {} delete record(s) for last {} row(s) in event: {}",
                                      count, numRows - startingRowNumber, event);
                     } else {
@@ -18,17 +18,19 @@ class BinlogReaderMetrics extends Metrics implements BinlogReaderMetricsMXBean {
     private final BinaryLogClient client;
     private final BinaryLogClientStatistics stats;
     private final MySqlSchema schema;
+    private final BatchHandoff batchHandoff;
 
     private final AtomicLong numberOfCommittedTransactions = new AtomicLong();
     private final AtomicLong numberOfRolledBackTransactions = new AtomicLong();
     private final AtomicLong numberOfNotWellFormedTransactions = new AtomicLong();
     private final AtomicLong numberOfLargeTransactions = new AtomicLong();
 
-    public BinlogReaderMetrics(BinaryLogClient client, MySqlSchema schema) {
+    public BinlogReaderMetrics(BinaryLogClient client, MySqlSchema schema, BatchHandoff batchHandoff) {
         super("binlog");
         this.client = client;
         this.stats = new BinaryLogClientStatistics(client);
         this.schema = schema;
+        this.batchHandoff = batchHandoff;
     }
 
     @Override
@@ -88,6 +90,9 @@ public void reset() {
         numberOfRolledBackTransactions.set(0);
         numberOfNotWellFormedTransactions.set(0);
         numberOfLargeTransactions.set(0);
+        if (batchHandoff != null) {
+            batchHandoff.resetMetrics();
+        }
     }
 
     @Override
@@ -110,6 +115,26 @@ public long getNumberOfLargeTransactions() {
         return numberOfLargeTransactions.get();
     }
 
+    @Override
+    public long getBatchHandoffProducerWaitTimeInMillis() {
+        return batchHandoff != null ? batchHandoff.getProducerWaitTimeInMillis() : 0;
+    }
+
+    @Override
+    public long getBatchHandoffPollerWaitTimeInMillis() {
+        return batchHandoff != null ? batchHandoff.getPollerWaitTimeInMillis() : 0;
+    }
+
+    @Override
+    public long getNumberOfHandedOffBatches() {
+        return batchHandoff != null ? batchHandoff.getNumberOfBatches() : 0;
+    }
+
+    @Override
+    public long getNumberOfPartialHandedOffBatches() {
+        return batchHandoff != null ? batchHandoff.getNumberOfPartialBatches() : 0;
+    }
+
     public void onCommittedTransaction() {
         numberOfCommittedTransactions.incrementAndGet();
     }
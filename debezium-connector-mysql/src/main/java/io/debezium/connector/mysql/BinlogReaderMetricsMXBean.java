@@ -28,4 +28,9 @@ public interface BinlogReaderMetricsMXBean extends ReaderMetricsMXBean {
     long getNumberOfRolledBackTransactions();
     long getNumberOfNotWellFormedTransactions();
     long getNumberOfLargeTransactions();
+
+    long getBatchHandoffProducerWaitTimeInMillis();
+    long getBatchHandoffPollerWaitTimeInMillis();
+    long getNumberOfHandedOffBatches();
+    long getNumberOfPartialHandedOffBatches();
 }
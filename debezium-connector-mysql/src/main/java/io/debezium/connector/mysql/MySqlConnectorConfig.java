@@ -965,6 +965,66 @@ public static DdlParsingMode parse(String value, String defaultValue) {
             .withDefault(0L)
             .withValidation(Field::isNonNegativeLong);
 
+    public static final Field SNAPSHOT_PARALLELISM = Field.create("snapshot.parallelism")
+            .withDisplayName("Snapshot parallelism")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of database connections used to concurrently read table contents during a snapshot. "
+                    + "Each additional connection starts its own consistent snapshot transaction while the read lock is held, so all "
+                    + "connections see exactly the same data. Defaults to 1, meaning tables are read sequentially over a single connection.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("When '" + SNAPSHOT_PARALLELISM.name() + "' is greater than 1, tables with a single integer primary key "
+                    + "are split into key ranges of about this many rows, based on the row count estimated by MySQL, and the ranges "
+                    + "are read concurrently. A table is split into at most 1024 ranges. "
+                    + "Defaults to 0, meaning each table is read as a whole by a single connection.")
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field SNAPSHOT_RESUMABLE = Field.create("snapshot.resumable")
+            .withDisplayName("Resumable snapshots")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the offsets produced during a snapshot should record the table being read and, for tables with a "
+                    + "single integer primary key, the key of the last row read, so that an interrupted snapshot resumes at that point "
+                    + "instead of starting over. Tables with such a key are then read in primary key order. The resumed snapshot "
+                    + "uses the binlog position of the original snapshot, which therefore must still be available on the server, "
+                    + "and is only resumed when the schemas of the captured tables have not changed since; otherwise a new snapshot "
+                    + "is started. Defaults to 'false'.")
+            .withDefault(false);
+
+    public static final Field BATCH_HANDOFF_MAX_LATENCY_MS = Field.create("batch.handoff.max.latency.ms")
+            .withDisplayName("Batch handoff maximum latency (milliseconds)")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("When positive, the snapshot and binlog readers hand records over to the connector's poll loop in whole "
+                    + "batches of '" + CommonConnectorConfig.MAX_BATCH_SIZE.name() + "' records rather than through a record queue, "
+                    + "and this is the maximum number of milliseconds a record waits in a partially filled batch before that batch "
+                    + "is handed over anyway. Defaults to 0, meaning records are passed through a queue one by one.")
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field BINLOG_CONVERSION_THREADS = Field.create("binlog.conversion.threads")
+            .withDisplayName("Binlog row conversion threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads converting the rows of binlog events into change events. When positive, "
+                    + "rows are converted concurrently and the resulting change events are re-sequenced so that they are still "
+                    + "emitted in binlog order; the column value conversions used must then be safe to call from several threads. "
+                    + "Defaults to 0, meaning rows are converted by the thread reading the binlog.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field DDL_PARSER_MODE = Field.create("ddl.parser.mode")
             .withDisplayName("DDL parser mode")
             .withEnum(DdlParsingMode.class, DdlParsingMode.LEGACY)
@@ -976,6 +1036,19 @@ public static DdlParsingMode parse(String value, String defaultValue) {
                     "'antlr' uses generated parser from MySQL grammar using ANTLR v4 tool which use ALL(*) algorithm for parsing." +
                     "This parser creates a parsing tree for DDL statement, then walks trough it and apply changes by node types in parsed tree.");
 
+    public static final Field DDL_PARSER_DFA_CACHE_CLEAR_INTERVAL = Field.create("ddl.parser.dfa.cache.clear.interval")
+            .withDisplayName("DDL parser DFA cache clear interval")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Only used with the 'antlr' " + DDL_PARSER_MODE.name() + ". When positive, the number of parsed DDL "
+                    + "statements after which the parser clears the DFA cache it builds up while parsing, to bound the memory used "
+                    + "by that cache at the price of slower parsing until it is warm again. The connector then uses a cache of its "
+                    + "own rather than the one shared by all connectors in the JVM. Defaults to 0, meaning the shared cache is used "
+                    + "and never cleared.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     /**
      * Method that generates a Field for specifying that string columns whose names match a set of regular expressions should
      * have their values truncated to be no longer than the specified number of characters.
@@ -1030,7 +1103,9 @@ public static final Field MASK_COLUMN(int length) {
                                                      EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                                                      INCONSISTENT_SCHEMA_HANDLING_MODE,
                                                      SNAPSHOT_DELAY_MS,
-                                                     DDL_PARSER_MODE,
+                                                     SNAPSHOT_PARALLELISM, SNAPSHOT_CHUNK_SIZE, SNAPSHOT_RESUMABLE,
+                                                     BATCH_HANDOFF_MAX_LATENCY_MS, BINLOG_CONVERSION_THREADS,
+                                                     DDL_PARSER_MODE, DDL_PARSER_DFA_CACHE_CLEAR_INTERVAL,
                                                      CommonConnectorConfig.TOMBSTONES_ON_DELETE);
 
     /**
@@ -1045,6 +1120,7 @@ public static final Field MASK_COLUMN(int length) {
                                                                 KafkaDatabaseHistory.RECOVERY_POLL_INTERVAL_MS,
                                                                 DatabaseHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS,
                                                                 DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL,
+                                                                DatabaseHistory.CHECKPOINT_INTERVAL,
                                                                 DatabaseHistory.DDL_FILTER);
 
     private final SnapshotLockingMode snapshotLockingMode;
@@ -1086,16 +1162,18 @@ protected static ConfigDef configDef() {
                     KafkaDatabaseHistory.TOPIC, KafkaDatabaseHistory.RECOVERY_POLL_ATTEMPTS,
                     KafkaDatabaseHistory.RECOVERY_POLL_INTERVAL_MS, DATABASE_HISTORY,
                     DatabaseHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS, DatabaseHistory.DDL_FILTER,
-                    DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL);
+                    DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL, DatabaseHistory.CHECKPOINT_INTERVAL);
         Field.group(config, "Events", INCLUDE_SCHEMA_CHANGES, INCLUDE_SQL_QUERY, TABLES_IGNORE_BUILTIN, DATABASE_WHITELIST, TABLE_WHITELIST,
                     COLUMN_BLACKLIST, TABLE_BLACKLIST, DATABASE_BLACKLIST,
                     GTID_SOURCE_INCLUDES, GTID_SOURCE_EXCLUDES, GTID_SOURCE_FILTER_DML_EVENTS, BUFFER_SIZE_FOR_BINLOG_READER,
                     Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX, EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE, INCONSISTENT_SCHEMA_HANDLING_MODE,
                     CommonConnectorConfig.TOMBSTONES_ON_DELETE);
         Field.group(config, "Connector", CONNECTION_TIMEOUT_MS, KEEP_ALIVE, KEEP_ALIVE_INTERVAL_MS, CommonConnectorConfig.MAX_QUEUE_SIZE,
-                    CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
+                    CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS, BATCH_HANDOFF_MAX_LATENCY_MS,
+                    BINLOG_CONVERSION_THREADS,
                     SNAPSHOT_MODE, SNAPSHOT_LOCKING_MODE, SNAPSHOT_MINIMAL_LOCKING, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE,
-                    BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, DDL_PARSER_MODE);
+                    BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, SNAPSHOT_PARALLELISM, SNAPSHOT_CHUNK_SIZE,
+                    SNAPSHOT_RESUMABLE, DDL_PARSER_MODE, DDL_PARSER_DFA_CACHE_CLEAR_INTERVAL);
         return config;
     }
 
@@ -102,9 +102,16 @@ public synchronized void start(Configuration config) {
                                     + "to never allow snapshots. Reconfigure the connector to use snapshots initially or when needed.";
                             throw new ConnectException(msg);
                         }
-                        // Otherwise, restart a new snapshot ...
                         startWithSnapshot = true;
-                        logger.info("Prior execution was an incomplete snapshot, so starting new snapshot");
+                        if (source.snapshotTable() != null && taskContext.isSnapshotResumable() && isBinlogAvailable()) {
+                            // Resume the snapshot at the recorded table and key, using the original binlog position ...
+                            logger.info("Prior execution was an incomplete snapshot, so resuming the snapshot at table '{}'",
+                                        source.snapshotTable());
+                        } else {
+                            // Otherwise, restart a new snapshot ...
+                            source.clearSnapshotPosition();
+                            logger.info("Prior execution was an incomplete snapshot, so starting new snapshot");
+                        }
                     } else {
                         // No snapshot was in effect, so we should just start reading from the binlog ...
                         startWithSnapshot = false;
@@ -24,6 +24,7 @@
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.connector.mysql.MySqlSystemVariables.MySqlScope;
+import io.debezium.document.Document;
 import io.debezium.relational.Column;
 import io.debezium.relational.ColumnEditor;
 import io.debezium.relational.SystemVariables;
@@ -83,6 +84,24 @@ protected SystemVariables createNewSystemVariablesInstance() {
         return new MySqlSystemVariables();
     }
 
+    @Override
+    public Document state() {
+        Document state = super.state();
+        Document charsets = state.setDocument("databaseCharsets");
+        charsetNameForDatabase.forEach(charsets::setString);
+        return state;
+    }
+
+    @Override
+    public void restoreState(Document state) {
+        super.restoreState(state);
+        charsetNameForDatabase.clear();
+        Document charsets = state.getDocument("databaseCharsets");
+        if (charsets != null) {
+            charsets.forEach(field -> charsetNameForDatabase.put(field.getName().toString(), field.getValue().asString()));
+        }
+    }
+
     protected MySqlDdlParser(boolean includeViews, MySqlValueConverters converters) {
         super(";", includeViews);
         this.converters = converters;
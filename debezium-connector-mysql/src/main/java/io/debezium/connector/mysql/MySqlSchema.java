@@ -16,6 +16,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.antlr.AntlrDdlParser;
 import io.debezium.config.Configuration;
 import io.debezium.connector.mysql.MySqlConnectorConfig.BigIntUnsignedHandlingMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.DecimalHandlingMode;
@@ -99,6 +100,10 @@ public MySqlSchema(MySqlConnectorConfig configuration, Predicate<String> gtidFil
         this.filters = new Filters(config);
 
         this.ddlParser = configuration.getDdlParsingMode().getNewParserInstance(getValueConverters(config));
+        if (this.ddlParser instanceof AntlrDdlParser) {
+            ((AntlrDdlParser<?, ?>) this.ddlParser).setDfaCacheClearInterval(
+                    config.getInteger(MySqlConnectorConfig.DDL_PARSER_DFA_CACHE_CLEAR_INTERVAL));
+        }
         this.ddlChanges = this.ddlParser.getDdlChanges();
 
         // Create and configure the database history ...
@@ -341,6 +346,7 @@ public boolean applyDdl(SourceInfo source, String databaseName, String ddlStatem
                 try {
                     if (!storeOnlyMonitoredTablesDdl || changes.stream().anyMatch(filters().tableFilter()::test)) {
                         dbHistory.record(source.partition(), source.offset(), databaseName, ddlStatements);
+                        dbHistory.checkpoint(source.partition(), source.offset(), tables(), ddlParser);
                     } else {
                         logger.debug("Changes for DDL '{}' were filtered and not recorded in database history", ddlStatements);
                     }
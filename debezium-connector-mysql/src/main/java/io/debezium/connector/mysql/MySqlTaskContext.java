@@ -252,6 +252,26 @@ public Duration snapshotDelay() {
         return Duration.ofMillis(config.getLong(MySqlConnectorConfig.SNAPSHOT_DELAY_MS));
     }
 
+    public int snapshotParallelism() {
+        return config.getInteger(MySqlConnectorConfig.SNAPSHOT_PARALLELISM);
+    }
+
+    public long snapshotChunkSize() {
+        return config.getLong(MySqlConnectorConfig.SNAPSHOT_CHUNK_SIZE);
+    }
+
+    public boolean isSnapshotResumable() {
+        return config.getBoolean(MySqlConnectorConfig.SNAPSHOT_RESUMABLE);
+    }
+
+    public Duration batchHandoffMaxLatency() {
+        return Duration.ofMillis(config.getLong(MySqlConnectorConfig.BATCH_HANDOFF_MAX_LATENCY_MS));
+    }
+
+    public int binlogConversionThreads() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_CONVERSION_THREADS);
+    }
+
     public void start() {
         connectionContext.start();
         // Start the MySQL database history, which simply starts up resources but does not recover the history to a specific point
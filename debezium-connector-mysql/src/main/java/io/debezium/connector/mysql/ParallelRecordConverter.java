@@ -0,0 +1,187 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.mysql.RecordMakers.PreparedRecords;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.util.Threads;
+
+/**
+ * Converts the rows of binlog events into source records on a pool of worker threads, while still emitting the records in
+ * the order in which the rows were read from the binlog.
+ * <p>
+ * The binlog thread captures the position of each row via {@link RecordMakers.RecordsForTable#prepareCreate} and the like,
+ * and {@link #submit(List) submits} the resulting conversions. These are split into tasks of up to
+ * {@value #MAX_ROWS_PER_TASK} rows, which are converted concurrently. A single sequencer thread waits for the tasks in
+ * submission order and passes their records on to the consumer, so the records (and the offsets within them) reach the
+ * consumer in binlog order. At most {@code maxPendingTasks} tasks are in flight; the binlog thread is blocked while that
+ * many have not been emitted yet.
+ * <p>
+ * Any record the binlog thread emits itself (e.g., schema change or heartbeat records) must be preceded by a call to
+ * {@link #flush()}, which waits until all submitted rows have been emitted.
+ */
+class ParallelRecordConverter {
+
+    private static final int MAX_ROWS_PER_TASK = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final ExecutorService workers;
+    private final ExecutorService sequencer;
+    private final BlockingQueue<Future<List<SourceRecord>>> pending;
+    private final BlockingConsumer<SourceRecord> consumer;
+    private final Consumer<Throwable> failureHandler;
+    private final Object lock = new Object();
+    private long submittedTasks;
+    private long emittedTasks;
+    private Throwable failure;
+    private volatile boolean running = true;
+
+    /**
+     * @param serverName the logical name of the server, used in the names of the threads; may not be null
+     * @param threads the number of worker threads converting rows; must be positive
+     * @param maxPendingTasks the maximum number of tasks submitted but not yet emitted; must be positive
+     * @param consumer the consumer of the records, called on the sequencer thread; may not be null
+     * @param failureHandler the function called on the sequencer thread when a row could not be converted; may not be null
+     */
+    ParallelRecordConverter(String serverName, int threads, int maxPendingTasks, BlockingConsumer<SourceRecord> consumer,
+                            Consumer<Throwable> failureHandler) {
+        this.consumer = consumer;
+        this.failureHandler = failureHandler;
+        this.pending = new ArrayBlockingQueue<>(maxPendingTasks);
+        this.workers = Threads.newFixedThreadPool(MySqlConnector.class, serverName, "binlog-converter", threads);
+        this.sequencer = Threads.newSingleThreadExecutor(MySqlConnector.class, serverName, "binlog-sequencer");
+        this.sequencer.execute(this::emitInOrder);
+    }
+
+    /**
+     * Convert the given rows, whose records are emitted after those of all previously submitted rows. This method must only
+     * be called by one thread, and blocks while the maximum number of tasks is pending.
+     *
+     * @param rows the prepared conversions of the rows, in binlog order; may not be null
+     * @throws InterruptedException if interrupted while waiting for pending tasks to be emitted
+     * @throws ConnectException if a previously submitted row could not be converted
+     */
+    void submit(List<PreparedRecords> rows) throws InterruptedException {
+        for (int start = 0; start < rows.size(); start += MAX_ROWS_PER_TASK) {
+            final List<PreparedRecords> task = rows.subList(start, Math.min(rows.size(), start + MAX_ROWS_PER_TASK));
+            checkNotFailed();
+            final Future<List<SourceRecord>> converted;
+            try {
+                converted = workers.submit(() -> convert(task));
+            } catch (RejectedExecutionException e) {
+                // the workers have been shut down, either because a row could not be converted or because we are stopping ...
+                checkNotFailed();
+                throw new InterruptedException("The conversion of binlog rows has been stopped");
+            }
+            synchronized (lock) {
+                ++submittedTasks;
+            }
+            while (!pending.offer(converted, 100, TimeUnit.MILLISECONDS)) {
+                checkNotFailed();
+                if (!running) {
+                    throw new InterruptedException("The conversion of binlog rows has been stopped");
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait until the records of all submitted rows have been given to the consumer.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ConnectException if a row could not be converted
+     */
+    void flush() throws InterruptedException {
+        synchronized (lock) {
+            while (emittedTasks != submittedTasks && failure == null && running) {
+                lock.wait(100);
+            }
+        }
+        checkNotFailed();
+    }
+
+    /**
+     * Stop converting rows. The records of rows that have not been emitted yet are discarded; since their offsets have not
+     * been committed either, these rows are read again when the connector restarts.
+     */
+    void shutdown() {
+        running = false;
+        sequencer.shutdownNow();
+        workers.shutdownNow();
+        pending.clear();
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    private List<SourceRecord> convert(List<PreparedRecords> task) throws InterruptedException {
+        final List<SourceRecord> records = new ArrayList<>(task.size());
+        int count = 0;
+        for (PreparedRecords row : task) {
+            count += row.emit(records::add);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Converted {} binlog row(s) into {} record(s)", task.size(), count);
+        }
+        return records;
+    }
+
+    private void emitInOrder() {
+        try {
+            while (running) {
+                final Future<List<SourceRecord>> next = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+                for (SourceRecord record : next.get()) {
+                    consumer.accept(record);
+                }
+                synchronized (lock) {
+                    ++emittedTasks;
+                    lock.notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            final Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            logger.error("Failed to convert binlog rows", cause);
+            failureHandler.accept(cause);
+            synchronized (lock) {
+                failure = cause;
+                lock.notifyAll();
+            }
+            // no more records can be emitted in order, so discard everything still pending ...
+            running = false;
+            workers.shutdownNow();
+            pending.clear();
+        }
+    }
+
+    private void checkNotFailed() {
+        synchronized (lock) {
+            if (failure != null) {
+                throw new ConnectException("Failed to convert binlog rows", failure);
+            }
+        }
+    }
+}
@@ -210,14 +210,10 @@ public int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRo
                 Object key = tableSchema.keyFromColumnData(row);
                 Struct value = tableSchema.valueFromColumnData(row);
                 if (value != null || key != null) {
-                    Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
                     Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
                     Struct origin = source.struct(id);
-                    SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
-                            keySchema, key, envelope.schema(), envelope.create(value, origin, ts));
-                    consumer.accept(record);
-                    return 1;
+                    return emitInsert(partition, offset, origin, key, value, ts, consumer);
                 }
                 return 0;
             }
@@ -227,73 +223,144 @@ public int update(SourceInfo source, Object[] before, Object[] after, int rowNum
                               long ts,
                               BlockingConsumer<SourceRecord> consumer)
                     throws InterruptedException {
-                int count = 0;
                 Object key = tableSchema.keyFromColumnData(after);
                 Struct valueAfter = tableSchema.valueFromColumnData(after);
                 if (valueAfter != null || key != null) {
-                    Object oldKey = tableSchema.keyFromColumnData(before);
-                    Struct valueBefore = tableSchema.valueFromColumnData(before);
-                    Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
                     Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
                     Struct origin = source.struct(id);
-                    if (key != null && !Objects.equals(key, oldKey)) {
-                        // The key has changed, so we need to deal with both the new key and old key.
-                        // Consumers may push the events into a system that won't allow both records to exist at the same time,
-                        // so we first want to send the delete event for the old key...
-                        SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
-                                keySchema, oldKey, envelope.schema(), envelope.delete(valueBefore, origin, ts));
-                        consumer.accept(record);
-                        ++count;
-
-                        if (emitTombstoneOnDelete) {
-                            // Next send a tombstone event for the old key ...
-                            record = new SourceRecord(partition, offset, topicName, partitionNum, keySchema, oldKey, null, null);
-                            consumer.accept(record);
-                            ++count;
-                        }
-
-                        // And finally send the create event ...
-                        record = new SourceRecord(partition, offset, topicName, partitionNum,
-                                keySchema, key, envelope.schema(), envelope.create(valueAfter, origin, ts));
-                        consumer.accept(record);
-                        ++count;
-                    } else {
-                        // The key has not changed, so a simple update is fine ...
-                        SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
-                                keySchema, key, envelope.schema(), envelope.update(valueBefore, valueAfter, origin, ts));
-                        consumer.accept(record);
-                        ++count;
-                    }
+                    return emitUpdate(partition, offset, origin, before, key, valueAfter, ts, consumer);
                 }
-                return count;
+                return 0;
             }
 
             @Override
             public int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, long ts,
                               BlockingConsumer<SourceRecord> consumer)
                     throws InterruptedException {
-                int count = 0;
                 Object key = tableSchema.keyFromColumnData(row);
                 Struct value = tableSchema.valueFromColumnData(row);
                 if (value != null || key != null) {
-                    Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
                     Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
                     Struct origin = source.struct(id);
-                    // Send a delete message ...
+                    return emitDelete(partition, offset, origin, key, value, ts, consumer);
+                }
+                return 0;
+            }
+
+            @Override
+            public PreparedRecords prepareInsert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, long ts) {
+                // Capture the position of the row now, since the source info moves on with the next row ...
+                Map<String, ?> partition = source.partition();
+                Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
+                Struct origin = source.struct(id);
+                return consumer -> {
+                    Object key = tableSchema.keyFromColumnData(row);
+                    Struct value = tableSchema.valueFromColumnData(row);
+                    if (value != null || key != null) {
+                        return emitInsert(partition, offset, origin, key, value, ts, consumer);
+                    }
+                    return 0;
+                };
+            }
+
+            @Override
+            public PreparedRecords prepareUpdate(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows,
+                                                 long ts) {
+                Map<String, ?> partition = source.partition();
+                Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
+                Struct origin = source.struct(id);
+                return consumer -> {
+                    Object key = tableSchema.keyFromColumnData(after);
+                    Struct valueAfter = tableSchema.valueFromColumnData(after);
+                    if (valueAfter != null || key != null) {
+                        return emitUpdate(partition, offset, origin, before, key, valueAfter, ts, consumer);
+                    }
+                    return 0;
+                };
+            }
+
+            @Override
+            public PreparedRecords prepareDelete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, long ts) {
+                Map<String, ?> partition = source.partition();
+                Map<String, ?> offset = source.offsetForRow(rowNumber, numberOfRows);
+                Struct origin = source.struct(id);
+                return consumer -> {
+                    Object key = tableSchema.keyFromColumnData(row);
+                    Struct value = tableSchema.valueFromColumnData(row);
+                    if (value != null || key != null) {
+                        return emitDelete(partition, offset, origin, key, value, ts, consumer);
+                    }
+                    return 0;
+                };
+            }
+
+            private int emitInsert(Map<String, ?> partition, Map<String, ?> offset, Struct origin, Object key, Struct value, long ts,
+                                   BlockingConsumer<SourceRecord> consumer)
+                    throws InterruptedException {
+                Schema keySchema = tableSchema.keySchema();
+                SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
+                        keySchema, key, envelope.schema(), envelope.create(value, origin, ts));
+                consumer.accept(record);
+                return 1;
+            }
+
+            private int emitUpdate(Map<String, ?> partition, Map<String, ?> offset, Struct origin, Object[] before, Object key,
+                                   Struct valueAfter, long ts, BlockingConsumer<SourceRecord> consumer)
+                    throws InterruptedException {
+                int count = 0;
+                Object oldKey = tableSchema.keyFromColumnData(before);
+                Struct valueBefore = tableSchema.valueFromColumnData(before);
+                Schema keySchema = tableSchema.keySchema();
+                if (key != null && !Objects.equals(key, oldKey)) {
+                    // The key has changed, so we need to deal with both the new key and old key.
+                    // Consumers may push the events into a system that won't allow both records to exist at the same time,
+                    // so we first want to send the delete event for the old key...
                     SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
-                            keySchema, key, envelope.schema(), envelope.delete(value, origin, ts));
+                            keySchema, oldKey, envelope.schema(), envelope.delete(valueBefore, origin, ts));
                     consumer.accept(record);
                     ++count;
 
-                    // And send a tombstone ...
                     if (emitTombstoneOnDelete) {
-                        record = new SourceRecord(partition, offset, topicName, partitionNum,
-                                keySchema, key, null, null);
+                        // Next send a tombstone event for the old key ...
+                        record = new SourceRecord(partition, offset, topicName, partitionNum, keySchema, oldKey, null, null);
                         consumer.accept(record);
                         ++count;
                     }
+
+                    // And finally send the create event ...
+                    record = new SourceRecord(partition, offset, topicName, partitionNum,
+                            keySchema, key, envelope.schema(), envelope.create(valueAfter, origin, ts));
+                    consumer.accept(record);
+                    ++count;
+                } else {
+                    // The key has not changed, so a simple update is fine ...
+                    SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
+                            keySchema, key, envelope.schema(), envelope.update(valueBefore, valueAfter, origin, ts));
+                    consumer.accept(record);
+                    ++count;
+                }
+                return count;
+            }
+
+            private int emitDelete(Map<String, ?> partition, Map<String, ?> offset, Struct origin, Object key, Struct value, long ts,
+                                   BlockingConsumer<SourceRecord> consumer)
+                    throws InterruptedException {
+                int count = 0;
+                Schema keySchema = tableSchema.keySchema();
+                // Send a delete message ...
+                SourceRecord record = new SourceRecord(partition, offset, topicName, partitionNum,
+                        keySchema, key, envelope.schema(), envelope.delete(value, origin, ts));
+                consumer.accept(record);
+                ++count;
+
+                // And send a tombstone ...
+                if (emitTombstoneOnDelete) {
+                    record = new SourceRecord(partition, offset, topicName, partitionNum,
+                            keySchema, key, null, null);
+                    consumer.accept(record);
+                    ++count;
                 }
                 return count;
             }
@@ -346,6 +413,29 @@ int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, Bit
                    BlockingConsumer<SourceRecord> consumer)
                 throws InterruptedException;
 
+        PreparedRecords prepareInsert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, long ts);
+
+        PreparedRecords prepareUpdate(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, long ts);
+
+        PreparedRecords prepareDelete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, long ts);
+
+    }
+
+    /**
+     * The records for a single row whose position in the binlog has already been captured, but whose values have not been
+     * converted yet. Unlike capturing the position, the conversion does not depend on the state of the {@link SourceInfo} and
+     * can therefore happen on any thread.
+     */
+    @FunctionalInterface
+    public static interface PreparedRecords {
+        /**
+         * Convert the row and give the resulting records to the consumer.
+         *
+         * @param consumer the consumer of the records; may not be null
+         * @return the number of records produced; will be 0 or more
+         * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
+         */
+        int emit(BlockingConsumer<SourceRecord> consumer) throws InterruptedException;
     }
 
     /**
@@ -477,6 +567,53 @@ public int delete(Object[] row, long ts) throws InterruptedException {
         public int delete(Object[] row, long ts, int rowNumber, int numberOfRows) throws InterruptedException {
             return converter.delete(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
         }
+
+        /**
+         * Capture the position of a row inserted into the table, deferring the conversion into a
+         * {@link io.debezium.data.Envelope.Operation#CREATE create} record. This must be called in binlog order.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the records of the row, which are to be emitted in the order the rows were prepared; never null
+         */
+        public PreparedRecords prepareCreate(Object[] row, long ts, int rowNumber, int numberOfRows) {
+            return converter.prepareInsert(source, row, rowNumber, numberOfRows, ts);
+        }
+
+        /**
+         * Capture the position of a row updated in the table, deferring the conversion into an
+         * {@link io.debezium.data.Envelope.Operation#UPDATE update} record. This must be called in binlog order.
+         *
+         * @param before the values of the row <i>before</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @param after the values of the row <i>after</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the records of the row, which are to be emitted in the order the rows were prepared; never null
+         */
+        public PreparedRecords prepareUpdate(Object[] before, Object[] after, long ts, int rowNumber, int numberOfRows) {
+            return converter.prepareUpdate(source, before, after, rowNumber, numberOfRows, ts);
+        }
+
+        /**
+         * Capture the position of a row deleted from the table, deferring the conversion into a
+         * {@link io.debezium.data.Envelope.Operation#DELETE delete} record. This must be called in binlog order.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the records of the row, which are to be emitted in the order the rows were prepared; never null
+         */
+        public PreparedRecords prepareDelete(Object[] row, long ts, int rowNumber, int numberOfRows) {
+            return converter.prepareDelete(source, row, rowNumber, numberOfRows, ts);
+        }
     }
 
     /**
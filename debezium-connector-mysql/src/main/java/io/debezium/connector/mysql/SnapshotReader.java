@@ -6,6 +6,10 @@
 package io.debezium.connector.mysql;
 
 import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -23,9 +27,14 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -36,6 +45,7 @@
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.connector.mysql.RecordMakers.RecordsForTable;
+import io.debezium.function.BlockingConsumer;
 import io.debezium.function.BufferedBlockingConsumer;
 import io.debezium.function.Predicates;
 import io.debezium.jdbc.JdbcConnection;
@@ -59,12 +69,20 @@ public class SnapshotReader extends AbstractReader {
      */
     private static final Pattern TIME_FIELD_PATTERN = Pattern.compile("(\\-?[0-9]*):([0-9]*):([0-9]*)(\\.([0-9]*))?");
 
+    /**
+     * The maximum number of primary key ranges a table is split into when the snapshot is read in parallel.
+     */
+    private static final int MAX_CHUNKS_PER_TABLE = 1024;
+
     private final boolean includeData;
     private RecordRecorder recorder;
     private final SnapshotReaderMetrics metrics;
     private ExecutorService executorService;
 
     private final MySqlConnectorConfig.SnapshotLockingMode snapshotLockingMode;
+    private final int snapshotParallelism;
+    private final long snapshotChunkSize;
+    private final boolean snapshotResumable;
 
     /**
      * Create a snapshot reader.
@@ -76,6 +94,9 @@ public SnapshotReader(String name, MySqlTaskContext context) {
         super(name, context);
         this.includeData = context.snapshotMode().includeData();
         this.snapshotLockingMode = context.getConnectorConfig().getSnapshotLockingMode();
+        this.snapshotParallelism = context.snapshotParallelism();
+        this.snapshotChunkSize = context.snapshotChunkSize();
+        this.snapshotResumable = context.isSnapshotResumable();
         recorder = this::recordRowAsRead;
         metrics = new SnapshotReaderMetrics(context.getClock(), context.dbSchema());
     }
@@ -216,6 +237,9 @@ protected void execute() {
         final SourceInfo source = context.source();
         final Clock clock = context.getClock();
         final long ts = clock.currentTimeInMillis();
+        // The position of an interrupted snapshot that is to be resumed, if any ...
+        TableId resumeTable = source.snapshotTable();
+        String resumeKey = source.snapshotLastKey();
         logger.info("Starting snapshot for {} with user '{}' with locking mode '{}'", connectionContext.connectionString(), mysql.username(), snapshotLockingMode.getValue());
         logRolesForCurrentUser(mysql);
         logServerInformation(mysql);
@@ -250,6 +274,7 @@ protected void execute() {
             AtomicBoolean interrupted = new AtomicBoolean(false);
             long lockAcquired = 0L;
             int step = 1;
+            final List<MySqlConnection> workerConnections = new ArrayList<>();
 
             try {
                 // ------------------------------------
@@ -395,6 +420,44 @@ protected void execute() {
                     readBinlogPosition(step++, source, mysql, sql);
                 }
 
+                // ------------------------------------
+                // OPEN PARALLEL SNAPSHOT CONNECTIONS
+                // ------------------------------------
+                // While writes are still prevented, start a transaction with a consistent snapshot on each additional
+                // connection. All of these transactions (and our own) therefore see exactly the same data, and that data
+                // corresponds to the binlog position we just read ...
+                if (includeData && snapshotParallelism > 1 && isRunning()) {
+                    if (isLocked) {
+                        logger.info("Step {}: starting consistent snapshot transactions on {} additional connections", step++,
+                                    snapshotParallelism - 1);
+                        openWorkerConnections(snapshotParallelism - 1, workerConnections, sql);
+                    } else {
+                        logger.warn("Step {}: unable to read tables in parallel without holding a read lock; tables will be read sequentially",
+                                    step++);
+                    }
+                }
+
+                // ------------------------------------
+                // VERIFY SCHEMAS OF A RESUMED SNAPSHOT
+                // ------------------------------------
+                // A resumed snapshot reuses the binlog position of the interrupted snapshot, but the schemas are read as they
+                // are now. That is only correct when the schemas have not changed since then, so otherwise start over ...
+                if (snapshotResumable && isRunning()) {
+                    String schemaFingerprint = schemaFingerprint(tableIds, mysql, sql);
+                    if (resumeTable != null && !schemaFingerprint.equals(source.snapshotSchema())) {
+                        logger.warn("Step {}: the schemas of the tables changed since the snapshot was interrupted, so starting a new snapshot",
+                                    step);
+                        source.clearSnapshotPosition();
+                        resumeTable = null;
+                        resumeKey = null;
+                        if (isLocked) {
+                            // Writes are still prevented, so the current binlog position matches our consistent snapshot ...
+                            readBinlogPosition(step++, source, mysql, sql);
+                        }
+                    }
+                    source.setSnapshotSchema(schemaFingerprint);
+                }
+
                 // From this point forward, all source records produced by this connector will have an offset that includes a
                 // "snapshot" field (with value of "true").
 
@@ -488,16 +551,38 @@ protected void execute() {
                 if (includeData) {
                     BufferedBlockingConsumer<SourceRecord> bufferedRecordQueue = BufferedBlockingConsumer.bufferLast(super::enqueueRecord);
 
+                    // When resuming an interrupted snapshot, skip all of the tables that were already read completely ...
+                    List<TableId> tablesToRead = tableIds;
+                    if (resumeTable != null) {
+                        int resumeIndex = tableIds.indexOf(resumeTable);
+                        if (resumeIndex >= 0) {
+                            logger.info("Step {}: resuming the interrupted snapshot at table '{}' after {} completely read tables",
+                                        step, resumeTable, resumeIndex);
+                            tablesToRead = tableIds.subList(resumeIndex, tableIds.size());
+                        } else {
+                            logger.warn("Step {}: table '{}' of the interrupted snapshot is no longer included, so reading all tables",
+                                        step, resumeTable);
+                        }
+                    }
+
                     // Dump all of the tables and generate source records ...
-                    logger.info("Step {}: scanning contents of {} tables while still in transaction", step, tableIds.size());
-                    metrics.setTableCount(tableIds.size());
+                    logger.info("Step {}: scanning contents of {} tables while still in transaction", step, tablesToRead.size());
+                    metrics.setTableCount(tablesToRead.size());
 
                     long startScan = clock.currentTimeInMillis();
                     AtomicLong totalRowCount = new AtomicLong();
                     int counter = 0;
                     int completedCounter = 0;
                     long largeTableCount = context.rowCountForLargeTable();
-                    Iterator<TableId> tableIdIter = tableIds.iterator();
+                    Iterator<TableId> tableIdIter = tablesToRead.iterator();
+                    if (!workerConnections.isEmpty()) {
+                        // Tables are not read in order, so the snapshot can not record a position from which to resume ...
+                        source.clearSnapshotPosition();
+                        completedCounter = readTablesInParallel(step, tablesToRead, mysql, workerConnections, bufferedRecordQueue, ts,
+                                                                totalRowCount, interrupted, sql);
+                        // All of the tables have been read, so there is nothing left to scan one by one ...
+                        tableIdIter = Collections.emptyIterator();
+                    }
                     while (tableIdIter.hasNext()) {
                         TableId tableId = tableIdIter.next();
                         if (!isRunning()) break;
@@ -534,11 +619,24 @@ protected void execute() {
 
                             // Scan the rows in the table ...
                             long start = clock.currentTimeInMillis();
-                            logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, tableId, ++counter, tableIds.size());
+                            logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, tableId, ++counter, tablesToRead.size());
 
                             Map<TableId, String> selectOverrides = getSnapshotSelectOverridesByTable();
 
                             String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + quote(tableId));
+
+                            // A resumable snapshot reads a table with a single integer primary key in key order, so that
+                            // the key of each row can be recorded and a resumed snapshot can continue after that key ...
+                            final Column keyColumn = snapshotResumable && !selectOverrides.containsKey(tableId) ? resumableKeyColumn(tableId) : null;
+                            if (keyColumn != null) {
+                                if (tableId.equals(resumeTable) && resumeKey != null) {
+                                    selectStatement += " WHERE " + quote(keyColumn.name()) + " > " + new BigInteger(resumeKey);
+                                }
+                                selectStatement += " ORDER BY " + quote(keyColumn.name());
+                            }
+                            if (snapshotResumable) {
+                                source.setSnapshotPosition(tableId, null);
+                            }
                             logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
                             sql.set(selectStatement);
 
@@ -557,6 +655,9 @@ protected void execute() {
                                                 Column actualColumn = table.columns().get(i);
                                                 row[i] = readField(rs, j, actualColumn);
                                             }
+                                            if (keyColumn != null) {
+                                                source.setSnapshotPosition(tableId, row[keyColumn.position() - 1].toString());
+                                            }
                                             recorder.recordRow(recordMaker, row, ts); // has no row number!
                                             ++rowNum;
                                             if (rowNum % 100 == 0 && !isRunning()) {
@@ -604,12 +705,12 @@ protected void execute() {
                     try {
                         bufferedRecordQueue.close(this::replaceOffset);
                         logger.info("Step {}: scanned {} rows in {} tables in {}",
-                                    step, totalRowCount, tableIds.size(), Strings.duration(stop - startScan));
+                                    step, totalRowCount, tablesToRead.size(), Strings.duration(stop - startScan));
                     } catch (InterruptedException e) {
                         Thread.interrupted();
                         // We were not able to finish all rows in all tables ...
                         logger.info("Step {}: aborting the snapshot after {} rows in {} of {} tables {}",
-                                    step, totalRowCount, completedCounter, tableIds.size(), Strings.duration(stop - startScan));
+                                    step, totalRowCount, completedCounter, tablesToRead.size(), Strings.duration(stop - startScan));
                         interrupted.set(true);
                     }
                 } else {
@@ -624,6 +725,7 @@ protected void execute() {
                 // STEP 9
                 // ------
                 // Either commit or roll back the transaction, BEFORE releasing the locks ...
+                closeWorkerConnections(workerConnections, interrupted.get() || !isRunning());
                 if (isTxnStarted) {
                     if (interrupted.get() || !isRunning()) {
                         // We were interrupted or were stopped while reading the tables,
@@ -703,6 +805,10 @@ protected void readBinlogPosition(int step, SourceInfo source, JdbcConnection my
                 throw new IllegalStateException("Could not find existing binlog information while attempting schema only recovery snapshot");
             }
             source.startSnapshot();
+        } else if (source.snapshotTable() != null) {
+            // We are resuming an interrupted snapshot, so changes made since then must also be read from the binlog ...
+            logger.info("Step {}: using binlog position of the interrupted snapshot: {}", step, source);
+            source.startSnapshot();
         } else {
             logger.info("Step {}: read binlog position of MySQL master", step);
             String showMasterStmt = "SHOW MASTER STATUS";
@@ -730,6 +836,303 @@ protected void readBinlogPosition(int step, SourceInfo source, JdbcConnection my
         }
     }
 
+    /**
+     * Open the given number of additional connections, and on each start a transaction with a consistent snapshot. This must
+     * be called while writes to the captured tables are prevented, so that all of the snapshot transactions see the same data.
+     *
+     * @param count the number of connections to open
+     * @param connections the list to which the opened connections are added; connections are added as soon as they are
+     *            opened so that they can be closed even if this method fails
+     * @param sql the reference to the last executed statement; may not be null
+     * @throws SQLException if there is a problem opening a connection or starting its transaction
+     */
+    protected void openWorkerConnections(int count, List<MySqlConnection> connections, AtomicReference<String> sql) throws SQLException {
+        for (int i = 0; i != count && isRunning(); ++i) {
+            MySqlConnection connection = new MySqlConnection(context.config());
+            connections.add(connection);
+            connection.setAutoCommit(false);
+            sql.set("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+            connection.execute(sql.get());
+            sql.set("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+            connection.execute(sql.get());
+        }
+    }
+
+    /**
+     * End the transactions on the additional snapshot connections and close them. Any problems are logged but otherwise
+     * ignored, since the data read on these connections has already been completely processed.
+     *
+     * @param connections the additional connections; may not be null
+     * @param rollback {@code true} if the transactions should be rolled back, or {@code false} if they should be committed
+     */
+    protected void closeWorkerConnections(List<MySqlConnection> connections, boolean rollback) {
+        for (MySqlConnection connection : connections) {
+            try {
+                connection.execute(rollback ? "ROLLBACK" : "COMMIT");
+            } catch (SQLException e) {
+                logger.warn("Error while ending the transaction on a snapshot connection: {}", e.getMessage(), e);
+            }
+            finally {
+                connection.close();
+            }
+        }
+        connections.clear();
+    }
+
+    /**
+     * Read the contents of all of the given tables using the snapshot connection plus the additional connections, each of which
+     * has its own transaction over the same consistent snapshot. Each table is split into {@link SnapshotChunk chunks} that are
+     * handed out to whichever connection is available next. All records are sent to the supplied buffered consumer, so that
+     * the very last record can still be updated with the final offset once all chunks have been read.
+     *
+     * @return the number of tables that were completely read
+     */
+    private int readTablesInParallel(int step, List<TableId> tableIds, JdbcConnection mysql, List<MySqlConnection> workerConnections,
+                                     BufferedBlockingConsumer<SourceRecord> bufferedRecordQueue, long ts, AtomicLong totalRowCount,
+                                     AtomicBoolean interrupted, AtomicReference<String> sql)
+            throws SQLException {
+        final Map<TableId, String> selectOverrides = getSnapshotSelectOverridesByTable();
+        final Queue<SnapshotChunk> chunks = new ConcurrentLinkedQueue<>();
+        final AtomicInteger completedTables = new AtomicInteger();
+        for (TableId tableId : tableIds) {
+            if (!isRunning()) break;
+            if (!context.makeRecord().hasTable(tableId)) continue;
+            chunks.addAll(chunksFor(tableId, selectOverrides, mysql, sql));
+        }
+        logger.info("Step {}: reading {} tables as {} chunks using {} connections", step, tableIds.size(), chunks.size(),
+                    workerConnections.size() + 1);
+
+        // The buffered consumer swaps the record it holds back atomically and hands every other record to the thread-safe
+        // record queue, so the workers can share it without a lock; whichever record ends up held back is the last one ...
+        final BlockingConsumer<SourceRecord> recordQueue = bufferedRecordQueue;
+
+        final ExecutorService workers = Threads.newFixedThreadPool(MySqlConnector.class, context.getConnectorConfig().getLogicalName(),
+                                                                   "snapshot-worker", workerConnections.size());
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (MySqlConnection connection : workerConnections) {
+                results.add(workers.submit(() -> {
+                    context.configureLoggingContext("snapshot");
+                    try {
+                        readChunks(step, connection, chunks, recordQueue, ts, totalRowCount, completedTables, interrupted);
+                    } catch (SQLException | RuntimeException e) {
+                        // Stop the other connections right away rather than once all remaining chunks have been read ...
+                        interrupted.set(true);
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+            // This thread participates using the snapshot connection ...
+            readChunks(step, mysql, chunks, recordQueue, ts, totalRowCount, completedTables, interrupted);
+
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    interrupted.set(true);
+                    if (e.getCause() instanceof SQLException) {
+                        throw (SQLException) e.getCause();
+                    }
+                    throw new ConnectException("Error while reading snapshot chunk: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.interrupted();
+            logger.info("Step {}: Stopping the snapshot due to thread interruption", step);
+            interrupted.set(true);
+        } catch (SQLException | RuntimeException e) {
+            interrupted.set(true);
+            throw e;
+        } finally {
+            workers.shutdownNow();
+        }
+        return completedTables.get();
+    }
+
+    /**
+     * Repeatedly take the next chunk from the shared queue and read its rows using the supplied connection, until there are no
+     * more chunks or the snapshot has been stopped or interrupted.
+     */
+    private void readChunks(int step, JdbcConnection connection, Queue<SnapshotChunk> chunks, BlockingConsumer<SourceRecord> recordQueue,
+                            long ts, AtomicLong totalRowCount, AtomicInteger completedTables, AtomicBoolean interrupted)
+            throws SQLException {
+        final MySqlSchema schema = context.dbSchema();
+        final Clock clock = context.getClock();
+        SnapshotChunk chunk = null;
+        while (isRunning() && !interrupted.get() && (chunk = chunks.poll()) != null) {
+            final SnapshotChunk current = chunk;
+            final TableId tableId = current.tableId;
+            final RecordsForTable recordMaker = context.makeRecord().forTable(tableId, null, recordQueue);
+            if (recordMaker == null) continue;
+
+            connection.execute("USE " + quote(tableId.catalog()) + ";");
+            logger.debug("Step {}: - scanning chunk of table '{}' using select statement: '{}'", step, tableId, current.selectStatement);
+            connection.query(current.selectStatement, this::createStatementWithLargeResultSet, rs -> {
+                long rowNum = 0;
+                try {
+                    final Table table = schema.tableFor(tableId);
+                    final int numColumns = table.columns().size();
+                    final Object[] row = new Object[numColumns];
+                    while (rs.next()) {
+                        for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
+                            Column actualColumn = table.columns().get(i);
+                            row[i] = readField(rs, j, actualColumn);
+                        }
+                        recorder.recordRow(recordMaker, row, ts); // has no row number!
+                        ++rowNum;
+                        if (rowNum % 100 == 0 && (!isRunning() || interrupted.get())) {
+                            // We've stopped running ...
+                            break;
+                        }
+                        if (rowNum % 10_000 == 0) {
+                            metrics.setRowsScanned(tableId.toString(), current.table.rowsScanned.addAndGet(10_000));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.interrupted();
+                    // We were not able to finish all rows in all tables ...
+                    logger.info("Step {}: Stopping the snapshot due to thread interruption", step);
+                    interrupted.set(true);
+                } finally {
+                    long rowsScanned = current.table.rowsScanned.addAndGet(rowNum % 10_000);
+                    metrics.setRowsScanned(tableId.toString(), rowsScanned);
+                    totalRowCount.addAndGet(rowNum);
+                }
+            });
+            if (isRunning() && !interrupted.get() && current.table.remainingChunks.decrementAndGet() == 0) {
+                metrics.completeTable();
+                completedTables.incrementAndGet();
+                long stop = clock.currentTimeInMillis();
+                logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
+                            step, current.table.rowsScanned, tableId, Strings.duration(stop - current.table.start));
+            }
+        }
+    }
+
+    /**
+     * Determine the chunks in which the given table should be read. A table is split into ranges of its primary key only
+     * when chunking is enabled, when the table has a single integer primary key column, and when the table has no select
+     * statement override; otherwise the whole table is read as a single chunk.
+     */
+    private List<SnapshotChunk> chunksFor(TableId tableId, Map<TableId, String> selectOverrides, JdbcConnection mysql,
+                                          AtomicReference<String> sql)
+            throws SQLException {
+        final TableProgress progress = new TableProgress(context.getClock().currentTimeInMillis());
+        final List<SnapshotChunk> chunks = new ArrayList<>();
+        final String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + quote(tableId));
+        final Column keyColumn = resumableKeyColumn(tableId);
+
+        if (snapshotChunkSize > 0 && !selectOverrides.containsKey(tableId) && keyColumn != null) {
+            final String pk = quote(keyColumn.name());
+            final AtomicReference<BigInteger> min = new AtomicReference<>();
+            final AtomicReference<BigInteger> max = new AtomicReference<>();
+            sql.set("SELECT MIN(" + pk + "), MAX(" + pk + ") FROM " + quote(tableId));
+            mysql.query(sql.get(), rs -> {
+                if (rs.next() && rs.getBigDecimal(1) != null) {
+                    min.set(rs.getBigDecimal(1).toBigInteger());
+                    max.set(rs.getBigDecimal(2).toBigInteger());
+                }
+            });
+            if (min.get() != null) {
+                // Size the chunks by the estimated number of rows rather than by the key range alone, so that a table with
+                // sparse keys is not split into a great many empty chunks, and never use more than MAX_CHUNKS_PER_TABLE ...
+                final BigInteger range = max.get().subtract(min.get()).add(BigInteger.ONE);
+                final long estimatedRows = estimatedRowCount(tableId, mysql, sql);
+                final BigInteger rows = estimatedRows > 0 ? range.min(BigInteger.valueOf(estimatedRows)) : range;
+                final BigInteger chunkCount = rows.add(BigInteger.valueOf(snapshotChunkSize - 1))
+                                                  .divide(BigInteger.valueOf(snapshotChunkSize))
+                                                  .max(BigInteger.ONE)
+                                                  .min(BigInteger.valueOf(MAX_CHUNKS_PER_TABLE));
+                final BigInteger chunkSize = range.add(chunkCount).subtract(BigInteger.ONE).divide(chunkCount);
+                BigInteger lower = min.get();
+                while (lower.compareTo(max.get()) <= 0) {
+                    BigInteger upper = lower.add(chunkSize);
+                    String condition = upper.compareTo(max.get()) > 0
+                            ? pk + " >= " + lower + " AND " + pk + " <= " + max.get()
+                            : pk + " >= " + lower + " AND " + pk + " < " + upper;
+                    chunks.add(new SnapshotChunk(tableId, progress, selectStatement + " WHERE " + condition));
+                    lower = upper;
+                }
+                logger.info("Splitting table '{}' into {} chunks", tableId, chunks.size());
+            }
+        }
+        if (chunks.isEmpty()) {
+            logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
+            chunks.add(new SnapshotChunk(tableId, progress, selectStatement));
+        }
+        progress.remainingChunks.set(chunks.size());
+        return chunks;
+    }
+
+    /**
+     * Compute a fingerprint of the CREATE TABLE statements of the given tables, which allows a resumed snapshot to detect
+     * whether any of the tables changed since the snapshot was interrupted.
+     *
+     * @return the hexadecimal SHA-256 digest of the table definitions; never null
+     */
+    private String schemaFingerprint(List<TableId> tableIds, JdbcConnection mysql, AtomicReference<String> sql) throws SQLException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+        final List<TableId> sortedTableIds = new ArrayList<>(tableIds);
+        sortedTableIds.sort(Comparator.comparing(TableId::toString));
+        for (TableId tableId : sortedTableIds) {
+            sql.set("SHOW CREATE TABLE " + quote(tableId));
+            mysql.query(sql.get(), rs -> {
+                if (rs.next()) {
+                    digest.update((tableId + "\n" + rs.getString(2) + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            });
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    /**
+     * Get the number of rows of the given table as estimated by MySQL.
+     *
+     * @return the estimated number of rows, or 0 if there is no estimate
+     */
+    private long estimatedRowCount(TableId tableId, JdbcConnection mysql, AtomicReference<String> sql) throws SQLException {
+        final AtomicLong rowCount = new AtomicLong();
+        sql.set("SHOW TABLE STATUS FROM " + quote(tableId.catalog()) + " LIKE '" + tableId.table() + "'");
+        mysql.query(sql.get(), rs -> {
+            if (rs.next()) {
+                rowCount.set(rs.getLong(5));
+            }
+        });
+        return rowCount.get();
+    }
+
+    /**
+     * Get the primary key column of the given table if the table has a single primary key column of an integer type, which
+     * allows the table to be split into key ranges or to be read in key order.
+     *
+     * @param tableId the table identifier
+     * @return the primary key column, or null if the table has no such key
+     */
+    private Column resumableKeyColumn(TableId tableId) {
+        final Table table = context.dbSchema().tableFor(tableId);
+        if (table == null) return null;
+        final List<Column> pkColumns = table.primaryKeyColumns();
+        return pkColumns.size() == 1 && isIntegerType(pkColumns.get(0)) ? pkColumns.get(0) : null;
+    }
+
+    private static boolean isIntegerType(Column column) {
+        switch (column.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected String quote(String dbOrTableName) {
         return "`" + dbOrTableName + "`";
     }
@@ -863,6 +1266,34 @@ private Map<TableId, String> getSnapshotSelectOverridesByTable() {
         return snapshotSelectOverridesByTable;
     }
 
+    /**
+     * A portion of a table that is read with a single query by one of the snapshot connections.
+     */
+    private static final class SnapshotChunk {
+        private final TableId tableId;
+        private final TableProgress table;
+        private final String selectStatement;
+
+        private SnapshotChunk(TableId tableId, TableProgress table, String selectStatement) {
+            this.tableId = tableId;
+            this.table = table;
+            this.selectStatement = selectStatement;
+        }
+    }
+
+    /**
+     * The progress of reading all of the chunks of one table, shared by the connections reading those chunks.
+     */
+    private static final class TableProgress {
+        private final long start;
+        private final AtomicInteger remainingChunks = new AtomicInteger();
+        private final AtomicLong rowsScanned = new AtomicLong();
+
+        private TableProgress(long start) {
+            this.start = start;
+        }
+    }
+
     protected static interface RecordRecorder {
         void recordRow(RecordsForTable recordMaker, Object[] row, long ts) throws InterruptedException;
     }
@@ -57,7 +57,10 @@
  * </pre>
  * <p>
  * The "{@code gtids}" field only appears in offsets produced when GTIDs are enabled. The "{@code snapshot}" field only appears in
- * offsets produced when the connector is in the middle of a snapshot. And finally, the "{@code ts}" field contains the
+ * offsets produced when the connector is in the middle of a snapshot. Resumable snapshots also add the "{@code snapshot_table}"
+ * field with the table being read and, for tables with a single integer primary key, the "{@code snapshot_last_key}" field with
+ * the primary key of the last row read from that table, plus the "{@code snapshot_schema}" field with a fingerprint of the
+ * schemas of the tables as read by the snapshot. And finally, the "{@code ts}" field contains the
  * <em>seconds</em> since Unix epoch (since Jan 1, 1970) of the MySQL event; the message {@link Envelope envelopes} also have a
  * timestamp, but that timestamp is the <em>milliseconds</em> since since Jan 1, 1970.
  * <p>
@@ -107,6 +110,9 @@ final class SourceInfo extends AbstractSourceInfo {
     public static final String BINLOG_ROW_IN_EVENT_OFFSET_KEY = "row";
     public static final String TIMESTAMP_KEY = "ts_sec";
     public static final String SNAPSHOT_KEY = "snapshot";
+    public static final String SNAPSHOT_TABLE_KEY = "snapshot_table";
+    public static final String SNAPSHOT_LAST_KEY_KEY = "snapshot_last_key";
+    public static final String SNAPSHOT_SCHEMA_KEY = "snapshot_schema";
     public static final String THREAD_KEY = "thread";
     public static final String DB_NAME_KEY = "db";
     public static final String TABLE_NAME_KEY = "table";
@@ -151,6 +157,9 @@ final class SourceInfo extends AbstractSourceInfo {
     private boolean lastSnapshot = true;
     private boolean nextSnapshot = false;
     private String currentQuery = null;
+    private String snapshotTable = null;
+    private String snapshotLastKey = null;
+    private String snapshotSchema = null;
 
     public SourceInfo() {
         super(Module.version());
@@ -282,6 +291,15 @@ public void setEventPosition(long positionOfCurrentEvent, long eventSizeInBytes)
         if (binlogTimestampSeconds != 0) map.put(TIMESTAMP_KEY, binlogTimestampSeconds);
         if (isSnapshotInEffect()) {
             map.put(SNAPSHOT_KEY, true);
+            if (snapshotTable != null) {
+                map.put(SNAPSHOT_TABLE_KEY, snapshotTable);
+                if (snapshotLastKey != null) {
+                    map.put(SNAPSHOT_LAST_KEY_KEY, snapshotLastKey);
+                }
+                if (snapshotSchema != null) {
+                    map.put(SNAPSHOT_SCHEMA_KEY, snapshotSchema);
+                }
+            }
         }
         return map;
     }
@@ -473,6 +491,7 @@ public void startSnapshot() {
     public void markLastSnapshot() {
         this.lastSnapshot = true;
         this.nextSnapshot = false;
+        clearSnapshotPosition();
     }
 
     /**
@@ -481,6 +500,66 @@ public void markLastSnapshot() {
     public void completeSnapshot() {
         this.lastSnapshot = false;
         this.nextSnapshot = false;
+        clearSnapshotPosition();
+    }
+
+    /**
+     * Record the position of a resumable snapshot, which is included in all offsets produced while the snapshot is in effect.
+     * All tables read before the given table have been read completely.
+     *
+     * @param tableId the table whose rows are currently being read; may not be null
+     * @param lastKey the primary key value of the last row read from the table, or null if no row has been read yet or
+     *            the table cannot be resumed part way through
+     */
+    public void setSnapshotPosition(TableId tableId, String lastKey) {
+        this.snapshotTable = tableId.toString();
+        this.snapshotLastKey = lastKey;
+    }
+
+    /**
+     * Forget the position of a resumable snapshot, so that it is no longer included in the offsets.
+     */
+    public void clearSnapshotPosition() {
+        this.snapshotTable = null;
+        this.snapshotLastKey = null;
+        this.snapshotSchema = null;
+    }
+
+    /**
+     * Record the fingerprint of the schemas of the tables read by a resumable snapshot, which is included in the offsets along
+     * with the {@link #setSnapshotPosition(TableId, String) snapshot position}.
+     *
+     * @param fingerprint the fingerprint of the table schemas; may be null
+     */
+    public void setSnapshotSchema(String fingerprint) {
+        this.snapshotSchema = fingerprint;
+    }
+
+    /**
+     * Get the fingerprint of the schemas of the tables as they were read by the interrupted snapshot.
+     *
+     * @return the fingerprint; may be null if there is no snapshot to be resumed or it did not record the schemas
+     */
+    public String snapshotSchema() {
+        return snapshotSchema;
+    }
+
+    /**
+     * Get the table that was being read when a resumable snapshot was interrupted.
+     *
+     * @return the table identifier; may be null if there is no snapshot to be resumed
+     */
+    public TableId snapshotTable() {
+        return snapshotTable != null ? TableId.parse(snapshotTable) : null;
+    }
+
+    /**
+     * Get the primary key value of the last row read from the {@link #snapshotTable() snapshot table}.
+     *
+     * @return the string representation of the primary key value; may be null if the table is to be read from the beginning
+     */
+    public String snapshotLastKey() {
+        return snapshotLastKey;
     }
 
     /**
@@ -503,6 +582,11 @@ public void setOffset(Map<String, ?> sourceOffset) {
             this.restartRowsToSkip = (int) longOffsetValue(sourceOffset, BINLOG_ROW_IN_EVENT_OFFSET_KEY);
             nextSnapshot = booleanOffsetValue(sourceOffset, SNAPSHOT_KEY);
             lastSnapshot = nextSnapshot;
+            if (nextSnapshot) {
+                this.snapshotTable = (String) sourceOffset.get(SNAPSHOT_TABLE_KEY);
+                this.snapshotLastKey = (String) sourceOffset.get(SNAPSHOT_LAST_KEY_KEY);
+                this.snapshotSchema = (String) sourceOffset.get(SNAPSHOT_SCHEMA_KEY);
+            }
         }
     }
 
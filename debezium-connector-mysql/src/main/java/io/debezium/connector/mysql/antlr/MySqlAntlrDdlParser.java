@@ -29,6 +29,7 @@
 import io.debezium.connector.mysql.antlr.listener.MySqlAntlrDdlParserListener;
 import io.debezium.ddl.parser.mysql.generated.MySqlLexer;
 import io.debezium.ddl.parser.mysql.generated.MySqlParser;
+import io.debezium.document.Document;
 import io.debezium.relational.Column;
 import io.debezium.relational.SystemVariables;
 import io.debezium.relational.TableEditor;
@@ -87,6 +88,24 @@ protected SystemVariables createNewSystemVariablesInstance() {
         return new MySqlSystemVariables();
     }
 
+    @Override
+    public Document state() {
+        Document state = super.state();
+        Document charsets = state.setDocument("databaseCharsets");
+        charsetNameForDatabase.forEach(charsets::setString);
+        return state;
+    }
+
+    @Override
+    public void restoreState(Document state) {
+        super.restoreState(state);
+        charsetNameForDatabase.clear();
+        Document charsets = state.getDocument("databaseCharsets");
+        if (charsets != null) {
+            charsets.forEach(field -> charsetNameForDatabase.put(field.getName().toString(), field.getValue().asString()));
+        }
+    }
+
     @Override
     protected boolean isGrammarInUpperCase() {
         return true;
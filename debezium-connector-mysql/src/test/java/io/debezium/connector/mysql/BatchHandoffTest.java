@@ -0,0 +1,102 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+public class BatchHandoffTest {
+
+    private static SourceRecord record(int i) {
+        return new SourceRecord(Collections.singletonMap("server", "test"), Collections.singletonMap("pos", i), "topic",
+                Schema.INT32_SCHEMA, i);
+    }
+
+    private static int valueOf(SourceRecord record) {
+        return (Integer) record.value();
+    }
+
+    @Test
+    public void shouldHandOverCompleteBatches() throws InterruptedException {
+        BatchHandoff handoff = new BatchHandoff(100, 3, Duration.ofSeconds(30));
+        for (int i = 0; i < 7; i++) {
+            handoff.put(record(i));
+        }
+
+        List<SourceRecord> batch = handoff.poll(Duration.ofSeconds(10));
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(valueOf(batch.get(0))).isEqualTo(0);
+        assertThat(valueOf(handoff.poll(Duration.ofSeconds(10)).get(0))).isEqualTo(3);
+
+        // the remaining record is neither part of a complete batch nor has it waited long enough
+        assertThat(handoff.poll(Duration.ofMillis(50))).isEmpty();
+        assertThat(handoff.isEmpty()).isFalse();
+
+        batch = handoff.drain();
+        assertThat(batch.size()).isEqualTo(1);
+        assertThat(valueOf(batch.get(0))).isEqualTo(6);
+        assertThat(handoff.isEmpty()).isTrue();
+        assertThat(handoff.getNumberOfBatches()).isEqualTo(3);
+        assertThat(handoff.getNumberOfPartialBatches()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldHandOverPartialBatchAfterMaximumLatency() throws InterruptedException {
+        BatchHandoff handoff = new BatchHandoff(100, 10, Duration.ofMillis(100));
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                handoff.put(record(1));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        List<SourceRecord> batch = handoff.poll(Duration.ofSeconds(10));
+        assertThat(batch.size()).isEqualTo(1);
+        assertThat(handoff.getNumberOfPartialBatches()).isEqualTo(1);
+        producer.join();
+    }
+
+    @Test
+    public void shouldBlockProducerWhileBatchesAreWaiting() throws InterruptedException {
+        // room for one published batch besides the one being filled
+        BatchHandoff handoff = new BatchHandoff(4, 2, Duration.ofSeconds(30));
+        handoff.put(record(0));
+        handoff.put(record(1));
+        handoff.put(record(2));
+
+        CountDownLatch put = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                handoff.put(record(3));
+                put.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(put.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(valueOf(handoff.poll(Duration.ofSeconds(10)).get(0))).isEqualTo(0);
+        assertThat(put.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(valueOf(handoff.poll(Duration.ofSeconds(10)).get(0))).isEqualTo(2);
+        assertThat(handoff.getProducerWaitTimeInMillis()).isGreaterThan(0);
+        producer.join();
+    }
+}
@@ -7,19 +7,23 @@
 package io.debezium.connector.mysql;
 
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlChanges;
 import io.debezium.relational.ddl.SimpleDdlParserListener;
+import io.debezium.text.ParsingException;
 import io.debezium.util.Strings;
 import io.debezium.util.Testing;
+import org.antlr.v4.runtime.dfa.DFA;
 import org.junit.Test;
 
 import java.sql.Types;
 import java.util.List;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * @author Roman Kuchár <kucharrom@gmail.com>.
@@ -241,12 +245,71 @@ public void shouldParseAlterViewStatementColumnAliasInnerSelect() {
         assertColumn(foo, "c2", "VARCHAR", Types.VARCHAR, 22, -1, true, false, false);
     }
 
+    @Test
+    public void shouldParseStatementsAfterParsingFailureAndClearedCaches() {
+        MySqlAntlrDdlParser antlrParser = (MySqlAntlrDdlParser) parser;
+        antlrParser.setDfaCacheClearInterval(2);
+        antlrParser.parse("CREATE TABLE foo ( c1 INTEGER NOT NULL, c2 VARCHAR(22) );", tables);
+        try {
+            antlrParser.parse("CREATE TABLE bar ( c1 INTEGER NOT NULL, ", tables);
+            fail("The statement should not have been parsed");
+        }
+        catch (ParsingException e) {
+            // expected
+        }
+        antlrParser.parse("ALTER TABLE foo ADD COLUMN c3 BIGINT;", tables);
+        antlrParser.clearDfaCache();
+        antlrParser.parse("CREATE TABLE bar ( c1 INTEGER NOT NULL );", tables);
+
+        assertThat(tables.size()).isEqualTo(2);
+        Table foo = tables.forTable(new TableId(null, null, "foo"));
+        assertThat(foo.columnNames()).containsExactly("c1", "c2", "c3");
+        assertColumn(foo, "c3", "BIGINT", Types.BIGINT, -1, -1, true, false, false);
+        assertThat(tables.forTable(new TableId(null, null, "bar")).columnNames()).containsExactly("c1");
+    }
+
+    @Test
+    public void shouldNotClearDfaCacheSharedWithOtherParsers() {
+        parser.parse("CREATE TABLE foo ( c1 INTEGER NOT NULL, c2 VARCHAR(22) );", tables);
+        int sharedStates = SharedDfaCache.states();
+        assertThat(sharedStates).isGreaterThan(0);
+
+        MySqlAntlrDdlParser antlrParser = new MysqlDdlParserWithSimpleTestListener(listener);
+        antlrParser.setDfaCacheClearInterval(1);
+        Tables otherTables = new Tables();
+        antlrParser.parse("CREATE TABLE bar ( c1 INTEGER NOT NULL );", otherTables);
+        antlrParser.parse("ALTER TABLE bar ADD COLUMN c2 BIGINT;", otherTables);
+        antlrParser.clearDfaCache();
+        antlrParser.parse("ALTER TABLE bar ADD COLUMN c3 BIGINT;", otherTables);
+
+        assertThat(otherTables.forTable(new TableId(null, null, "bar")).columnNames()).containsExactly("c1", "c2", "c3");
+        assertThat(SharedDfaCache.states()).isGreaterThanOrEqualTo(sharedStates);
+    }
+
     protected void assertParseEnumAndSetOptions(String typeExpression, String optionString) {
         List<String> options = MySqlAntlrDdlParser.parseSetAndEnumOptions(typeExpression);
         String commaSeperatedOptions = Strings.join(",", options);
         assertThat(optionString).isEqualTo(commaSeperatedOptions);
     }
 
+    /**
+     * Gives access to the DFA cache shared by all instances of the generated parser.
+     */
+    private static class SharedDfaCache extends MySqlParser {
+
+        private SharedDfaCache() {
+            super(null);
+        }
+
+        static int states() {
+            int states = 0;
+            for (DFA dfa : _decisionToDFA) {
+                states += dfa.states.size();
+            }
+            return states;
+        }
+    }
+
     class MysqlDdlParserWithSimpleTestListener extends MySqlAntlrDdlParser {
         public MysqlDdlParserWithSimpleTestListener(DdlChanges changesListener) {
             this(changesListener, false);
@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import io.debezium.connector.mysql.RecordMakers.PreparedRecords;
+
+public class ParallelRecordConverterTest {
+
+    private static SourceRecord record(int i) {
+        return new SourceRecord(Collections.singletonMap("server", "test"), Collections.singletonMap("row", i), "topic",
+                Schema.INT32_SCHEMA, i);
+    }
+
+    private static PreparedRecords slowRow(int i) {
+        return consumer -> {
+            if (ThreadLocalRandom.current().nextInt(16) == 0) {
+                Thread.sleep(1);
+            }
+            consumer.accept(record(i));
+            return 1;
+        };
+    }
+
+    @Test
+    public void shouldEmitRecordsInSubmissionOrder() throws InterruptedException {
+        final List<SourceRecord> emitted = Collections.synchronizedList(new ArrayList<>());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final ParallelRecordConverter converter = new ParallelRecordConverter("test", 4, 3, emitted::add, failure::set);
+        try {
+            int next = 0;
+            for (int event = 0; event < 50; event++) {
+                // events of varying size, some of which span several tasks ...
+                final List<PreparedRecords> rows = new ArrayList<>();
+                for (int row = 0; row < 1 + event * 7 % 150; row++) {
+                    rows.add(slowRow(next++));
+                }
+                converter.submit(rows);
+            }
+            converter.flush();
+
+            assertThat(failure.get()).isNull();
+            assertThat(emitted.size()).isEqualTo(next);
+            for (int i = 0; i < next; i++) {
+                assertThat(emitted.get(i).value()).isEqualTo(i);
+            }
+        } finally {
+            converter.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportConversionFailure() throws InterruptedException {
+        final List<SourceRecord> emitted = Collections.synchronizedList(new ArrayList<>());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final ParallelRecordConverter converter = new ParallelRecordConverter("test", 2, 4, emitted::add, failure::set);
+        try {
+            final List<PreparedRecords> rows = new ArrayList<>();
+            rows.add(slowRow(0));
+            rows.add(consumer -> {
+                throw new IllegalStateException("unconvertible row");
+            });
+            converter.submit(rows);
+            try {
+                converter.flush();
+                throw new AssertionError("The conversion failure was not raised");
+            } catch (ConnectException e) {
+                assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+            }
+            assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+            assertThat(emitted).isEmpty();
+        } finally {
+            converter.shutdown();
+        }
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void shouldRaiseInterruptionWhenSubmittingAfterShutdown() throws InterruptedException {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final ParallelRecordConverter converter = new ParallelRecordConverter("test", 2, 4, record -> {}, failure::set);
+        converter.shutdown();
+        converter.submit(Collections.singletonList(slowRow(0)));
+    }
+}
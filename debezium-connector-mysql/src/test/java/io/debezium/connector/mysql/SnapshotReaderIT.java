@@ -282,6 +282,56 @@ public void shouldCreateSnapshotOfSingleDatabaseUsingReadEvents() throws Excepti
         }
     }
 
+    @Test
+    public void shouldCreateSnapshotOfSingleDatabaseUsingParallelChunkedReads() throws Exception {
+        config = simpleConfig()
+                .with(MySqlConnectorConfig.SNAPSHOT_PARALLELISM, 3)
+                .with(MySqlConnectorConfig.SNAPSHOT_CHUNK_SIZE, 2)
+                .build();
+        context = new MySqlTaskContext(config);
+        context.start();
+        reader = new SnapshotReader("snapshot", context);
+        reader.uponCompletion(completed::countDown);
+        reader.generateReadEvents();
+
+        // Start the snapshot ...
+        reader.start();
+
+        // Poll for records ...
+        // Testing.Print.enable();
+        List<SourceRecord> records = null;
+        List<SourceRecord> allRecords = new ArrayList<>();
+        KeyValueStore store = KeyValueStore.createForTopicsBeginningWith(DATABASE.getServerName() + ".");
+        while ((records = reader.poll()) != null) {
+            records.forEach(record -> {
+                VerifyRecord.isValid(record);
+                store.add(record);
+                allRecords.add(record);
+            });
+        }
+
+        // Every row is read exactly once, regardless of which connection read it ...
+        assertThat(store.collectionCount()).isEqualTo(5);
+        assertThat(store.collection(DATABASE.getDatabaseName(), productsTableName()).numberOfReads()).isEqualTo(9);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "products_on_hand").numberOfReads()).isEqualTo(9);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "customers").numberOfReads()).isEqualTo(4);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "orders").numberOfReads()).isEqualTo(5);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "dbz_342_timetest").numberOfReads()).isEqualTo(1);
+
+        // Only the very last record should have an offset that no longer denotes the snapshot ...
+        SourceRecord last = allRecords.remove(allRecords.size() - 1);
+        assertThat(last.sourceOffset().get(SourceInfo.SNAPSHOT_KEY)).isNull();
+        allRecords.forEach(record -> assertThat(record.sourceOffset().get(SourceInfo.SNAPSHOT_KEY)).isEqualTo(true));
+
+        // Make sure the snapshot completed ...
+        if (completed.await(10, TimeUnit.SECONDS)) {
+            // completed the snapshot ...
+            Testing.print("completed the snapshot");
+        } else {
+            fail("failed to complete the snapshot within 10 seconds");
+        }
+    }
+
     private String productsTableName() {
         return context.isTableIdCaseInsensitive() ? "products" : "Products";
     }
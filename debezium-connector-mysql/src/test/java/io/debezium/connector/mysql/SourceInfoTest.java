@@ -25,6 +25,7 @@
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.doc.FixFor;
 import io.debezium.document.Document;
+import io.debezium.relational.TableId;
 
 public class SourceInfoTest {
 
@@ -130,6 +131,51 @@ public void shouldRecoverSourceInfoFromOffsetWithNonZeroBinlogCoordinatesAndSnap
         assertThat(source.isSnapshotInEffect()).isTrue();
     }
 
+    @Test
+    public void shouldRecoverSnapshotPositionFromOffsetWithSnapshot() {
+        Map<String, String> offset = offset(100, 0, true);
+        offset.put(SourceInfo.SNAPSHOT_TABLE_KEY, "inventory.products");
+        offset.put(SourceInfo.SNAPSHOT_LAST_KEY_KEY, "42");
+        offset.put(SourceInfo.SNAPSHOT_SCHEMA_KEY, "c0ffee");
+        sourceWith(offset);
+        assertThat(source.isSnapshotInEffect()).isTrue();
+        assertThat(source.snapshotTable()).isEqualTo(TableId.parse("inventory.products"));
+        assertThat(source.snapshotLastKey()).isEqualTo("42");
+        assertThat(source.snapshotSchema()).isEqualTo("c0ffee");
+    }
+
+    @Test
+    public void shouldIgnoreSnapshotPositionInOffsetWithoutSnapshot() {
+        Map<String, String> offset = offset(100, 0, false);
+        offset.put(SourceInfo.SNAPSHOT_TABLE_KEY, "inventory.products");
+        offset.put(SourceInfo.SNAPSHOT_LAST_KEY_KEY, "42");
+        sourceWith(offset);
+        assertThat(source.snapshotTable()).isNull();
+        assertThat(source.snapshotLastKey()).isNull();
+    }
+
+    @Test
+    public void shouldIncludeSnapshotPositionInOffsetUntilLastSnapshotRecord() {
+        source.setServerName(SERVER_NAME);
+        source.setBinlogStartPoint(FILENAME, 100);
+        source.startSnapshot();
+        source.setSnapshotSchema("c0ffee");
+        source.setSnapshotPosition(TableId.parse("inventory.products"), null);
+        assertThat(source.offset().get(SourceInfo.SNAPSHOT_TABLE_KEY)).isEqualTo("inventory.products");
+        assertThat(source.offset().get(SourceInfo.SNAPSHOT_SCHEMA_KEY)).isEqualTo("c0ffee");
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_LAST_KEY_KEY)).isFalse();
+
+        source.setSnapshotPosition(TableId.parse("inventory.products"), "109");
+        assertThat(source.offsetForRow(0, 1).get(SourceInfo.SNAPSHOT_LAST_KEY_KEY)).isEqualTo("109");
+
+        source.markLastSnapshot();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_TABLE_KEY)).isFalse();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_LAST_KEY_KEY)).isFalse();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_SCHEMA_KEY)).isFalse();
+        assertThat(source.snapshotTable()).isNull();
+        assertThat(source.snapshotSchema()).isNull();
+    }
+
     @Test
     public void shouldRecoverSourceInfoFromOffsetWithZeroBinlogCoordinatesAndNonZeroRowAndSnapshot() {
         sourceWith(offset(0, 5, true));
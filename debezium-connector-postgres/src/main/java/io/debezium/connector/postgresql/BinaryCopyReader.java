@@ -0,0 +1,276 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.relational.Column;
+
+/**
+ * Reads the rows of a table from the output of {@code COPY ... TO STDOUT (FORMAT binary)}. The values are decoded from
+ * their binary representation straight into the Java types handled by {@link PostgresValueConverter}, without parsing
+ * any text.
+ * <p>
+ * Only the types with a fixed, locale independent binary representation are supported; tables with columns of any other
+ * type have to be read using a regular query.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/static/sql-copy.html">COPY binary format</a>
+ */
+final class BinaryCopyReader {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime PG_EPOCH = PG_EPOCH_DATE.atStartOfDay();
+
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10_000);
+
+    @FunctionalInterface
+    private interface ValueDecoder {
+        Object decode(DataInputStream in, int length) throws IOException;
+    }
+
+    private final ValueDecoder[] decoders;
+
+    private BinaryCopyReader(ValueDecoder[] decoders) {
+        this.decoders = decoders;
+    }
+
+    /**
+     * Creates a reader for rows with the given columns.
+     *
+     * @param columns the columns of the rows, in the order they are copied
+     * @return the reader, or {@code null} if the type of any of the columns is not supported
+     */
+    static BinaryCopyReader forColumns(List<Column> columns) {
+        final ValueDecoder[] decoders = new ValueDecoder[columns.size()];
+        for (int i = 0; i < decoders.length; i++) {
+            decoders[i] = decoderFor(columns.get(i).nativeType());
+            if (decoders[i] == null) {
+                return null;
+            }
+        }
+        return new BinaryCopyReader(decoders);
+    }
+
+    /**
+     * @param selectStatement the statement selecting the rows to read
+     * @return the statement copying the rows in binary format
+     */
+    static String copyStatement(String selectStatement) {
+        return "COPY (" + selectStatement + ") TO STDOUT (FORMAT binary)";
+    }
+
+    /**
+     * Reads all the rows copied to the given stream. The array passed to the consumer is reused for all the rows.
+     *
+     * @param stream the output of the copy statement
+     * @param consumer the consumer of the values of each row
+     * @throws IOException if the output cannot be read
+     * @throws InterruptedException if the consumer has been interrupted
+     */
+    void read(InputStream stream, BlockingConsumer<Object[]> consumer) throws IOException, InterruptedException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_SIZE));
+        readHeader(in);
+
+        final Object[] row = new Object[decoders.length];
+        short fieldCount;
+        while ((fieldCount = in.readShort()) != -1) {
+            if (fieldCount != decoders.length) {
+                throw new ConnectException("Expected " + decoders.length + " values in copied row but got " + fieldCount);
+            }
+            for (int i = 0; i < decoders.length; i++) {
+                final int length = in.readInt();
+                row[i] = length < 0 ? null : decoders[i].decode(in, length);
+            }
+            consumer.accept(row);
+        }
+        // the trailer must be the end of the output, reading it to its end also completes the copy
+        if (in.read() != -1) {
+            throw new ConnectException("Unexpected data after the trailer of the copied rows");
+        }
+    }
+
+    private static void readHeader(DataInputStream in) throws IOException {
+        final byte[] signature = new byte[SIGNATURE.length];
+        in.readFully(signature);
+        if (!Arrays.equals(signature, SIGNATURE)) {
+            throw new ConnectException("Invalid signature of the copied rows");
+        }
+        // flags, none of which are set when copying the results of a query
+        in.readInt();
+        final int extensionLength = in.readInt();
+        in.skipBytes(extensionLength);
+    }
+
+    private static ValueDecoder decoderFor(int oid) {
+        switch (oid) {
+            case PgOid.BOOL:
+                return (in, length) -> in.readBoolean();
+            case PgOid.INT2:
+                // the JDBC driver returns smallint values as integers
+                return (in, length) -> (int) in.readShort();
+            case PgOid.INT4:
+                return (in, length) -> in.readInt();
+            case PgOid.INT8:
+                return (in, length) -> in.readLong();
+            case PgOid.OID:
+                return (in, length) -> Integer.toUnsignedLong(in.readInt());
+            case PgOid.FLOAT4:
+                return (in, length) -> in.readFloat();
+            case PgOid.FLOAT8:
+                return (in, length) -> in.readDouble();
+            case PgOid.NUMERIC:
+                return (in, length) -> readNumeric(in);
+            case PgOid.CHAR:
+            case PgOid.BPCHAR:
+            case PgOid.VARCHAR:
+            case PgOid.TEXT:
+            case PgOid.NAME:
+            case PgOid.JSON:
+                return BinaryCopyReader::readString;
+            case PgOid.JSONB_OID:
+                return (in, length) -> {
+                    // jsonb is sent as its text preceded by a version number
+                    in.readByte();
+                    return readString(in, length - 1);
+                };
+            case PgOid.BYTEA:
+                return (in, length) -> {
+                    final byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    return bytes;
+                };
+            case PgOid.UUID:
+                return (in, length) -> new UUID(in.readLong(), in.readLong());
+            case PgOid.DATE:
+                return (in, length) -> readDate(in.readInt());
+            case PgOid.TIME:
+                return (in, length) -> readTime(in.readLong());
+            case PgOid.TIMESTAMP:
+                return (in, length) -> readTimestamp(in.readLong());
+            case PgOid.TIMESTAMPTZ:
+                return (in, length) -> {
+                    final LocalDateTime timestamp = readTimestamp(in.readLong());
+                    return OffsetDateTime.of(timestamp, ZoneOffset.UTC);
+                };
+            default:
+                return null;
+        }
+    }
+
+    private static String readString(DataInputStream in, int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Dates are sent as the number of days since 2000-01-01, with {@code infinity} and {@code -infinity} as the largest
+     * and smallest integer.
+     */
+    private static LocalDate readDate(int days) {
+        if (days == Integer.MAX_VALUE) {
+            return LocalDate.MAX;
+        }
+        if (days == Integer.MIN_VALUE) {
+            return LocalDate.MIN;
+        }
+        return PG_EPOCH_DATE.plusDays(days);
+    }
+
+    /**
+     * Times are sent as the number of microseconds since midnight, which may be the midnight of the next day.
+     */
+    private static LocalTime readTime(long micros) {
+        final long nanos = micros * 1_000;
+        return nanos >= LocalTime.MAX.toNanoOfDay() ? LocalTime.MAX : LocalTime.ofNanoOfDay(nanos);
+    }
+
+    /**
+     * Timestamps are sent as the number of microseconds since 2000-01-01 00:00:00, with {@code infinity} and
+     * {@code -infinity} as the largest and smallest long.
+     */
+    private static LocalDateTime readTimestamp(long micros) {
+        if (micros == Long.MAX_VALUE) {
+            return LocalDateTime.MAX;
+        }
+        if (micros == Long.MIN_VALUE) {
+            return LocalDateTime.MIN;
+        }
+        return PG_EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * Numeric values are sent as their sign and scale followed by their digits in base 10000, the first one being
+     * multiplied by 10000 to the power of the given weight.
+     */
+    private static SpecialValueDecimal readNumeric(DataInputStream in) throws IOException {
+        final int digitCount = in.readShort();
+        final int weight = in.readShort();
+        final int sign = in.readUnsignedShort();
+        final int scale = in.readUnsignedShort();
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            default:
+                break;
+        }
+
+        BigInteger unscaled;
+        if (digitCount <= 4) {
+            // up to four digits in base 10000 fit into a long
+            long digits = 0;
+            for (int i = 0; i < digitCount; i++) {
+                digits = digits * 10_000 + in.readShort();
+            }
+            unscaled = BigInteger.valueOf(digits);
+        }
+        else {
+            unscaled = BigInteger.ZERO;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled.multiply(NUMERIC_BASE).add(BigInteger.valueOf(in.readShort()));
+            }
+        }
+        if (sign == NUMERIC_NEGATIVE) {
+            unscaled = unscaled.negate();
+        }
+        // digits beyond the scale are always zero, so the scale can be set without rounding
+        final BigDecimal value = new BigDecimal(unscaled).scaleByPowerOfTen(4 * (weight - digitCount + 1))
+                .setScale(scale, RoundingMode.UNNECESSARY);
+        return new SpecialValueDecimal(value);
+    }
+}
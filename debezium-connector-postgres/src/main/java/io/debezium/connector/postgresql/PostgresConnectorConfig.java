@@ -22,6 +22,7 @@
 import io.debezium.config.Field;
 import io.debezium.connector.postgresql.connection.MessageDecoder;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputMessageDecoder;
 import io.debezium.connector.postgresql.connection.pgproto.PgProtoMessageDecoder;
 import io.debezium.connector.postgresql.connection.wal2json.NonStreamingWal2JsonMessageDecoder;
 import io.debezium.connector.postgresql.connection.wal2json.StreamingWal2JsonMessageDecoder;
@@ -298,6 +299,12 @@ public MessageDecoder messageDecoder() {
                 return new PgProtoMessageDecoder();
             }
         },
+        PGOUTPUT("pgoutput") {
+            @Override
+            public MessageDecoder messageDecoder() {
+                return new PgOutputMessageDecoder();
+            }
+        },
         WAL2JSON_STREAMING("wal2json_streaming") {
             @Override
             public MessageDecoder messageDecoder() {
@@ -387,7 +394,8 @@ public String getPostgresPluginName() {
                                               .withWidth(Width.MEDIUM)
                                               .withImportance(Importance.MEDIUM)
                                               .withDescription("The name of the Postgres logical decoding plugin installed on the server. " +
-                                                      "Supported values are '"+ LogicalDecoder.DECODERBUFS.getValue() + "' and '"+ LogicalDecoder.WAL2JSON.getValue() + "'. " +
+                                                      "Supported values are '"+ LogicalDecoder.DECODERBUFS.getValue() + "', '"+ LogicalDecoder.WAL2JSON.getValue() + "' and '" +
+                                                      LogicalDecoder.PGOUTPUT.getValue() + "'. " +
                                                       "Defaults to '"+ LogicalDecoder.DECODERBUFS.getValue() + "'.");
 
     public static final Field SLOT_NAME = Field.create("slot.name")
@@ -399,6 +407,16 @@ public String getPostgresPluginName() {
                                               .withDescription("The name of the Postgres logical decoding slot created for streaming changes from a plugin." +
                                                                "Defaults to 'debezium");
 
+    public static final Field PUBLICATION_NAME = Field.create("publication.name")
+                                              .withDisplayName("Publication")
+                                              .withType(Type.STRING)
+                                              .withWidth(Width.MEDIUM)
+                                              .withImportance(Importance.LOW)
+                                              .withDefault(ReplicationConnection.Builder.DEFAULT_PUBLICATION_NAME)
+                                              .withDescription("The name of the Postgres publication of the tables whose changes are streamed when using the '" +
+                                                               LogicalDecoder.PGOUTPUT.getValue() + "' plugin. The publication is created for all tables if it does not exist. " +
+                                                               "Defaults to '" + ReplicationConnection.Builder.DEFAULT_PUBLICATION_NAME + "'.");
+
     public static final Field DROP_SLOT_ON_STOP = Field.create("slot.drop_on_stop")
                                                         .withDisplayName("Drop slot on stop")
                                                         .withType(Type.BOOLEAN)
@@ -686,10 +704,43 @@ public String getPostgresPluginName() {
                     "The value of those properties is the select statement to use when retrieving data from the specific table during snapshotting. " +
                     "A possible use case for large append-only tables is setting a specific point where to start (resume) snapshotting, in case a previous snapshotting was interrupted.");
 
+    public static final Field SNAPSHOT_RESUMABLE = Field.create("snapshot.resumable")
+            .withDisplayName("Resumable snapshots")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the offsets produced during a snapshot should record the table being read and, for tables with a "
+                    + "single integer primary key, the key of the last row read, so that an interrupted snapshot resumes at that point "
+                    + "instead of starting over. Tables with such a key are then read in primary key order. The resumed snapshot "
+                    + "continues streaming from the position of the original snapshot. Defaults to 'false'.");
+
+    public static final Field SNAPSHOT_MAX_THREADS = Field.create("snapshot.max.threads")
+            .withDisplayName("Snapshot threads")
+            .withType(Type.INT)
+            .withDefault(1)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of threads reading tables during a snapshot. With more than one thread, the view of the "
+                    + "database of the snapshot transaction is exported and tables are read in parallel on additional connections sharing it; "
+                    + "tables with a single integer primary key are split into ranges of that key. Only used if '"
+                    + SNAPSHOT_RESUMABLE.name() + "' is disabled. Defaults to 1.");
+
+    public static final Field SNAPSHOT_BINARY_COPY = Field.create("snapshot.binary.copy")
+            .withDisplayName("Read snapshot using binary COPY")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether tables are read during a snapshot using 'COPY ... TO STDOUT (FORMAT binary)' rather than a query, "
+                    + "decoding the values from their binary representation. Tables with columns of types which can't be decoded this "
+                    + "way, as well as tables with a select statement override, are still read using a query. Defaults to 'false'.");
+
     /**
      * The set of {@link Field}s defined as part of this configuration.
      */
-    public static Field.Set ALL_FIELDS = Field.setOf(PLUGIN_NAME, SLOT_NAME, DROP_SLOT_ON_STOP,
+    public static Field.Set ALL_FIELDS = Field.setOf(PLUGIN_NAME, SLOT_NAME, PUBLICATION_NAME, DROP_SLOT_ON_STOP,
                                                      DATABASE_NAME, USER, PASSWORD, HOSTNAME, PORT, ON_CONNECT_STATEMENTS, SERVER_NAME,
                                                      TOPIC_SELECTION_STRATEGY, CommonConnectorConfig.MAX_BATCH_SIZE,
                                                      CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS, SCHEMA_WHITELIST,
@@ -699,7 +750,8 @@ public String getPostgresPluginName() {
                                                      SSL_MODE, SSL_CLIENT_CERT, SSL_CLIENT_KEY_PASSWORD,
                                                      SSL_ROOT_CERT, SSL_CLIENT_KEY, SNAPSHOT_LOCK_TIMEOUT_MS, ROWS_FETCH_SIZE, SSL_SOCKET_FACTORY,
                                                      STATUS_UPDATE_INTERVAL_MS, TCP_KEEPALIVE, INCLUDE_UNKNOWN_DATATYPES,
-                                                     SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE, CommonConnectorConfig.TOMBSTONES_ON_DELETE);
+                                                     SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE, SNAPSHOT_RESUMABLE, SNAPSHOT_MAX_THREADS, SNAPSHOT_BINARY_COPY,
+                                                     CommonConnectorConfig.TOMBSTONES_ON_DELETE);
 
     private final Configuration config;
     private final TemporalPrecisionMode temporalPrecisionMode;
@@ -747,6 +799,10 @@ protected String slotName() {
         return config.getString(SLOT_NAME);
     }
 
+    protected String publicationName() {
+        return config.getString(PUBLICATION_NAME);
+    }
+
     protected boolean dropSlotOnStop() {
         return config.getBoolean(DROP_SLOT_ON_STOP);
     }
@@ -822,6 +878,18 @@ protected boolean initialOnlySnapshot() {
         return SnapshotMode.INITIAL_ONLY == this.snapshotMode;
     }
 
+    protected boolean snapshotResumable() {
+        return config.getBoolean(SNAPSHOT_RESUMABLE);
+    }
+
+    protected int snapshotMaxThreads() {
+        return config.getInteger(SNAPSHOT_MAX_THREADS);
+    }
+
+    protected boolean snapshotBinaryCopy() {
+        return config.getBoolean(SNAPSHOT_BINARY_COPY);
+    }
+
     protected String snapshotSelectOverrides() {
         return config.getString(PostgresConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE);
     }
@@ -832,14 +900,14 @@ protected String snapshotSelectOverrideForTable(String table) {
 
     protected static ConfigDef configDef() {
         ConfigDef config = new ConfigDef();
-        Field.group(config, "Postgres", SLOT_NAME, PLUGIN_NAME, SERVER_NAME, DATABASE_NAME, HOSTNAME, PORT,
+        Field.group(config, "Postgres", SLOT_NAME, PLUGIN_NAME, PUBLICATION_NAME, SERVER_NAME, DATABASE_NAME, HOSTNAME, PORT,
                     USER, PASSWORD, ON_CONNECT_STATEMENTS, SSL_MODE, SSL_CLIENT_CERT, SSL_CLIENT_KEY_PASSWORD, SSL_ROOT_CERT, SSL_CLIENT_KEY,
                     DROP_SLOT_ON_STOP, SSL_SOCKET_FACTORY, STATUS_UPDATE_INTERVAL_MS, TCP_KEEPALIVE);
         Field.group(config, "Events", SCHEMA_WHITELIST, SCHEMA_BLACKLIST, TABLE_WHITELIST, TABLE_BLACKLIST,
                     COLUMN_BLACKLIST, INCLUDE_UNKNOWN_DATATYPES, SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
                     CommonConnectorConfig.TOMBSTONES_ON_DELETE);
         Field.group(config, "Connector", TOPIC_SELECTION_STRATEGY, CommonConnectorConfig.POLL_INTERVAL_MS, CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.MAX_QUEUE_SIZE,
-                    SNAPSHOT_MODE, SNAPSHOT_LOCK_TIMEOUT_MS, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE, ROWS_FETCH_SIZE);
+                    SNAPSHOT_MODE, SNAPSHOT_LOCK_TIMEOUT_MS, SNAPSHOT_RESUMABLE, SNAPSHOT_MAX_THREADS, SNAPSHOT_BINARY_COPY, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE, ROWS_FETCH_SIZE);
         return config;
     }
 
@@ -93,7 +93,12 @@ public void start(Configuration config) {
                                      + "to never allow snapshots. Reconfigure the connector to use snapshots initially or when needed.";
                         throw new ConnectException(msg);
                     } else {
-                        logger.info("Found previous incomplete snapshot");
+                        if (connectorConfig.snapshotResumable() && sourceInfo.snapshotTable() != null) {
+                            logger.info("Found previous incomplete snapshot, resuming it at table '{}'", sourceInfo.snapshotTable());
+                        } else {
+                            logger.info("Found previous incomplete snapshot");
+                            sourceInfo.clearSnapshotPosition();
+                        }
                         createSnapshotProducer(taskContext, sourceInfo, connectorConfig.initialOnlySnapshot());
                     }
                 } else if (connectorConfig.alwaysTakeSnapshot()) {
@@ -106,12 +111,7 @@ public void start(Configuration config) {
                 }
             }
 
-            changeEventQueue = new ChangeEventQueue.Builder<ChangeEvent>()
-                .pollInterval(connectorConfig.getPollInterval())
-                .maxBatchSize(connectorConfig.getMaxBatchSize())
-                .maxQueueSize(connectorConfig.getMaxQueueSize())
-                .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
-                .build();
+            changeEventQueue = createChangeEventQueue(connectorConfig, taskContext);
 
             producer.start(changeEventQueue::enqueue, changeEventQueue::producerFailure);
             running.compareAndSet(false, true);
@@ -122,6 +122,18 @@ public void start(Configuration config) {
         }
     }
 
+    static ChangeEventQueue<ChangeEvent> createChangeEventQueue(PostgresConnectorConfig connectorConfig, PostgresTaskContext taskContext) {
+        return new ChangeEventQueue.Builder<ChangeEvent>()
+            .pollInterval(connectorConfig.getPollInterval())
+            .maxBatchSize(connectorConfig.getMaxBatchSize())
+            .maxQueueSize(connectorConfig.getMaxQueueSize())
+            // the streaming producer and a sequential snapshot enqueue from one thread at a time, whereas the threads of a
+            // parallel snapshot enqueue their records concurrently
+            .singleProducer(connectorConfig.snapshotMaxThreads() <= 1)
+            .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
+            .build();
+    }
+
     private void createSnapshotProducer(PostgresTaskContext taskContext, SourceInfo sourceInfo, boolean initialOnlySnapshot) {
         if (initialOnlySnapshot) {
             logger.info("Taking only a snapshot of the DB without streaming any changes afterwards...");
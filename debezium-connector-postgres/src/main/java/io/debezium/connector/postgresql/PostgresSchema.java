@@ -8,7 +8,6 @@
 
 import java.sql.SQLException;
 import java.time.ZoneOffset;
-import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
 import org.slf4j.Logger;
@@ -41,7 +40,6 @@ public class PostgresSchema extends RelationalDatabaseSchema {
 
     private final Filters filters;
 
-    private Map<String, Integer> typeInfo;
     private final TypeRegistry typeRegistry;
 
     /**
@@ -74,10 +72,6 @@ private static TableSchemaBuilder getTableSchemaBuilder(PostgresConnectorConfig
      * @throws SQLException if there is a problem obtaining the schema from the database server
      */
     protected PostgresSchema refresh(PostgresConnection connection, boolean printReplicaIdentityInfo) throws SQLException {
-        if (typeInfo == null) {
-            typeInfo = connection.readTypeInfo();
-        }
-
         // read all the information from the DB
         connection.readSchema(tables(), null, null, filters.tableFilter(), null, true);
         if (printReplicaIdentityInfo) {
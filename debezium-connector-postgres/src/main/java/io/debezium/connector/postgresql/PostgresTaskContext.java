@@ -57,6 +57,7 @@ protected ReplicationConnection createReplicationConnection() throws SQLExceptio
         return ReplicationConnection.builder(config.jdbcConfig())
                                     .withSlot(config.slotName())
                                     .withPlugin(config.plugin())
+                                    .withPublication(config.publicationName())
                                     .dropSlotOnClose(config.dropSlotOnStop())
                                     .statusUpdateIntervalMillis(config.statusUpdateIntervalMillis())
                                     .withTypeRegistry(schema.getTypeRegistry())
@@ -64,7 +65,7 @@ protected ReplicationConnection createReplicationConnection() throws SQLExceptio
     }
 
     protected PostgresConnection createConnection() {
-        return new PostgresConnection(config.jdbcConfig());
+        return new PostgresConnection(config.jdbcConfig(), schema.getTypeRegistry());
     }
 
     PostgresConnectorConfig getConfig() {
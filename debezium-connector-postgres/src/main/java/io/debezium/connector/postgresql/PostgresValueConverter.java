@@ -6,9 +6,8 @@
 
 package io.debezium.connector.postgresql;
 
-import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -17,12 +16,11 @@
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Field;
@@ -45,6 +43,7 @@
 import io.debezium.jdbc.TemporalPrecisionMode;
 import io.debezium.relational.Column;
 import io.debezium.relational.ValueConverter;
+import io.debezium.time.Conversions;
 import io.debezium.time.MicroDuration;
 import io.debezium.time.ZonedTime;
 import io.debezium.time.ZonedTimestamp;
@@ -238,7 +237,10 @@ public ValueConverter converter(Column column, Field fieldDefn) {
             case PgOid.MONEY:
                 return data -> convertMoney(column, fieldDefn, data);
             case PgOid.NUMERIC:
-                return (data) -> convertDecimal(column, fieldDefn, data, decimalMode);
+                // the scale of the column is looked up once rather than for each value
+                final Integer scale = column.scale().orElse(null);
+                final boolean variableScale = isVariableScaleDecimal(column) && decimalMode == DecimalMode.PRECISE;
+                return (data) -> convertDecimal(column, fieldDefn, data, decimalMode, scale, variableScale);
             case PgOid.BYTEA:
                 return data -> convertBinary(column, fieldDefn, data);
             case PgOid.INT2_ARRAY:
@@ -324,6 +326,10 @@ private ValueConverter createArrayConverter(Column column, Field fieldDefn) {
     }
 
     protected Object convertDecimal(Column column, Field fieldDefn, Object data, DecimalMode mode) {
+        return convertDecimal(column, fieldDefn, data, mode, column.scale().orElse(null), isVariableScaleDecimal(column) && mode == DecimalMode.PRECISE);
+    }
+
+    private Object convertDecimal(Column column, Field fieldDefn, Object data, DecimalMode mode, Integer scale, boolean variableScale) {
         SpecialValueDecimal value;
         BigDecimal newDecimal;
 
@@ -344,11 +350,11 @@ protected Object convertDecimal(Column column, Field fieldDefn, Object data, Dec
         }
 
         newDecimal = value.getDecimalValue().get();
-        if (column.scale().get() > newDecimal.scale()) {
-          newDecimal = newDecimal.setScale(column.scale().get());
+        if (scale != null && scale > newDecimal.scale()) {
+          newDecimal = newDecimal.setScale(scale);
         }
 
-        if (isVariableScaleDecimal(column) && mode == DecimalMode.PRECISE) {
+        if (variableScale) {
             newDecimal = newDecimal.stripTrailingZeros();
             if (newDecimal.scale() < 0) {
                 newDecimal = newDecimal.setScale(0);
@@ -396,6 +402,10 @@ protected Object convertMoney(Column column, Field fieldDefn, Object data) {
             if (column.isOptional()) return null;
             return 0L;
         }
+        if (data instanceof BigDecimal) {
+            // parsed from the text form of the value by the snapshot and the text-based plugins
+            return data;
+        }
         if (data instanceof Double) {
             return BigDecimal.valueOf((Double) data);
         }
@@ -485,11 +495,8 @@ protected Object convertTimeWithZone(Column column, Field fieldDefn, Object data
     }
 
     private static LocalDateTime nanosToLocalDateTimeUTC(long epocNanos) {
-        // the pg plugin stores date/time info as microseconds since epoch
-        BigInteger epochMicrosBigInt = BigInteger.valueOf(epocNanos);
-        BigInteger[] secondsAndNanos = epochMicrosBigInt.divideAndRemainder(BigInteger.valueOf(TimeUnit.SECONDS.toNanos(1)));
-        return LocalDateTime.ofInstant(Instant.ofEpochSecond(secondsAndNanos[0].longValue(), secondsAndNanos[1].longValue()),
-                                       ZoneOffset.UTC);
+        // the plugins send date/time info as nanoseconds since epoch
+        return Conversions.fromNanosToLocalDateTimeUTC(epocNanos);
     }
 
     protected Object convertGeometry(Column column, Field fieldDefn, Object data) {
@@ -507,7 +514,7 @@ protected Object convertGeometry(Column column, Field fieldDefn, Object data) {
 
         try {
             if (data instanceof byte[]) {
-                PostgisGeometry geom = PostgisGeometry.fromHexEwkb(new String((byte[])data, "ASCII"));
+                PostgisGeometry geom = PostgisGeometry.fromHexEwkb(new String((byte[])data, StandardCharsets.US_ASCII));
                 return io.debezium.data.geometry.Geometry.createValue(schema, geom.getWkb(), geom.getSrid());
             } else if (data instanceof PGobject) {
                 PGobject pgo = (PGobject)data;
@@ -517,7 +524,7 @@ protected Object convertGeometry(Column column, Field fieldDefn, Object data) {
                 PostgisGeometry geom = PostgisGeometry.fromHexEwkb((String)data);
                 return io.debezium.data.geometry.Geometry.createValue(schema, geom.getWkb(), geom.getSrid());
             }
-        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+        } catch (IllegalArgumentException e) {
             logger.warn("Error converting to a Geometry type", column);
         }
         return handleUnknownData(column, fieldDefn, data);
@@ -538,7 +545,7 @@ protected Object convertGeography(Column column, Field fieldDefn, Object data) {
 
         try {
             if (data instanceof byte[]) {
-                PostgisGeometry geom = PostgisGeometry.fromHexEwkb(new String((byte[])data, "ASCII"));
+                PostgisGeometry geom = PostgisGeometry.fromHexEwkb(new String((byte[])data, StandardCharsets.US_ASCII));
                 return io.debezium.data.geometry.Geography.createValue(schema, geom.getWkb(), geom.getSrid());
             } else if (data instanceof PGobject) {
                 PGobject pgo = (PGobject)data;
@@ -548,7 +555,7 @@ protected Object convertGeography(Column column, Field fieldDefn, Object data) {
                 PostgisGeometry geom = PostgisGeometry.fromHexEwkb((String)data);
                 return io.debezium.data.geometry.Geography.createValue(schema, geom.getWkb(), geom.getSrid());
             }
-        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+        } catch (IllegalArgumentException e) {
             logger.warn("Error converting to a Geography type", column);
         }
         return handleUnknownData(column, fieldDefn, data);
@@ -630,9 +637,12 @@ protected Object convertArray(Column column, Field fieldDefn, ValueConverter ele
         if (!(data instanceof List)) {
             return handleUnknownData(column, fieldDefn, data);
         }
-        return ((List<?>)data).stream()
-                .map(elementConverter::convert)
-                .collect(Collectors.toList());
+        final List<?> elements = (List<?>) data;
+        final List<Object> converted = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            converted.add(elementConverter.convert(element));
+        }
+        return converted;
     }
 
     private boolean isVariableScaleDecimal(final Column column) {
@@ -653,6 +663,31 @@ public static Optional<SpecialValueDecimal> toSpecialValue(String value) {
         return Optional.empty();
     }
 
+    /**
+     * Parses the text form of a {@code money} value, e.g. {@code $1,234.56}, {@code -$1,234.56} or {@code ($1,234.56)}
+     * depending on {@code lc_monetary}, without going through a {@code double} as {@link org.postgresql.util.PGmoney} does.
+     *
+     * @param value the text form of the value; may not be null
+     * @return the amount; never null
+     * @throws NumberFormatException if the value doesn't contain an amount
+     */
+    public static BigDecimal toMoney(String value) {
+        final StringBuilder amount = new StringBuilder(value.length());
+        boolean negative = false;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.') {
+                amount.append(c);
+            }
+            else if (c == '-' || c == '(') {
+                negative = true;
+            }
+            // anything else is a currency symbol or a group separator
+        }
+        final BigDecimal money = new BigDecimal(amount.toString());
+        return negative ? money.negate() : money;
+    }
+
     protected Object convertTimestampToLocalDateTime(Column column, Field fieldDefn, Object data) {
         if (data == null) {
             return null;
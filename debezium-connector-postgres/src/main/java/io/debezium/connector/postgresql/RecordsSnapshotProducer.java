@@ -6,19 +6,28 @@
 
 package io.debezium.connector.postgresql;
 
+import java.io.IOException;
 import java.sql.Array;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -27,7 +36,8 @@
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
-import org.postgresql.util.PGmoney;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
@@ -35,6 +45,7 @@
 import io.debezium.data.Envelope;
 import io.debezium.data.SpecialValueDecimal;
 import io.debezium.function.BlockingConsumer;
+import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.TableSchema;
@@ -128,6 +139,10 @@ private void cleanup() {
 
     private void takeSnapshot(BlockingConsumer<ChangeEvent> consumer) {
         long snapshotStart = clock().currentTimeInMillis();
+        final boolean resumable = taskContext.config().snapshotResumable();
+        // the position of an interrupted snapshot that is to be resumed, if any
+        final TableId resumeTable = sourceInfo.snapshotTable();
+        final String resumeKey = sourceInfo.snapshotLastKey();
         Connection jdbcConnection = null;
         try (PostgresConnection connection = taskContext.createConnection()) {
             jdbcConnection = connection.connection();
@@ -168,7 +183,14 @@ private void takeSnapshot(BlockingConsumer<ChangeEvent> consumer) {
             // we start streaming, we should get back those changes
             long xlogStart = connection.currentXLogLocation();
             long txId = connection.currentTransactionId().longValue();
-            logger.info("\t read xlogStart at '{}' from transaction '{}'", ReplicationConnection.format(xlogStart), txId);
+            if (resumeTable != null && sourceInfo.hasLastKnownPosition()) {
+                // when resuming an interrupted snapshot, the changes made since that snapshot started must be streamed as well
+                xlogStart = sourceInfo.lsn();
+                logger.info("\t resuming the interrupted snapshot, using its xlogStart at '{}'", ReplicationConnection.format(xlogStart));
+            }
+            else {
+                logger.info("\t read xlogStart at '{}' from transaction '{}'", ReplicationConnection.format(xlogStart), txId);
+            }
 
             // and mark the start of the snapshot
             sourceInfo.startSnapshot();
@@ -178,22 +200,56 @@ private void takeSnapshot(BlockingConsumer<ChangeEvent> consumer) {
             AtomicInteger rowsCounter = new AtomicInteger(0);
             final Map<TableId, String> selectOverrides = getSnapshotSelectOverridesByTable();
 
-            for(TableId tableId : schema.tableIds()) {
-                long exportStart = clock().currentTimeInMillis();
-                logger.info("\t exporting data from table '{}'", tableId);
-                try {
-                    // DBZ-298 Quoting name in case it has been quoted originally; it doesn't do harm if it hasn't been quoted
-                    final String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + tableId.toDoubleQuotedString());
-                    logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
-
-                    connection.queryWithBlockingConsumer(selectStatement,
-                            this::readTableStatement,
-                            rs -> readTable(tableId, rs, consumer, rowsCounter));
-                    logger.info("\t finished exporting '{}' records for '{}'; total duration '{}'", rowsCounter.get(),
-                            tableId, Strings.duration(clock().currentTimeInMillis() - exportStart));
-                    rowsCounter.set(0);
-                } catch (SQLException e) {
-                    throw new ConnectException(e);
+            // a resumable snapshot reads the tables in a well-defined order, so that it can skip the ones read completely before
+            final List<TableId> tableIds = new ArrayList<>(schema.tableIds());
+            if (resumable) {
+                Collections.sort(tableIds);
+                int resumeIndex = resumeTable != null ? tableIds.indexOf(resumeTable) : -1;
+                if (resumeIndex > 0) {
+                    logger.info("\t skipping {} tables read completely by the interrupted snapshot", resumeIndex);
+                    tableIds.subList(0, resumeIndex).clear();
+                }
+            }
+
+            final int snapshotThreads = taskContext.config().snapshotMaxThreads();
+            if (snapshotThreads > 1 && !resumable) {
+                readTablesInParallel(connection, tableIds, selectOverrides, snapshotThreads, consumer);
+            }
+            else {
+                if (snapshotThreads > 1) {
+                    logger.warn("\t ignoring the configured number of {} snapshot threads, as resumable snapshots read tables in sequence",
+                                snapshotThreads);
+                }
+                for(TableId tableId : tableIds) {
+                    long exportStart = clock().currentTimeInMillis();
+                    logger.info("\t exporting data from table '{}'", tableId);
+                    try {
+                        // DBZ-298 Quoting name in case it has been quoted originally; it doesn't do harm if it hasn't been quoted
+                        String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + tableId.toDoubleQuotedString());
+
+                        // a resumable snapshot reads a table with a single integer primary key in key order, recording the key of
+                        // each row so that a resumed snapshot can continue after that key
+                        final Column keyColumn = resumable && !selectOverrides.containsKey(tableId) ? singleIntegerKeyColumn(tableId) : null;
+                        if (keyColumn != null) {
+                            final String key = "\"" + keyColumn.name() + "\"";
+                            if (tableId.equals(resumeTable) && resumeKey != null) {
+                                selectStatement += " WHERE " + key + " > " + Long.parseLong(resumeKey);
+                            }
+                            selectStatement += " ORDER BY " + key;
+                        }
+                        if (resumable) {
+                            sourceInfo.updateSnapshotPosition(tableId, null);
+                        }
+                        logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
+
+                        readTable(connection, tableId, selectStatement, selectOverrides.containsKey(tableId), keyColumn, consumer,
+                                  rowsCounter);
+                        logger.info("\t finished exporting '{}' records for '{}'; total duration '{}'", rowsCounter.get(),
+                                tableId, Strings.duration(clock().currentTimeInMillis() - exportStart));
+                        rowsCounter.set(0);
+                    } catch (SQLException e) {
+                        throw new ConnectException(e);
+                    }
                 }
             }
 
@@ -231,6 +287,130 @@ private void takeSnapshot(BlockingConsumer<ChangeEvent> consumer) {
         }
     }
 
+    /**
+     * Reads the given tables with the given number of threads, each using its own connection with a transaction that
+     * imports the snapshot of the given connection's transaction. Tables with a single integer primary key are split into
+     * one range of keys per thread, so that big tables are read in parallel as well.
+     */
+    private void readTablesInParallel(PostgresConnection connection, List<TableId> tableIds, Map<TableId, String> selectOverrides,
+                                      int threads, BlockingConsumer<ChangeEvent> consumer) throws SQLException, InterruptedException {
+        // the snapshot stays valid as long as the transaction exporting it is open
+        final String snapshotId = connection.exportSnapshot();
+        logger.info("\t reading tables with {} threads sharing the exported snapshot '{}'", threads, snapshotId);
+
+        final Queue<TableChunk> chunks = new ConcurrentLinkedQueue<>();
+        for (TableId tableId : tableIds) {
+            final String selectOverride = selectOverrides.get(tableId);
+            if (selectOverride != null) {
+                chunks.add(new TableChunk(tableId, selectOverride, true));
+            }
+            else {
+                chunks.addAll(tableChunks(connection, tableId, threads));
+            }
+        }
+
+        final ExecutorService workers = Threads.newFixedThreadPool(PostgresConnector.class, taskContext.config().getLogicalName(),
+                                                                   CONTEXT_NAME + "-worker", threads);
+        try {
+            final List<Future<Void>> results = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                results.add(workers.submit(() -> {
+                    readTableChunks(snapshotId, chunks, consumer);
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                try {
+                    result.get();
+                }
+                catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof SQLException) {
+                        throw (SQLException) cause;
+                    }
+                    else if (cause instanceof InterruptedException) {
+                        throw (InterruptedException) cause;
+                    }
+                    throw new ConnectException(cause);
+                }
+            }
+        }
+        finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<TableChunk> tableChunks(PostgresConnection connection, TableId tableId, int count) throws SQLException {
+        // DBZ-298 Quoting name in case it has been quoted originally; it doesn't do harm if it hasn't been quoted
+        final String selectStatement = "SELECT * FROM " + tableId.toDoubleQuotedString();
+        final Column keyColumn = singleIntegerKeyColumn(tableId);
+        if (keyColumn == null) {
+            return Collections.singletonList(new TableChunk(tableId, selectStatement, false));
+        }
+        final String key = "\"" + keyColumn.name() + "\"";
+        final long[] bounds = new long[2];
+        final AtomicBoolean empty = new AtomicBoolean();
+        connection.query("SELECT min(" + key + "), max(" + key + ") FROM " + tableId.toDoubleQuotedString(), rs -> {
+            rs.next();
+            bounds[0] = rs.getLong(1);
+            bounds[1] = rs.getLong(2);
+            empty.set(rs.wasNull());
+        });
+        final long rangeSize;
+        try {
+            rangeSize = Math.addExact(Math.subtractExact(bounds[1], bounds[0]), 1) / count + 1;
+        }
+        catch (ArithmeticException e) {
+            return Collections.singletonList(new TableChunk(tableId, selectStatement, false));
+        }
+        // small tables aren't worth being split
+        if (empty.get() || rangeSize < taskContext.config().rowsFetchSize()) {
+            return Collections.singletonList(new TableChunk(tableId, selectStatement, false));
+        }
+
+        final List<TableChunk> chunks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // the first and the last range are open, so that no row is missed
+            final StringBuilder chunkStatement = new StringBuilder(selectStatement).append(" WHERE ");
+            if (i > 0) {
+                chunkStatement.append(key).append(" >= ").append(bounds[0] + i * rangeSize);
+            }
+            if (i > 0 && i < count - 1) {
+                chunkStatement.append(" AND ");
+            }
+            if (i < count - 1) {
+                chunkStatement.append(key).append(" < ").append(bounds[0] + (i + 1) * rangeSize);
+            }
+            chunks.add(new TableChunk(tableId, chunkStatement.toString(), false));
+        }
+        return chunks;
+    }
+
+    private void readTableChunks(String snapshotId, Queue<TableChunk> chunks, BlockingConsumer<ChangeEvent> consumer)
+            throws SQLException, InterruptedException {
+        LoggingContext.PreviousContext previousContext = taskContext.configureLoggingContext(CONTEXT_NAME);
+        try (PostgresConnection connection = taskContext.createConnection()) {
+            connection.setAutoCommit(false);
+            connection.importSnapshot(snapshotId);
+
+            AtomicInteger rowsCounter = new AtomicInteger(0);
+            TableChunk chunk;
+            while ((chunk = chunks.poll()) != null) {
+                final TableId tableId = chunk.tableId;
+                long exportStart = clock().currentTimeInMillis();
+                logger.info("\t exporting data from table '{}' using select statement: '{}'", tableId, chunk.selectStatement);
+                readTable(connection, tableId, chunk.selectStatement, chunk.selectOverride, null, consumer, rowsCounter);
+                logger.info("\t finished exporting '{}' records for '{}'; total duration '{}'", rowsCounter.get(),
+                        tableId, Strings.duration(clock().currentTimeInMillis() - exportStart));
+                rowsCounter.set(0);
+            }
+            connection.connection().commit();
+        }
+        finally {
+            previousContext.restore();
+        }
+    }
+
     private void rollbackTransaction(Connection jdbcConnection) {
         try {
             if (jdbcConnection != null) {
@@ -249,7 +429,37 @@ private Statement readTableStatement(Connection conn) throws SQLException {
         return statement;
     }
 
-    private void readTable(TableId tableId, ResultSet rs,
+    /**
+     * Reads the rows selected by the given statement, using a binary copy of them if enabled and possible for the table.
+     */
+    private void readTable(PostgresConnection connection, TableId tableId, String selectStatement, boolean selectOverride,
+                           Column keyColumn, BlockingConsumer<ChangeEvent> consumer, AtomicInteger rowsCounter)
+            throws SQLException, InterruptedException {
+        // the columns selected by an override statement are not known upfront
+        final BinaryCopyReader copyReader = taskContext.config().snapshotBinaryCopy() && !selectOverride
+                ? BinaryCopyReader.forColumns(schema().tableFor(tableId).columns())
+                : null;
+        if (copyReader == null) {
+            connection.queryWithBlockingConsumer(selectStatement,
+                    this::readTableStatement,
+                    rs -> readTable(tableId, keyColumn, rs, consumer, rowsCounter));
+            return;
+        }
+
+        final String copyStatement = BinaryCopyReader.copyStatement(selectStatement);
+        logger.debug("\t reading table '{}' using '{}'", tableId, copyStatement);
+        try (PGCopyInputStream in = new PGCopyInputStream((PGConnection) connection.connection(), copyStatement)) {
+            copyReader.read(in, row -> {
+                rowsCounter.incrementAndGet();
+                emitRow(tableId, keyColumn, row, consumer);
+            });
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to copy the rows of table '" + tableId + "'", e);
+        }
+    }
+
+    private void readTable(TableId tableId, Column keyColumn, ResultSet rs,
                            BlockingConsumer<ChangeEvent> consumer,
                            AtomicInteger rowsCounter) throws SQLException, InterruptedException {
         Table table = schema().tableFor(tableId);
@@ -259,11 +469,54 @@ private void readTable(TableId tableId, ResultSet rs,
         final ResultSetMetaData metaData = rs.getMetaData();
         while (rs.next()) {
             rowsCounter.incrementAndGet();
-            sendCurrentRecord(consumer);
             for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
                 row[i] = valueForColumn(rs, j, metaData);
             }
-            generateReadRecord(tableId, row);
+            emitRow(tableId, keyColumn, row, consumer);
+        }
+    }
+
+    private void emitRow(TableId tableId, Column keyColumn, Object[] row, BlockingConsumer<ChangeEvent> consumer)
+            throws InterruptedException {
+        if (row.length == 0) {
+            return;
+        }
+        // tables may be read by several threads, which convert their rows concurrently and only take turns in replacing the
+        // last record, so that the offset of the records and the last record of the snapshot are consistent
+        TableSchema tableSchema = schema().schemaFor(tableId);
+        assert tableSchema != null;
+        Object key = tableSchema.keyFromColumnData(row);
+        Struct value = tableSchema.valueFromColumnData(row);
+        if (key == null || value == null) {
+            return;
+        }
+        SourceRecord previousRecord;
+        synchronized (currentRecord) {
+            if (keyColumn != null) {
+                sourceInfo.updateSnapshotPosition(tableId, row[keyColumn.position() - 1].toString());
+            }
+            previousRecord = currentRecord.getAndSet(generateReadRecord(tableId, tableSchema, key, value));
+        }
+        // the previous record is sent outside of the lock, so that a full queue doesn't block the other threads
+        sendRecord(previousRecord, consumer);
+    }
+
+    /**
+     * Returns the primary key column of the given table if it is a single column of an integer type, or null otherwise.
+     */
+    private Column singleIntegerKeyColumn(TableId tableId) {
+        Table table = schema().tableFor(tableId);
+        List<Column> pkColumns = table.primaryKeyColumns();
+        if (pkColumns.size() != 1) {
+            return null;
+        }
+        switch (pkColumns.get(0).jdbcType()) {
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return pkColumns.get(0);
+            default:
+                return null;
         }
     }
 
@@ -285,7 +538,8 @@ private Object valueForColumn(ResultSet rs, int colIdx, ResultSetMetaData metaDa
             switch (type.getOid()) {
                 case PgOid.MONEY:
                     //TODO author=Horia Chiorean date=14/11/2016 description=workaround for https://github.com/pgjdbc/pgjdbc/issues/100
-                    return new PGmoney(rs.getString(colIdx)).val;
+                    final String money = rs.getString(colIdx);
+                    return money == null ? null : PostgresValueConverter.toMoney(money);
                 case PgOid.BIT:
                     return rs.getString(colIdx);
                 case PgOid.NUMERIC:
@@ -307,29 +561,22 @@ private Object valueForColumn(ResultSet rs, int colIdx, ResultSetMetaData metaDa
         }
     }
 
-    protected void generateReadRecord(TableId tableId, Object[] rowData) {
-        if (rowData.length == 0) {
-            return;
-        }
-        TableSchema tableSchema = schema().schemaFor(tableId);
-        assert tableSchema != null;
-        Object key = tableSchema.keyFromColumnData(rowData);
-        Struct value = tableSchema.valueFromColumnData(rowData);
-        if (key == null || value == null) {
-            return;
-        }
+    private SourceRecord generateReadRecord(TableId tableId, TableSchema tableSchema, Object key, Struct value) {
         Schema keySchema = tableSchema.keySchema();
         sourceInfo.update(clock().currentTimeInMicros());
         Map<String, ?> partition = sourceInfo.partition();
         Map<String, ?> offset = sourceInfo.offset();
         String topicName = topicSelector().topicNameFor(tableId);
         Envelope envelope = tableSchema.getEnvelopeSchema();
-        currentRecord.set(new SourceRecord(partition, offset, topicName, null, keySchema, key, envelope.schema(),
-                                           envelope.read(value, sourceInfo.source(), clock().currentTimeInMillis())));
+        return new SourceRecord(partition, offset, topicName, null, keySchema, key, envelope.schema(),
+                                envelope.read(value, sourceInfo.source(), clock().currentTimeInMillis()));
     }
 
     private void sendCurrentRecord(BlockingConsumer<ChangeEvent> consumer) throws InterruptedException {
-        SourceRecord record = currentRecord.get();
+        sendRecord(currentRecord.get(), consumer);
+    }
+
+    private void sendRecord(SourceRecord record, BlockingConsumer<ChangeEvent> consumer) throws InterruptedException {
         if (record == null) {
             return;
         }
@@ -340,6 +587,22 @@ private void sendCurrentRecord(BlockingConsumer<ChangeEvent> consumer) throws In
         consumer.accept(new ChangeEvent(record));
     }
 
+    /**
+     * A table or a range of its rows to be read by a single select statement.
+     */
+    private static final class TableChunk {
+
+        private final TableId tableId;
+        private final String selectStatement;
+        private final boolean selectOverride;
+
+        TableChunk(TableId tableId, String selectStatement, boolean selectOverride) {
+            this.tableId = tableId;
+            this.selectStatement = selectStatement;
+            this.selectOverride = selectOverride;
+        }
+    }
+
     /**
      * Returns any SELECT overrides, if present.
      */
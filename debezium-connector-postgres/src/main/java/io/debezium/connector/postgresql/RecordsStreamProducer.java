@@ -8,14 +8,19 @@
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
@@ -49,11 +54,15 @@
 public class RecordsStreamProducer extends RecordsProducer {
 
     private static final String CONTEXT_NAME = "records-stream-producer";
+    private static final long MIN_READ_BACK_OFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_READ_BACK_OFF_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long STREAMING_STOP_TIMEOUT_SECONDS = 10;
 
     private final ExecutorService executorService;
     private final ReplicationConnection replicationConnection;
     private final AtomicReference<ReplicationStream> replicationStream;
     private PgConnection typeResolverConnection = null;
+    private final Map<TableId, ColumnIndex> columnIndexes = new ConcurrentHashMap<>();
 
     @FunctionalInterface
     public static interface PgConnectionSupplier {
@@ -100,6 +109,7 @@ protected synchronized void start(BlockingConsumer<ChangeEvent> eventConsumer, C
 
             // refresh the schema so we have a latest view of the DB tables
             taskContext.refreshSchema(true);
+            columnIndexes.clear();
 
             // the new thread will inherit it's parent MDC
             executorService.submit(() -> streamChanges(eventConsumer, failureConsumer));
@@ -112,11 +122,22 @@ protected synchronized void start(BlockingConsumer<ChangeEvent> eventConsumer, C
 
     private void streamChanges(BlockingConsumer<ChangeEvent> consumer, Consumer<Throwable> failureConsumer) {
         ReplicationStream stream = this.replicationStream.get();
+        long backOffNanos = MIN_READ_BACK_OFF_NANOS;
         // run while we haven't been requested to stop
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                // this will block until a message is available
-                stream.read(x -> process(x, stream.lastReceivedLsn(), consumer));
+                // drain the messages which have already been received without blocking for each of them; only once there
+                // are none, wait for the next ones, a little longer each time nothing has arrived in the meantime
+                if (stream.readPending(x -> process(x, stream.lastReceivedLsn(), consumer))) {
+                    backOffNanos = MIN_READ_BACK_OFF_NANOS;
+                }
+                else {
+                    LockSupport.parkNanos(this, backOffNanos);
+                    backOffNanos = Math.min(backOffNanos * 2, MAX_READ_BACK_OFF_NANOS);
+                }
+            } catch (InterruptedException e) {
+                // stopping was requested while a change event was waiting to be enqueued
+                Thread.currentThread().interrupt();
             } catch (SQLException e) {
                 Throwable cause = e.getCause();
                 if (cause != null && (cause instanceof IOException)) {
@@ -136,19 +157,18 @@ private void streamChanges(BlockingConsumer<ChangeEvent> consumer, Consumer<Thro
     }
 
     @Override
-    protected synchronized void commit(long lsn)  {
+    protected void commit(long lsn)  {
         LoggingContext.PreviousContext previousContext = taskContext.configureLoggingContext(CONTEXT_NAME);
         try {
             ReplicationStream replicationStream = this.replicationStream.get();
             if (replicationStream != null) {
-                // tell the server the point up to which we've processed data, so it can be free to recycle WAL segments
-                logger.debug("flushing offsets to server...");
-                replicationStream.flushLsn(lsn);
+                // tell the server the point up to which we've processed data, so it can be free to recycle WAL segments;
+                // this is done by the streaming thread, so that committing never contends with reading from the stream
+                logger.debug("recording offsets to be flushed to server...");
+                replicationStream.asyncFlushLsn(lsn);
             } else {
                 logger.debug("streaming has already stopped, ignoring commit callback...");
             }
-        } catch (SQLException e) {
-            throw new ConnectException(e);
         } finally {
             previousContext.restore();
         }
@@ -164,7 +184,7 @@ protected synchronized void stop() {
                 return;
             }
 
-            closeConnections();
+            closeConnections(stopStreaming());
         } finally {
             replicationStream.set(null);
             executorService.shutdownNow();
@@ -172,12 +192,49 @@ protected synchronized void stop() {
         }
     }
 
-    private void closeConnections() {
+    /**
+     * Interrupts the streaming thread and waits for it to exit.
+     *
+     * @return {@code true} if the streaming thread has exited, or {@code false} if it may still be using the replication stream
+     */
+    private boolean stopStreaming() {
+        logger.debug("stopping streaming...");
+        executorService.shutdownNow();
+        try {
+            if (executorService.awaitTermination(STREAMING_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            logger.warn("Streaming did not stop within {} seconds", STREAMING_STOP_TIMEOUT_SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void flushCommittedLsn() {
+        // the stream is no longer read once streaming has stopped, so the last committed LSN wouldn't be sent with a periodic
+        // status update
+        try {
+            replicationStream.get().flushAsyncLsn();
+        }
+        catch (SQLException e) {
+            logger.warn("Unable to flush the last committed LSN to the server", e);
+        }
+    }
+
+    private void closeConnections(boolean streamingStopped) {
         Exception closingException = null;
 
         try {
             if (replicationConnection != null) {
-                logger.debug("stopping streaming...");
+                // the replication stream must not be used while the streaming thread may still be reading from it
+                if (streamingStopped) {
+                    flushCommittedLsn();
+                }
+                else {
+                    logger.warn("Not flushing the last committed LSN to the server, as streaming is still running");
+                }
                 //TODO author=Horia Chiorean date=08/11/2016 description=Ideally we'd close the stream, but it's not reliable atm (see javadoc)
                 //replicationStream.close();
                 // close the connection - this should also disconnect the current stream even if it's blocking
@@ -406,7 +463,7 @@ private Object[] columnValues(List<ReplicationMessage.Column> columns, TableId t
         assert table != null;
 
         // check if we need to refresh our local schema due to DB schema changes for this table
-        if (refreshSchemaIfChanged && schemaChanged(columns, table, metadataInMessage)) {
+        if (refreshSchemaIfChanged && schemaChanged(columns, tableId, table, metadataInMessage)) {
             try (final PostgresConnection connection = taskContext.createConnection()) {
                 // Refresh the schema so we get information about primary keys
                 schema().refresh(connection, tableId);
@@ -415,29 +472,34 @@ private Object[] columnValues(List<ReplicationMessage.Column> columns, TableId t
                     schema().refresh(tableFromFromMessage(columns, schema().tableFor(tableId)));
                 }
                 table = schema().tableFor(tableId);
+                // the index of the previous definition of the table is of no use anymore
+                columnIndexes.remove(tableId);
             }
         }
 
         // based on the schema columns, create the values on the same position as the columns
-        List<String> columnNames = table.columnNames();
+        ColumnIndex index = columnIndex(tableId, table);
         // JSON does not deliver a list of all columns for REPLICA IDENTITY DEFAULT
-        Object[] values = new Object[columns.size() < columnNames.size() ? columnNames.size() : columns.size()];
+        Object[] values = new Object[columns.size() < index.size() ? index.size() : columns.size()];
 
         for (ReplicationMessage.Column column : columns) {
-            //DBZ-298 Quoted column names will be sent like that in messages, but stored unquoted in the column names
-            String columnName = Strings.unquoteIdentifierPart(column.getName());
-            int position = columnNames.indexOf(columnName);
+            int position = index.positionOf(column.getName());
             assert position >= 0;
-            values[position] = column.getValue(this::typeResolverConnection, taskContext.config().includeUnknownDatatypes());
+            // blacklisted columns are not part of the key or value schema, so their values don't need to be decoded
+            if (index.isIncluded(position)) {
+                values[position] = column.isUnchangedToastedValue()
+                        ? index.unchangedToastedValue(position)
+                        : column.getValue(this::typeResolverConnection, taskContext.config().includeUnknownDatatypes());
+            }
         }
 
         return values;
     }
 
-    private boolean schemaChanged(List<ReplicationMessage.Column> columns, Table table, boolean metadataInMessage) {
-        List<String> columnNames = table.columnNames();
+    private boolean schemaChanged(List<ReplicationMessage.Column> columns, TableId tableId, Table table, boolean metadataInMessage) {
+        ColumnIndex index = columnIndex(tableId, table);
         int messagesCount = columns.size();
-        if (columnNames.size() != messagesCount) {
+        if (index.size() != messagesCount) {
             // the table metadata has less or more columns than the event, which means the table structure has changed,
             // so we need to trigger a refresh...
            return true;
@@ -445,39 +507,58 @@ private boolean schemaChanged(List<ReplicationMessage.Column> columns, Table tab
 
         // go through the list of columns from the message to figure out if any of them are new or have changed their type based
         // on what we have in the table metadata....
-        return columns.stream().filter(message -> {
+        for (ReplicationMessage.Column message : columns) {
             String columnName = message.getName();
-            Column column = table.columnWithName(columnName);
-            if (column == null) {
+            int position = index.positionOf(columnName);
+            if (position < 0) {
                 logger.info("found new column '{}' present in the server message which is not part of the table metadata; refreshing table schema", columnName);
                 return true;
-            } else {
-                final int localType = column.nativeType();
-                final int incomingType = message.getType().getOid();
-                if (localType != incomingType) {
-                    logger.info("detected new type for column '{}', old type was {} ({}), new type is {} ({}); refreshing table schema", columnName, localType, column.typeName(),
-                                incomingType, message.getType().getName());
+            }
+            Column column = index.column(position);
+            final int localType = column.nativeType();
+            final int incomingType = message.getType().getOid();
+            if (localType != incomingType) {
+                logger.info("detected new type for column '{}', old type was {} ({}), new type is {} ({}); refreshing table schema", columnName, localType, column.typeName(),
+                            incomingType, message.getType().getName());
+                return true;
+            }
+            // the length and scale only need to be parsed from the type if it differs from the one last seen for the column
+            if (metadataInMessage && !index.isVerifiedType(position, message.getTypeWithModifiers())) {
+                final int localLength = column.length();
+                final int incomingLength = message.getTypeMetadata().getLength();
+                if (localLength != incomingLength) {
+                    logger.info("detected new length for column '{}', old length was {}, new length is {}; refreshing table schema", columnName, localLength,
+                                incomingLength);
                     return true;
                 }
-                if (metadataInMessage) {
-                    final int localLength = column.length();
-                    final int incomingLength = message.getTypeMetadata().getLength();
-                    if (localLength != incomingLength) {
-                        logger.info("detected new length for column '{}', old length was {}, new length is {}; refreshing table schema", columnName, localLength,
-                                    incomingLength);
-                        return true;
-                    }
-                    final int localScale = column.scale().get();
-                    final int incomingScale = message.getTypeMetadata().getScale();
-                    if (localScale != incomingScale) {
-                        logger.info("detected new scale for column '{}', old scale was {}, new scale is {}; refreshing table schema", columnName, localScale,
-                                    incomingScale);
-                        return true;
-                    }
+                final int localScale = column.scale().get();
+                final int incomingScale = message.getTypeMetadata().getScale();
+                if (localScale != incomingScale) {
+                    logger.info("detected new scale for column '{}', old scale was {}, new scale is {}; refreshing table schema", columnName, localScale,
+                                incomingScale);
+                    return true;
                 }
+                index.setVerifiedType(position, message.getTypeWithModifiers());
             }
-            return false;
-        }).findFirst().isPresent();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the column index for the current definition of the given table, building a new one if the table or its schema
+     * have been refreshed since the last call. The indexes of refreshed or dropped tables are evicted whenever the schema of a
+     * table is refreshed or a new index is built, so that they don't hold on to outdated table definitions.
+     */
+    private ColumnIndex columnIndex(TableId tableId, Table table) {
+        TableSchema tableSchema = schema().schemaFor(tableId);
+        ColumnIndex index = columnIndexes.get(tableId);
+        if (index == null || !index.isFor(table, tableSchema)) {
+            // as the schema has changed, also evict the indexes of other tables that have been dropped or refreshed since
+            columnIndexes.entrySet().removeIf(e -> !e.getValue().isFor(schema().tableFor(e.getKey()), schema().schemaFor(e.getKey())));
+            index = new ColumnIndex(table, tableSchema);
+            columnIndexes.put(tableId, index);
+        }
+        return index;
     }
 
     private TableSchema tableSchemaFor(TableId tableId) throws SQLException {
@@ -495,6 +576,7 @@ private TableSchema tableSchemaFor(TableId tableId) throws SQLException {
         try (final PostgresConnection connection = taskContext.createConnection()) {
             schema.refresh(connection, tableId);
         }
+        columnIndexes.remove(tableId);
         tableSchema = schema.schemaFor(tableId);
         if (tableSchema == null) {
             logger.warn("cannot load schema for table '{}'", tableId);
@@ -531,4 +613,99 @@ private Table tableFromFromMessage(List<ReplicationMessage.Column> columns, Tabl
             )
             .setPrimaryKeyNames(table.filterColumnNames(c -> table.isPrimaryKeyColumn(c.name()))).create();
     }
+
+    /**
+     * The positions of the columns of one version of a table, so that the columns of each message can be looked up in
+     * constant time. Since refreshing a table replaces its {@link Table} and {@link TableSchema} instances, an index is
+     * only valid as long as both are the current ones.
+     */
+    private static final class ColumnIndex {
+
+        private final Table table;
+        private final TableSchema tableSchema;
+        private final List<Column> columns;
+        private final Map<String, Integer> positions;
+        private final boolean[] included;
+        private final Object[] unchangedToastedValues;
+        private final String[] verifiedTypes;
+
+        ColumnIndex(Table table, TableSchema tableSchema) {
+            this.table = table;
+            this.tableSchema = tableSchema;
+            this.columns = table.columns();
+            this.positions = new HashMap<>(columns.size() * 2);
+            this.included = new boolean[columns.size()];
+            this.unchangedToastedValues = new Object[columns.size()];
+            this.verifiedTypes = new String[columns.size()];
+
+            Schema keySchema = tableSchema != null ? tableSchema.keySchema() : null;
+            Schema valueSchema = tableSchema != null ? tableSchema.valueSchema() : null;
+            for (int i = 0; i < columns.size(); i++) {
+                String name = columns.get(i).name();
+                positions.put(name, i);
+                // blacklisted primary key columns are still part of the key schema
+                included[i] = valueSchema == null || valueSchema.field(name) != null
+                        || (keySchema != null && keySchema.field(name) != null);
+                // only string and binary fields can represent the value that hasn't been sent
+                Field valueField = valueSchema != null ? valueSchema.field(name) : null;
+                if (valueField != null && (valueField.schema().type() == Schema.Type.STRING || valueField.schema().type() == Schema.Type.BYTES)) {
+                    unchangedToastedValues[i] = ReplicationMessage.UNCHANGED_TOASTED_VALUE_PLACEHOLDER;
+                }
+            }
+        }
+
+        boolean isFor(Table table, TableSchema tableSchema) {
+            return this.table == table && this.tableSchema == tableSchema;
+        }
+
+        int size() {
+            return columns.size();
+        }
+
+        Column column(int position) {
+            return columns.get(position);
+        }
+
+        /**
+         * @param name the name of the column as sent in the message
+         * @return the position of the column, or -1 if the table has no such column
+         */
+        int positionOf(String name) {
+            Integer position = positions.get(name);
+            if (position == null) {
+                //DBZ-298 Quoted column names will be sent like that in messages, but stored unquoted in the column names
+                position = positions.get(Strings.unquoteIdentifierPart(name));
+                if (position == null) {
+                    Column column = table.columnWithName(Strings.unquoteIdentifierPart(name));
+                    if (column == null) {
+                        return -1;
+                    }
+                    position = columns.indexOf(column);
+                }
+                // remember the name as sent, so it is found directly for the next message
+                positions.put(name, position);
+            }
+            return position;
+        }
+
+        boolean isIncluded(int position) {
+            return included[position];
+        }
+
+        /**
+         * @return the value of the column at the given position if its unchanged TOASTed value hasn't been sent, or null if
+         *         the type of the column has no way of telling such a value apart from {@code NULL}
+         */
+        Object unchangedToastedValue(int position) {
+            return unchangedToastedValues[position];
+        }
+
+        boolean isVerifiedType(int position, String typeWithModifiers) {
+            return typeWithModifiers != null && typeWithModifiers.equals(verifiedTypes[position]);
+        }
+
+        void setVerifiedType(int position, String typeWithModifiers) {
+            verifiedTypes[position] = typeWithModifiers;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.relational.TableId;
 
 /**
  * Information about the source of information, which for normal events contains information about the transaction id and the
@@ -82,6 +83,8 @@ final class SourceInfo extends AbstractSourceInfo {
     public static final String LSN_KEY = "lsn";
     public static final String SNAPSHOT_KEY = "snapshot";
     public static final String LAST_SNAPSHOT_RECORD_KEY = "last_snapshot_record";
+    public static final String SNAPSHOT_TABLE_KEY = "snapshot_table";
+    public static final String SNAPSHOT_LAST_KEY_KEY = "snapshot_last_key";
 
     /**
      * A {@link Schema} definition for a {@link Struct} used to store the {@link #partition()} and {@link #offset()} information.
@@ -104,6 +107,8 @@ final class SourceInfo extends AbstractSourceInfo {
     private Long useconds;
     private boolean snapshot = false;
     private Boolean lastSnapshotRecord;
+    private String snapshotTable;
+    private String snapshotLastKey;
 
     protected SourceInfo(String serverName) {
         super(Module.version());
@@ -118,6 +123,8 @@ protected void load(Map<String, Object> lastStoredOffset) {
         this.snapshot = lastStoredOffset.containsKey(SNAPSHOT_KEY);
         if (this.snapshot) {
             this.lastSnapshotRecord = (Boolean) lastStoredOffset.get(LAST_SNAPSHOT_RECORD_KEY);
+            this.snapshotTable = (String) lastStoredOffset.get(SNAPSHOT_TABLE_KEY);
+            this.snapshotLastKey = (String) lastStoredOffset.get(SNAPSHOT_LAST_KEY_KEY);
         }
     }
 
@@ -153,6 +160,12 @@ public Map<String, String> partition() {
         if (snapshot) {
             result.put(SNAPSHOT_KEY, true);
             result.put(LAST_SNAPSHOT_RECORD_KEY, lastSnapshotRecord);
+            if (snapshotTable != null) {
+                result.put(SNAPSHOT_TABLE_KEY, snapshotTable);
+                if (snapshotLastKey != null) {
+                    result.put(SNAPSHOT_LAST_KEY_KEY, snapshotLastKey);
+                }
+            }
         }
         return result;
     }
@@ -181,9 +194,44 @@ protected SourceInfo update(Long useconds) {
 
     protected SourceInfo markLastSnapshotRecord() {
         this.lastSnapshotRecord = true;
+        clearSnapshotPosition();
         return this;
     }
 
+    /**
+     * Updates the position of a resumable snapshot, which is included in the offsets while the snapshot is in effect. All
+     * tables read before the given table have been read completely.
+     *
+     * @param tableId the table whose rows are currently being read; may not be null
+     * @param lastKey the primary key value of the last row read from the table; may be null if no row has been read yet or
+     * the table cannot be resumed part way through
+     * @return this instance
+     */
+    protected SourceInfo updateSnapshotPosition(TableId tableId, String lastKey) {
+        this.snapshotTable = tableId.toString();
+        this.snapshotLastKey = lastKey;
+        return this;
+    }
+
+    protected void clearSnapshotPosition() {
+        this.snapshotTable = null;
+        this.snapshotLastKey = null;
+    }
+
+    /**
+     * @return the table that was being read when a resumable snapshot was interrupted; may be null
+     */
+    protected TableId snapshotTable() {
+        return snapshotTable != null ? TableId.parse(snapshotTable, false) : null;
+    }
+
+    /**
+     * @return the primary key value of the last row read from the {@link #snapshotTable() snapshot table}; may be null
+     */
+    protected String snapshotLastKey() {
+        return snapshotLastKey;
+    }
+
     /**
      * Get a {@link Schema} representation of the source {@link #partition()} and {@link #offset()} information.
      *
@@ -208,8 +256,12 @@ protected Struct source() {
         assert serverName != null;
         Struct result = super.struct();
         result.put(SERVER_NAME_KEY, serverName);
-        // use the offset information without the snapshot part (see below)
-        offset().forEach(result::put);
+        // use the offset information without the snapshot part (see below) and without the position of a resumable snapshot
+        offset().forEach((key, value) -> {
+            if (SCHEMA.field(key) != null) {
+                result.put(key, value);
+            }
+        });
         return result;
     }
 
@@ -235,6 +287,7 @@ protected void startSnapshot() {
      */
     protected void completeSnapshot() {
         this.snapshot = false;
+        clearSnapshotPosition();
     }
 
     protected Long lsn() {
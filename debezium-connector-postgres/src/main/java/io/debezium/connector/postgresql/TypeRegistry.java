@@ -5,9 +5,16 @@
  */
 package io.debezium.connector.postgresql;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.connect.errors.ConnectException;
 
 import org.postgresql.core.TypeInfo;
 import org.slf4j.Logger;
@@ -16,11 +23,15 @@
 /**
  * A registry of types supported by a PostgreSQL instance. Allows lookup of the types according to
  * type name or OID.
+ * <p>
+ * If the registry has been built with a {@link TypeResolver}, types which are not known yet are read from the database
+ * on their first lookup, so that the registry doesn't need to contain all the types of the database upfront and picks
+ * up types created after it has been built. A registry is safe for concurrent use.
  *
  * @author Jiri Pechanec
  *
  */
-public class TypeRegistry {
+public class TypeRegistry implements TypeRegistryMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeRegistry.class);
 
@@ -56,6 +67,32 @@ private static Map<String, String> getLongTypeNames() {
         return longTypeNames;
     }
 
+    /**
+     * Reads types which are not known to a {@link TypeRegistry} yet from the database.
+     */
+    public interface TypeResolver {
+
+        /**
+         * Reads the type with the given OID as well as all the types created since the previous call.
+         *
+         * @param oid - PostgreSQL OID of the requested type
+         * @param registry - the registry the types will be added to, used to look up the element types of arrays
+         * @return the types read, element types before the arrays containing them; never null
+         * @throws SQLException if the types cannot be read
+         */
+        List<PostgresType> resolve(int oid, TypeRegistry registry) throws SQLException;
+
+        /**
+         * Reads the type with the given name as well as all the types created since the previous call.
+         *
+         * @param name - PostgreSQL type name of the requested type
+         * @param registry - the registry the types will be added to, used to look up the element types of arrays
+         * @return the types read, element types before the arrays containing them; never null
+         * @throws SQLException if the types cannot be read
+         */
+        List<PostgresType> resolve(String name, TypeRegistry registry) throws SQLException;
+    }
+
     /**
      * Builder for instances of {@link TypeRegistry}.
      */
@@ -63,6 +100,7 @@ public static final class Builder {
 
         private final Map<String, PostgresType> nameToType = new HashMap<>();
         private final Map<Integer, PostgresType> oidToType = new HashMap<>();
+        private TypeResolver resolver;
         private int geometryOid = Integer.MIN_VALUE;
         private int geographyOid = Integer.MIN_VALUE;
         private int citextOid = Integer.MIN_VALUE;
@@ -106,6 +144,18 @@ else if (TYPE_NAME_CITEXT_ARRAY.equals(type.getName())) {
             return this;
         }
 
+        /**
+         * Set the resolver used to read types which haven't been added to the registry
+         *
+         * @param resolver - the resolver; may be null if unknown types shouldn't be looked up
+         *
+         * @return builder instance
+         */
+        public Builder withResolver(TypeResolver resolver) {
+            this.resolver = resolver;
+            return this;
+        }
+
         /**
          *
          * @param oid - PostgreSQL OID
@@ -119,7 +169,8 @@ public PostgresType get(int oid) {
          * @return initialized type registry
          */
         public TypeRegistry build() {
-            return new TypeRegistry(nameToType, oidToType, geometryOid, geographyOid, citextOid, geometryArrayOid, geographyArrayOid, citextArrayOid);
+            return new TypeRegistry(nameToType, oidToType, geometryOid, geographyOid, citextOid, geometryArrayOid, geographyArrayOid, citextArrayOid,
+                    resolver);
         }
     }
 
@@ -129,24 +180,31 @@ public static Builder create(TypeInfo typeInfo) {
 
     private final Map<String, PostgresType> nameToType;
     private final Map<Integer, PostgresType> oidToType;
-    private final int geometryOid;
-    private final int geographyOid;
-    private final int citextOid;
-    private final int geometryArrayOid;
-    private final int geographyArrayOid;
-    private final int citextArrayOid;
+    private final TypeResolver resolver;
+    private volatile int geometryOid;
+    private volatile int geographyOid;
+    private volatile int citextOid;
+    private volatile int geometryArrayOid;
+    private volatile int geographyArrayOid;
+    private volatile int citextArrayOid;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong refreshes = new AtomicLong();
 
     private TypeRegistry(Map<String, PostgresType> nameToType, Map<Integer, PostgresType> oidToType,
-            int geometryOid, int geographyOid, int citextOid, int geometryArrayOid, int geographyArrayOid, int citextArrayOid) {
+            int geometryOid, int geographyOid, int citextOid, int geometryArrayOid, int geographyArrayOid, int citextArrayOid,
+            TypeResolver resolver) {
 
-        this.nameToType = Collections.unmodifiableMap(nameToType);
-        this.oidToType = Collections.unmodifiableMap(oidToType);
+        this.nameToType = new ConcurrentHashMap<>(nameToType);
+        this.oidToType = new ConcurrentHashMap<>(oidToType);
         this.geometryOid = geometryOid;
         this.geographyOid = geographyOid;
         this.citextOid = citextOid;
         this.geometryArrayOid = geometryArrayOid;
         this.geographyArrayOid = geographyArrayOid;
         this.citextArrayOid = citextArrayOid;
+        this.resolver = resolver;
     }
 
     /**
@@ -156,13 +214,86 @@ private TypeRegistry(Map<String, PostgresType> nameToType, Map<Integer, Postgres
      */
     public PostgresType get(int oid) {
         PostgresType r = oidToType.get(oid);
+        if (r != null) {
+            hits.increment();
+            return r;
+        }
+        misses.increment();
+        return resolve(oid);
+    }
+
+    private synchronized PostgresType resolve(int oid) {
+        // another thread may have read the type in the meantime
+        PostgresType r = oidToType.get(oid);
+        if (r != null) {
+            return r;
+        }
+        if (resolver != null) {
+            try {
+                addTypes(resolver.resolve(oid, this));
+            }
+            catch (SQLException e) {
+                throw new ConnectException("Could not read type with OID " + oid, e);
+            }
+            r = oidToType.get(oid);
+        }
         if (r == null) {
+            // not remembered, so that the type is read once it becomes visible
             LOGGER.warn("Unknown OID {} requested", oid);
             r = PostgresType.UNKNOWN;
         }
         return r;
     }
 
+    private synchronized PostgresType resolve(String name) {
+        PostgresType r = nameToType.get(name);
+        if (r != null) {
+            return r;
+        }
+        if (resolver != null) {
+            try {
+                addTypes(resolver.resolve(name, this));
+            }
+            catch (SQLException e) {
+                throw new ConnectException("Could not read type named " + name, e);
+            }
+            r = nameToType.get(name);
+        }
+        if (r == null) {
+            LOGGER.warn("Unknown type named {} requested", name);
+            r = PostgresType.UNKNOWN;
+        }
+        return r;
+    }
+
+    private void addTypes(List<PostgresType> types) {
+        refreshes.incrementAndGet();
+        LOGGER.debug("Adding {} types read from the database to the registry", types.size());
+        for (PostgresType type : types) {
+            oidToType.put(type.getOid(), type);
+            nameToType.put(type.getName(), type);
+
+            if (TYPE_NAME_GEOMETRY.equals(type.getName())) {
+                geometryOid = type.getOid();
+            }
+            else if (TYPE_NAME_GEOGRAPHY.equals(type.getName())) {
+                geographyOid = type.getOid();
+            }
+            else if (TYPE_NAME_CITEXT.equals(type.getName())) {
+                citextOid = type.getOid();
+            }
+            else if (TYPE_NAME_GEOMETRY_ARRAY.equals(type.getName())) {
+                geometryArrayOid = type.getOid();
+            }
+            else if (TYPE_NAME_GEOGRAPHY_ARRAY.equals(type.getName())) {
+                geographyArrayOid = type.getOid();
+            }
+            else if (TYPE_NAME_CITEXT_ARRAY.equals(type.getName())) {
+                citextArrayOid = type.getOid();
+            }
+        }
+    }
+
     /**
      *
      * @param name - PostgreSQL type name
@@ -188,11 +319,32 @@ public PostgresType get(String name) {
             name = name.substring(1, name.length() - 1);
         }
         PostgresType r = nameToType.get(name);
-        if (r == null) {
-            LOGGER.warn("Unknown type named {} requested", name);
-            r = PostgresType.UNKNOWN;
+        if (r != null) {
+            hits.increment();
+            return r;
         }
-        return r;
+        misses.increment();
+        return resolve(name);
+    }
+
+    @Override
+    public long cacheHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long cacheMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long refreshes() {
+        return refreshes.get();
+    }
+
+    @Override
+    public int size() {
+        return oidToType.size();
     }
 
     /**
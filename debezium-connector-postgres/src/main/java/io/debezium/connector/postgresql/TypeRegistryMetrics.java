@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+/**
+ * Metrics describing the usage of a {@link TypeRegistry}.
+ */
+public interface TypeRegistryMetrics {
+
+    /**
+     * @return the number of lookups answered by the types already held by the registry
+     */
+    long cacheHits();
+
+    /**
+     * @return the number of lookups of types which weren't held by the registry
+     */
+    long cacheMisses();
+
+    /**
+     * @return the number of times types have been read from the database after the registry has been built
+     */
+    long refreshes();
+
+    /**
+     * @return the number of types currently held by the registry
+     */
+    int size();
+}
@@ -137,7 +137,14 @@ public boolean isOptional() {
 
     @Override
     public TypeMetadataImpl getTypeMetadata() {
-        initMetadata();
+        if (typeMetadata == null) {
+            initMetadata();
+        }
         return typeMetadata;
     }
+
+    @Override
+    public String getTypeWithModifiers() {
+        return typeWithModifiers;
+    }
 }
@@ -8,16 +8,25 @@
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 
 import org.apache.kafka.connect.errors.ConnectException;
-import org.postgresql.core.BaseConnection;
 import org.postgresql.core.TypeInfo;
+import org.postgresql.jdbc.TypeInfoCache;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLState;
 import org.slf4j.Logger;
@@ -44,14 +53,29 @@ public class PostgresConnection extends JdbcConnection {
                                                                                     PostgresConnection.class.getClassLoader());
     private static Logger LOGGER = LoggerFactory.getLogger(PostgresConnection.class);
 
-    private static final String SQL_NON_ARRAY_TYPES = "SELECT t.oid AS oid, t.typname AS name "
+    private static final String SQL_TYPES = "SELECT t.oid AS oid, t.typname AS name, t.typelem AS element, t.typcategory = 'A' AS is_array, "
+            + "t.typtype AS type, t.typinput = 'array_in'::regproc AS is_jdbc_array "
             + "FROM pg_catalog.pg_type t JOIN pg_catalog.pg_namespace n ON (t.typnamespace = n.oid) "
-            + "WHERE n.nspname != 'pg_toast' AND t.typcategory <> 'A'";
-    private static final String SQL_ARRAY_TYPES = "SELECT t.oid AS oid, t.typname AS name, t.typelem AS element "
-            + "FROM pg_catalog.pg_type t JOIN pg_catalog.pg_namespace n ON (t.typnamespace = n.oid) "
-            + "WHERE n.nspname != 'pg_toast' AND t.typcategory = 'A'";
+            + "WHERE n.nspname != 'pg_toast' AND ";
+    // only the built-in types and those the connector specifically handles are read upfront, any other one when it's first seen
+    private static final String SQL_INITIAL_TYPES = SQL_TYPES + "(n.nspname = 'pg_catalog' OR t.typname IN ('"
+            + TypeRegistry.TYPE_NAME_GEOMETRY + "', '" + TypeRegistry.TYPE_NAME_GEOGRAPHY + "', '" + TypeRegistry.TYPE_NAME_CITEXT + "', '"
+            + TypeRegistry.TYPE_NAME_GEOMETRY_ARRAY + "', '" + TypeRegistry.TYPE_NAME_GEOGRAPHY_ARRAY + "', '" + TypeRegistry.TYPE_NAME_CITEXT_ARRAY + "'))";
+    private static final String SQL_TYPES_BY_OID = SQL_TYPES + "(t.oid = CAST(? AS oid) OR t.oid > CAST(? AS oid))";
+    private static final String SQL_TYPES_BY_NAME = SQL_TYPES + "(t.typname = ? OR t.oid > CAST(? AS oid))";
+    private static final String SQL_MAX_TYPE_OID = "SELECT max(t.oid) FROM pg_catalog.pg_type t";
+
+    /**
+     * The maximum length reported for types of unknown length, the default of the driver
+     */
+    private static final int UNKNOWN_LENGTH = Integer.MAX_VALUE;
+
+    /**
+     * The names of the types the driver knows without querying the database
+     */
+    private static final Set<String> CORE_TYPE_NAMES = coreTypeNames();
 
-    private final TypeRegistry typeRegistry;
+    private TypeRegistry typeRegistry;
 
     /**
      * Creates a Postgres connection using the supplied configuration.
@@ -59,14 +83,19 @@ public class PostgresConnection extends JdbcConnection {
      * @param config {@link Configuration} instance, may not be null.
      */
     public PostgresConnection(Configuration config) {
-        super(config, FACTORY, PostgresConnection::validateServerVersion, PostgresConnection::defaultSettings);
+        this(config, null);
+    }
 
-        try {
-            typeRegistry = initTypeRegistry(connection(), readTypeInfo());
-        }
-        catch (SQLException e) {
-            throw new ConnectException("Could not intialize type registry", e);
-        }
+    /**
+     * Creates a Postgres connection using the supplied configuration, which resolves types against an existing registry
+     * instead of building its own.
+     *
+     * @param config {@link Configuration} instance, may not be null.
+     * @param typeRegistry the registry of the types of the database; may be null if it should be built on first use
+     */
+    public PostgresConnection(Configuration config, TypeRegistry typeRegistry) {
+        super(config, FACTORY, PostgresConnection::validateServerVersion, PostgresConnection::defaultSettings);
+        this.typeRegistry = typeRegistry;
     }
 
     /**
@@ -231,6 +260,36 @@ public Long currentTransactionId() throws SQLException {
         return value > 0 ? value : null;
     }
 
+    /**
+     * Exports the snapshot of the current transaction, so that other transactions can read the same state of the
+     * database while this transaction is open.
+     *
+     * @return the identifier of the snapshot to be used with {@link #importSnapshot(String)}, never {@code null}
+     * @throws SQLException if anything fails.
+     */
+    public String exportSnapshot() throws SQLException {
+        AtomicReference<String> snapshotId = new AtomicReference<>();
+        query("select * from pg_export_snapshot()", rs -> {
+            if (!rs.next()) {
+                throw new IllegalStateException("there should always be a snapshot of the current transaction");
+            }
+            snapshotId.compareAndSet(null, rs.getString(1));
+        });
+        return snapshotId.get();
+    }
+
+    /**
+     * Starts a new read-only transaction which sees the state of the database of an exported snapshot. Auto-commit must be
+     * disabled and no statement must have been executed in the current transaction yet.
+     *
+     * @param snapshotId the identifier returned by {@link #exportSnapshot()}; may not be null
+     * @throws SQLException if anything fails.
+     */
+    public void importSnapshot(String snapshotId) throws SQLException {
+        executeWithoutCommitting("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY;",
+                                 "SET TRANSACTION SNAPSHOT '" + snapshotId + "';");
+    }
+
     /**
      * Returns the current position in the server tx log.
      *
@@ -293,44 +352,31 @@ private static void validateServerVersion(Statement statement) throws SQLExcepti
         }
     }
 
+    private static Set<String> coreTypeNames() {
+        final Set<String> names = new HashSet<>();
+        // a cache not bound to a connection only knows the core types
+        new TypeInfoCache(null, UNKNOWN_LENGTH).getPGTypeNamesWithSQLTypes().forEachRemaining(names::add);
+        return Collections.unmodifiableSet(names);
+    }
+
     @Override
     protected int resolveNativeType(String typeName) {
         return getTypeRegistry().get(typeName).getOid();
     }
 
-    private static TypeRegistry initTypeRegistry(Connection db, Map<String, Integer> nameToJdbc) {
-        final TypeInfo typeInfo = ((BaseConnection)db).getTypeInfo();
-        TypeRegistry.Builder typeRegistryBuilder = TypeRegistry.create(typeInfo);
+    private static TypeRegistry initTypeRegistry(Connection db, DatabaseTypeResolver resolver) {
+        final TypeInfo typeInfo = resolver.typeInfo;
+        TypeRegistry.Builder typeRegistryBuilder = TypeRegistry.create(typeInfo).withResolver(resolver);
         try {
             try (final Statement statement = db.createStatement()) {
-                // Read non-array types
-                try (final ResultSet rs = statement.executeQuery(SQL_NON_ARRAY_TYPES)) {
-                    while (rs.next()) {
-                        // Coerce long to int so large unsigned values are represented as signed
-                        // Same technique is used in TypeInfoCache
-                        final int oid = (int)rs.getLong("oid");
-                        typeRegistryBuilder.addType(new PostgresType(
-                                rs.getString("name"),
-                                oid,
-                                nameToJdbc.get(rs.getString("name")),
-                                typeInfo
-                        ));
-                    }
+                // types created from now on are read in bulk by the resolver
+                try (final ResultSet rs = statement.executeQuery(SQL_MAX_TYPE_OID)) {
+                    rs.next();
+                    resolver.lastOid = rs.getLong(1);
                 }
-
-                // Read array types
-                try (final ResultSet rs = statement.executeQuery(SQL_ARRAY_TYPES)) {
-                    while (rs.next()) {
-                        // int2vector and oidvector will not be treated as arrays
-                        final int oid = (int)rs.getLong("oid");
-                        typeRegistryBuilder.addType(new PostgresType(
-                                rs.getString("name"),
-                                oid,
-                                nameToJdbc.get(rs.getString("name")),
-                                typeInfo,
-                                typeRegistryBuilder.get((int)rs.getLong("element"))
-                        ));
-                    }
+                try (final ResultSet rs = statement.executeQuery(SQL_INITIAL_TYPES)) {
+                    final List<PostgresType> types = readTypes(rs, typeInfo, typeRegistryBuilder::get);
+                    types.forEach(typeRegistryBuilder::addType);
                 }
             }
         }
@@ -340,7 +386,142 @@ private static TypeRegistry initTypeRegistry(Connection db, Map<String, Integer>
         return typeRegistryBuilder.build();
     }
 
-    public TypeRegistry getTypeRegistry() {
+    /**
+     * Creates the types described by the given result set of {@link #SQL_TYPES}, element types before the arrays containing them.
+     *
+     * @param rs the result set
+     * @param typeInfo the type information of the registry
+     * @param knownTypes returns a type known already for an OID, used for the element types of arrays which aren't part of the result
+     * @return the types
+     */
+    private static List<PostgresType> readTypes(ResultSet rs, TypeInfo typeInfo, IntFunction<PostgresType> knownTypes)
+            throws SQLException {
+        final List<PostgresType> types = new ArrayList<>();
+        final Map<Integer, PostgresType> nonArrayTypes = new HashMap<>();
+        final List<Object[]> arrayRows = new ArrayList<>();
+        while (rs.next()) {
+            // Coerce long to int so large unsigned values are represented as signed
+            // Same technique is used in TypeInfoCache
+            final int oid = (int)rs.getLong("oid");
+            final String name = rs.getString("name");
+            final int jdbcType = jdbcType(name, rs.getString("type"), rs.getBoolean("is_jdbc_array"), typeInfo);
+            // int2vector and oidvector will not be treated as arrays
+            if (rs.getBoolean("is_array")) {
+                arrayRows.add(new Object[]{ oid, name, (int)rs.getLong("element"), jdbcType });
+            }
+            else {
+                final PostgresType type = new PostgresType(name, oid, jdbcType, typeInfo);
+                nonArrayTypes.put(oid, type);
+                types.add(type);
+            }
+        }
+        for (Object[] row : arrayRows) {
+            final String name = (String)row[1];
+            final int elementOid = (int)row[2];
+            PostgresType elementType = nonArrayTypes.get(elementOid);
+            if (elementType == null) {
+                elementType = knownTypes.apply(elementOid);
+            }
+            types.add(new PostgresType(name, (int)row[0], (int)row[3], typeInfo, elementType));
+        }
+        return types;
+    }
+
+    /**
+     * Returns the JDBC type id the driver reports for a type, without the query per type it runs for any type but its core
+     * types: arrays are {@link Types#ARRAY}, core types have the id the driver knows them by, and any other type has the id
+     * derived from its kind.
+     *
+     * @param name the name of the type
+     * @param kind the {@code typtype} of the type
+     * @param isArray whether the type is read by the {@code array_in} input function
+     * @param typeInfo the type information of the registry, which knows the driver's core types
+     * @return the JDBC type id
+     */
+    private static int jdbcType(String name, String kind, boolean isArray, TypeInfo typeInfo) throws SQLException {
+        if (isArray) {
+            return Types.ARRAY;
+        }
+        if (CORE_TYPE_NAMES.contains(name)) {
+            return typeInfo.getSQLType(name);
+        }
+        switch (kind) {
+            case "c":
+                return Types.STRUCT;
+            case "d":
+                return Types.DISTINCT;
+            case "e":
+                return Types.VARCHAR;
+            default:
+                return Types.OTHER;
+        }
+    }
+
+    /**
+     * Returns the registry of the types of the database, which is built on the first call unless this connection was given
+     * an existing one. A task builds its registry on start, so that it picks up any types changed while it was stopped, and
+     * passes it to the connections it opens afterwards.
+     *
+     * @return the type registry; never null
+     */
+    public synchronized TypeRegistry getTypeRegistry() {
+        if (typeRegistry == null) {
+            try {
+                typeRegistry = initTypeRegistry(connection(), new DatabaseTypeResolver(config()));
+            }
+            catch (SQLException e) {
+                throw new ConnectException("Could not intialize type registry", e);
+            }
+        }
         return typeRegistry;
     }
+
+    /**
+     * Reads types unknown to the {@link TypeRegistry} of a connection on a short-lived connection. Besides the requested
+     * type, all the types created since the previous lookup are read in the same query, so that a burst of new types only
+     * costs a single round trip, and types re-created under the same name replace the ones they were created for.
+     */
+    private static class DatabaseTypeResolver implements TypeRegistry.TypeResolver {
+
+        private final Configuration config;
+        /**
+         * The type information of all the types of the registry; not bound to a connection, so that the types don't keep
+         * the connections they have been read on after these have been closed
+         */
+        private final TypeInfo typeInfo = new TypeInfoCache(null, UNKNOWN_LENGTH);
+        /**
+         * The highest OID of the types read so far; only accessed while the registry is locked
+         */
+        private long lastOid;
+
+        DatabaseTypeResolver(Configuration config) {
+            this.config = config;
+        }
+
+        @Override
+        public List<PostgresType> resolve(int oid, TypeRegistry registry) throws SQLException {
+            return resolve(SQL_TYPES_BY_OID, statement -> statement.setLong(1, Integer.toUnsignedLong(oid)), registry);
+        }
+
+        @Override
+        public List<PostgresType> resolve(String name, TypeRegistry registry) throws SQLException {
+            return resolve(SQL_TYPES_BY_NAME, statement -> statement.setString(1, name), registry);
+        }
+
+        private List<PostgresType> resolve(String sql, StatementPreparer preparer, TypeRegistry registry) throws SQLException {
+            final List<PostgresType> types;
+            try (PostgresConnection connection = new PostgresConnection(config);
+                    PreparedStatement statement = connection.connection().prepareStatement(sql)) {
+                preparer.accept(statement);
+                statement.setLong(2, lastOid);
+                try (ResultSet rs = statement.executeQuery()) {
+                    types = readTypes(rs, typeInfo, registry::get);
+                }
+            }
+            for (PostgresType type : types) {
+                lastOid = Math.max(lastOid, Integer.toUnsignedLong(type.getOid()));
+            }
+            return types;
+        }
+    }
 }
@@ -11,6 +11,7 @@
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
@@ -39,6 +40,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
     private static Logger LOGGER = LoggerFactory.getLogger(PostgresReplicationConnection.class);
 
     private final String slotName;
+    private final String publicationName;
     private final PostgresConnectorConfig.LogicalDecoder plugin;
     private final boolean dropSlotOnClose;
     private final Configuration originalConfig;
@@ -53,6 +55,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
      *
      * @param config the JDBC configuration for the connection; may not be null
      * @param slotName the name of the DB slot for logical replication; may not be null
+     * @param publicationName the name of the publication streamed by the pgoutput plug-in; may not be null
      * @param plugin decoder matching the server side plug-in used for streaming changes; may not be null
      * @param dropSlotOnClose whether the replication slot should be dropped once the connection is closed
      * @param statusUpdateIntervalMillis the number of milli-seconds at which the replication connection should periodically send status
@@ -61,6 +64,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
      */
     private PostgresReplicationConnection(Configuration config,
                                          String slotName,
+                                         String publicationName,
                                          PostgresConnectorConfig.LogicalDecoder plugin,
                                          boolean dropSlotOnClose,
                                          Integer statusUpdateIntervalMillis,
@@ -69,6 +73,7 @@ private PostgresReplicationConnection(Configuration config,
 
         this.originalConfig = config;
         this.slotName = slotName;
+        this.publicationName = publicationName;
         this.plugin = plugin;
         this.dropSlotOnClose = dropSlotOnClose;
         this.statusUpdateIntervalMillis = statusUpdateIntervalMillis;
@@ -76,6 +81,7 @@ private PostgresReplicationConnection(Configuration config,
         this.typeRegistry = typeRegistry;
 
         try {
+            initPublication();
             initReplicationSlot();
         }
         catch (ConnectException e) {
@@ -88,6 +94,31 @@ private PostgresReplicationConnection(Configuration config,
         }
     }
 
+    protected void initPublication() throws SQLException {
+        if (plugin != PostgresConnectorConfig.LogicalDecoder.PGOUTPUT) {
+            return;
+        }
+        // publications can't be managed via a replication connection, so a regular one is used
+        try (PostgresConnection connection = new PostgresConnection(originalConfig)) {
+            AtomicBoolean exists = new AtomicBoolean();
+            connection.prepareQuery("select pubname from pg_publication where pubname = ?",
+                                    statement -> statement.setString(1, publicationName),
+                                    rs -> exists.set(rs.next()));
+            if (!exists.get()) {
+                LOGGER.info("Creating new publication '{}' for all tables", publicationName);
+                connection.execute("CREATE PUBLICATION " + quotedPublicationName() + " FOR ALL TABLES;");
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the publication as a quoted identifier, so that it is used verbatim, e.g. without being folded
+     * to lower case, and can't be mistaken for SQL.
+     */
+    private String quotedPublicationName() {
+        return "\"" + publicationName.replace("\"", "\"\"") + "\"";
+    }
+
     protected void initReplicationSlot() throws SQLException {
         final String postgresPluginName = plugin.getPostgresPluginName();
         ServerInfo.ReplicationSlot slotInfo;
@@ -192,6 +223,9 @@ private ReplicationStream createReplicationStream(final LogSequenceNumber lsn) t
 
             // make sure this is volatile since multiple threads may be interested in this value
             private volatile LogSequenceNumber lastReceivedLSN;
+            // the highest LSN recorded via asyncFlushLsn() and the highest one of them explicitly sent by flushAsyncLsn()
+            private final AtomicLong lsnToFlush = new AtomicLong();
+            private long lastFlushedLsn;
 
             @Override
             public void read(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
@@ -204,13 +238,17 @@ public void read(ReplicationMessageProcessor processor) throws SQLException, Int
             }
 
             @Override
-            public void readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+            public boolean readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
                 ByteBuffer read = stream.readPending();
+                if (read == null) {
+                    return false;
+                }
                 // the lsn we started from is inclusive, so we need to avoid sending back the same message twice
-                if (read == null ||  lsnLong >= stream.getLastReceiveLSN().asLong()) {
-                    return;
+                if (lsnLong >= stream.getLastReceiveLSN().asLong()) {
+                    return true;
                 }
                 deserializeMessages(read, processor);
+                return true;
             }
 
             private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
@@ -220,8 +258,14 @@ private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor
 
             @Override
             public void close() throws SQLException {
-                processWarnings(true);
-                stream.close();
+                try {
+                    // don't wait for the next status update, which would never be sent
+                    flushAsyncLsn();
+                    processWarnings(true);
+                }
+                finally {
+                    stream.close();
+                }
             }
 
             @Override
@@ -239,6 +283,23 @@ public void flushLsn(long lsn) throws SQLException {
                 doFlushLsn(LogSequenceNumber.valueOf(lsn));
             }
 
+            @Override
+            public synchronized void asyncFlushLsn(long lsn) {
+                final LogSequenceNumber lsnToReport = LogSequenceNumber.valueOf(lsnToFlush.accumulateAndGet(lsn, Math::max));
+                // the stream only records the positions, which are sent with the next periodic status update of the reading thread
+                stream.setFlushedLSN(lsnToReport);
+                stream.setAppliedLSN(lsnToReport);
+            }
+
+            @Override
+            public synchronized void flushAsyncLsn() throws SQLException {
+                final long lsn = lsnToFlush.get();
+                if (lsn > lastFlushedLsn) {
+                    doFlushLsn(LogSequenceNumber.valueOf(lsn));
+                    lastFlushedLsn = lsn;
+                }
+            }
+
             private void doFlushLsn(LogSequenceNumber lsn) throws SQLException {
                 stream.setFlushedLSN(lsn);
                 stream.setAppliedLSN(lsn);
@@ -272,6 +333,10 @@ private PGReplicationStream startPgReplicationStream(final LogSequenceNumber lsn
                 .withSlotName(slotName)
                 .withStartPosition(lsn);
         streamBuilder = configurator.apply(streamBuilder);
+        if (plugin == PostgresConnectorConfig.LogicalDecoder.PGOUTPUT) {
+            // the plug-in parses the option as a list of identifiers, so the name is quoted just like when creating the publication
+            streamBuilder.withSlotOption("publication_names", quotedPublicationName());
+        }
 
         if (statusUpdateIntervalMillis != null && statusUpdateIntervalMillis > 0) {
             streamBuilder.withStatusInterval(statusUpdateIntervalMillis, TimeUnit.MILLISECONDS);
@@ -320,6 +385,7 @@ protected static class ReplicationConnectionBuilder implements Builder {
 
         private final Configuration config;
         private String slotName = DEFAULT_SLOT_NAME;
+        private String publicationName = DEFAULT_PUBLICATION_NAME;
         private PostgresConnectorConfig.LogicalDecoder plugin = PostgresConnectorConfig.LogicalDecoder.DECODERBUFS;
         private boolean dropSlotOnClose = DEFAULT_DROP_SLOT_ON_CLOSE;
         private Integer statusUpdateIntervalMillis;
@@ -337,6 +403,13 @@ public ReplicationConnectionBuilder withSlot(final String slotName) {
             return this;
         }
 
+        @Override
+        public ReplicationConnectionBuilder withPublication(final String publicationName) {
+            assert publicationName != null;
+            this.publicationName = publicationName;
+            return this;
+        }
+
         @Override
         public ReplicationConnectionBuilder withPlugin(final PostgresConnectorConfig.LogicalDecoder plugin) {
             assert plugin != null;
@@ -359,7 +432,7 @@ public ReplicationConnectionBuilder statusUpdateIntervalMillis(final Integer sta
         @Override
         public ReplicationConnection build() {
             assert plugin != null : "Decoding plugin name is not set";
-            return new PostgresReplicationConnection(config, slotName, plugin, dropSlotOnClose, statusUpdateIntervalMillis, typeRegistry);
+            return new PostgresReplicationConnection(config, slotName, publicationName, plugin, dropSlotOnClose, statusUpdateIntervalMillis, typeRegistry);
         }
 
         @Override
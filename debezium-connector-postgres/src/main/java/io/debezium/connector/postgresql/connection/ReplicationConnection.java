@@ -90,6 +90,7 @@ interface Builder {
          * Default replication settings
          */
         String DEFAULT_SLOT_NAME = "debezium";
+        String DEFAULT_PUBLICATION_NAME = "dbz_publication";
         boolean DEFAULT_DROP_SLOT_ON_CLOSE = true;
 
         /**
@@ -110,6 +111,16 @@ interface Builder {
          */
         Builder withPlugin(final PostgresConnectorConfig.LogicalDecoder plugin);
 
+        /**
+         * Sets the name of the publication whose changes are streamed by the pgoutput plugin; it is created for all
+         * tables if it does not exist yet
+         *
+         * @param publicationName the name of the publication, may not be null.
+         * @return this instance
+         * @see #DEFAULT_PUBLICATION_NAME
+         */
+        Builder withPublication(final String publicationName);
+
         /**
          * Whether or not to drop the replication slot once the replication connection closes
          *
@@ -20,6 +20,12 @@
  */
 public interface ReplicationMessage {
 
+    /**
+     * The value emitted for string and binary columns whose unchanged TOASTed value has not been sent by the plug-in, so
+     * that it can be told apart from {@code NULL}.
+     */
+    public static final String UNCHANGED_TOASTED_VALUE_PLACEHOLDER = "__debezium_unavailable_value";
+
     /**
      *
      * Data modification operation executed
@@ -41,8 +47,22 @@ public interface Column {
          * after checking {@link ReplicationMessage#hasMetadata()}.
          */
         ColumnTypeMetadata getTypeMetadata();
+
+        /**
+         * Returns the type of this column including its modifiers as sent by the server, e.g.
+         * {@code character varying(255)}, or {@code null} if not available.
+         */
+        String getTypeWithModifiers();
         Object getValue(final PgConnectionSupplier connection, boolean includeUnknownDatatypes);
         boolean isOptional();
+
+        /**
+         * Returns whether this is a TOASTed column whose value has not changed and therefore has not been sent by the
+         * plug-in; {@link #getValue(PgConnectionSupplier, boolean)} then returns {@code null}.
+         */
+        default boolean isUnchangedToastedValue() {
+            return false;
+        }
     }
 
     public interface ColumnTypeMetadata {
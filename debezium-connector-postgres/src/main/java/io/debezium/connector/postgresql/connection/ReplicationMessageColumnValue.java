@@ -0,0 +1,34 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * The raw value of a column as sent by a logical decoding plug-in that represents values as text, e.g. within a JSON
+ * document or as the text output of the column's type. Each plug-in provides the value in its own encoding, while
+ * {@link ReplicationMessageColumnValueResolver} maps the values to Java types in the same way for all of them.
+ */
+public interface ReplicationMessageColumnValue {
+
+    boolean isNull();
+
+    String asString();
+
+    Boolean asBoolean();
+
+    Integer asInteger();
+
+    Long asLong();
+
+    Float asFloat();
+
+    Double asDouble();
+
+    SpecialValueDecimal asDecimal();
+
+    byte[] asByteArray();
+}
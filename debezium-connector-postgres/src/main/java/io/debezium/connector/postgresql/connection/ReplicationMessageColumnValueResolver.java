@@ -0,0 +1,247 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.postgresql.geometric.PGbox;
+import org.postgresql.geometric.PGcircle;
+import org.postgresql.geometric.PGline;
+import org.postgresql.geometric.PGlseg;
+import org.postgresql.geometric.PGpath;
+import org.postgresql.geometric.PGpoint;
+import org.postgresql.geometric.PGpolygon;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.util.PGInterval;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.RecordsStreamProducer.PgConnectionSupplier;
+import io.debezium.connector.postgresql.connection.wal2json.DateTimeFormat;
+
+/**
+ * Converts the {@link ReplicationMessageColumnValue text values} sent by the wal2json and pgoutput logical decoding
+ * plug-ins to Java values based on the type of the column. These values will be converted later on if necessary by
+ * the {@link PostgresValueConverter#converter(Column, Field)} instance to match whatever the Connect schema type expects.
+ */
+public final class ReplicationMessageColumnValueResolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationMessageColumnValueResolver.class);
+
+    private static final DateTimeFormat DATE_TIME_FORMAT = DateTimeFormat.get();
+
+    private ReplicationMessageColumnValueResolver() {
+    }
+
+    /**
+     * Converts the value of a column to a Java value.
+     *
+     * @param columnName the name of the column
+     * @param type the type of the column
+     * @param fullType the type of the column including its modifiers as sent by the plug-in, used for logging only
+     * @param value the value sent by the plug-in
+     * @param connection a supplier to get a connection to Postgres instance for array handling
+     * @param includeUnknownDatatypes whether the values of columns of unknown types should be passed on as strings
+     * @return the value; may be null
+     */
+    public static Object resolveValue(String columnName, PostgresType type, String fullType, ReplicationMessageColumnValue value,
+                                      final PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+        if (value.isNull()) {
+            // nulls are null
+            return null;
+        }
+
+        if (type.isArrayType()) {
+            try {
+                final String dataString = value.asString();
+                PgArray arrayData = new PgArray(connection.get(), type.getOid(), dataString);
+                Object deserializedArray = arrayData.getArray();
+                return Arrays.asList((Object[])deserializedArray);
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Unexpected exception trying to process PgArray ({}) column '{}', {}", fullType, columnName, e);
+            }
+            return null;
+        }
+
+        switch (type.getName()) {
+            // include all types from https://www.postgresql.org/docs/current/static/datatype.html#DATATYPE-TABLE
+            // plus aliases from the shorter names produced by older wal2json
+            case "boolean":
+            case "bool":
+                return value.asBoolean();
+
+            case "integer":
+            case "int":
+            case "int4":
+            case "smallint":
+            case "int2":
+            case "smallserial":
+            case "serial":
+            case "serial2":
+            case "serial4":
+            case "oid":
+                return value.asInteger();
+
+            case "bigint":
+            case "bigserial":
+            case "int8":
+                return value.asLong();
+
+            case "real":
+            case "float4":
+                return value.asFloat();
+
+            case "double precision":
+            case "float8":
+                return value.asDouble();
+
+            case "numeric":
+            case "decimal":
+                return value.asDecimal();
+
+            case "character":
+            case "char":
+            case "character varying":
+            case "varchar":
+            case "bpchar":
+            case "text":
+                return value.asString();
+
+            case "date":
+                return DATE_TIME_FORMAT.date(value.asString());
+
+            case "timestamp with time zone":
+            case "timestamptz":
+                return DATE_TIME_FORMAT.timestampWithTimeZone(value.asString());
+
+            case "timestamp":
+            case "timestamp without time zone":
+                return DATE_TIME_FORMAT.timestamp(value.asString());
+
+            case "time":
+            case "time without time zone":
+                return DATE_TIME_FORMAT.time(value.asString());
+
+            case "time with time zone":
+            case "timetz":
+                return DATE_TIME_FORMAT.timeWithTimeZone(value.asString());
+
+            case "bytea":
+                return value.asByteArray();
+
+            // these are all PG-specific types and we use the JDBC representations
+            // note that, with the exception of point, no converters for these types are implemented yet,
+            // i.e. those values won't actually be propagated to the outbound message until that's the case
+            case "box":
+                try {
+                    return new PGbox(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse box {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "circle":
+                try {
+                    return new PGcircle(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse circle {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "interval":
+                try {
+                    return new PGInterval(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse interval {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "line":
+                try {
+                    return new PGline(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse line {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "lseg":
+                try {
+                    return new PGlseg(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse lseg {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "money":
+                try {
+                    return PostgresValueConverter.toMoney(value.asString());
+                } catch (final NumberFormatException e) {
+                    LOGGER.error("Failed to parse money {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "path":
+                try {
+                    return new PGpath(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse path {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "point":
+                try {
+                    return new PGpoint(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse point {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+            case "polygon":
+                try {
+                    return new PGpolygon(value.asString());
+                } catch (final SQLException e) {
+                    LOGGER.error("Failed to parse polygon {}, {}", value.asString(), e);
+                    throw new ConnectException(e);
+                }
+
+            // PostGIS types are HexEWKB strings
+            // ValueConverter turns them into the correct types
+            case "geometry":
+            case "geography":
+                return value.asString();
+
+            case "bit":
+            case "bit varying":
+            case "varbit":
+            case "json":
+            case "jsonb":
+            case "xml":
+            case "uuid":
+            case "tstzrange":
+                return value.asString();
+            // catch-all for other known/builtin PG types
+            // TODO: improve with more specific/useful classes here?
+            case "cidr":
+            case "inet":
+            case "macaddr":
+            case "macaddr8":
+            case "pg_lsn":
+            case "tsquery":
+            case "tsvector":
+            case "txid_snapshot":
+            // catch-all for unknown (extension module/custom) types
+            default:
+                break;
+        }
+
+        if (includeUnknownDatatypes) {
+            // this includes things like PostGIS geometries or other custom types.
+            // leave up to the downstream message recipient to deal with.
+            LOGGER.debug("processing column '{}' with unknown data type '{}' as byte array", columnName, fullType);
+            return value.asString();
+        }
+        LOGGER.debug("Unknown column type {} for column {} – ignoring", fullType, columnName);
+        return null;
+    }
+}
@@ -32,15 +32,16 @@ public interface ReplicationMessageProcessor {
     void read(ReplicationMessageProcessor processor) throws SQLException, InterruptedException;
 
     /**
-     * Attempts to read a replication message from a replication connection, returning that message if it's available or returning
-     * {@code null} if nothing is available. Once a message has been received, the value of the {@link #lastReceivedLsn() last received LSN}
-     * will also be updated accordingly.
+     * Attempts to read a replication message from a replication connection, passing it to the given processor if it's
+     * available, without blocking if nothing is available. Once a message has been received, the value of the
+     * {@link #lastReceivedLsn() last received LSN} will also be updated accordingly.
      *
      * @param processor - a callback to which the arrived message is passed
+     * @return {@code true} if a message has been received, {@code false} if nothing was available
      * @throws SQLException if anything unexpected fails
      * @see PGReplicationStream#readPending()
      */
-    void readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException;
+    boolean readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException;
 
     /**
      * Sends a message to the server informing it about that latest position in the WAL that this stream has read via
@@ -67,6 +68,25 @@ public interface ReplicationMessageProcessor {
 
     void flushLsn(long lsn) throws SQLException;
 
+    /**
+     * Records the latest LSN processed by the consumers of this stream, without communicating with the server. Unlike
+     * {@link #flushLsn(long)}, this method may be called by any thread: the highest LSN recorded this way is sent to the
+     * server by the thread reading from this stream with the status update it sends periodically while reading, or when the
+     * stream is closed.
+     *
+     * @param lsn the LSN up to which all messages have been processed
+     */
+    void asyncFlushLsn(long lsn);
+
+    /**
+     * Sends a message to the server informing it about the highest LSN recorded via {@link #asyncFlushLsn(long)}, unless it
+     * has been sent already by this method; used to report the latest processed LSN when streaming stops, without waiting
+     * for the next periodic status update.
+     *
+     * @throws SQLException if anything goes wrong
+     */
+    void flushAsyncLsn() throws SQLException;
+
     /**
      * Returns the value for the latest server received LSN during a read operation. The value is always updated once messages
      * are read via the {@link ReplicationConnection#startStreaming()} or {@link ReplicationConnection#startStreaming(Long)}
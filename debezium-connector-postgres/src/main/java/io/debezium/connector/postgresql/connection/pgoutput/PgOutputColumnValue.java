@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.util.Strings;
+
+/**
+ * The value of a column as sent by the pgoutput plug-in, i.e. the text output of the column's type.
+ */
+class PgOutputColumnValue implements ReplicationMessageColumnValue {
+
+    private final String value;
+
+    PgOutputColumnValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value == null;
+    }
+
+    @Override
+    public String asString() {
+        return value;
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return "t".equals(value);
+    }
+
+    @Override
+    public Integer asInteger() {
+        return Integer.valueOf(value);
+    }
+
+    @Override
+    public Long asLong() {
+        return Long.valueOf(value);
+    }
+
+    @Override
+    public Float asFloat() {
+        return Float.valueOf(value);
+    }
+
+    @Override
+    public Double asDouble() {
+        return Double.valueOf(value);
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        return PostgresValueConverter.toSpecialValue(value).orElseGet(() -> new SpecialValueDecimal(new BigDecimal(value)));
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        // the hex format is prefixed with "\x"
+        return Strings.hexStringToByteArray(value.startsWith("\\x") ? value.substring(2) : value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoder;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+
+/**
+ * Decoder of the binary messages sent by <a href="https://www.postgresql.org/docs/current/static/protocol-logicalrep-message-formats.html">pgoutput</a>,
+ * the logical decoding plug-in built into PostgreSQL 10 and later. Each message received from the server contains a
+ * single logical replication message.
+ * <p>
+ * The descriptions of the tables sent in {@code Relation} messages are kept by their OID, so that the messages of the
+ * changed rows can be decoded without any further lookups. {@code Begin} messages provide the transaction id and commit
+ * time of the changes that follow them.
+ */
+public class PgOutputMessageDecoder implements MessageDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputMessageDecoder.class);
+
+    /**
+     * The version of the logical replication protocol requested from the plug-in.
+     */
+    private static final int PROTOCOL_VERSION = 1;
+
+    /**
+     * The number of microseconds between the Unix epoch and the PostgreSQL epoch (2000-01-01 00:00:00 UTC).
+     */
+    private static final long PG_EPOCH_OFFSET_MICROS = TimeUnit.SECONDS.toMicros(946_684_800L);
+
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    private long transactionId;
+    private long commitTime;
+
+    @Override
+    public void processMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException {
+        if (!buffer.hasArray()) {
+            throw new IllegalStateException(
+                    "Invalid buffer received from PG server during streaming replication");
+        }
+        final char type = (char) buffer.get();
+        switch (type) {
+            case 'B':
+                // final LSN of the transaction
+                buffer.getLong();
+                commitTime = TimeUnit.MICROSECONDS.toNanos(buffer.getLong() + PG_EPOCH_OFFSET_MICROS);
+                transactionId = Integer.toUnsignedLong(buffer.getInt());
+                break;
+            case 'R':
+                readRelation(buffer, typeRegistry);
+                break;
+            case 'I':
+                processor.process(readInsert(buffer, typeRegistry));
+                break;
+            case 'U':
+                processor.process(readUpdate(buffer, typeRegistry));
+                break;
+            case 'D':
+                processor.process(readDelete(buffer, typeRegistry));
+                break;
+            case 'C':
+            case 'O':
+            case 'Y':
+            case 'T':
+                // commits, origins, types and truncations don't result in any change events
+                LOGGER.trace("Skipping pgoutput message of type '{}'", type);
+                break;
+            default:
+                throw new ConnectException("Unknown pgoutput message of type '" + type + "'");
+        }
+    }
+
+    @Override
+    public ChainedLogicalStreamBuilder optionsWithMetadata(ChainedLogicalStreamBuilder builder) {
+        return optionsWithoutMetadata(builder);
+    }
+
+    @Override
+    public ChainedLogicalStreamBuilder optionsWithoutMetadata(ChainedLogicalStreamBuilder builder) {
+        return builder.withSlotOption("proto_version", PROTOCOL_VERSION);
+    }
+
+    private void readRelation(ByteBuffer buffer, TypeRegistry typeRegistry) {
+        final int oid = buffer.getInt();
+        String schema = readString(buffer);
+        if (schema.isEmpty()) {
+            // the plug-in sends an empty namespace for tables of pg_catalog
+            schema = "pg_catalog";
+        }
+        final String table = readString(buffer);
+        // replica identity setting
+        buffer.get();
+        final int columnCount = buffer.getShort();
+        final List<String> columnNames = new ArrayList<>(columnCount);
+        final List<PostgresType> columnTypes = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            // flags, only marking key columns
+            buffer.get();
+            columnNames.add(readString(buffer));
+            columnTypes.add(typeRegistry.get(buffer.getInt()));
+            // type modifier
+            buffer.getInt();
+        }
+        relations.put(oid, new PgOutputRelation(oid, "\"" + schema + "\".\"" + table + "\"", columnNames, columnTypes));
+    }
+
+    private PgOutputReplicationMessage readInsert(ByteBuffer buffer, TypeRegistry typeRegistry) {
+        final PgOutputRelation relation = relation(buffer.getInt());
+        expectTupleType(buffer.get(), 'N');
+        final String[] newValues = readTuple(buffer, relation);
+        return new PgOutputReplicationMessage(Operation.INSERT, transactionId, commitTime, relation, null, false, newValues, typeRegistry);
+    }
+
+    private PgOutputReplicationMessage readUpdate(ByteBuffer buffer, TypeRegistry typeRegistry) {
+        final PgOutputRelation relation = relation(buffer.getInt());
+        String[] oldValues = null;
+        char tupleType = (char) buffer.get();
+        // the old key or row is only sent if it has changed or if the table has REPLICA IDENTITY FULL
+        final boolean oldRow = tupleType == 'O';
+        if (tupleType == 'K' || oldRow) {
+            oldValues = readTuple(buffer, relation);
+            tupleType = (char) buffer.get();
+        }
+        expectTupleType(tupleType, 'N');
+        final String[] newValues = readTuple(buffer, relation);
+        return new PgOutputReplicationMessage(Operation.UPDATE, transactionId, commitTime, relation, oldValues, oldRow, newValues, typeRegistry);
+    }
+
+    private PgOutputReplicationMessage readDelete(ByteBuffer buffer, TypeRegistry typeRegistry) {
+        final PgOutputRelation relation = relation(buffer.getInt());
+        final char tupleType = (char) buffer.get();
+        if (tupleType != 'K' && tupleType != 'O') {
+            throw new ConnectException("Expected old key or row in pgoutput delete message but got '" + tupleType + "'");
+        }
+        final String[] oldValues = readTuple(buffer, relation);
+        return new PgOutputReplicationMessage(Operation.DELETE, transactionId, commitTime, relation, oldValues, tupleType == 'O', null, typeRegistry);
+    }
+
+    private PgOutputRelation relation(int oid) {
+        final PgOutputRelation relation = relations.get(oid);
+        if (relation == null) {
+            throw new ConnectException("Received pgoutput change of relation " + oid + " without a preceding relation message");
+        }
+        return relation;
+    }
+
+    /**
+     * Reads the values of a row in text format. Null values are represented as {@code null}, unchanged TOASTed values,
+     * which the plug-in doesn't send, as {@link PgOutputReplicationMessage#UNCHANGED_TOASTED_VALUE}.
+     */
+    private static String[] readTuple(ByteBuffer buffer, PgOutputRelation relation) {
+        final int columnCount = buffer.getShort();
+        if (columnCount != relation.getColumnNames().size()) {
+            throw new ConnectException(String.format("Received %d values for relation %s with %d columns", columnCount, relation.getTable(),
+                    relation.getColumnNames().size()));
+        }
+        final String[] values = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            final char kind = (char) buffer.get();
+            switch (kind) {
+                case 't':
+                    final int length = buffer.getInt();
+                    values[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                    break;
+                case 'n':
+                    break;
+                case 'u':
+                    values[i] = PgOutputReplicationMessage.UNCHANGED_TOASTED_VALUE;
+                    break;
+                default:
+                    throw new ConnectException("Unknown kind '" + kind + "' of value in pgoutput tuple of relation " + relation.getTable());
+            }
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int start = buffer.position();
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        final String s = new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        buffer.position(end + 1);
+        return s;
+    }
+
+    private static void expectTupleType(int actual, char expected) {
+        if (actual != expected) {
+            throw new ConnectException("Expected tuple of type '" + expected + "' in pgoutput message but got '" + (char) actual + "'");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.util.List;
+
+import io.debezium.connector.postgresql.PostgresType;
+
+/**
+ * The description of a table as sent by the pgoutput plug-in in a {@code Relation} message. The plug-in sends it
+ * before the first change of the table in a session and again whenever the table has been altered, so that the
+ * messages of the changed rows only need to refer to the table by its OID.
+ */
+final class PgOutputRelation {
+
+    private final int oid;
+    private final String table;
+    private final List<String> columnNames;
+    private final List<PostgresType> columnTypes;
+
+    PgOutputRelation(int oid, String table, List<String> columnNames, List<PostgresType> columnTypes) {
+        this.oid = oid;
+        this.table = table;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+    }
+
+    public int getOid() {
+        return oid;
+    }
+
+    /**
+     * @return the quoted name of the table including its schema
+     */
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * @return the types of the columns, already resolved from their OIDs
+     */
+    public List<PostgresType> getColumnTypes() {
+        return columnTypes;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Field;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.RecordsStreamProducer.PgConnectionSupplier;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValueResolver;
+
+/**
+ * Replication message representing a row change sent by the pgoutput logical decoding plug-in. The values of the
+ * columns are kept in the text format sent by the plug-in and only converted when requested.
+ */
+class PgOutputReplicationMessage implements ReplicationMessage {
+
+    /**
+     * Marks the values of TOASTed columns that haven't changed and therefore have not been sent by the plug-in; compared
+     * by identity.
+     */
+    static final String UNCHANGED_TOASTED_VALUE = new String("unchanged-toasted-value");
+
+    private final Operation operation;
+    private final long transactionId;
+    private final long commitTime;
+    private final PgOutputRelation relation;
+    private final String[] oldValues;
+    private final boolean oldValuesAreFullRow;
+    private final String[] newValues;
+    private final TypeRegistry typeRegistry;
+
+    /**
+     * @param oldValues the values of the old key or row, or null if they were not sent
+     * @param oldValuesAreFullRow true if the old values are those of the whole row, as with {@code REPLICA IDENTITY FULL},
+     *            false if they are only those of the key columns
+     */
+    PgOutputReplicationMessage(Operation operation, long transactionId, long commitTime, PgOutputRelation relation, String[] oldValues,
+                               boolean oldValuesAreFullRow, String[] newValues, TypeRegistry typeRegistry) {
+        this.operation = operation;
+        this.transactionId = transactionId;
+        this.commitTime = commitTime;
+        this.relation = relation;
+        this.oldValues = oldValues;
+        this.oldValuesAreFullRow = oldValuesAreFullRow;
+        this.newValues = newValues;
+        this.typeRegistry = typeRegistry;
+    }
+
+    @Override
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public long getCommitTime() {
+        return commitTime;
+    }
+
+    @Override
+    public long getTransactionId() {
+        return transactionId;
+    }
+
+    @Override
+    public String getTable() {
+        return relation.getTable();
+    }
+
+    @Override
+    public List<ReplicationMessage.Column> getOldTupleList() {
+        return oldValues != null ? transform(oldValues, null) : null;
+    }
+
+    @Override
+    public List<ReplicationMessage.Column> getNewTupleList() {
+        // the old row of a table with REPLICA IDENTITY FULL contains the unchanged TOASTed values not sent for the new row
+        return newValues != null ? transform(newValues, oldValuesAreFullRow ? oldValues : null) : null;
+    }
+
+    /**
+     * The plug-in sends neither the type modifiers nor the optionality of the columns, so the metadata of the table
+     * is always read from the database.
+     */
+    @Override
+    public boolean hasTypeMetadata() {
+        return false;
+    }
+
+    @Override
+    public boolean isLastEventForLsn() {
+        return true;
+    }
+
+    /**
+     * @param values the values of the columns
+     * @param unchangedValues the values of the full row to take unchanged TOASTed values from, or null if not available
+     */
+    private List<ReplicationMessage.Column> transform(String[] values, String[] unchangedValues) {
+        final List<String> columnNames = relation.getColumnNames();
+        final List<PostgresType> columnTypes = relation.getColumnTypes();
+        final List<ReplicationMessage.Column> columns = new ArrayList<>(values.length);
+
+        for (int i = 0; i < values.length; i++) {
+            final String columnName = columnNames.get(i);
+            final PostgresType columnType = columnTypes.get(i);
+            String value = values[i];
+            if (value == UNCHANGED_TOASTED_VALUE && unchangedValues != null && unchangedValues[i] != UNCHANGED_TOASTED_VALUE) {
+                value = unchangedValues[i];
+            }
+            final boolean unchangedToasted = value == UNCHANGED_TOASTED_VALUE;
+            final String rawValue = unchangedToasted ? null : value;
+
+            columns.add(new AbstractReplicationMessageColumn(columnName, columnType, null, false, false) {
+
+                @Override
+                public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                    return PgOutputReplicationMessage.this.getValue(columnName, columnType, rawValue, connection, includeUnknownDatatypes);
+                }
+
+                @Override
+                public boolean isUnchangedToastedValue() {
+                    return unchangedToasted;
+                }
+
+                @Override
+                public String toString() {
+                    return columnName + "=" + rawValue;
+                }
+            });
+        }
+
+        return columns;
+    }
+
+    /**
+     * Converts the value (text representation) coming from the pgoutput plugin to a Java value based on the type of
+     * the column from the relation message. This value will be converted later on if necessary by the
+     * {@link PostgresValueConverter#converter(Column, Field)} instance to match whatever the Connect schema type expects.
+     *
+     * @param a supplier to get a connection to Postgres instance for array handling
+     * @return the value; may be null
+     */
+    public Object getValue(String columnName, PostgresType type, String rawValue, final PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+        return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, type.getName(), new PgOutputColumnValue(rawValue), connection,
+                includeUnknownDatatypes);
+    }
+}
@@ -7,11 +7,11 @@
 
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
-import java.util.Arrays;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import io.debezium.connector.postgresql.TypeRegistry;
@@ -36,9 +36,9 @@ public void processMessage(final ByteBuffer buffer, ReplicationMessageProcessor
                 throw new IllegalStateException(
                         "Invalid buffer received from PG server during streaming replication");
             }
-            final byte[] source = buffer.array();
-            final byte[] content = Arrays.copyOfRange(source, buffer.arrayOffset(), source.length);
-            final RowMessage message = PgProto.RowMessage.parseFrom(content);
+            // parse the message straight from the buffer rather than from a copy of it
+            final CodedInputStream input = CodedInputStream.newInstance(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            final RowMessage message = PgProto.RowMessage.parseFrom(input);
             if (!message.getNewTypeinfoList().isEmpty() && message.getNewTupleCount() != message.getNewTypeinfoCount()) {
                 throw new ConnectException(String.format("Message from transaction {} has {} data columns but only {} of type info",
                         Integer.toUnsignedLong(message.getTransactionId()),
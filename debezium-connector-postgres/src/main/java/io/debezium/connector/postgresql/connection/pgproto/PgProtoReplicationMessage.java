@@ -7,7 +7,7 @@
 package io.debezium.connector.postgresql.connection.pgproto;
 
 import java.math.BigDecimal;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -209,7 +209,7 @@ else if (datumMessage.hasDatumString()) {
                 return new PGpoint(datumPoint.getX(), datumPoint.getY());
             }
             case PgOid.TSTZRANGE_OID:
-                return datumMessage.hasDatumBytes() ? new String(datumMessage.getDatumBytes().toByteArray(), Charset.forName("UTF-8")) : null;
+                return datumMessage.hasDatumBytes() ? new String(datumMessage.getDatumBytes().toByteArray(), StandardCharsets.UTF_8) : null;
             case PgOid.INT2_ARRAY:
             case PgOid.INT4_ARRAY:
             case PgOid.INT8_ARRAY:
@@ -274,7 +274,7 @@ private Object getArray(PgProto.DatumMessage datumMessage, PgConnectionSupplier
         try {
             byte[] data = datumMessage.hasDatumBytes()? datumMessage.getDatumBytes().toByteArray() : null;
             if (data == null) return null;
-            String dataString = new String(data, Charset.forName("UTF-8"));
+            String dataString = new String(data, StandardCharsets.UTF_8);
             PgArray arrayData = new PgArray(connection.get(), columnType, dataString);
             Object deserializedArray = arrayData.getArray();
             return Arrays.asList((Object[])deserializedArray);
@@ -7,23 +7,22 @@
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
-import java.util.Arrays;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.connection.MessageDecoder;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
-import io.debezium.document.Array;
-import io.debezium.document.Array.Entry;
-import io.debezium.document.Document;
-import io.debezium.document.DocumentReader;
-import io.debezium.document.Value;
 
 /**
  * A non-streaming version of JSON deserialization of a message sent by
@@ -47,19 +46,44 @@ public void processMessage(ByteBuffer buffer, ReplicationMessageProcessor proces
             if (!buffer.hasArray()) {
                 throw new IllegalStateException("Invalid buffer received from PG server during streaming replication");
             }
-            final byte[] source = buffer.array();
-            final byte[] content = Arrays.copyOfRange(source, buffer.arrayOffset(), source.length);
-            final Document message = DocumentReader.floatNumbersAsTextReader().read(content);
-            LOGGER.debug("Message arrived for decoding {}", message);
-            final long txId = message.getLong("xid");
-            final String timestamp = message.getString("timestamp");
+            final byte[] content = buffer.array();
+            final int offset = buffer.arrayOffset() + buffer.position();
+            final int length = buffer.remaining();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Message arrived for decoding {}", new String(content, offset, length, StandardCharsets.UTF_8));
+            }
+
+            // read the message in a single pass straight from the buffer
+            long txId = 0;
+            String timestamp = null;
+            final List<Wal2JsonChange> changes = new ArrayList<>();
+            try (JsonParser parser = Wal2JsonChange.createParser(content, offset, length)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new ConnectException("Message does not start with a JSON object");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.getCurrentName();
+                    final JsonToken token = parser.nextToken();
+                    if ("xid".equals(fieldName)) {
+                        txId = parser.getLongValue();
+                    }
+                    else if ("timestamp".equals(fieldName)) {
+                        timestamp = parser.getText();
+                    }
+                    else if ("change".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            changes.add(Wal2JsonChange.read(parser));
+                        }
+                    }
+                    else {
+                        parser.skipChildren();
+                    }
+                }
+            }
             final long commitTime = dateTime.systemTimestamp(timestamp);
-            final Array changes = message.getArray("change");
 
-            Iterator<Entry> it = changes.iterator();
-            while (it.hasNext()) {
-                Value value = it.next().getValue();
-                processor.process(new Wal2JsonReplicationMessage(txId, commitTime, value.asDocument(), containsMetadata, !it.hasNext(), typeRegistry));
+            for (int i = 0; i < changes.size(); i++) {
+                processor.process(new Wal2JsonReplicationMessage(txId, commitTime, changes.get(i), containsMetadata, i == changes.size() - 1, typeRegistry));
             }
         } catch (final IOException e) {
             throw new ConnectException(e);
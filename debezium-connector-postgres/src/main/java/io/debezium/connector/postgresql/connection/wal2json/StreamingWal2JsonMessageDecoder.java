@@ -7,19 +7,20 @@
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
-import java.util.Arrays;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.connection.MessageDecoder;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
-import io.debezium.document.Document;
-import io.debezium.document.DocumentReader;
 
 /**
  * <p>JSON deserialization of a message sent by
@@ -70,8 +71,8 @@
  * </p>
  *
  * <p>
- * For parsing purposes it is necessary to add or remove a fragment of JSON to make a well-formatted JSON out of it.
- * The last message is just dropped.
+ * The chunks are read by a pull parser, which stops after the preamble of the message or after the change,
+ * respectively; the leading comma of further changes is skipped. The last message is just dropped.
  * </p>
  * @author Jiri Pechanec
  *
@@ -87,7 +88,6 @@ public class StreamingWal2JsonMessageDecoder implements MessageDecoder {
     private static final byte COMMA = 44;
     private static final byte RIGHT_BRACKET = 93;
     private static final byte LEFT_BRACE = 123;
-    private static final byte RIGHT_BRACE = 125;
     private static final long UNDEFINED_LONG = -1;
     private static final String UNDEFINED_STRING = "undefined";
 
@@ -99,7 +99,7 @@ public class StreamingWal2JsonMessageDecoder implements MessageDecoder {
      * To identify if the last current chunk is the last one we can send the current one
      * for processing only after we read the next one or the end of message fragment.
      */
-    private byte[] currentChunk;
+    private Wal2JsonChange currentChange;
 
     private long txId;
 
@@ -113,48 +113,36 @@ public void processMessage(ByteBuffer buffer, ReplicationMessageProcessor proces
             if (!buffer.hasArray()) {
                 throw new IllegalStateException("Invalid buffer received from PG server during streaming replication");
             }
-            final byte[] source = buffer.array();
-            // Extend the array by two as we might need to append two chars and set them to space by default
-            final byte[] content = Arrays.copyOfRange(source, buffer.arrayOffset(), source.length + 2);
-            final int lastPos = content.length - 1;
-            content[lastPos - 1] = SPACE;
-            content[lastPos] = SPACE;
+            // the chunk is parsed straight from the buffer, so the fragments of JSON that make it well-formatted don't need
+            // to be added to it; the parser simply stops once the relevant part of the chunk has been read
+            final byte[] content = buffer.array();
+            final int offset = buffer.arrayOffset() + buffer.position();
+            final int end = offset + buffer.remaining();
 
             if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Chunk arrived from database {}", new String(content));
+                LOGGER.trace("Chunk arrived from database {}", new String(content, offset, end - offset, StandardCharsets.UTF_8));
             }
 
             if (!messageInProgress) {
-                byte firstChar = getFirstNonWhiteChar(content);
-                if (firstChar != LEFT_BRACE) {
-                    outOfOrderChunk(content);
-                    nonInitialChunk(processor, typeRegistry, content);
+                final int first = getFirstNonWhiteCharPosition(content, offset, end);
+                if (content[first] != LEFT_BRACE) {
+                    outOfOrderChunk(content, offset, end);
+                    nonInitialChunk(processor, typeRegistry, content, offset, end);
+                }
+                else if (!initialChunk(content, first, end)) {
+                    // This is not a preamble but out-of-order change chunk
+                    outOfOrderChunk(content, offset, end);
+                    nonInitialChunk(processor, typeRegistry, content, offset, end);
                 }
                 else {
-                    // We received the beginning of a transaction
-                    if (getLastNonWhiteChar(content) != RIGHT_BRACE) {
-                        // Chunks are enabled and we have an unfinished message, it is necessary to add a sequence of closing chars
-                        content[lastPos - 1] = RIGHT_BRACKET;
-                        content[lastPos] = RIGHT_BRACE;
-                    }
-                    final Document message = DocumentReader.defaultReader().read(content);
-                    if (message.has("kind")) {
-                        // This is not a preamble but out-of-order change chunk
-                        outOfOrderChunk(content);
-                        nonInitialChunk(processor, typeRegistry, content);
-                    }
-                    else {
-                        // Correct initial chunk
-                        txId = message.getLong("xid");
-                        timestamp = message.getString("timestamp");
-                        commitTime = dateTime.systemTimestamp(timestamp);
-                        messageInProgress = true;
-                        currentChunk = null;
-                    }
+                    // Correct initial chunk
+                    commitTime = dateTime.systemTimestamp(timestamp);
+                    messageInProgress = true;
+                    currentChange = null;
                 }
             }
             else {
-                nonInitialChunk(processor, typeRegistry, content);
+                nonInitialChunk(processor, typeRegistry, content, offset, end);
             }
         }
         catch (final IOException e) {
@@ -162,26 +150,56 @@ public void processMessage(ByteBuffer buffer, ReplicationMessageProcessor proces
         }
     }
 
+    /**
+     * Reads the transaction id and timestamp from the beginning of a message, stopping at the array of changes.
+     *
+     * @return {@code true} if the chunk is the beginning of a message, {@code false} if it is a change
+     */
+    private boolean initialChunk(byte[] content, int first, int end) throws IOException {
+        try (JsonParser parser = Wal2JsonChange.createParser(content, first, end - first)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "kind":
+                        return false;
+                    case "xid":
+                        txId = parser.getLongValue();
+                        break;
+                    case "timestamp":
+                        timestamp = parser.getText();
+                        break;
+                    case "change":
+                        return true;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return true;
+        }
+    }
+
     protected void nonInitialChunk(ReplicationMessageProcessor processor, TypeRegistry typeRegistry,
-            final byte[] content) throws IOException, SQLException, InterruptedException {
-        byte firstChar = getFirstNonWhiteChar(content);
+            final byte[] content, int offset, int end) throws IOException, SQLException, InterruptedException {
+        final int first = getFirstNonWhiteCharPosition(content, offset, end);
+        final byte firstChar = content[first];
         // We are receiving changes in chunks
         if (firstChar == LEFT_BRACE) {
             // First change, this is a valid JSON
-            currentChunk = content;
+            currentChange = readChange(content, first, end);
         }
         else if (firstChar == COMMA) {
             // following changes, they have an extra comma at the start of message
-            if (currentChunk != null) {
-                doProcessMessage(processor, typeRegistry, currentChunk, false);
+            if (currentChange != null) {
+                doProcessMessage(processor, typeRegistry, currentChange, false);
             }
-            replaceFirstNonWhiteChar(content, SPACE);
-            currentChunk = content;
+            currentChange = readChange(content, first + 1, end);
         }
         else if (firstChar == RIGHT_BRACKET) {
             // No more changes
-            if (currentChunk != null) {
-                doProcessMessage(processor, typeRegistry, currentChunk, true);
+            if (currentChange != null) {
+                doProcessMessage(processor, typeRegistry, currentChange, true);
             }
             messageInProgress = false;
         }
@@ -190,55 +208,41 @@ else if (firstChar == RIGHT_BRACKET) {
         }
     }
 
-    protected void outOfOrderChunk(final byte[] content) {
+    protected void outOfOrderChunk(final byte[] content, int offset, int end) {
         // This is not a standalone JSON, we are getting a transaction in progress
         // Metadata are lost, we need to create artificial ones
         if (LOGGER.isWarnEnabled()) {
-            LOGGER.warn("Got out of order chunk {}, recording artifical TX", new String(content));
+            LOGGER.warn("Got out of order chunk {}, recording artifical TX", new String(content, offset, end - offset, StandardCharsets.UTF_8));
         }
         txId = UNDEFINED_LONG;
         timestamp = UNDEFINED_STRING;
         commitTime = UNDEFINED_LONG;
         messageInProgress = true;
-        currentChunk = null;
+        currentChange = null;
     }
 
-    private byte getLastNonWhiteChar(byte[] array) throws IllegalArgumentException {
-        for (int i = array.length - 1; i >= 0; i--) {
-            if (!isWhitespace(array[i])) {
-                return array[i];
-            }
+    private Wal2JsonChange readChange(byte[] content, int offset, int end) throws IOException {
+        try (JsonParser parser = Wal2JsonChange.createParser(content, offset, end - offset)) {
+            parser.nextToken();
+            return Wal2JsonChange.read(parser);
         }
-        throw new IllegalArgumentException("No non-white char");
     }
 
-    private byte getFirstNonWhiteChar(byte[] array) throws IllegalArgumentException {
-        for (int i = 0; i < array.length; i++) {
+    private int getFirstNonWhiteCharPosition(byte[] array, int offset, int end) throws IllegalArgumentException {
+        for (int i = offset; i < end; i++) {
             if (!isWhitespace(array[i])) {
-                return array[i];
+                return i;
             }
         }
         throw new IllegalArgumentException("No non-white char");
     }
 
-    private void replaceFirstNonWhiteChar(byte[] array, byte to) {
-        for (int i = 0; i < array.length; i++) {
-            if (!isWhitespace(array[i])) {
-                array[i] = to;
-                return;
-            }
-        }
-    }
-
     private boolean isWhitespace(byte c) {
         return (c >= TAB && c <= CR) || c == SPACE;
     }
 
-    private void doProcessMessage(ReplicationMessageProcessor processor, TypeRegistry typeRegistry, byte[] content, boolean lastMessage)
-            throws IOException, SQLException, InterruptedException {
-        final Document change = DocumentReader.floatNumbersAsTextReader().read(content);
-
-        LOGGER.trace("Change arrived for decoding {}", change);
+    private void doProcessMessage(ReplicationMessageProcessor processor, TypeRegistry typeRegistry, Wal2JsonChange change, boolean lastMessage)
+            throws SQLException, InterruptedException {
         processor.process(new Wal2JsonReplicationMessage(txId, commitTime, change, containsMetadata, lastMessage, typeRegistry));
     }
 
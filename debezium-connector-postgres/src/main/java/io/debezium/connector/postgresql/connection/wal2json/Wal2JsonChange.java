@@ -0,0 +1,232 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.debezium.document.Value;
+
+/**
+ * A single change of a message sent by the wal2json logical decoding plug-in. The change is read in a single pass
+ * from a {@link JsonParser} positioned on the JSON object of the change, without building a
+ * {@link io.debezium.document.Document} of it first.
+ * <p>
+ * Like {@link io.debezium.document.DocumentReader#floatNumbersAsTextReader()}, floating point numbers are kept as
+ * text, so that no precision of {@code numeric} values is lost.
+ */
+final class Wal2JsonChange {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    static {
+        JSON_FACTORY.enable(JsonParser.Feature.ALLOW_COMMENTS);
+        JSON_FACTORY.enable(JsonParser.Feature.ALLOW_UNQUOTED_CONTROL_CHARS);
+    }
+
+    /**
+     * The names, types, optionality and values of either the columns of a row or of the keys of its old version.
+     */
+    static final class Tuple {
+
+        private List<String> names;
+        private List<String> types;
+        private List<Boolean> optionals;
+        private List<Value> values;
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public List<String> getTypes() {
+            return types;
+        }
+
+        public List<Boolean> getOptionals() {
+            return optionals;
+        }
+
+        public List<Value> getValues() {
+            return values;
+        }
+    }
+
+    private String kind;
+    private String schema;
+    private String table;
+    private final Tuple columns = new Tuple();
+    private Tuple oldKeys;
+
+    private Wal2JsonChange() {
+    }
+
+    /**
+     * Creates a parser of the given part of a byte array, without copying it.
+     *
+     * @param content the array; may not be null
+     * @param offset the position of the first byte to parse
+     * @param length the number of bytes to parse
+     * @return the parser; never null
+     * @throws IOException if the parser could not be created
+     */
+    static JsonParser createParser(byte[] content, int offset, int length) throws IOException {
+        return JSON_FACTORY.createParser(content, offset, length);
+    }
+
+    /**
+     * Reads the change from the given parser, whose current token must be the start of the object of the change.
+     * After returning, the current token of the parser is the end of that object.
+     *
+     * @param parser the parser; may not be null
+     * @return the change; never null
+     * @throws IOException if the change could not be read
+     */
+    static Wal2JsonChange read(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        final Wal2JsonChange change = new Wal2JsonChange();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "kind":
+                    change.kind = parser.getValueAsString();
+                    break;
+                case "schema":
+                    change.schema = parser.getValueAsString();
+                    break;
+                case "table":
+                    change.table = parser.getValueAsString();
+                    break;
+                case "oldkeys":
+                    expect(parser, token, JsonToken.START_OBJECT);
+                    change.oldKeys = new Tuple();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final String keyFieldName = parser.getCurrentName();
+                        parser.nextToken();
+                        if (!readTupleField(parser, keyFieldName, "keynames", "keytypes", "keyvalues", change.oldKeys)) {
+                            parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    if (!readTupleField(parser, fieldName, "columnnames", "columntypes", "columnvalues", change.columns)) {
+                        parser.skipChildren();
+                    }
+            }
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        return change;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Tuple getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the keys of the old version of the row, or null if the change does not contain them
+     */
+    public Tuple getOldKeys() {
+        return oldKeys;
+    }
+
+    private static boolean readTupleField(JsonParser parser, String fieldName, String nameField, String typeField, String valueField,
+                                          Tuple tuple) throws IOException {
+        if (nameField.equals(fieldName)) {
+            tuple.names = readStrings(parser);
+        }
+        else if (typeField.equals(fieldName)) {
+            tuple.types = readStrings(parser);
+        }
+        else if (valueField.equals(fieldName)) {
+            tuple.values = readValues(parser);
+        }
+        else if ("columnoptionals".equals(fieldName)) {
+            tuple.optionals = readBooleans(parser);
+        }
+        else {
+            return false;
+        }
+        return true;
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<String> strings = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(parser.getValueAsString());
+        }
+        return strings;
+    }
+
+    private static List<Boolean> readBooleans(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<Boolean> booleans = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            booleans.add(parser.getValueAsBoolean());
+        }
+        return booleans;
+    }
+
+    private static List<Value> readValues(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<Value> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            values.add(readValue(parser, token));
+        }
+        return values;
+    }
+
+    private static Value readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return Value.nullValue();
+            case VALUE_STRING:
+                return Value.create(parser.getText());
+            case VALUE_TRUE:
+                return Value.create(true);
+            case VALUE_FALSE:
+                return Value.create(false);
+            case VALUE_NUMBER_FLOAT:
+                return Value.create(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return Value.create(parser.getIntValue());
+                    case LONG:
+                        return Value.create(parser.getLongValue());
+                    default:
+                        return Value.create(parser.getBigIntegerValue());
+                }
+            default:
+                throw new JsonParseException(parser, "Unexpected " + token + " token in the column values", parser.getCurrentLocation());
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " token but got " + actual, parser.getCurrentLocation());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import java.math.BigDecimal;
+
+import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.document.Value;
+import io.debezium.util.Strings;
+
+/**
+ * The value of a column within a JSON message of the wal2json plug-in, which sends numbers and booleans as JSON
+ * values and all other values as strings.
+ */
+class Wal2JsonColumnValue implements ReplicationMessageColumnValue {
+
+    private final Value value;
+
+    Wal2JsonColumnValue(Value value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value.isNull();
+    }
+
+    @Override
+    public String asString() {
+        return value.asString();
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value.asBoolean();
+    }
+
+    @Override
+    public Integer asInteger() {
+        return value.asInteger();
+    }
+
+    @Override
+    public Long asLong() {
+        return value.asLong();
+    }
+
+    @Override
+    public Float asFloat() {
+        return value.isNumber() ? value.asFloat() : Float.valueOf(value.asString());
+    }
+
+    @Override
+    public Double asDouble() {
+        return value.isNumber() ? value.asDouble() : Double.valueOf(value.asString());
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        if (value.isInteger()) {
+            return new SpecialValueDecimal(new BigDecimal(value.asInteger()));
+        }
+        else if (value.isLong()) {
+            return new SpecialValueDecimal(new BigDecimal(value.asLong()));
+        }
+        else if (value.isBigInteger()) {
+            return new SpecialValueDecimal(new BigDecimal(value.asBigInteger()));
+        }
+        return SpecialValueDecimal.valueOf(value.asString());
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return Strings.hexStringToByteArray(value.asString());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
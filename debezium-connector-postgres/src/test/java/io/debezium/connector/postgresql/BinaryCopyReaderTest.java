@@ -0,0 +1,168 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.Test;
+
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.relational.Column;
+
+/**
+ * Tests of {@link BinaryCopyReader} against rows in the binary format of {@code COPY}.
+ */
+public class BinaryCopyReaderTest {
+
+    // 2018-03-20 09:58:43.396355, in microseconds since 2000-01-01
+    private static final long TIMESTAMP_PG = 574855123396355L;
+
+    private final List<Column> columns = Arrays.asList(column("id", PgOid.INT4), column("price", PgOid.NUMERIC),
+            column("name", PgOid.VARCHAR), column("created", PgOid.TIMESTAMP), column("birthday", PgOid.DATE),
+            column("active", PgOid.BOOL));
+
+    @Test
+    public void shouldDecodeRows() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        out.writeShort(6);
+        writeInt(out, 1);
+        writeNumeric(out, 1, 0, 3, 1, 2345, 6780);
+        writeText(out, "Žluťoučký kůň");
+        writeTimestamp(out, TIMESTAMP_PG);
+        writeDate(out, 6653);
+        writeBool(out, true);
+        out.writeShort(6);
+        writeInt(out, 2);
+        writeNumeric(out, -1, 0x4000, 2, 500);
+        writeNull(out);
+        writeNull(out);
+        writeNull(out);
+        writeBool(out, false);
+        out.writeShort(-1);
+
+        final List<Object[]> rows = read(bytes.toByteArray());
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(new Object[]{ 1, new SpecialValueDecimal(new BigDecimal("12345.678")), "Žluťoučký kůň",
+                LocalDateTime.of(2018, 3, 20, 9, 58, 43, 396_355_000), LocalDate.of(2018, 3, 20), true });
+        assertThat(rows.get(1)).isEqualTo(new Object[]{ 2, new SpecialValueDecimal(new BigDecimal("-0.05")), null, null, null, false });
+    }
+
+    @Test
+    public void shouldDecodeSpecialNumericValues() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        out.writeShort(6);
+        writeInt(out, 1);
+        writeNumeric(out, 0, 0xC000, 0);
+        for (int i = 0; i < 4; i++) {
+            writeNull(out);
+        }
+        out.writeShort(6);
+        writeInt(out, 2);
+        writeNumeric(out, 0, 0, 2);
+        for (int i = 0; i < 4; i++) {
+            writeNull(out);
+        }
+        out.writeShort(-1);
+
+        final List<Object[]> rows = read(bytes.toByteArray());
+
+        assertThat(rows.get(0)[1]).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        assertThat(rows.get(1)[1]).isEqualTo(new SpecialValueDecimal(new BigDecimal("0.00")));
+    }
+
+    @Test
+    public void shouldNotSupportColumnsOfOtherTypes() {
+        assertThat(BinaryCopyReader.forColumns(columns)).isNotNull();
+        assertThat(BinaryCopyReader.forColumns(Arrays.asList(column("id", PgOid.INT4), column("cost", PgOid.MONEY)))).isNull();
+        assertThat(BinaryCopyReader.forColumns(Arrays.asList(column("ids", PgOid.INT4_ARRAY)))).isNull();
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldFailOnUnexpectedColumnCount() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        out.writeShort(1);
+        writeInt(out, 1);
+        out.writeShort(-1);
+
+        read(bytes.toByteArray());
+    }
+
+    private List<Object[]> read(byte[] data) throws IOException, InterruptedException {
+        final List<Object[]> rows = new ArrayList<>();
+        BinaryCopyReader.forColumns(columns).read(new ByteArrayInputStream(data), row -> rows.add(row.clone()));
+        return rows;
+    }
+
+    private static Column column(String name, int oid) {
+        return Column.editor().name(name).nativeType(oid).create();
+    }
+
+    private static DataOutputStream header(ByteArrayOutputStream bytes) throws IOException {
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[]{ 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 });
+        out.writeInt(0);
+        out.writeInt(0);
+        return out;
+    }
+
+    private static void writeInt(DataOutputStream out, int value) throws IOException {
+        out.writeInt(4);
+        out.writeInt(value);
+    }
+
+    private static void writeNumeric(DataOutputStream out, int weight, int sign, int scale, int... digits) throws IOException {
+        out.writeInt(8 + 2 * digits.length);
+        out.writeShort(digits.length);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(scale);
+        for (int digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, long micros) throws IOException {
+        out.writeInt(8);
+        out.writeLong(micros);
+    }
+
+    private static void writeDate(DataOutputStream out, int days) throws IOException {
+        out.writeInt(4);
+        out.writeInt(days);
+    }
+
+    private static void writeBool(DataOutputStream out, boolean value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean(value);
+    }
+
+    private static void writeNull(DataOutputStream out) throws IOException {
+        out.writeInt(-1);
+    }
+}
@@ -10,18 +10,28 @@
 import static io.debezium.connector.postgresql.TestHelper.topicName;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.postgresql.PostgresConnectorConfig.DecimalHandlingMode;
 import io.debezium.data.Envelope;
 import io.debezium.data.VerifyRecord;
@@ -167,6 +177,105 @@ public void shouldGenerateSnapshotAndContinueStreaming() throws Exception {
         assertRecordOffset(second, false, false);
     }
 
+    @Test
+    public void shouldGenerateSnapshotWithParallelThreads() throws Exception {
+        // PostGIS must not be used
+        TestHelper.dropAllSchemas();
+
+        PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MAX_THREADS, 3)
+                // small enough for the key range of s1.a to be split
+                .with(PostgresConnectorConfig.ROWS_FETCH_SIZE, 2)
+                .build());
+        PostgresTopicSelector selector = PostgresTopicSelector.create(config);
+        context = new PostgresTaskContext(
+                config,
+                new PostgresSchema(config, TestHelper.getTypeRegistry(), selector),
+                selector
+        );
+
+        String statements = "CREATE SCHEMA s1; " +
+                            "CREATE SCHEMA s2; " +
+                            "CREATE TABLE s1.a (pk SERIAL, aa integer, PRIMARY KEY(pk));" +
+                            "CREATE TABLE s2.a (pk SERIAL, aa integer, PRIMARY KEY(pk));" +
+                            "INSERT INTO s1.a (aa) SELECT generate_series(1, 20);" +
+                            "INSERT INTO s2.a (aa) SELECT generate_series(1, 5);";
+        TestHelper.execute(statements);
+
+        snapshotProducer = new RecordsSnapshotProducer(context, new SourceInfo(TestHelper.TEST_SERVER), false);
+        int expectedRecordsCount = 25;
+        TestConsumer consumer = testConsumer(expectedRecordsCount, "s1", "s2");
+        snapshotProducer.start(consumer, e -> {});
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        // the tables and the ranges of s1.a are read concurrently, so the records are only checked per table
+        Map<String, Set<Integer>> pksByTopic = new HashMap<>();
+        AtomicInteger counter = new AtomicInteger(0);
+        consumer.process(record -> {
+            int counterVal = counter.getAndIncrement();
+            Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+            pksByTopic.computeIfAbsent(record.topic(), topic -> new HashSet<>()).add(after.getInt32(PK_FIELD));
+            assertRecordOffset(record, true, counterVal == (expectedRecordsCount - 1));
+        });
+        assertEquals(IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toSet()), pksByTopic.get(topicName("s1.a")));
+        assertEquals(IntStream.rangeClosed(1, 5).boxed().collect(Collectors.toSet()), pksByTopic.get(topicName("s2.a")));
+    }
+
+    @Test
+    public void shouldEnqueueEachRecordOfParallelSnapshotOnce() throws Exception {
+        // PostGIS must not be used
+        TestHelper.dropAllSchemas();
+
+        PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MAX_THREADS, 4)
+                .with(PostgresConnectorConfig.ROWS_FETCH_SIZE, 100)
+                // a small queue keeps the snapshot threads contending for it
+                .with(CommonConnectorConfig.MAX_QUEUE_SIZE, 20)
+                .with(CommonConnectorConfig.MAX_BATCH_SIZE, 10)
+                .build());
+        PostgresTopicSelector selector = PostgresTopicSelector.create(config);
+        context = new PostgresTaskContext(
+                config,
+                new PostgresSchema(config, TestHelper.getTypeRegistry(), selector),
+                selector
+        );
+
+        String statements = "CREATE SCHEMA s1; " +
+                            "CREATE SCHEMA s2; " +
+                            "CREATE TABLE s1.a (pk SERIAL, aa integer, PRIMARY KEY(pk));" +
+                            "CREATE TABLE s2.a (pk SERIAL, aa integer, PRIMARY KEY(pk));" +
+                            "INSERT INTO s1.a (aa) SELECT generate_series(1, 5000);" +
+                            "INSERT INTO s2.a (aa) SELECT generate_series(1, 3000);";
+        TestHelper.execute(statements);
+
+        ChangeEventQueue<ChangeEvent> queue = PostgresConnectorTask.createChangeEventQueue(config, context);
+        snapshotProducer = new RecordsSnapshotProducer(context, new SourceInfo(TestHelper.TEST_SERVER), false);
+        snapshotProducer.start(queue::enqueue, queue::producerFailure);
+
+        int expectedRecordsCount = 8000;
+        Map<String, List<Integer>> pksByTopic = new HashMap<>();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TestHelper.waitTimeForRecords() * 30);
+        int recordsCount = 0;
+        while (recordsCount < expectedRecordsCount && System.currentTimeMillis() < deadline) {
+            for (ChangeEvent event : queue.poll()) {
+                SourceRecord record = event.getRecord();
+                Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+                pksByTopic.computeIfAbsent(record.topic(), topic -> new ArrayList<>()).add(after.getInt32(PK_FIELD));
+                assertRecordOffset(record, true, ++recordsCount == expectedRecordsCount);
+            }
+        }
+        assertEquals(expectedRecordsCount, recordsCount);
+        // no further record must be enqueued once all rows have arrived
+        assertTrue(queue.poll().isEmpty());
+
+        List<Integer> s1Pks = pksByTopic.get(topicName("s1.a"));
+        List<Integer> s2Pks = pksByTopic.get(topicName("s2.a"));
+        Collections.sort(s1Pks);
+        Collections.sort(s2Pks);
+        assertEquals(IntStream.rangeClosed(1, 5000).boxed().collect(Collectors.toList()), s1Pks);
+        assertEquals(IntStream.rangeClosed(1, 3000).boxed().collect(Collectors.toList()), s2Pks);
+    }
+
     private void assertReadRecord(SourceRecord record, Map<String, List<SchemaAndValueField>> expectedValuesByTableName) {
         VerifyRecord.isValidRead(record, PK_FIELD, 1);
         String tableName = record.topic().replace(TestHelper.TEST_SERVER + ".", "");
@@ -10,6 +10,7 @@
 import static io.debezium.connector.postgresql.TestHelper.topicName;
 import static junit.framework.TestCase.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -565,6 +566,52 @@ public void shouldReceiveChangesForDeletesWithoutTombstone() throws Exception {
         VerifyRecord.isValidDelete(record, PK_FIELD, 2);
     }
 
+    @Test
+    public void shouldReceiveChangesForTableWithBlacklistedPrimaryKeyColumn() throws Exception {
+        PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.COLUMN_BLACKLIST, "public.test_table.pk")
+                .build());
+        setupRecordsProducer(config);
+
+        consumer = testConsumer(1);
+        recordsProducer.start(consumer, blackHole);
+        executeAndWait("INSERT INTO test_table (text) VALUES ('insert2');");
+
+        SourceRecord record = consumer.remove();
+        assertEquals(topicName("public.test_table"), record.topic());
+        // the blacklisted column is still part of the key, but not of the value
+        assertEquals(2, ((Struct) record.key()).get(PK_FIELD));
+        Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+        assertNull(after.schema().field(PK_FIELD));
+        assertEquals("insert2", after.getString("text"));
+    }
+
+    @Test
+    public void shouldReceiveChangesForTableWithBlacklistedPrimaryKeyColumnAfterColumnChanges() throws Exception {
+        PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.COLUMN_BLACKLIST, "public.test_table.pk")
+                .build());
+        setupRecordsProducer(config);
+
+        consumer = testConsumer(1);
+        recordsProducer.start(consumer, blackHole);
+        executeAndWait("UPDATE test_table SET text = 'update' WHERE pk = 1;");
+        VerifyRecord.isValidUpdate(consumer.remove(), PK_FIELD, 1);
+
+        // the columns are looked up again once the table has been refreshed
+        consumer.expects(1);
+        executeAndWait("ALTER TABLE test_table ADD COLUMN uvc VARCHAR(2);" +
+                       "INSERT INTO test_table (text, uvc) VALUES ('insert2', 'aa');");
+
+        SourceRecord record = consumer.remove();
+        VerifyRecord.isValidInsert(record, PK_FIELD, 2);
+        Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+        assertNull(after.schema().field(PK_FIELD));
+        assertRecordSchemaAndValues(Arrays.asList(
+                new SchemaAndValueField("text", SchemaBuilder.OPTIONAL_STRING_SCHEMA, "insert2"),
+                new SchemaAndValueField("uvc", SchemaBuilder.OPTIONAL_STRING_SCHEMA, "aa")), record, Envelope.FieldName.AFTER);
+    }
+
     @Test
     public void shouldReceiveNumericTypeAsDouble() throws Exception {
         PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
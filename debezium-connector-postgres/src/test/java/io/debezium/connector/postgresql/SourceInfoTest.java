@@ -7,10 +7,14 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.relational.TableId;
 
 /**
  * @author Jiri Pechanec
@@ -29,4 +33,52 @@ public void beforeEach() {
     public void versionIsPresent() {
         assertThat(source.source().getString(AbstractSourceInfo.DEBEZIUM_VERSION_KEY)).isEqualTo(Module.version());
     }
+
+    @Test
+    public void shouldRecoverSnapshotPositionFromOffsetWithSnapshot() {
+        source.load(offset(true));
+        assertThat(source.isSnapshotInEffect()).isTrue();
+        assertThat(source.snapshotTable()).isEqualTo(new TableId(null, "s1", "a"));
+        assertThat(source.snapshotLastKey()).isEqualTo("42");
+        assertThat(source.offset().get(SourceInfo.SNAPSHOT_TABLE_KEY)).isEqualTo("s1.a");
+        assertThat(source.offset().get(SourceInfo.SNAPSHOT_LAST_KEY_KEY)).isEqualTo("42");
+    }
+
+    @Test
+    public void shouldIgnoreSnapshotPositionInOffsetWithoutSnapshot() {
+        source.load(offset(false));
+        assertThat(source.snapshotTable()).isNull();
+        assertThat(source.snapshotLastKey()).isNull();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_TABLE_KEY)).isFalse();
+    }
+
+    @Test
+    public void shouldNotIncludeSnapshotPositionInSourceStruct() {
+        source.load(offset(true));
+        assertThat(source.source().schema().field(SourceInfo.SNAPSHOT_TABLE_KEY)).isNull();
+        assertThat(source.source().getBoolean(SourceInfo.SNAPSHOT_KEY)).isTrue();
+    }
+
+    @Test
+    public void shouldClearSnapshotPositionOnLastSnapshotRecord() {
+        source.load(offset(true));
+        source.markLastSnapshotRecord();
+        assertThat(source.snapshotTable()).isNull();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_TABLE_KEY)).isFalse();
+        assertThat(source.offset().containsKey(SourceInfo.SNAPSHOT_LAST_KEY_KEY)).isFalse();
+    }
+
+    private Map<String, Object> offset(boolean snapshot) {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.LSN_KEY, 1000L);
+        offset.put(SourceInfo.TXID_KEY, 555);
+        offset.put(SourceInfo.TIMESTAMP_KEY, 1234567L);
+        if (snapshot) {
+            offset.put(SourceInfo.SNAPSHOT_KEY, true);
+            offset.put(SourceInfo.LAST_SNAPSHOT_RECORD_KEY, false);
+        }
+        offset.put(SourceInfo.SNAPSHOT_TABLE_KEY, "s1.a");
+        offset.put(SourceInfo.SNAPSHOT_LAST_KEY_KEY, "42");
+        return offset;
+    }
 }
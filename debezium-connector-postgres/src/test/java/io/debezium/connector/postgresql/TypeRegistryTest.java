@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the lookup of types unknown to a {@link TypeRegistry}.
+ */
+public class TypeRegistryTest {
+
+    private static final PostgresType INT4 = new PostgresType("int4", 23, Types.INTEGER, null);
+    private static final PostgresType MOOD = new PostgresType("mood", 16390, Types.VARCHAR, null);
+    private static final PostgresType MOOD_ARRAY = new PostgresType("_mood", 16389, Types.ARRAY, null, MOOD);
+    private static final PostgresType GEOMETRY = new PostgresType(TypeRegistry.TYPE_NAME_GEOMETRY, 16400, Types.OTHER, null);
+
+    private List<Object> lookups;
+    private List<PostgresType> databaseTypes;
+    private TypeRegistry typeRegistry;
+
+    @Before
+    public void beforeEach() {
+        lookups = new ArrayList<>();
+        databaseTypes = Collections.emptyList();
+        typeRegistry = TypeRegistry.create(null)
+                .addType(INT4)
+                .withResolver(new TypeRegistry.TypeResolver() {
+
+                    @Override
+                    public List<PostgresType> resolve(int oid, TypeRegistry registry) {
+                        lookups.add(oid);
+                        return databaseTypes;
+                    }
+
+                    @Override
+                    public List<PostgresType> resolve(String name, TypeRegistry registry) {
+                        lookups.add(name);
+                        return databaseTypes;
+                    }
+                })
+                .build();
+    }
+
+    @Test
+    public void shouldNotResolveKnownTypes() {
+        assertThat(typeRegistry.get(23)).isSameAs(INT4);
+        assertThat(typeRegistry.get("int4")).isSameAs(INT4);
+        assertThat(typeRegistry.get("serial")).isSameAs(INT4);
+
+        assertThat(lookups).isEmpty();
+        assertThat(typeRegistry.cacheHits()).isEqualTo(3);
+        assertThat(typeRegistry.cacheMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldResolveUnknownOidOnceTogetherWithNewTypes() {
+        databaseTypes = Arrays.asList(MOOD, MOOD_ARRAY, GEOMETRY);
+
+        assertThat(typeRegistry.get(16389)).isSameAs(MOOD_ARRAY);
+        assertThat(typeRegistry.get(16390)).isSameAs(MOOD);
+        assertThat(typeRegistry.get("mood")).isSameAs(MOOD);
+        assertThat(typeRegistry.geometryOid()).isEqualTo(16400);
+
+        assertThat(lookups).isEqualTo(Arrays.asList(16389));
+        assertThat(typeRegistry.refreshes()).isEqualTo(1);
+        assertThat(typeRegistry.cacheMisses()).isEqualTo(1);
+        assertThat(typeRegistry.cacheHits()).isEqualTo(2);
+        assertThat(typeRegistry.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldLookUpMissingOidAgain() {
+        assertThat(typeRegistry.get(16390)).isSameAs(PostgresType.UNKNOWN);
+
+        databaseTypes = Arrays.asList(MOOD);
+        assertThat(typeRegistry.get(16390)).isSameAs(MOOD);
+        assertThat(typeRegistry.get(16390)).isSameAs(MOOD);
+
+        assertThat(lookups).isEqualTo(Arrays.asList(16390, 16390));
+        assertThat(typeRegistry.cacheMisses()).isEqualTo(2);
+        assertThat(typeRegistry.cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReplaceTypeRecreatedUnderSameName() {
+        final PostgresType recreatedMood = new PostgresType("mood", 16500, Types.VARCHAR, null);
+        databaseTypes = Arrays.asList(MOOD);
+        assertThat(typeRegistry.get("mood")).isSameAs(MOOD);
+
+        databaseTypes = Arrays.asList(recreatedMood);
+        assertThat(typeRegistry.get(16500)).isSameAs(recreatedMood);
+        assertThat(typeRegistry.get("mood")).isSameAs(recreatedMood);
+    }
+
+    @Test
+    public void shouldLookUpMissingNameAgain() {
+        assertThat(typeRegistry.get("mood")).isSameAs(PostgresType.UNKNOWN);
+
+        databaseTypes = Arrays.asList(MOOD);
+        assertThat(typeRegistry.get("mood")).isSameAs(MOOD);
+
+        assertThat(lookups).isEqualTo(Arrays.asList("mood", "mood"));
+        assertThat(typeRegistry.cacheMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReturnUnknownTypeWithoutResolver() {
+        final TypeRegistry registry = TypeRegistry.create(null).addType(INT4).build();
+
+        assertThat(registry.get(16390)).isSameAs(PostgresType.UNKNOWN);
+        assertThat(registry.get("mood")).isSameAs(PostgresType.UNKNOWN);
+        assertThat(registry.cacheMisses()).isEqualTo(2);
+    }
+}
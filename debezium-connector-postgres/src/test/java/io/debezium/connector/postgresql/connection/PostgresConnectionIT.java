@@ -12,10 +12,12 @@
 import static org.junit.Assert.assertTrue;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Map;
 import org.junit.Test;
 
 import io.debezium.connector.postgresql.TestHelper;
+import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.relational.TableId;
 
 /**
@@ -99,4 +101,23 @@ public void shouldDropReplicationSlot() throws Exception {
             assertTrue(connection.dropReplicationSlot("test"));
         }
     }
+
+    @Test
+    public void shouldReportSameJdbcTypesAsDriver() throws Exception {
+        String statement = "DROP SCHEMA IF EXISTS public CASCADE;" +
+                           "CREATE SCHEMA public;" +
+                           "CREATE TYPE test_enum AS ENUM ('a', 'b');" +
+                           "CREATE TYPE test_composite AS (a integer, b text);" +
+                           "CREATE DOMAIN test_domain AS integer;";
+        TestHelper.execute(statement);
+        try (PostgresConnection connection = TestHelper.create()) {
+            Map<String, Integer> driverTypes = connection.readTypeInfo();
+            TypeRegistry typeRegistry = connection.getTypeRegistry();
+            for (String name : Arrays.asList("int2", "int4", "int8", "oid", "numeric", "money", "bool", "bpchar", "text", "bytea",
+                                             "timestamptz", "json", "jsonb", "uuid", "tsvector", "int2vector", "_int4", "_text",
+                                             "test_enum", "test_composite", "test_domain", "_test_enum")) {
+                assertEquals("JDBC type of " + name, driverTypes.get(name).intValue(), typeRegistry.get(name).getJdbcId());
+            }
+        }
+    }
 }
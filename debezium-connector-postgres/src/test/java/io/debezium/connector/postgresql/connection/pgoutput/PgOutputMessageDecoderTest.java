@@ -0,0 +1,286 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoder;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * Tests of {@link PgOutputMessageDecoder} against byte streams recorded in the format of the pgoutput plug-in.
+ */
+public class PgOutputMessageDecoderTest {
+
+    private static final int RELATION_OID = 16385;
+    private static final int TX_ID = 563;
+    // 2018-03-20 09:58:43.396355 UTC, in microseconds since 2000-01-01
+    private static final long COMMIT_TIME_PG = 574855123396355L;
+
+    private TypeRegistry typeRegistry;
+    private MessageDecoder decoder;
+    private List<ReplicationMessage> messages;
+
+    @Before
+    public void beforeEach() {
+        typeRegistry = TypeRegistry.create(null)
+                .addType(new PostgresType("int4", 23, Types.INTEGER, null))
+                .addType(new PostgresType("varchar", 1043, Types.VARCHAR, null))
+                .addType(new PostgresType("numeric", 1700, Types.NUMERIC, null))
+                .addType(new PostgresType("bytea", 17, Types.BINARY, null))
+                .addType(new PostgresType("inet", 869, Types.OTHER, null))
+                .build();
+        decoder = new PgOutputMessageDecoder();
+        messages = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldDecodeTransaction() throws Exception {
+        decode(begin());
+        decode(relation());
+        decode(insert());
+        decode(update());
+        decode(delete());
+        decode(commit());
+
+        assertThat(messages).hasSize(3);
+
+        final ReplicationMessage insert = messages.get(0);
+        assertThat(insert.getOperation()).isEqualTo(Operation.INSERT);
+        assertThat(insert.getTransactionId()).isEqualTo(TX_ID);
+        assertThat(insert.getCommitTime()).isEqualTo(1521539923396355000L);
+        assertThat(insert.getTable()).isEqualTo("\"public\".\"t1\"");
+        assertThat(insert.hasTypeMetadata()).isFalse();
+        assertThat(insert.isLastEventForLsn()).isTrue();
+        assertThat(insert.getOldTupleList()).isNull();
+        final List<ReplicationMessage.Column> columns = insert.getNewTupleList();
+        assertThat(columns.stream().map(ReplicationMessage.Column::getName).collect(Collectors.toList())).containsExactly("pk", "name", "amount");
+        assertThat(columns.get(0).getType().getOid()).isEqualTo(23);
+        assertThat(columns.get(0).getValue(null, false)).isEqualTo(1);
+        assertThat(columns.get(1).getValue(null, false)).isEqualTo("first");
+        assertThat(((SpecialValueDecimal) columns.get(2).getValue(null, false)).getDecimalValue().get()).isEqualTo(new BigDecimal("1.10"));
+
+        final ReplicationMessage update = messages.get(1);
+        assertThat(update.getOperation()).isEqualTo(Operation.UPDATE);
+        assertThat(update.getOldTupleList()).isNull();
+        final List<ReplicationMessage.Column> updated = update.getNewTupleList();
+        assertThat(updated.get(1).getValue(null, false)).isNull();
+        assertThat(updated.get(1).isUnchangedToastedValue()).isFalse();
+        // unchanged TOASTed value
+        assertThat(updated.get(2).getValue(null, false)).isNull();
+        assertThat(updated.get(2).isUnchangedToastedValue()).isTrue();
+
+        final ReplicationMessage delete = messages.get(2);
+        assertThat(delete.getOperation()).isEqualTo(Operation.DELETE);
+        assertThat(delete.getNewTupleList()).isNull();
+        final List<ReplicationMessage.Column> keys = delete.getOldTupleList();
+        assertThat(keys).hasSize(3);
+        assertThat(keys.get(0).getValue(null, false)).isEqualTo(1);
+        assertThat(keys.get(1).getValue(null, false)).isNull();
+    }
+
+    @Test
+    public void shouldTakeUnchangedToastedValueFromOldRow() throws Exception {
+        decode(begin());
+        decode(relation());
+        decode(updateWithOldRow());
+
+        final ReplicationMessage update = messages.get(0);
+        final List<ReplicationMessage.Column> old = update.getOldTupleList();
+        assertThat(old.get(1).getValue(null, false)).isEqualTo("first");
+        final List<ReplicationMessage.Column> updated = update.getNewTupleList();
+        assertThat(updated.get(1).getValue(null, false)).isEqualTo("second");
+        assertThat(updated.get(2).isUnchangedToastedValue()).isFalse();
+        assertThat(((SpecialValueDecimal) updated.get(2).getValue(null, false)).getDecimalValue().get()).isEqualTo(new BigDecimal("1.10"));
+    }
+
+    @Test
+    public void shouldConvertValuesLikeOtherTextBasedDecoders() throws Exception {
+        decode(begin());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('R');
+        out.writeInt(RELATION_OID + 1);
+        writeString(out, "public");
+        writeString(out, "t2");
+        out.writeByte('d');
+        out.writeShort(2);
+        writeColumn(out, false, "data", 17, -1);
+        writeColumn(out, false, "address", 869, -1);
+        decode(bytes.toByteArray());
+
+        bytes.reset();
+        out.writeByte('I');
+        out.writeInt(RELATION_OID + 1);
+        out.writeByte('N');
+        out.writeShort(2);
+        writeText(out, "\\x0102ff");
+        writeText(out, "192.168.0.1/32");
+        decode(bytes.toByteArray());
+
+        final List<ReplicationMessage.Column> columns = messages.get(0).getNewTupleList();
+        assertThat((byte[]) columns.get(0).getValue(null, false)).isEqualTo(new byte[]{ 1, 2, (byte) 0xff });
+        // types without a specific representation are only passed on when unknown types are included
+        assertThat(columns.get(1).getValue(null, false)).isNull();
+        assertThat(columns.get(1).getValue(null, true)).isEqualTo("192.168.0.1/32");
+    }
+
+    @Test
+    public void shouldDecodeMessageFromTheMiddleOfBuffer() throws Exception {
+        decode(begin());
+        decode(relation());
+        final byte[] insert = insert();
+        final byte[] chunk = new byte[insert.length + 7];
+        System.arraycopy(insert, 0, chunk, 7, insert.length);
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        buffer.position(7);
+        decoder.processMessage(buffer.slice(), messages::add, typeRegistry);
+
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getNewTupleList().get(1).getValue(null, false)).isEqualTo("first");
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldFailForChangeOfUnknownRelation() throws Exception {
+        decode(begin());
+        decode(insert());
+    }
+
+    private void decode(byte[] message) throws Exception {
+        decoder.processMessage(ByteBuffer.wrap(message), messages::add, typeRegistry);
+    }
+
+    private byte[] begin() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('B');
+        out.writeLong(0x16B3748L);
+        out.writeLong(COMMIT_TIME_PG);
+        out.writeInt(TX_ID);
+        return bytes.toByteArray();
+    }
+
+    private byte[] commit() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('C');
+        out.writeByte(0);
+        out.writeLong(0x16B3748L);
+        out.writeLong(0x16B3778L);
+        out.writeLong(COMMIT_TIME_PG);
+        return bytes.toByteArray();
+    }
+
+    private byte[] relation() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('R');
+        out.writeInt(RELATION_OID);
+        writeString(out, "public");
+        writeString(out, "t1");
+        out.writeByte('d');
+        out.writeShort(3);
+        writeColumn(out, true, "pk", 23, -1);
+        writeColumn(out, false, "name", 1043, 259);
+        writeColumn(out, false, "amount", 1700, 655366);
+        return bytes.toByteArray();
+    }
+
+    private byte[] insert() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('I');
+        out.writeInt(RELATION_OID);
+        out.writeByte('N');
+        out.writeShort(3);
+        writeText(out, "1");
+        writeText(out, "first");
+        writeText(out, "1.10");
+        return bytes.toByteArray();
+    }
+
+    private byte[] update() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('U');
+        out.writeInt(RELATION_OID);
+        out.writeByte('N');
+        out.writeShort(3);
+        writeText(out, "1");
+        out.writeByte('n');
+        out.writeByte('u');
+        return bytes.toByteArray();
+    }
+
+    private byte[] updateWithOldRow() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('U');
+        out.writeInt(RELATION_OID);
+        out.writeByte('O');
+        out.writeShort(3);
+        writeText(out, "1");
+        writeText(out, "first");
+        writeText(out, "1.10");
+        out.writeByte('N');
+        out.writeShort(3);
+        writeText(out, "1");
+        writeText(out, "second");
+        out.writeByte('u');
+        return bytes.toByteArray();
+    }
+
+    private byte[] delete() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('D');
+        out.writeInt(RELATION_OID);
+        out.writeByte('K');
+        out.writeShort(3);
+        writeText(out, "1");
+        out.writeByte('n');
+        out.writeByte('n');
+        return bytes.toByteArray();
+    }
+
+    private static void writeColumn(DataOutputStream out, boolean key, String name, int typeOid, int typeModifier) throws IOException {
+        out.writeByte(key ? 1 : 0);
+        writeString(out, name);
+        out.writeInt(typeOid);
+        out.writeInt(typeModifier);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        out.write(s.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte('t');
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
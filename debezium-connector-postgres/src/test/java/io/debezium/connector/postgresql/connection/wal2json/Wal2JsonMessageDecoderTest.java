@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.wal2json;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoder;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.data.SpecialValueDecimal;
+
+public class Wal2JsonMessageDecoderTest {
+
+    private static final String PREAMBLE = "{\n\t\"xid\": 563,\n\t\"timestamp\": \"2018-03-20 10:58:43.396355+01\",\n\t\"change\": [";
+    private static final String INSERT = "\t\t{\n\t\t\t\"kind\": \"insert\",\n\t\t\t\"schema\": \"public\",\n\t\t\t\"table\": \"t1\",\n"
+            + "\t\t\t\"columnnames\": [\"pk\", \"name\", \"amount\"],\n"
+            + "\t\t\t\"columntypes\": [\"integer\", \"character varying(255)\", \"numeric(10,2)\"],\n"
+            + "\t\t\t\"columnoptionals\": [false, true, true],\n"
+            + "\t\t\t\"columnvalues\": [1, \"first\", 1.10]\n\t\t}";
+    private static final String DELETE = "\t\t{\n\t\t\t\"kind\": \"delete\",\n\t\t\t\"schema\": \"public\",\n\t\t\t\"table\": \"t1\",\n"
+            + "\t\t\t\"oldkeys\": {\n\t\t\t\t\"keynames\": [\"pk\"],\n\t\t\t\t\"keytypes\": [\"integer\"],\n\t\t\t\t\"keyvalues\": [1]\n\t\t\t}\n\t\t}";
+    private static final String END = "\t]\n}";
+
+    private TypeRegistry typeRegistry;
+    private List<ReplicationMessage> messages;
+
+    @Before
+    public void beforeEach() {
+        typeRegistry = TypeRegistry.create(null)
+                .addType(new PostgresType("int4", 23, Types.INTEGER, null))
+                .addType(new PostgresType("varchar", 1043, Types.VARCHAR, null))
+                .addType(new PostgresType("numeric", 1700, Types.NUMERIC, null))
+                .build();
+        messages = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldDecodeNonStreamingMessage() throws Exception {
+        decode(new NonStreamingWal2JsonMessageDecoder(), PREAMBLE + "\n" + INSERT + ",\n" + DELETE + "\n" + END);
+        assertMessages();
+    }
+
+    @Test
+    public void shouldDecodeStreamingMessage() throws Exception {
+        final MessageDecoder decoder = new StreamingWal2JsonMessageDecoder();
+        decode(decoder, PREAMBLE);
+        decode(decoder, INSERT);
+        assertThat(messages).isEmpty();
+        decode(decoder, "\t\t," + DELETE.trim());
+        assertThat(messages).hasSize(1);
+        decode(decoder, END);
+        assertMessages();
+    }
+
+    @Test
+    public void shouldDecodeStreamingChunkFromTheMiddleOfBuffer() throws Exception {
+        final MessageDecoder decoder = new StreamingWal2JsonMessageDecoder();
+        decode(decoder, PREAMBLE);
+        final byte[] chunk = ("garbage" + INSERT).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        buffer.position("garbage".length());
+        decoder.processMessage(buffer.slice(), messages::add, typeRegistry);
+        decode(decoder, END);
+
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getOperation()).isEqualTo(Operation.INSERT);
+        assertThat(messages.get(0).isLastEventForLsn()).isTrue();
+    }
+
+    private void decode(MessageDecoder decoder, String chunk) throws Exception {
+        decoder.processMessage(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)), messages::add, typeRegistry);
+    }
+
+    private void assertMessages() {
+        assertThat(messages).hasSize(2);
+
+        final ReplicationMessage insert = messages.get(0);
+        assertThat(insert.getOperation()).isEqualTo(Operation.INSERT);
+        assertThat(insert.getTransactionId()).isEqualTo(563L);
+        assertThat(insert.getTable()).isEqualTo("\"public\".\"t1\"");
+        assertThat(insert.isLastEventForLsn()).isFalse();
+        final List<ReplicationMessage.Column> columns = insert.getNewTupleList();
+        assertThat(columns.stream().map(ReplicationMessage.Column::getName).collect(Collectors.toList())).containsExactly("pk", "name", "amount");
+        assertThat(columns.get(0).isOptional()).isFalse();
+        assertThat(columns.get(1).isOptional()).isTrue();
+        assertThat(columns.get(0).getValue(null, false)).isEqualTo(1);
+        assertThat(columns.get(1).getValue(null, false)).isEqualTo("first");
+        assertThat(((SpecialValueDecimal) columns.get(2).getValue(null, false)).getDecimalValue().get()).isEqualTo(new BigDecimal("1.10"));
+
+        final ReplicationMessage delete = messages.get(1);
+        assertThat(delete.getOperation()).isEqualTo(Operation.DELETE);
+        assertThat(delete.isLastEventForLsn()).isTrue();
+        final List<ReplicationMessage.Column> keys = delete.getOldTupleList();
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0).getName()).isEqualTo("pk");
+        assertThat(keys.get(0).getValue(null, false)).isEqualTo(1);
+    }
+}
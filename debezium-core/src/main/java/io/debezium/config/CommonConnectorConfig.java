@@ -12,6 +12,8 @@
 import org.apache.kafka.common.config.ConfigDef.Type;
 import org.apache.kafka.common.config.ConfigDef.Width;
 
+import io.debezium.connector.base.ChangeEventQueue;
+
 /**
  * Configuration options common to all Debezium connectors.
  *
@@ -114,6 +116,10 @@ private static int validateMaxQueueSize(Configuration config, Field field, Field
             problems.accept(field, maxQueueSize, "A positive queue size is required");
             ++count;
         }
+        if (maxQueueSize > ChangeEventQueue.MAX_QUEUE_SIZE) {
+            problems.accept(field, maxQueueSize, "Must not be larger than " + ChangeEventQueue.MAX_QUEUE_SIZE);
+            ++count;
+        }
         if (maxQueueSize <= maxBatchSize) {
             problems.accept(field, maxQueueSize, "Must be larger than the maximum batch size");
             ++count;
@@ -7,9 +7,13 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.kafka.connect.errors.ConnectException;
@@ -19,24 +23,29 @@
 
 import io.debezium.config.ConfigurationDefaults;
 import io.debezium.time.Temporals;
-import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
-import io.debezium.util.Metronome;
-import io.debezium.util.Threads;
-import io.debezium.util.Threads.Timer;
 
 /**
  * A queue which serves as handover point between producer threads (e.g. MySQL's
  * binlog reader thread) and the Kafka Connect polling loop.
  * <p>
  * The queue is configurable in different aspects, e.g. its maximum size and the
- * time to sleep (block) between two subsequent poll calls. See the
+ * time to wait for a complete batch in a poll call. See the
  * {@link Builder} for the different options. The queue applies back-pressure
  * semantics, i.e. if it holds the maximum number of elements, subsequent calls
  * to {@link #enqueue(Object)} will block until elements have been removed from
  * the queue.
  * <p>
+ * The elements are held in a ring buffer whose segments are allocated when they are first needed, so a generously sized
+ * queue only takes up the memory of the most elements it ever held, and enqueueing an element does not allocate once
+ * the queue has been filled to that level. Producers and the
+ * consumer coordinate through the buffer's head and tail sequences and park while they cannot proceed; a parked consumer
+ * is woken up as soon as {@code maxBatchSize} elements are available or the poll interval has passed, and a parked
+ * producer as soon as the consumer has removed elements. By default any number of threads may enqueue elements
+ * concurrently; if there is only ever one producer thread at a time, {@link Builder#singleProducer(boolean)} avoids the
+ * locking among producers.
+ * <p>
  * If an exception occurs on the producer side, the producer should make that
  * exception known by calling {@link #producerFailure} before stopping its
  * operation. Upon the next call to {@link #poll()}, that exception will be
@@ -51,23 +60,75 @@
  *            producers to the consumer, a custom type wrapping source records
  *            may be used.
  */
-public class ChangeEventQueue<T> {
+public class ChangeEventQueue<T> implements ChangeEventQueueMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
 
+    /**
+     * The largest supported maximum queue size, as the ring buffer is sized to the next power of two.
+     */
+    public static final int MAX_QUEUE_SIZE = 1 << 30;
+
+    /**
+     * The number of slots of each segment of the ring buffer.
+     */
+    private static final int SEGMENT_SIZE = 1 << 13;
+
+    /**
+     * The shortest time a blocked producer parks before checking for space in the queue again, so a poll interval of zero
+     * doesn't make it spin.
+     */
+    private static final long MIN_PRODUCER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     private final Duration pollInterval;
     private final int maxBatchSize;
-    private final BlockingQueue<T> queue;
-    private final Metronome metronome;
+    private final int maxQueueSize;
+    private final Object[][] segments;
+    private final int mask;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final long producerParkNanos;
+    private final Lock producerLock;
     private final Supplier<PreviousContext> loggingContextSupplier;
 
+    /**
+     * The sequence of the next element to be removed from the buffer; only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The sequence of the next element to be added to the buffer; only written by the producer holding the producer lock.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong producerWaitNanos = new AtomicLong();
+    private final AtomicLong consumerWaitNanos = new AtomicLong();
+
+    private volatile Thread waitingConsumer;
+    private volatile int consumerWakeupThreshold;
+    private volatile Thread waitingProducer;
     private volatile Throwable producerFailure;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, boolean singleProducer,
+                             Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+        if (maxQueueSize <= 0 || maxQueueSize > MAX_QUEUE_SIZE) {
+            throw new IllegalArgumentException("The maximum queue size must be between 1 and " + MAX_QUEUE_SIZE + " but was " + maxQueueSize);
+        }
+        if (pollInterval == null || pollInterval.isNegative()) {
+            throw new IllegalArgumentException("The poll interval must not be negative but was " + pollInterval);
+        }
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
-        this.metronome = Metronome.sleeper(pollInterval, Clock.SYSTEM);
+        this.maxQueueSize = maxQueueSize;
+        // the buffer is sized to a power of two so that sequences can be mapped to slots by masking
+        final int capacity = maxQueueSize == 1 ? 1 : Integer.highestOneBit(maxQueueSize - 1) << 1;
+        final int segmentSize = Math.min(capacity, SEGMENT_SIZE);
+        this.segments = new Object[capacity / segmentSize][];
+        this.mask = capacity - 1;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+        this.producerParkNanos = Math.max(pollInterval.toNanos(), MIN_PRODUCER_PARK_NANOS);
+        this.producerLock = singleProducer ? null : new ReentrantLock();
         this.loggingContextSupplier = loggingContextSupplier;
     }
 
@@ -76,6 +137,7 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Duration pollInterval;
         private int maxQueueSize;
         private int maxBatchSize;
+        private boolean singleProducer;
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
 
         public Builder<T> pollInterval(Duration pollInterval) {
@@ -93,13 +155,23 @@ public Builder<T> maxBatchSize(int maxBatchSize) {
             return this;
         }
 
+        /**
+         * Whether at most one thread at a time enqueues elements. Defaults to {@code false}; must only be enabled if
+         * producer threads never overlap, as concurrent calls to {@link ChangeEventQueue#enqueue(Object)} are not
+         * coordinated then.
+         */
+        public Builder<T> singleProducer(boolean singleProducer) {
+            this.singleProducer = singleProducer;
+            return this;
+        }
+
         public Builder<T> loggingContextSupplier(Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
             this.loggingContextSupplier = loggingContextSupplier;
             return this;
         }
 
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier);
+            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, singleProducer, loggingContextSupplier);
         }
     }
 
@@ -126,13 +198,64 @@ public void enqueue(T record) throws InterruptedException {
             LOGGER.debug("Enqueuing source record '{}'", record);
         }
 
-        // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
-        queue.put(record);
+        if (producerLock == null) {
+            put(record);
+            return;
+        }
+
+        producerLock.lockInterruptibly();
+        try {
+            put(record);
+        } finally {
+            producerLock.unlock();
+        }
+    }
+
+    private void put(T record) throws InterruptedException {
+        final long sequence = tail.get();
+        if (sequence - head.get() >= maxQueueSize) {
+            // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
+            awaitCapacity(sequence);
+        }
+        final int index = (int) sequence & mask;
+        Object[] segment = segments[index >>> segmentShift];
+        if (segment == null) {
+            // publishing the tail below also publishes the new segment to the consumer
+            segment = new Object[segmentMask + 1];
+            segments[index >>> segmentShift] = segment;
+        }
+        segment[index & segmentMask] = record;
+        tail.set(sequence + 1);
+
+        // wake up the consumer if it waits for the number of records that are available now
+        final Thread consumer = waitingConsumer;
+        if (consumer != null && sequence + 1 - head.get() >= consumerWakeupThreshold) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void awaitCapacity(long sequence) throws InterruptedException {
+        final long start = System.nanoTime();
+        waitingProducer = Thread.currentThread();
+        try {
+            // the consumer publishes its head before checking for a waiting producer, so re-checking the head after
+            // registering as waiting producer can't miss a wakeup; the park is bounded nevertheless
+            while (sequence - head.get() >= maxQueueSize) {
+                LockSupport.parkNanos(this, producerParkNanos);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waitingProducer = null;
+            producerWaitNanos.addAndGet(System.nanoTime() - start);
+        }
     }
 
     /**
-     * Returns the next batch of elements from this queue. May be empty in case no
-     * elements have arrived in the maximum waiting time.
+     * Returns the next batch of elements from this queue. Any elements available when this method is called are returned
+     * right away; otherwise it waits until {@code maxBatchSize} elements have arrived or the poll interval has passed. May
+     * be empty in case no elements have arrived in the maximum waiting time.
      *
      * @throws InterruptedException
      *             if this thread has been interrupted while waiting for more
@@ -143,24 +266,122 @@ public List<T> poll() throws InterruptedException {
 
         try {
             LOGGER.debug("polling records...");
-            List<T> records = new ArrayList<>();
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            while (!timeout.expired() && queue.drainTo(records, maxBatchSize) == 0) {
-                throwProducerFailureIfPresent();
-
-                LOGGER.debug("no records available yet, sleeping a bit...");
-                // no records yet, so wait a bit
-                metronome.pause();
-                LOGGER.debug("checking for more records...");
+            long available = tail.get() - head.get();
+            if (available == 0) {
+                final long start = System.nanoTime();
+                final long batchDeadline = start + pollInterval.toNanos();
+                final long returnDeadline = start + Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL).toNanos();
+                while (available == 0 || (available < maxBatchSize && System.nanoTime() - batchDeadline < 0)) {
+                    throwProducerFailureIfPresent();
+
+                    final long now = System.nanoTime();
+                    if (now - returnDeadline >= 0) {
+                        return Collections.emptyList();
+                    }
+
+                    // wait for a complete batch until the poll interval has passed, for any record afterwards
+                    LOGGER.debug("no complete batch available yet, waiting...");
+                    if (now - batchDeadline < 0) {
+                        awaitRecords(maxBatchSize, batchDeadline);
+                    } else {
+                        awaitRecords(1, returnDeadline);
+                    }
+                    available = tail.get() - head.get();
+                }
             }
-            return records;
+            return drain((int) Math.min(available, maxBatchSize));
         } finally {
             previousContext.restore();
         }
     }
 
+    /**
+     * Returns the elements available in this queue without waiting for any more elements to arrive. Must not be called
+     * concurrently with {@link #poll()}.
+     *
+     * @param maxElements the maximum number of elements to return
+     * @return the available elements, at most {@code maxElements}; may be empty but never null
+     */
+    public List<T> pollAvailable(int maxElements) {
+        final long available = tail.get() - head.get();
+        if (available == 0 || maxElements <= 0) {
+            return Collections.emptyList();
+        }
+        return drain((int) Math.min(available, maxElements));
+    }
+
+    private void awaitRecords(int threshold, long deadline) throws InterruptedException {
+        final long start = System.nanoTime();
+        consumerWakeupThreshold = threshold;
+        waitingConsumer = Thread.currentThread();
+        try {
+            // producers publish their tail before checking for a waiting consumer, so this check can't miss a wakeup
+            if (tail.get() - head.get() < threshold && producerFailure == null) {
+                LockSupport.parkNanos(this, deadline - start);
+            }
+        } finally {
+            waitingConsumer = null;
+            consumerWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> drain(int count) {
+        final long sequence = head.get();
+        final List<T> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int index = (int) (sequence + i) & mask;
+            final Object[] segment = segments[index >>> segmentShift];
+            records.add((T) segment[index & segmentMask]);
+            segment[index & segmentMask] = null;
+        }
+        head.set(sequence + count);
+
+        // wake up a producer waiting for space in the queue
+        final Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        return records;
+    }
+
     public void producerFailure(final Throwable producerFailure) {
         this.producerFailure = producerFailure;
+
+        final Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    @Override
+    public int totalCapacity() {
+        return maxQueueSize;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - queueDepth();
+    }
+
+    @Override
+    public int queueDepth() {
+        // head and tail may move between the two reads
+        final long sequence = head.get();
+        return (int) Math.min(tail.get() - sequence, maxQueueSize);
+    }
+
+    @Override
+    public long totalProducerWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerWaitNanos.get());
+    }
+
+    @Override
+    public long totalConsumerWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(consumerWaitNanos.get());
     }
 
     private void throwProducerFailureIfPresent() {
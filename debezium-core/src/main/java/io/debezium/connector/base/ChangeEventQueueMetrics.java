@@ -0,0 +1,37 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+/**
+ * Metrics describing the state of a {@link ChangeEventQueue}.
+ */
+public interface ChangeEventQueueMetrics {
+
+    /**
+     * @return the maximum number of events the queue can hold
+     */
+    int totalCapacity();
+
+    /**
+     * @return the number of events that can be added to the queue before producers are blocked
+     */
+    int remainingCapacity();
+
+    /**
+     * @return the number of events currently held by the queue
+     */
+    int queueDepth();
+
+    /**
+     * @return the total time in milliseconds producers have been blocked because the queue was full
+     */
+    long totalProducerWaitTimeInMillis();
+
+    /**
+     * @return the total time in milliseconds the consumer has been waiting for events to arrive
+     */
+    long totalConsumerWaitTimeInMillis();
+}
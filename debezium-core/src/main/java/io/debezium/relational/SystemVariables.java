@@ -5,7 +5,9 @@
  */
 package io.debezium.relational;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -113,6 +115,17 @@ public String getVariable(String name) {
         return null;
     }
 
+    /**
+     * Get the scopes and the variables set in each of them.
+     *
+     * @return a copy of the variables by scope; never null
+     */
+    public Map<Scope, Map<String, String>> asMap() {
+        Map<Scope, Map<String, String>> copy = new HashMap<>();
+        systemVariables.forEach((scope, variables) -> copy.put(scope, Collections.unmodifiableMap(new HashMap<>(variables))));
+        return copy;
+    }
+
     private List<ConcurrentMap<String, String>> getOrderedSystemVariablesByScopePriority() {
         return systemVariables.entrySet().stream()
                 .sorted(Comparator.comparingInt(entry -> entry.getKey().priority()))
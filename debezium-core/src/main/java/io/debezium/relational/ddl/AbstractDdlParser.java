@@ -14,6 +14,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.document.Document;
 import io.debezium.relational.Column;
 import io.debezium.relational.ColumnEditor;
 import io.debezium.relational.SystemVariables;
@@ -85,6 +86,35 @@ public SystemVariables systemVariables() {
 
     protected abstract SystemVariables createNewSystemVariablesInstance();
 
+    @Override
+    public Document state() {
+        Document state = Document.create();
+        if (currentSchema != null) {
+            state.setString("currentSchema", currentSchema);
+        }
+        Document variables = state.setDocument("systemVariables");
+        systemVariables.asMap().forEach((scope, values) -> {
+            Document scoped = variables.setDocument(scope.toString());
+            values.forEach(scoped::setString);
+        });
+        return state;
+    }
+
+    @Override
+    public void restoreState(Document state) {
+        this.currentSchema = state.getString("currentSchema");
+        Document variables = state.getDocument("systemVariables");
+        if (variables != null) {
+            // the scopes are matched by name, as they are defined by the parser of each database ...
+            for (SystemVariables.Scope scope : systemVariables.asMap().keySet()) {
+                Document scoped = variables.getDocument(scope.toString());
+                if (scoped != null) {
+                    scoped.forEach(field -> systemVariables.setVariable(scope, field.getName().toString(), field.getValue().asString()));
+                }
+            }
+        }
+    }
+
     /**
      * Get the name of the current schema.
      *
@@ -6,6 +6,7 @@
 
 package io.debezium.relational.ddl;
 
+import io.debezium.document.Document;
 import io.debezium.relational.SystemVariables;
 import io.debezium.relational.Tables;
 import io.debezium.text.ParsingException;
@@ -47,4 +48,22 @@ public interface DdlParser {
     String terminator();
 
     SystemVariables systemVariables();
+
+    /**
+     * Get the state this parser carries from one statement to the next, such as the current database and the values of
+     * system variables, so that it can be stored along with a schema checkpoint.
+     *
+     * @return the state of this parser; never null
+     */
+    default Document state() {
+        return Document.create();
+    }
+
+    /**
+     * Restore the state of this parser as previously obtained via {@link #state()}.
+     *
+     * @param state the state of this parser; may not be null
+     */
+    default void restoreState(Document state) {
+    }
 }
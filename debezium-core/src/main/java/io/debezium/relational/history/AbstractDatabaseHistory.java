@@ -5,6 +5,8 @@
  */
 package io.debezium.relational.history;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -34,6 +36,8 @@ public abstract class AbstractDatabaseHistory implements DatabaseHistory {
     private HistoryRecordComparator comparator = HistoryRecordComparator.INSTANCE;
     private boolean skipUnparseableDDL;
     private Function<String, Optional<Pattern>> ddlFilter = (x -> Optional.empty());
+    private int checkpointInterval;
+    private int recordsSinceCheckpoint;
 
     protected AbstractDatabaseHistory() {
     }
@@ -46,6 +50,7 @@ public void configure(Configuration config, HistoryRecordComparator comparator)
 
         final String ddlFilter = config.getString(DatabaseHistory.DDL_FILTER);
         this.ddlFilter = (ddlFilter != null) ? Predicates.matchedBy(ddlFilter) : this.ddlFilter;
+        this.checkpointInterval = config.getInteger(DatabaseHistory.CHECKPOINT_INTERVAL);
     }
 
     @Override
@@ -64,56 +69,110 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
     public final void record(Map<String, ?> source, Map<String, ?> position, String databaseName, String schemaName, String ddl, TableChanges changes)
             throws DatabaseHistoryException {
             storeRecord(new HistoryRecord(source, position, databaseName, schemaName, ddl, changes));
+            recordsSinceCheckpoint++;
+    }
+
+    @Override
+    public final void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, DdlParser ddlParser)
+            throws DatabaseHistoryException {
+        if (checkpointInterval <= 0 || recordsSinceCheckpoint < checkpointInterval) {
+            return;
+        }
+        // whether or not the checkpoint is stored, the next one is only attempted after another interval of records ...
+        recordsSinceCheckpoint = 0;
+        TableChanges tables = TableChanges.of(schema);
+        for (TableChange table : tables) {
+            if (!TableChanges.isRepresentable(table.getTable())) {
+                logger.info("Not storing a schema checkpoint at offset {}, as the default values of table {} cannot be stored",
+                            position, table.getId());
+                return;
+            }
+        }
+        HistoryRecord checkpoint = new HistoryRecord(source, position, null, null, null, tables);
+        checkpoint.document().setBoolean(HistoryRecord.Fields.SCHEMA_CHECKPOINT, true);
+        checkpoint.document().setDocument(HistoryRecord.Fields.PARSER_STATE, ddlParser.state());
+        try {
+            storeRecord(checkpoint);
+            logger.debug("Stored schema checkpoint with {} tables at offset {}", schema.size(), position);
+        } catch (DatabaseHistoryException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw e;
+            }
+            // recovery does not depend on checkpoints (which may e.g. exceed the maximum record size of the storage) ...
+            logger.warn("Failed to store schema checkpoint with {} tables at offset {}, continuing without it", schema.size(), position, e);
+        }
     }
 
     @Override
     public final void recover(Map<String, ?> source, Map<String, ?> position, Tables schema, DdlParser ddlParser) {
         logger.debug("Recovering DDL history for source partition {} and offset {}", source, position);
         HistoryRecord stopPoint = new HistoryRecord(source, position, null, null, null, null);
+        // Records are applied only once it is clear that no later checkpoint supersedes them, but to bound the memory
+        // used, at most one checkpoint interval worth of records is held back ...
+        List<HistoryRecord> deferred = new ArrayList<>();
         recoverRecords(recovered -> {
             if (comparator.isAtOrBefore(recovered, stopPoint)) {
-                Array tableChanges = recovered.tableChanges();
-                String ddl = recovered.ddl();
-
-                if (tableChanges != null) {
-                    TableChanges changes = TableChanges.fromArray(tableChanges);
-                    for (TableChange entry : changes) {
-                        if (entry.getType() == TableChangeType.CREATE || entry.getType() == TableChangeType.ALTER) {
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        // DROP
-                        else {
-                            schema.removeTable(entry.getId());
-                        }
+                if (recovered.isSchemaCheckpoint()) {
+                    logger.debug("Discarding {} preceding records in favor of schema checkpoint at {}", deferred.size(), recovered.position());
+                    deferred.clear();
+                    schema.clear();
+                    apply(recovered, schema, ddlParser);
+                    if (recovered.parserState() != null) {
+                        ddlParser.restoreState(recovered.parserState());
                     }
-                }
-                else if (ddl != null) {
-                    if (recovered.databaseName() != null) {
-                        ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
-                    }
-                    if (recovered.schemaName() != null) {
-                        ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
-                    }
-                    Optional<Pattern> filteredBy = ddlFilter.apply(ddl);
-                    if (filteredBy.isPresent()) {
-                        logger.info("a DDL '{}' was filtered out of processing by regular expression '{}", ddl, filteredBy.get());
-                        return;
-                    }
-                    try {
-                        logger.debug("Applying: {}", ddl);
-                        ddlParser.parse(ddl, schema);
-                    } catch (final ParsingException e) {
-                        if (skipUnparseableDDL) {
-                            logger.warn("Ignoring unparseable statements '{}' stored in database history: {}", ddl, e);
-                        } else {
-                            throw e;
-                        }
+                } else {
+                    deferred.add(recovered);
+                    if (deferred.size() > checkpointInterval) {
+                        deferred.forEach(r -> apply(r, schema, ddlParser));
+                        deferred.clear();
                     }
                 }
             } else {
                 logger.debug("Skipping: {}", recovered.ddl());
             }
         });
+        deferred.forEach(r -> apply(r, schema, ddlParser));
+    }
+
+    private void apply(HistoryRecord recovered, Tables schema, DdlParser ddlParser) {
+        Array tableChanges = recovered.tableChanges();
+        String ddl = recovered.ddl();
+
+        if (tableChanges != null) {
+            TableChanges changes = TableChanges.fromArray(tableChanges);
+            for (TableChange entry : changes) {
+                if (entry.getType() == TableChangeType.CREATE || entry.getType() == TableChangeType.ALTER) {
+                    schema.overwriteTable(entry.getTable());
+                }
+                // DROP
+                else {
+                    schema.removeTable(entry.getId());
+                }
+            }
+        }
+        else if (ddl != null) {
+            if (recovered.databaseName() != null) {
+                ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
+            }
+            if (recovered.schemaName() != null) {
+                ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
+            }
+            Optional<Pattern> filteredBy = ddlFilter.apply(ddl);
+            if (filteredBy.isPresent()) {
+                logger.info("a DDL '{}' was filtered out of processing by regular expression '{}", ddl, filteredBy.get());
+                return;
+            }
+            try {
+                logger.debug("Applying: {}", ddl);
+                ddlParser.parse(ddl, schema);
+            } catch (final ParsingException e) {
+                if (skipUnparseableDDL) {
+                    logger.warn("Ignoring unparseable statements '{}' stored in database history: {}", ddl, e);
+                } else {
+                    throw e;
+                }
+            }
+        }
     }
 
     protected abstract void storeRecord(HistoryRecord record) throws DatabaseHistoryException;
@@ -55,6 +55,18 @@ public interface DatabaseHistory {
                     + "then only DDL that manipulates a monitored table will be stored.")
             .withDefault(false);
 
+    public static final Field CHECKPOINT_INTERVAL = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.interval")
+            .withDisplayName("Number of history records between schema checkpoints")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("When positive, a checkpoint with the definitions of all tables is stored in the database history "
+                    + "after this many DDL records have been recorded. Recovery then starts from the latest checkpoint at or "
+                    + "before the connector's offset and only replays the DDL statements recorded after it, instead of all "
+                    + "statements ever recorded. Defaults to 0, meaning no checkpoints are stored.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field DDL_FILTER = Field.createInternal(CONFIGURATION_FIELD_PREFIX_STRING + "ddl.filter")
                                                 .withDisplayName("DDL filter")
                                                 .withType(Type.STRING)
@@ -101,6 +113,23 @@ public interface DatabaseHistory {
 
     void record(Map<String, ?> source, Map<String, ?> position, String databaseName, String schemaName, String ddl, TableChanges changes) throws DatabaseHistoryException;
 
+    /**
+     * Offer a checkpoint of the complete database schema, which is stored if enough changes have been
+     * {@link #record(Map, Map, String, String) recorded} since the previous checkpoint. A stored checkpoint allows
+     * {@link #recover(Map, Map, Tables, DdlParser) recovery} to skip all records before it.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history that the given schema reflects, i.e. that of the last recorded change; may not
+     *            be null
+     * @param schema the complete database schema at that point; may not be null
+     * @param ddlParser the DDL parser that produced the given {@code schema}, whose state (e.g., the current database) is
+     *            stored with the checkpoint so that statements recorded after it are parsed the same way; may not be null
+     * @throws DatabaseHistoryException if the checkpoint could not be written
+     */
+    default void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, DdlParser ddlParser)
+            throws DatabaseHistoryException {
+    }
+
     /**
      * Recover the {@link Tables database schema} to a known point in its history. Note that it is possible to recover the
      * database schema to a point in history that is earlier than what has been {@link #record(Map, Map, String, Tables, String)
@@ -5,8 +5,10 @@
  */
 package io.debezium.relational.history;
 
-import java.io.BufferedWriter;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
@@ -18,6 +20,9 @@
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigDef.Width;
 import org.apache.kafka.connect.errors.ConnectException;
 
 import io.debezium.annotation.ThreadSafe;
@@ -25,11 +30,17 @@
 import io.debezium.config.Field;
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
+import io.debezium.util.Clock;
 import io.debezium.util.Collect;
 import io.debezium.util.FunctionalReadWriteLock;
 
 /**
  * A {@link DatabaseHistory} implementation that stores the schema history in a local file.
+ * <p>
+ * Records are appended to the file through a channel that stays open while the history is running. Each record is written
+ * to the file as soon as it is stored, whereas forcing the file's content to the storage device is done at most once per
+ * {@link #SYNC_INTERVAL_MS sync interval} and when the history is stopped. Recovery reads the file line by line, so only a
+ * single record is held in memory at any time.
  *
  * @author Randall Hauch
  */
@@ -40,14 +51,33 @@ public final class FileDatabaseHistory extends AbstractDatabaseHistory {
                                                .withDescription("The path to the file that will be used to record the database history")
                                                .withValidation(Field::isRequired);
 
-    public static Collection<Field> ALL_FIELDS = Collect.arrayListOf(FILE_PATH);
+    public static final Field SYNC_INTERVAL_MS = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "file.sync.interval.ms")
+                                                     .withDisplayName("Database history file sync interval (ms)")
+                                                     .withType(Type.LONG)
+                                                     .withWidth(Width.SHORT)
+                                                     .withImportance(Importance.LOW)
+                                                     .withDescription("The minimum number of milliseconds between forcing the records written "
+                                                             + "to the history file to the storage device. Records are always written to the file "
+                                                             + "immediately; a value of 0 forces the file after every record, while with larger values "
+                                                             + "the records stored in between share a single sync. The file is always forced when the "
+                                                             + "history is stopped. Defaults to 1000.")
+                                                     .withDefault(1000L)
+                                                     .withValidation(Field::isNonNegativeLong);
+
+    public static Collection<Field> ALL_FIELDS = Collect.arrayListOf(FILE_PATH, SYNC_INTERVAL_MS);
 
     private static final Charset UTF8 = StandardCharsets.UTF_8;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(UTF8);
     private final FunctionalReadWriteLock lock = FunctionalReadWriteLock.reentrant();
     private final DocumentWriter writer = DocumentWriter.defaultWriter();
     private final DocumentReader reader = DocumentReader.defaultReader();
     private final AtomicBoolean running = new AtomicBoolean();
+    private final Clock clock = Clock.system();
     private Path path;
+    private long syncIntervalMs;
+    private FileChannel channel;
+    private long lastSyncMs;
+    private boolean unsynced;
 
     @Override
     public void configure(Configuration config, HistoryRecordComparator comparator) {
@@ -61,6 +91,7 @@ public void configure(Configuration config, HistoryRecordComparator comparator)
         }
         super.configure(config, comparator);
         path = Paths.get(config.getString(FILE_PATH));
+        syncIntervalMs = config.getLong(SYNC_INTERVAL_MS);
     }
 
     @Override
@@ -81,7 +112,10 @@ public void start() {
                             // do nothing
                         }
                     }
+                    channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                    lastSyncMs = clock.currentTimeInMillis();
                 } catch (IOException e) {
+                    running.set(false);
                     throw new DatabaseHistoryException("Unable to create history file at " + path + ": " + e.getMessage(), e);
                 }
             }
@@ -95,30 +129,58 @@ protected void storeRecord(HistoryRecord record) throws DatabaseHistoryException
             if (!running.get()) {
                 throw new IllegalStateException("The history has been stopped and will not accept more records");
             }
+            String line;
             try {
-                String line = writer.write(record.document());
-                // Create a buffered writer to write all of the records, closing the file when there is an error or when
-                // the thread is no longer supposed to run
-                try (BufferedWriter historyWriter = Files.newBufferedWriter(path, StandardOpenOption.APPEND)) {
-                    try {
-                        historyWriter.append(line);
-                        historyWriter.newLine();
-                    } catch (IOException e) {
-                        logger.error("Failed to add record to history at {}: {}", path, record, e);
-                        return;
-                    }
-                } catch (IOException e) {
-                    throw new DatabaseHistoryException("Unable to create writer for history file " + path + ": " + e.getMessage(), e);
-                }
+                line = writer.write(record.document());
             } catch (IOException e) {
                 logger.error("Failed to convert record to string: {}", record, e);
+                return;
+            }
+            byte[] bytes = line.getBytes(UTF8);
+            ByteBuffer buffer = ByteBuffer.allocate(bytes.length + LINE_SEPARATOR.length);
+            buffer.put(bytes).put(LINE_SEPARATOR).flip();
+            try {
+                // the channel was opened for appending, so each write goes to the end of the file ...
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                unsynced = true;
+                long now = clock.currentTimeInMillis();
+                if (now - lastSyncMs >= syncIntervalMs) {
+                    sync(now);
+                }
+            } catch (IOException e) {
+                throw new DatabaseHistoryException("Failed to add record to history at " + path + ": " + e.getMessage(), e);
             }
         });
     }
 
+    private void sync(long now) throws IOException {
+        if (unsynced) {
+            channel.force(false);
+            unsynced = false;
+        }
+        lastSyncMs = now;
+    }
+
     @Override
     public void stop() {
-        running.set(false);
+        lock.write(() -> {
+            if (running.compareAndSet(true, false) && channel != null) {
+                try {
+                    sync(clock.currentTimeInMillis());
+                } catch (IOException e) {
+                    logger.error("Failed to sync history file {}", path, e);
+                } finally {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        logger.error("Failed to close history file {}", path, e);
+                    }
+                    channel = null;
+                }
+            }
+        });
     }
 
     @Override
@@ -126,9 +188,13 @@ protected synchronized void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> {
             try {
                 if (exists()) {
-                    for (String line : Files.readAllLines(path, UTF8)) {
-                        if (line != null && !line.isEmpty()) {
-                            records.accept(new HistoryRecord(reader.read(line)));
+                    // Read one record at a time rather than the whole file at once ...
+                    try (BufferedReader historyReader = Files.newBufferedReader(path, UTF8)) {
+                        String line;
+                        while ((line = historyReader.readLine()) != null) {
+                            if (!line.isEmpty()) {
+                                records.accept(new HistoryRecord(reader.read(line)));
+                            }
                         }
                     }
                 }
@@ -20,6 +20,8 @@ public static final class Fields {
         public static final String SCHEMA_NAME = "schemaName";
         public static final String DDL_STATEMENTS = "ddl";
         public static final String TABLE_CHANGES = "tableChanges";
+        public static final String SCHEMA_CHECKPOINT = "schemaCheckpoint";
+        public static final String PARSER_STATE = "parserState";
     }
 
     private final Document doc;
@@ -92,6 +94,25 @@ protected Array tableChanges() {
         return doc.getArray(Fields.TABLE_CHANGES);
     }
 
+    /**
+     * Whether this record is a checkpoint whose {@link #tableChanges() table changes} describe the complete schema at its
+     * position, rather than a change to the schema.
+     *
+     * @return {@code true} if this record is a schema checkpoint, or {@code false} otherwise
+     */
+    protected boolean isSchemaCheckpoint() {
+        return doc.getBoolean(Fields.SCHEMA_CHECKPOINT, false);
+    }
+
+    /**
+     * The state of the DDL parser at the position of a {@link #isSchemaCheckpoint() schema checkpoint}.
+     *
+     * @return the parser state; may be null if this record is no checkpoint or was stored without parser state
+     */
+    protected Document parserState() {
+        return doc.getDocument(Fields.PARSER_STATE);
+    }
+
     @Override
     public String toString() {
         return doc.toString();
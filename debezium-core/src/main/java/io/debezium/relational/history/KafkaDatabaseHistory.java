@@ -12,9 +12,13 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.apache.kafka.clients.admin.AdminClient;
@@ -43,8 +47,11 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
+import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
+import io.debezium.function.BlockingConsumer;
 import io.debezium.util.Collect;
+import io.debezium.util.Threads;
 
 /**
  * A {@link DatabaseHistory} implementation that records schema changes as normal {@link SourceRecord}s on the specified topic,
@@ -114,6 +121,16 @@ public class KafkaDatabaseHistory extends AbstractDatabaseHistory {
      */
     private static final Integer PARTITION = 0;
 
+    /**
+     * The maximum number of deserialized records waiting to be applied during recovery.
+     */
+    private static final int RECOVERY_QUEUE_SIZE = 1024;
+
+    /**
+     * Marks the end of the records passed from the fetching thread during recovery.
+     */
+    private static final HistoryRecord END_OF_RECOVERY = new HistoryRecord(Document.create());
+
     private final DocumentReader reader = DocumentReader.defaultReader();
     private String topicName;
     private Configuration consumerConfig;
@@ -121,6 +138,7 @@ public class KafkaDatabaseHistory extends AbstractDatabaseHistory {
     private volatile KafkaProducer<String, String> producer;
     private int maxRecoveryAttempts;
     private int pollIntervalMs = -1;
+    private ThreadFactory recoveryThreadFactory;
 
     @Override
     public void configure(Configuration config, HistoryRecordComparator comparator) {
@@ -135,6 +153,7 @@ public void configure(Configuration config, HistoryRecordComparator comparator)
         String bootstrapServers = config.getString(BOOTSTRAP_SERVERS);
         // Copy the relevant portions of the configuration and add useful defaults ...
         String dbHistoryName = config.getString(DatabaseHistory.NAME, UUID.randomUUID().toString());
+        this.recoveryThreadFactory = Threads.threadFactory(KafkaDatabaseHistory.class, dbHistoryName, "recovery", false, true);
         this.consumerConfig = config.subset(CONSUMER_PREFIX, true).edit()
                                     .withDefault(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers)
                                     .withDefault(ConsumerConfig.CLIENT_ID_CONFIG, dbHistoryName)
@@ -199,7 +218,53 @@ protected void storeRecord(HistoryRecord record) throws DatabaseHistoryException
 
     @Override
     protected void recoverRecords(Consumer<HistoryRecord> records) {
-        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties());) {
+        // Fetch and deserialize the records on a separate thread, so that this happens while the previously fetched
+        // records are applied (which usually means parsing their DDL statements); the order of the records is retained ...
+        final BlockingQueue<HistoryRecord> recovered = new ArrayBlockingQueue<>(RECOVERY_QUEUE_SIZE);
+        final AtomicReference<Throwable> fetchFailure = new AtomicReference<>();
+        final Thread fetcher = recoveryThreadFactory.newThread(() -> {
+            try {
+                fetchRecords(recovered::put);
+            } catch (InterruptedException e) {
+                // recovery has been aborted
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                fetchFailure.set(e);
+            }
+            try {
+                recovered.put(END_OF_RECOVERY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        fetcher.start();
+
+        try {
+            HistoryRecord record;
+            while ((record = recovered.take()) != END_OF_RECOVERY) {
+                records.accept(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseHistoryException("Interrupted while recovering the database history", e);
+        } finally {
+            // stop fetching if the records could not be applied ...
+            fetcher.interrupt();
+        }
+
+        final Throwable failure = fetchFailure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new DatabaseHistoryException(failure);
+        }
+    }
+
+    private void fetchRecords(BlockingConsumer<HistoryRecord> records) throws InterruptedException {
+        try (org.apache.kafka.clients.consumer.Consumer<String, String> historyConsumer = createConsumer()) {
             // Subscribe to the only partition for this topic, and seek to the beginning of that partition ...
             logger.debug("Subscribing to database history topic '{}'", topicName);
             historyConsumer.subscribe(Collect.arrayListOf(topicName));
@@ -244,6 +309,8 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
                         }
                     } catch (final IOException e) {
                         logger.error("Error while deserializing history record '{}'", record, e);
+                    } catch (final InterruptedException e) {
+                        throw e;
                     } catch (final Exception e) {
                         logger.error("Unexpected exception while processing record '{}'", record, e);
                         throw e;
@@ -261,7 +328,16 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         }
     }
 
-    private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, KafkaConsumer<String, String> historyConsumer) {
+    /**
+     * Create the consumer used for reading the history topic during recovery.
+     *
+     * @return the consumer; never null
+     */
+    protected org.apache.kafka.clients.consumer.Consumer<String, String> createConsumer() {
+        return new KafkaConsumer<>(consumerConfig.asProperties());
+    }
+
+    private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, org.apache.kafka.clients.consumer.Consumer<String, String> historyConsumer) {
         Map<TopicPartition, Long> offsets = historyConsumer.endOffsets(Collections.singleton(new TopicPartition(topicName, PARTITION)));
         Long endOffset = offsets.entrySet().iterator().next().getValue();
 
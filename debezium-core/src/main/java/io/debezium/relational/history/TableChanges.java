@@ -5,7 +5,19 @@
  */
 package io.debezium.relational.history;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +31,7 @@
 import io.debezium.relational.Table;
 import io.debezium.relational.TableEditor;
 import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
 import io.debezium.relational.history.TableChanges.TableChange;
 
 public class TableChanges implements Iterable<TableChange> {
@@ -48,6 +61,33 @@ public TableChanges create(Table table) {
         return this;
     }
 
+    /**
+     * Create the changes that re-create the given tables from scratch, e.g. for storing a snapshot of a complete schema.
+     *
+     * @param tables the tables; may not be null
+     * @return the changes, one {@link TableChangeType#CREATE} per table
+     */
+    public static TableChanges of(Tables tables) {
+        TableChanges tableChanges = new TableChanges();
+        for (TableId id : tables.tableIds()) {
+            tableChanges.create(tables.forTable(id));
+        }
+        return tableChanges;
+    }
+
+    /**
+     * Determine whether the given table can be stored as a {@link TableChange} without losing information, i.e. whether
+     * its identifier can be parsed back and the default values of all its columns are of a type that can be serialized.
+     *
+     * @param table the table; may not be null
+     * @return {@code true} if the table is fully represented by its document, or {@code false} otherwise
+     */
+    public static boolean isRepresentable(Table table) {
+        return table.id().equals(TableId.parse(table.id().toString())) && table.columns()
+            .stream()
+            .allMatch(c -> !c.hasDefaultValue() || c.defaultValue() == null || DefaultValueType.of(c.defaultValue()) != null);
+    }
+
     @Override
     public Iterator<TableChange> iterator() {
         return changes.iterator();
@@ -210,6 +250,19 @@ private Document toDocument(Column column) {
             document.setBoolean("autoIncremented", column.isAutoIncremented());
             document.setBoolean("generated", column.isGenerated());
 
+            if (column.hasDefaultValue()) {
+                Object defaultValue = column.defaultValue();
+                DefaultValueType defaultValueType = defaultValue != null ? DefaultValueType.of(defaultValue) : null;
+                if (defaultValue == null || defaultValueType != null) {
+                    document.setBoolean("hasDefaultValue", true);
+                }
+                if (defaultValueType != null) {
+                    // the type is stored explicitly, as the serialized form of a document does not retain numeric types
+                    document.setString("defaultValueType", defaultValueType.name());
+                    document.setString("defaultValue", defaultValueType.toString(defaultValue));
+                }
+            }
+
             return document;
         }
 
@@ -249,6 +302,13 @@ private static Table fromDocument(TableId id, Document document) {
                            .autoIncremented(v.getBoolean("autoIncremented"))
                            .generated(v.getBoolean("generated"));
 
+                       if (v.getBoolean("hasDefaultValue", false)) {
+                           String defaultValueType = v.getString("defaultValueType");
+                           columnEditor.defaultValue(defaultValueType != null
+                                   ? DefaultValueType.valueOf(defaultValueType).fromString(v.getString("defaultValue"))
+                                   : null);
+                       }
+
                     return columnEditor.create();
                 })
                 .forEach(editor::addColumn);
@@ -267,4 +327,161 @@ public enum TableChangeType {
         ALTER,
         DROP;
     }
+
+    /**
+     * The types of column default values that can be stored in a {@link TableChange}, each with its string representation.
+     */
+    private enum DefaultValueType {
+        BOOLEAN(Boolean.class) {
+            @Override
+            Object fromString(String value) {
+                return Boolean.valueOf(value);
+            }
+        },
+        BYTE(Byte.class) {
+            @Override
+            Object fromString(String value) {
+                return Byte.valueOf(value);
+            }
+        },
+        SHORT(Short.class) {
+            @Override
+            Object fromString(String value) {
+                return Short.valueOf(value);
+            }
+        },
+        INTEGER(Integer.class) {
+            @Override
+            Object fromString(String value) {
+                return Integer.valueOf(value);
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            Object fromString(String value) {
+                return Long.valueOf(value);
+            }
+        },
+        FLOAT(Float.class) {
+            @Override
+            Object fromString(String value) {
+                return Float.valueOf(value);
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            Object fromString(String value) {
+                return Double.valueOf(value);
+            }
+        },
+        BIG_DECIMAL(BigDecimal.class) {
+            @Override
+            Object fromString(String value) {
+                return new BigDecimal(value);
+            }
+        },
+        BIG_INTEGER(BigInteger.class) {
+            @Override
+            Object fromString(String value) {
+                return new BigInteger(value);
+            }
+        },
+        STRING(String.class) {
+            @Override
+            Object fromString(String value) {
+                return value;
+            }
+        },
+        BYTES(byte[].class) {
+            @Override
+            String toString(Object value) {
+                return Base64.getEncoder().encodeToString((byte[]) value);
+            }
+
+            @Override
+            Object fromString(String value) {
+                return Base64.getDecoder().decode(value);
+            }
+        },
+        DATE(Date.class) {
+            @Override
+            String toString(Object value) {
+                return Long.toString(((Date) value).getTime());
+            }
+
+            @Override
+            Object fromString(String value) {
+                return new Date(Long.parseLong(value));
+            }
+        },
+        TIMESTAMP(Timestamp.class) {
+            @Override
+            String toString(Object value) {
+                // unlike the milliseconds of a date, the instant retains the nanoseconds of the timestamp
+                return ((Timestamp) value).toInstant().toString();
+            }
+
+            @Override
+            Object fromString(String value) {
+                return Timestamp.from(Instant.parse(value));
+            }
+        },
+        LOCAL_DATE(LocalDate.class) {
+            @Override
+            Object fromString(String value) {
+                return LocalDate.parse(value);
+            }
+        },
+        LOCAL_TIME(LocalTime.class) {
+            @Override
+            Object fromString(String value) {
+                return LocalTime.parse(value);
+            }
+        },
+        LOCAL_DATE_TIME(LocalDateTime.class) {
+            @Override
+            Object fromString(String value) {
+                return LocalDateTime.parse(value);
+            }
+        },
+        OFFSET_DATE_TIME(OffsetDateTime.class) {
+            @Override
+            Object fromString(String value) {
+                return OffsetDateTime.parse(value);
+            }
+        },
+        ZONED_DATE_TIME(ZonedDateTime.class) {
+            @Override
+            Object fromString(String value) {
+                return ZonedDateTime.parse(value);
+            }
+        },
+        DURATION(Duration.class) {
+            @Override
+            Object fromString(String value) {
+                return Duration.parse(value);
+            }
+        };
+
+        private final Class<?> valueClass;
+
+        private DefaultValueType(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        String toString(Object value) {
+            return value.toString();
+        }
+
+        abstract Object fromString(String value);
+
+        static DefaultValueType of(Object value) {
+            for (DefaultValueType type : values()) {
+                if (type.valueClass == value.getClass()) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
 }
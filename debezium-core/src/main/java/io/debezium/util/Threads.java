@@ -229,23 +229,47 @@ private Threads() {
      */
     public static ThreadFactory threadFactory(Class<? extends SourceConnector> connector, String connectorId, String name, boolean indexed) {
         LOGGER.info("Requested thread factory for connector {}, id = {} named = {}", connector.getSimpleName(), connectorId, name);
+        return threadFactory(connector.getSimpleName(), connectorId, name, indexed, false);
+    }
 
+    /**
+     * Returns a thread factory that creates threads conforming to Debezium thread naming
+     * pattern {@code debezium-<component class>-<component-id>-<thread-name>}, for components
+     * that are not bound to a particular source connector class, such as the database history.
+     *
+     * @param component - the class of the component running the threads
+     * @param componentId - the identifier to differentiate between component instances
+     * @param name - the name of the thread
+     * @param indexed - true if the thread name should be appended with an index
+     * @param daemon - true if the threads should be daemon threads
+     * @return the thread factory setting the correct name
+     */
+    public static ThreadFactory threadFactory(Class<?> component, String componentId, String name, boolean indexed, boolean daemon) {
+        LOGGER.info("Requested thread factory for component {}, id = {} named = {}", component.getSimpleName(), componentId, name);
+        return threadFactory(component.getSimpleName(), componentId, name, indexed, daemon);
+    }
+
+    private static ThreadFactory threadFactory(String owner, String ownerId, String name, boolean indexed, boolean daemon) {
         return new ThreadFactory() {
             private final AtomicInteger index = new AtomicInteger(0);
 
             @Override
             public Thread newThread(Runnable r) {
                 StringBuilder threadName = new StringBuilder(DEBEZIUM_THREAD_NAME_PREFIX)
-                                            .append(connector.getSimpleName().toLowerCase())
+                                            .append(owner.toLowerCase())
                                             .append('-')
-                                            .append(connectorId)
+                                            .append(ownerId)
                                             .append('-')
                                             .append(name);
                 if (indexed) {
                     threadName.append('-').append(index.getAndIncrement());
                 }
                 LOGGER.info("Creating thread {}", threadName);
-                return new Thread(r, threadName.toString());
+                final Thread thread = new Thread(r, threadName.toString());
+                if (daemon) {
+                    thread.setDaemon(true);
+                }
+                return thread;
             }
         };
     }
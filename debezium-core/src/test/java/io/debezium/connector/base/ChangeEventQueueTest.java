@@ -0,0 +1,244 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.Test;
+
+import io.debezium.util.LoggingContext;
+
+public class ChangeEventQueueTest {
+
+    private ChangeEventQueue<Integer> queue(int maxQueueSize, int maxBatchSize, Duration pollInterval, boolean singleProducer) {
+        return new ChangeEventQueue.Builder<Integer>()
+                .pollInterval(pollInterval)
+                .maxQueueSize(maxQueueSize)
+                .maxBatchSize(maxBatchSize)
+                .singleProducer(singleProducer)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    @Test
+    public void shouldReturnAvailableRecordsInOrderWithoutWaiting() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(10, 4, Duration.ofSeconds(10), true);
+        for (int i = 0; i < 6; i++) {
+            queue.enqueue(i);
+        }
+        assertThat(queue.queueDepth()).isEqualTo(6);
+        assertThat(queue.remainingCapacity()).isEqualTo(4);
+
+        long start = System.nanoTime();
+        assertThat(queue.poll()).containsExactly(0, 1, 2, 3);
+        assertThat(queue.poll()).containsExactly(4, 5);
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        assertThat(queue.queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReturnOnlyAvailableRecordsWithoutWaiting() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(10, 4, Duration.ofSeconds(10), true);
+        assertThat(queue.pollAvailable(4)).isEmpty();
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+
+        assertThat(queue.pollAvailable(2)).containsExactly(0, 1);
+        assertThat(queue.pollAvailable(2)).containsExactly(2);
+        assertThat(queue.pollAvailable(2)).isEmpty();
+        assertThat(queue.queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldWakeUpConsumerAsSoonAsBatchIsComplete() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(10, 3, Duration.ofSeconds(30), true);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                for (int i = 0; i < 3; i++) {
+                    queue.enqueue(i);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        long start = System.nanoTime();
+        assertThat(queue.poll()).containsExactly(0, 1, 2);
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        producer.join();
+    }
+
+    @Test
+    public void shouldReturnIncompleteBatchAfterPollInterval() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(10, 5, Duration.ofMillis(200), true);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                queue.enqueue(1);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(queue.poll()).containsExactly(1);
+        producer.join();
+    }
+
+    @Test
+    public void shouldBlockProducerWhileQueueIsFull() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(2, 2, Duration.ofMillis(50), true);
+        queue.enqueue(1);
+        queue.enqueue(2);
+
+        CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(3);
+                enqueued.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(enqueued.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+        assertThat(queue.poll()).containsExactly(1, 2);
+        assertThat(enqueued.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.poll()).containsExactly(3);
+        assertThat(queue.totalProducerWaitTimeInMillis()).isGreaterThan(0);
+        producer.join();
+    }
+
+    @Test
+    public void shouldNotLoseRecordsOfConcurrentProducers() throws InterruptedException {
+        final int producerCount = 4;
+        final int recordsPerProducer = 10_000;
+        ChangeEventQueue<Integer> queue = queue(64, 16, Duration.ofMillis(10), false);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            final int offset = p * recordsPerProducer;
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < recordsPerProducer; i++) {
+                        queue.enqueue(offset + i);
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        boolean[] seen = new boolean[producerCount * recordsPerProducer];
+        int[] lastSeen = new int[producerCount];
+        Arrays.fill(lastSeen, -1);
+        int received = 0;
+        while (received < seen.length) {
+            for (Integer record : queue.poll()) {
+                assertThat(seen[record]).isFalse();
+                seen[record] = true;
+                // the records of each producer must arrive in the order they were enqueued
+                int producer = record / recordsPerProducer;
+                assertThat(record).isGreaterThan(lastSeen[producer]);
+                lastSeen[producer] = record;
+                received++;
+            }
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertThat(queue.queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRaiseProducerFailureWithoutWaitingForPollInterval() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(10, 5, Duration.ofSeconds(30), true);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.producerFailure(new IllegalStateException("failed"));
+        });
+        producer.start();
+
+        long start = System.nanoTime();
+        try {
+            queue.poll();
+            fail("Expected the producer failure to be raised");
+        }
+        catch (ConnectException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        producer.join();
+    }
+
+    @Test
+    public void shouldReuseSegmentsOfLargeQueue() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(ChangeEventQueue.MAX_QUEUE_SIZE, 10_000, Duration.ofSeconds(10), true);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10_000; i++) {
+                queue.enqueue(round * 10_000 + i);
+            }
+            List<Integer> records = queue.poll();
+            assertThat(records).hasSize(10_000);
+            assertThat(records.get(0)).isEqualTo(round * 10_000);
+            assertThat(records.get(9_999)).isEqualTo(round * 10_000 + 9_999);
+        }
+        assertThat(queue.totalCapacity()).isEqualTo(ChangeEventQueue.MAX_QUEUE_SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectQueueSizeBeyondMaximum() {
+        queue(ChangeEventQueue.MAX_QUEUE_SIZE + 1, 10, Duration.ofSeconds(1), true);
+    }
+
+    @Test
+    public void shouldUnblockProducerWithZeroPollInterval() throws InterruptedException {
+        ChangeEventQueue<Integer> queue = queue(1, 1, Duration.ZERO, true);
+        queue.enqueue(1);
+
+        CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(2);
+                enqueued.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(queue.poll()).containsExactly(1);
+        assertThat(enqueued.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.poll()).containsExactly(2);
+        producer.join();
+    }
+}
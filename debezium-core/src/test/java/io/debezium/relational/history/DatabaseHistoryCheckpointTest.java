@@ -0,0 +1,177 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.document.Document;
+import io.debezium.relational.Column;
+import io.debezium.relational.SystemVariables;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.ddl.DdlChanges;
+import io.debezium.relational.ddl.DdlParser;
+import io.debezium.relational.ddl.DdlParserSql2003;
+import io.debezium.util.Collect;
+
+public class DatabaseHistoryCheckpointTest {
+
+    private DatabaseHistory history;
+    private CountingDdlParser parser;
+    private Map<String, Object> source;
+    private Tables all;
+
+    @Before
+    public void beforeEach() {
+        history = new MemoryDatabaseHistory();
+        history.configure(Configuration.create().with(DatabaseHistory.CHECKPOINT_INTERVAL, 2).build(), null);
+        parser = new CountingDdlParser();
+        source = Collect.linkMapOf("server", "abc");
+        all = new Tables();
+    }
+
+    private Map<String, Object> position(long pos) {
+        return Collect.linkMapOf("file", "a.log", "position", pos, "entry", 0);
+    }
+
+    private Tables record(long pos, String ddl) {
+        history.record(source, position(pos), "db", ddl);
+        parser.setCurrentSchema("db");
+        parser.parse(ddl, all);
+        history.checkpoint(source, position(pos), all, parser);
+        return all.clone();
+    }
+
+    private Tables recover(long pos) {
+        parser.parsed = 0;
+        Tables result = new Tables();
+        history.recover(source, position(pos), result, parser);
+        return result;
+    }
+
+    @Test
+    public void shouldRecoverFromLatestCheckpointBeforeOffset() {
+        Tables t1 = record(10, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );");
+        Tables t2 = record(20, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );");
+        Tables t3 = record(30, "ALTER TABLE person ADD city VARCHAR(22) NOT NULL;");
+        Tables t4 = record(40, "DROP TABLE foo;");
+
+        // before the first checkpoint, all records are replayed ...
+        assertThat(recover(10)).isEqualTo(t1);
+        assertThat(parser.parsed).isEqualTo(1);
+
+        // the checkpoint written with the second record replaces the first two records ...
+        assertThat(recover(20)).isEqualTo(t2);
+        assertThat(parser.parsed).isEqualTo(0);
+        assertThat(recover(30)).isEqualTo(t3);
+        assertThat(parser.parsed).isEqualTo(1);
+
+        // the dropped table is not part of the latest checkpoint ...
+        assertThat(recover(50)).isEqualTo(t4);
+        assertThat(parser.parsed).isEqualTo(0);
+        assertThat(t4.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRestoreParserStateFromCheckpoint() {
+        parser.systemVariables().setVariable(null, "character_set_server", "latin1");
+        record(10, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );");
+        record(20, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );");
+
+        CountingDdlParser recovering = new CountingDdlParser();
+        history.recover(source, position(20), new Tables(), recovering);
+        assertThat(recovering.parsed).isEqualTo(0);
+        assertThat(recovering.systemVariables().getVariable("character_set_server")).isEqualTo("latin1");
+        assertThat(recovering.state()).isEqualTo(parser.state());
+    }
+
+    @Test
+    public void shouldBackOffAfterSkippedCheckpoint() {
+        Tables tables = new Tables();
+        tables.overwriteTable(new TableId("db", null, "foo"),
+                              Collections.singletonList(Column.editor().name("c").jdbcType(Types.OTHER).type("POINT").position(1)
+                                                              .defaultValue(new Object()).create()),
+                              Collections.emptyList(), null);
+        history.record(source, position(10), "db", "CREATE TABLE foo ( c POINT );");
+        history.record(source, position(20), "db", "ALTER TABLE foo ADD d INT;");
+        // the default value can't be stored, so there is no checkpoint, and none is attempted for the next record either ...
+        history.checkpoint(source, position(20), tables, parser);
+        history.record(source, position(30), "db", "CREATE TABLE person ( name VARCHAR(22) NOT NULL );");
+        history.checkpoint(source, position(30), all, parser);
+
+        List<HistoryRecord> stored = new ArrayList<>();
+        ((MemoryDatabaseHistory) history).recoverRecords(stored::add);
+        assertThat(stored).hasSize(3);
+        assertThat(stored.stream().noneMatch(HistoryRecord::isSchemaCheckpoint)).isTrue();
+    }
+
+    @Test
+    public void shouldReplayAllRecordsWithoutCheckpoints() {
+        history.configure(Configuration.empty(), null);
+        record(10, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );");
+        record(20, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );");
+        Tables t3 = record(30, "ALTER TABLE person ADD city VARCHAR(22) NOT NULL;");
+
+        assertThat(recover(30)).isEqualTo(t3);
+        assertThat(parser.parsed).isEqualTo(3);
+    }
+
+    private static class CountingDdlParser implements DdlParser {
+        private final DdlParser delegate = new DdlParserSql2003();
+        private int parsed;
+
+        @Override
+        public void parse(String ddlContent, Tables databaseTables) {
+            parsed++;
+            delegate.parse(ddlContent, databaseTables);
+        }
+
+        @Override
+        public void setCurrentDatabase(String databaseName) {
+            delegate.setCurrentDatabase(databaseName);
+        }
+
+        @Override
+        public void setCurrentSchema(String schemaName) {
+            delegate.setCurrentSchema(schemaName);
+        }
+
+        @Override
+        public DdlChanges getDdlChanges() {
+            return delegate.getDdlChanges();
+        }
+
+        @Override
+        public String terminator() {
+            return delegate.terminator();
+        }
+
+        @Override
+        public SystemVariables systemVariables() {
+            return delegate.systemVariables();
+        }
+
+        @Override
+        public Document state() {
+            return delegate.state();
+        }
+
+        @Override
+        public void restoreState(Document state) {
+            delegate.restoreState(state);
+        }
+    }
+}
@@ -5,6 +5,9 @@
  */
 package io.debezium.relational.history;
 
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -42,4 +45,16 @@ protected DatabaseHistory createHistory() {
     public void shouldRecordChangesAndRecoverToVariousPoints() {
         super.shouldRecordChangesAndRecoverToVariousPoints();
     }
+
+    @Test
+    public void shouldRecoverRecordsAfterRestart() throws Exception {
+        record(01, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", all);
+        record(23, 1, "CREATE TABLE\\nperson ( name VARCHAR(22) NOT NULL );", all);
+        history.stop();
+        assertThat(Files.readAllLines(TEST_FILE_PATH).size()).isEqualTo(2);
+
+        history = createHistory();
+        record(30, 2, "CREATE TABLE address\\n( street VARCHAR(22) NOT NULL );", all);
+        assertThat(recover(1033, 4)).isEqualTo(all);
+    }
 }
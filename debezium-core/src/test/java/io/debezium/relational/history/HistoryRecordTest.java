@@ -7,7 +7,15 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Map;
 
 import org.junit.Test;
@@ -69,4 +77,54 @@ public void canSerializeAndDeserializeHistoryRecord() throws Exception {
         assertThat((Object)TableChanges.fromArray(deserialized.tableChanges())).isEqualTo(tableChanges);
 
     }
+
+    @Test
+    public void canSerializeAndDeserializeColumnDefaultValues() throws Exception {
+        Table table = Table.editor()
+            .tableId(new TableId("db", null, "foo"))
+            .addColumn(Column.editor().name("id").jdbcType(Types.INTEGER).type("INT").position(1).optional(false).create())
+            .addColumn(Column.editor().name("small").jdbcType(Types.SMALLINT).type("SMALLINT").position(2).defaultValue((short) 5).create())
+            .addColumn(Column.editor().name("big").jdbcType(Types.BIGINT).type("BIGINT").position(3).defaultValue(7L).create())
+            .addColumn(Column.editor().name("price").jdbcType(Types.DECIMAL).type("DECIMAL").position(4).defaultValue(new BigDecimal("1.50")).create())
+            .addColumn(Column.editor().name("name").jdbcType(Types.VARCHAR).type("VARCHAR").position(5).defaultValue(null).create())
+            .setPrimaryKeyNames("id")
+            .create();
+        assertThat(TableChanges.isRepresentable(table)).isTrue();
+
+        TableChanges tableChanges = new TableChanges().create(table);
+        HistoryRecord record = new HistoryRecord(Collect.linkMapOf("server", "abc"), Collect.linkMapOf("file", "x.log"), "db", null, null, tableChanges);
+        HistoryRecord deserialized = new HistoryRecord(DocumentReader.defaultReader().read(record.toString()));
+
+        Table recovered = TableChanges.fromArray(deserialized.tableChanges()).iterator().next().getTable();
+        assertThat(recovered).isEqualTo(table);
+        assertThat(recovered.columnWithName("small").defaultValue()).isEqualTo((short) 5);
+        assertThat(recovered.columnWithName("big").defaultValue()).isEqualTo(7L);
+        assertThat(recovered.columnWithName("name").hasDefaultValue()).isTrue();
+        assertThat(recovered.columnWithName("id").hasDefaultValue()).isFalse();
+    }
+
+    @Test
+    public void canSerializeAndDeserializeTemporalColumnDefaultValues() throws Exception {
+        Timestamp timestamp = Timestamp.from(Instant.parse("2018-06-20T13:37:03.123456Z"));
+        Table table = Table.editor()
+            .tableId(new TableId("db", null, "foo"))
+            .addColumn(Column.editor().name("d").jdbcType(Types.DATE).type("DATE").position(1).defaultValue(LocalDate.of(2018, 6, 20)).create())
+            .addColumn(Column.editor().name("dt").jdbcType(Types.TIMESTAMP).type("DATETIME").position(2)
+                    .defaultValue(LocalDateTime.of(2018, 6, 20, 13, 37, 3, 500_000)).create())
+            .addColumn(Column.editor().name("ts").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).type("TIMESTAMP").position(3).defaultValue(timestamp).create())
+            .addColumn(Column.editor().name("zdt").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).type("TIMESTAMP").position(4)
+                    .defaultValue(ZonedDateTime.of(2018, 6, 20, 13, 37, 3, 0, ZoneOffset.UTC)).create())
+            .addColumn(Column.editor().name("t").jdbcType(Types.TIME).type("TIME").position(5).defaultValue(Duration.ofSeconds(-3661)).create())
+            .create();
+        assertThat(TableChanges.isRepresentable(table)).isTrue();
+
+        TableChanges tableChanges = new TableChanges().create(table);
+        HistoryRecord record = new HistoryRecord(Collect.linkMapOf("server", "abc"), Collect.linkMapOf("file", "x.log"), "db", null, null, tableChanges);
+        HistoryRecord deserialized = new HistoryRecord(DocumentReader.defaultReader().read(record.toString()));
+
+        Table recovered = TableChanges.fromArray(deserialized.tableChanges()).iterator().next().getTable();
+        assertThat(recovered).isEqualTo(table);
+        assertThat(recovered.columnWithName("ts").defaultValue()).isEqualTo(timestamp);
+        assertThat(recovered.columnWithName("t").defaultValue()).isEqualTo(Duration.ofSeconds(-3661));
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.ddl.DdlParserSql2003;
+import io.debezium.text.ParsingException;
+import io.debezium.util.Collect;
+
+/**
+ * Tests of the recovery of the {@link KafkaDatabaseHistory}, which fetches the records of the history topic on a separate
+ * thread while they are applied; the topic is simulated by a {@link MockConsumer}.
+ */
+public class KafkaDatabaseHistoryRecoveryTest {
+
+    private static final String TOPIC = "schema-changes-topic";
+
+    // more than the recovery queue holds, so that the fetching thread has to wait for the records to be applied
+    private static final int RECORD_COUNT = 3000;
+
+    private Map<String, String> source;
+    private Map<String, Object> position;
+    private List<String> values;
+    private KafkaException pollFailure;
+
+    @Before
+    public void beforeEach() {
+        source = Collect.hashMapOf("server", "my-server");
+        position = Collect.hashMapOf("filename", "my-txn-file.log", "position", Integer.MAX_VALUE);
+        values = new ArrayList<>();
+        pollFailure = null;
+    }
+
+    @Test
+    public void shouldApplyRecordsInOrderOfTopic() {
+        // each record drops the table created by the previous one, so only the last table remains if they are applied in order ...
+        record("CREATE TABLE t0 ( id INTEGER NOT NULL PRIMARY KEY );");
+        for (int i = 1; i < RECORD_COUNT; i++) {
+            record("DROP TABLE t" + (i - 1) + "; CREATE TABLE t" + i + " ( id INTEGER NOT NULL PRIMARY KEY );");
+        }
+
+        Tables tables = recover();
+
+        assertThat(tables.size()).isEqualTo(1);
+        assertThat(tables.forTable(new TableId("db1", null, "t" + (RECORD_COUNT - 1)))).isNotNull();
+        assertNoRecoveryThreadAlive();
+    }
+
+    @Test
+    public void shouldRecoverEmptyTopic() {
+        assertThat(recover().size()).isEqualTo(0);
+        assertNoRecoveryThreadAlive();
+    }
+
+    @Test
+    public void shouldStopFetchingWhenRecordCannotBeApplied() {
+        record("xxxDROP TABLE foo;");
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            record("CREATE TABLE t" + i + " ( id INTEGER NOT NULL PRIMARY KEY );");
+        }
+
+        try {
+            recover();
+            fail("The unparseable record should have failed the recovery");
+        }
+        catch (ParsingException e) {
+            // expected
+        }
+        assertNoRecoveryThreadAlive();
+    }
+
+    @Test
+    public void shouldPropagateFailureOfFetchingRecords() {
+        record("CREATE TABLE t0 ( id INTEGER NOT NULL PRIMARY KEY );");
+        pollFailure = new KafkaException("Broker not available");
+
+        try {
+            recover();
+            fail("The failure of the consumer should have failed the recovery");
+        }
+        catch (KafkaException e) {
+            assertThat(e).isSameAs(pollFailure);
+        }
+        assertNoRecoveryThreadAlive();
+    }
+
+    private void record(String ddl) {
+        Map<String, Object> recordPosition = Collect.hashMapOf("filename", "my-txn-file.log", "position", values.size());
+        values.add(new HistoryRecord(source, recordPosition, "db1", null, ddl, null).toString());
+    }
+
+    private Tables recover() {
+        KafkaDatabaseHistory history = new MockKafkaDatabaseHistory();
+        history.configure(Configuration.create()
+                                       .with(KafkaDatabaseHistory.BOOTSTRAP_SERVERS, "localhost:9092")
+                                       .with(KafkaDatabaseHistory.TOPIC, TOPIC)
+                                       .with(DatabaseHistory.NAME, "my-db-history")
+                                       .build(),
+                          null);
+
+        Tables tables = new Tables();
+        history.recover(source, position, tables, new DdlParserSql2003());
+        return tables;
+    }
+
+    private void assertNoRecoveryThreadAlive() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("debezium-kafkadatabasehistory-my-db-history-recovery")) {
+                try {
+                    thread.join(10_000);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                assertThat(thread.isAlive()).isFalse();
+                assertThat(thread.isDaemon()).isTrue();
+            }
+        }
+    }
+
+    /**
+     * A history that reads the recorded values from a mock consumer instead of a Kafka broker.
+     */
+    private class MockKafkaDatabaseHistory extends KafkaDatabaseHistory {
+
+        @Override
+        protected Consumer<String, String> createConsumer() {
+            final TopicPartition partition = new TopicPartition(TOPIC, 0);
+            return new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST) {
+
+                @Override
+                public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+                    super.subscribe(topics, listener);
+                    rebalance(Collections.singletonList(partition));
+                    updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+                    updateEndOffsets(Collections.singletonMap(partition, (long) values.size()));
+                    for (int i = 0; i < values.size(); i++) {
+                        addRecord(new ConsumerRecord<>(TOPIC, 0, i, null, values.get(i)));
+                    }
+                    if (pollFailure != null) {
+                        setException(pollFailure);
+                    }
+                }
+            };
+        }
+    }
+}
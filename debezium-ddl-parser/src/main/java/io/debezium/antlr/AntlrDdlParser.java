@@ -8,15 +8,24 @@
 
 import java.util.Collection;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
@@ -49,6 +58,21 @@
      */
     private AntlrDdlParserListener antlrDdlParserListener;
 
+    /**
+     * The lexer, token stream and parser, which are created for the first statement and reused for all others.
+     */
+    private L lexer;
+    private CommonTokenStream tokens;
+    private P parser;
+
+    /**
+     * The number of statements after which the DFA caches of the lexer and parser are cleared, or 0 if they are never
+     * cleared automatically. When positive, this parser uses DFA caches of its own rather than those shared by all
+     * instances of the generated lexer and parser.
+     */
+    private int dfaCacheClearInterval;
+    private int statementsSinceDfaCacheClear;
+
     protected Tables databaseTables;
     protected DataTypeResolver dataTypeResolver;
 
@@ -66,18 +90,30 @@ public void parse(String ddlContent, Tables databaseTables) {
         this.databaseTables = databaseTables;
 
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
-        L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
-        P parser = createNewParserInstance(new CommonTokenStream(lexer));
-
-        dataTypeResolver = initializeDataTypeResolver();
+        CharStream input = new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase());
+        if (parser == null) {
+            lexer = createNewLexerInstance(input);
+            tokens = new CommonTokenStream(lexer);
+            parser = createNewParserInstance(tokens);
+            // remove default console output printing error listener
+            parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
+            if (dfaCacheClearInterval > 0) {
+                usePrivateDfaCaches();
+            }
+        }
+        else {
+            // resetting the lexer, token stream and parser is much cheaper than creating new instances
+            lexer.setInputStream(input);
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+        }
 
-        // remove default console output printing error listener
-        parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        if (dataTypeResolver == null) {
+            dataTypeResolver = initializeDataTypeResolver();
+        }
 
         ParsingErrorListener parsingErrorListener = new ParsingErrorListener(AbstractDdlParser::accumulateParsingFailure);
-        parser.addErrorListener(parsingErrorListener);
-
-        ParseTree parseTree = parseTree(parser);
+        ParseTree parseTree = parseTree(parser, parsingErrorListener);
 
         if (parsingErrorListener.getErrors().isEmpty()) {
             antlrDdlParserListener = createParseTreeWalkerListener();
@@ -94,6 +130,79 @@ public void parse(String ddlContent, Tables databaseTables) {
         }
     }
 
+    /**
+     * Parse the statements using the two-stage strategy recommended for ANTLR 4: the faster SLL prediction mode, which
+     * bails out on the first syntax error, is tried first. Only if that fails, the input is parsed again using the full LL
+     * prediction mode and the default error handling, so syntax errors are reported exactly as before.
+     */
+    private ParseTree parseTree(P parser, ParsingErrorListener parsingErrorListener) {
+        clearDfaCacheIfNeeded();
+
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return parseTree(parser);
+        }
+        catch (ParseCancellationException e) {
+            // rewinds the token stream, so the statements don't need to be tokenized again
+            parser.reset();
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.addErrorListener(parsingErrorListener);
+            try {
+                return parseTree(parser);
+            }
+            finally {
+                parser.removeErrorListener(parsingErrorListener);
+            }
+        }
+    }
+
+    private void clearDfaCacheIfNeeded() {
+        if (dfaCacheClearInterval > 0 && ++statementsSinceDfaCacheClear > dfaCacheClearInterval) {
+            clearDfaCache();
+        }
+    }
+
+    /**
+     * Clears the DFA caches of the lexer and the parser, to bound the memory used by them at the price of slower parsing
+     * until they are warm again.
+     * <p>
+     * By default, ANTLR shares these caches between all instances of a generated lexer or parser within the JVM, i.e. also
+     * with the parsers of other connectors. To not affect those, the shared caches are never cleared; instead, this parser
+     * switches to new, empty caches of its own.
+     */
+    public void clearDfaCache() {
+        if (parser != null) {
+            usePrivateDfaCaches();
+        }
+        statementsSinceDfaCacheClear = 0;
+    }
+
+    /**
+     * Sets the number of parsed statements after which the DFA caches are {@link #clearDfaCache() cleared}. Must be called
+     * before the first statement is parsed for the caches to be private to this parser from the start.
+     *
+     * @param dfaCacheClearInterval the number of statements, or 0 if the caches should never be cleared automatically
+     */
+    public void setDfaCacheClearInterval(int dfaCacheClearInterval) {
+        this.dfaCacheClearInterval = dfaCacheClearInterval;
+        this.statementsSinceDfaCacheClear = 0;
+    }
+
+    private void usePrivateDfaCaches() {
+        lexer.setInterpreter(new LexerATNSimulator(lexer, lexer.getATN(), newDfaCache(lexer.getATN()), new PredictionContextCache()));
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), newDfaCache(parser.getATN()), new PredictionContextCache()));
+    }
+
+    private static DFA[] newDfaCache(ATN atn) {
+        DFA[] decisionToDfa = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < decisionToDfa.length; i++) {
+            decisionToDfa[i] = new DFA(atn.getDecisionState(i), i);
+        }
+        return decisionToDfa;
+    }
+
     /**
      * Returns errors catched during tree walk.
      *
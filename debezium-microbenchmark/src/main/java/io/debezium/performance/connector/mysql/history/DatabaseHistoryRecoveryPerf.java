@@ -0,0 +1,93 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql.history;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.DatabaseHistory;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+import io.debezium.util.Collect;
+
+/**
+ * A basic test to compare the time needed to recover a database history of 100k DDL records, with and without
+ * schema checkpoints.
+ */
+public class DatabaseHistoryRecoveryPerf {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int TABLE_COUNT = 500;
+
+    @State(Scope.Thread)
+    public static class HistoryState {
+
+        public DatabaseHistory history;
+        public Map<String, Object> source;
+        public Map<String, Object> position;
+
+        @Param({"0", "1000", "10000"})
+        public int checkpointInterval;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            history = new MemoryDatabaseHistory();
+            history.configure(Configuration.create().with(DatabaseHistory.CHECKPOINT_INTERVAL, checkpointInterval).build(), null);
+            history.start();
+            source = Collect.linkMapOf("server", "perf");
+
+            final MySqlAntlrDdlParser parser = new MySqlAntlrDdlParser();
+            final Tables tables = new Tables();
+            parser.setCurrentDatabase("db");
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final String ddl = testStatement(i);
+                position = Collect.linkMapOf("file", "mysql-bin.000001", "pos", (long) i);
+                parser.parse(ddl, tables);
+                history.record(source, position, "db", ddl);
+                history.checkpoint(source, position, tables, parser);
+            }
+        }
+
+        private String testStatement(int i) {
+            final int table = i % TABLE_COUNT;
+            if (i < TABLE_COUNT) {
+                return "CREATE TABLE t" + table + " (id INT PRIMARY KEY, name VARCHAR(255) DEFAULT 'none', created BIGINT NOT NULL)";
+            }
+            // alternately add and drop a column, so that the number of columns stays bounded ...
+            final int version = i / TABLE_COUNT;
+            return version % 2 == 1
+                    ? "ALTER TABLE t" + table + " ADD COLUMN c" + version + " INT DEFAULT " + version
+                    : "ALTER TABLE t" + table + " DROP COLUMN c" + (version - 1);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Tables recover(HistoryState state) {
+        final Tables tables = new Tables();
+        state.history.recover(state.source, state.position, tables, new MySqlAntlrDdlParser());
+        return tables;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql.history;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.DatabaseHistory;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.KafkaDatabaseHistory;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.util.Collect;
+
+/**
+ * A basic test to measure the time needed to recover a database history of 100k records from a Kafka topic, which is
+ * simulated by a {@link MockConsumer}, with records that carry either only DDL statements or also their table changes.
+ */
+public class KafkaDatabaseHistoryRecoveryPerf {
+
+    private static final String TOPIC = "schema-changes-topic";
+    private static final int RECORD_COUNT = 100_000;
+    private static final int TABLE_COUNT = 500;
+
+    @State(Scope.Thread)
+    public static class HistoryState {
+
+        public DatabaseHistory history;
+        public Map<String, Object> source;
+        public Map<String, Object> position;
+
+        @Param({"false", "true"})
+        public boolean withTableChanges;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            source = Collect.linkMapOf("server", "perf");
+
+            final List<String> values = new ArrayList<>(RECORD_COUNT);
+            final MySqlAntlrDdlParser parser = new MySqlAntlrDdlParser();
+            final Tables tables = new Tables();
+            parser.setCurrentDatabase("db");
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final String ddl = testStatement(i);
+                position = Collect.linkMapOf("file", "mysql-bin.000001", "pos", (long) i);
+                TableChanges changes = null;
+                if (withTableChanges) {
+                    parser.parse(ddl, tables);
+                    changes = new TableChanges().create(tables.forTable(new TableId("db", null, "t" + i % TABLE_COUNT)));
+                }
+                values.add(new HistoryRecord(source, position, "db", null, ddl, changes).toString());
+            }
+
+            history = new MockKafkaDatabaseHistory(values);
+            history.configure(Configuration.create()
+                                           .with(KafkaDatabaseHistory.TOPIC, TOPIC)
+                                           .with(KafkaDatabaseHistory.BOOTSTRAP_SERVERS, "localhost:9092")
+                                           .with(DatabaseHistory.NAME, "perf-db-history")
+                                           .build(), null);
+        }
+
+        private String testStatement(int i) {
+            final int table = i % TABLE_COUNT;
+            if (i < TABLE_COUNT) {
+                return "CREATE TABLE t" + table + " (id INT PRIMARY KEY, name VARCHAR(255) DEFAULT 'none', created BIGINT NOT NULL)";
+            }
+            // alternately add and drop a column, so that the number of columns stays bounded ...
+            final int version = i / TABLE_COUNT;
+            return version % 2 == 1
+                    ? "ALTER TABLE t" + table + " ADD COLUMN c" + version + " INT DEFAULT " + version
+                    : "ALTER TABLE t" + table + " DROP COLUMN c" + (version - 1);
+        }
+    }
+
+    /**
+     * A history that reads the given records from a mock consumer instead of a Kafka broker.
+     */
+    private static class MockKafkaDatabaseHistory extends KafkaDatabaseHistory {
+
+        private final List<String> values;
+
+        MockKafkaDatabaseHistory(List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        protected Consumer<String, String> createConsumer() {
+            final TopicPartition partition = new TopicPartition(TOPIC, 0);
+            return new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST) {
+
+                @Override
+                public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+                    super.subscribe(topics, listener);
+                    rebalance(Collections.singletonList(partition));
+                    updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+                    updateEndOffsets(Collections.singletonMap(partition, (long) values.size()));
+                    for (int i = 0; i < values.size(); i++) {
+                        addRecord(new ConsumerRecord<>(TOPIC, 0, i, null, values.get(i)));
+                    }
+                }
+            };
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Tables recover(HistoryState state) {
+        final Tables tables = new Tables();
+        state.history.recover(state.source, state.position, tables, new MySqlAntlrDdlParser());
+        return tables;
+    }
+}
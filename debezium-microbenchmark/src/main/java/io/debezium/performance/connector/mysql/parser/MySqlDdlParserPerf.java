@@ -27,7 +27,7 @@
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
- * of columns in the statement.
+ * of columns in the statement, as well as for scripts of multiple statements and for sequences of ALTER statements.
  *
  * @author Jiri Pechanec <jpechane@redhat.com>
  *
@@ -64,6 +64,62 @@ private String testStatement() {
         }
     }
 
+    @State(Scope.Thread)
+    public static class WorkloadState {
+
+        public AbstractDdlParser legacyParser;
+        public AbstractDdlParser antlrParser;
+        public String multiStatementDdl;
+        public String[] alterStatements;
+
+        @Param({"10", "100"})
+        public int statementCount;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            legacyParser = new MySqlDdlParser();
+            antlrParser = new MySqlAntlrDdlParser();
+            multiStatementDdl = multiStatementDdl();
+            alterStatements = alterStatements();
+        }
+
+        public Tables initialTables(AbstractDdlParser parser) {
+            final Tables tables = new Tables();
+            parser.parse("CREATE TABLE t1 (id int primary key, name varchar(255) not null default '', created bigint)", tables);
+            return tables;
+        }
+
+        private String multiStatementDdl() {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < statementCount; i++) {
+                sb.append("CREATE TABLE t").append(i).append(" (id int primary key, name varchar(255) not null default '', ")
+                  .append("amount decimal(10,2), created timestamp default current_timestamp, key idx_name (name));\n");
+                sb.append("ALTER TABLE t").append(i).append(" ADD COLUMN note text, MODIFY COLUMN name varchar(512);\n");
+                sb.append("DROP TABLE IF EXISTS t").append(i).append("_old;\n");
+            }
+            return sb.toString();
+        }
+
+        private String[] alterStatements() {
+            final String[] statements = new String[statementCount];
+            for (int i = 0; i < statementCount; i++) {
+                switch (i % 4) {
+                    case 0:
+                        statements[i] = "ALTER TABLE t1 ADD COLUMN c" + i + " int default " + i;
+                        break;
+                    case 1:
+                        statements[i] = "ALTER TABLE t1 MODIFY COLUMN c" + (i - 1) + " bigint not null";
+                        break;
+                    case 2:
+                        statements[i] = "ALTER TABLE t1 CHANGE COLUMN c" + (i - 2) + " d" + i + " varchar(64) after name";
+                        break;
+                    default:
+                        statements[i] = "ALTER TABLE t1 DROP COLUMN d" + (i - 1);
+                }
+            }
+            return statements;
+        }
+    }
 
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
@@ -84,4 +140,56 @@ public void legacy(ParserState state) {
     public void antlr(ParserState state) {
         state.antlrParser.parse(state.ddl, state.tables);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Tables legacyMultiStatement(WorkloadState state) {
+        final Tables tables = new Tables();
+        state.legacyParser.parse(state.multiStatementDdl, tables);
+        return tables;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Tables antlrMultiStatement(WorkloadState state) {
+        final Tables tables = new Tables();
+        state.antlrParser.parse(state.multiStatementDdl, tables);
+        return tables;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Tables legacyAlterHeavy(WorkloadState state) {
+        final Tables tables = state.initialTables(state.legacyParser);
+        for (String statement : state.alterStatements) {
+            state.legacyParser.parse(statement, tables);
+        }
+        return tables;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Tables antlrAlterHeavy(WorkloadState state) {
+        final Tables tables = state.initialTables(state.antlrParser);
+        for (String statement : state.alterStatements) {
+            state.antlrParser.parse(statement, tables);
+        }
+        return tables;
+    }
 }
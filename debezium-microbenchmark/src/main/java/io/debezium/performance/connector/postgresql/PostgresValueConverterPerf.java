@@ -0,0 +1,311 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.ValueConverter;
+
+/**
+ * A basic test to measure the cost of converting a single value with the converters of {@link PostgresValueConverter},
+ * covering each of the column types it handles specifically as well as the common JDBC types. The values are of the
+ * Java types provided by the JDBC driver or the logical decoding plug-ins.
+ */
+public class PostgresValueConverterPerf {
+
+    private static final int GEOMETRY_OID = 16400;
+    private static final int GEOGRAPHY_OID = 16401;
+    private static final int CITEXT_OID = 16402;
+    private static final int GEOMETRY_ARRAY_OID = 16403;
+    private static final int GEOGRAPHY_ARRAY_OID = 16404;
+    private static final int CITEXT_ARRAY_OID = 16405;
+
+    // POINT(1 2) in HexEWKB format
+    private static final String GEOMETRY_VALUE = "0101000000000000000000F03F0000000000000040";
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        public ValueConverter converter;
+        public Object value;
+
+        @Param({ "bool", "int2", "int4", "int8", "float4", "float8", "varchar", "text", "date", "time", "bit", "varbit", "interval",
+                "timestamp", "timestamptz", "timetz", "oid", "json", "jsonb", "uuid", "tstzrange", "point", "money", "numeric", "bytea",
+                "int2[]", "int4[]", "int8[]", "char[]", "varchar[]", "text[]", "bpchar[]", "numeric[]", "float4[]", "float8[]", "bool[]",
+                "date[]", "geometry", "geography", "citext", "geometry[]", "geography[]", "citext[]" })
+        public String columnType;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws Exception {
+            final TypeRegistry.Builder types = TypeRegistry.create(null);
+            final PostgresType int2 = addType(types, "int2", PgOid.INT2, Types.SMALLINT, PgOid.INT2_ARRAY);
+            final PostgresType int4 = addType(types, "int4", PgOid.INT4, Types.INTEGER, PgOid.INT4_ARRAY);
+            final PostgresType int8 = addType(types, "int8", PgOid.INT8, Types.BIGINT, PgOid.INT8_ARRAY);
+            final PostgresType chars = addType(types, "char", PgOid.CHAR, Types.CHAR, PgOid.CHAR_ARRAY);
+            final PostgresType varchar = addType(types, "varchar", PgOid.VARCHAR, Types.VARCHAR, PgOid.VARCHAR_ARRAY);
+            final PostgresType text = addType(types, "text", PgOid.TEXT, Types.VARCHAR, PgOid.TEXT_ARRAY);
+            final PostgresType bpchar = addType(types, "bpchar", PgOid.BPCHAR, Types.CHAR, PgOid.BPCHAR_ARRAY);
+            final PostgresType numeric = addType(types, "numeric", PgOid.NUMERIC, Types.NUMERIC, PgOid.NUMERIC_ARRAY);
+            final PostgresType float4 = addType(types, "float4", PgOid.FLOAT4, Types.REAL, PgOid.FLOAT4_ARRAY);
+            final PostgresType float8 = addType(types, "float8", PgOid.FLOAT8, Types.DOUBLE, PgOid.FLOAT8_ARRAY);
+            final PostgresType bool = addType(types, "bool", PgOid.BOOL, Types.BIT, PgOid.BOOL_ARRAY);
+            final PostgresType date = addType(types, "date", PgOid.DATE, Types.DATE, PgOid.DATE_ARRAY);
+            final PostgresType geometry = addType(types, TypeRegistry.TYPE_NAME_GEOMETRY, GEOMETRY_OID, Types.OTHER, GEOMETRY_ARRAY_OID);
+            final PostgresType geography = addType(types, TypeRegistry.TYPE_NAME_GEOGRAPHY, GEOGRAPHY_OID, Types.OTHER, GEOGRAPHY_ARRAY_OID);
+            final PostgresType citext = addType(types, TypeRegistry.TYPE_NAME_CITEXT, CITEXT_OID, Types.OTHER, CITEXT_ARRAY_OID);
+            final TypeRegistry typeRegistry = types.build();
+
+            final PostgresValueConverter converters = new PostgresValueConverter(DecimalMode.PRECISE, TemporalPrecisionMode.ADAPTIVE,
+                    ZoneOffset.UTC, null, false, typeRegistry) {
+            };
+
+            final ColumnEditor column;
+            switch (columnType) {
+                case "bool":
+                    column = column(bool);
+                    value = Boolean.TRUE;
+                    break;
+                case "int2":
+                    column = column(int2);
+                    value = 12;
+                    break;
+                case "int4":
+                    column = column(int4);
+                    value = 1234;
+                    break;
+                case "int8":
+                    column = column(int8);
+                    value = 1234567890123L;
+                    break;
+                case "float4":
+                    column = column(float4);
+                    value = 1.5f;
+                    break;
+                case "float8":
+                    column = column(float8);
+                    value = 1.5d;
+                    break;
+                case "varchar":
+                    column = column(varchar).length(255);
+                    value = "some text";
+                    break;
+                case "text":
+                    column = column(text);
+                    value = "some text";
+                    break;
+                case "date":
+                    column = column(date);
+                    value = Date.valueOf("2018-03-20");
+                    break;
+                case "time":
+                    column = column("time", PgOid.TIME, Types.TIME).scale(6);
+                    value = Time.valueOf("09:58:43");
+                    break;
+                case "bit":
+                    column = column("bit", PgOid.BIT, Types.BIT).length(1);
+                    value = "1";
+                    break;
+                case "varbit":
+                    column = column("varbit", PgOid.VARBIT, Types.BIT).length(16);
+                    value = "1010101010101010";
+                    break;
+                case "interval":
+                    column = column("interval", PgOid.INTERVAL, Types.OTHER);
+                    value = new PGInterval("1 years 2 mons 3 days 04:05:06.789");
+                    break;
+                case "timestamp":
+                    column = column("timestamp", PgOid.TIMESTAMP, Types.TIMESTAMP).scale(6);
+                    value = Timestamp.valueOf("2018-03-20 09:58:43.396355");
+                    break;
+                case "timestamptz":
+                    column = column("timestamptz", PgOid.TIMESTAMPTZ, Types.TIMESTAMP_WITH_TIMEZONE).scale(6);
+                    value = 1521539923396355000L;
+                    break;
+                case "timetz":
+                    column = column("timetz", PgOid.TIMETZ, Types.TIME_WITH_TIMEZONE).scale(6);
+                    value = 35923396355000L;
+                    break;
+                case "oid":
+                    column = column("oid", PgOid.OID, Types.BIGINT);
+                    value = 16384L;
+                    break;
+                case "json":
+                    column = column("json", PgOid.JSON, Types.OTHER);
+                    value = "{\"a\": 1, \"b\": [\"c\", \"d\"]}";
+                    break;
+                case "jsonb":
+                    column = column("jsonb", PgOid.JSONB_OID, Types.OTHER);
+                    value = "{\"a\": 1, \"b\": [\"c\", \"d\"]}";
+                    break;
+                case "uuid":
+                    column = column("uuid", PgOid.UUID, Types.OTHER);
+                    value = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+                    break;
+                case "tstzrange":
+                    column = column("tstzrange", PgOid.TSTZRANGE_OID, Types.OTHER);
+                    value = "[\"2017-06-05 11:29:12.549426+00\",)";
+                    break;
+                case "point":
+                    column = column("point", PgOid.POINT, Types.OTHER);
+                    value = "(1.5,2.5)";
+                    break;
+                case "money":
+                    column = column("money", PgOid.MONEY, Types.DOUBLE).scale(2);
+                    value = 12.34d;
+                    break;
+                case "numeric":
+                    column = column(numeric).length(10).scale(3);
+                    value = new SpecialValueDecimal(new BigDecimal("12345.678"));
+                    break;
+                case "bytea":
+                    column = column("bytea", PgOid.BYTEA, Types.BINARY);
+                    value = new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+                    break;
+                case "int2[]":
+                    column = arrayColumn(typeRegistry, int2);
+                    value = Arrays.asList(1, 2, 3, 4, 5);
+                    break;
+                case "int4[]":
+                    column = arrayColumn(typeRegistry, int4);
+                    value = Arrays.asList(1, 2, 3, 4, 5);
+                    break;
+                case "int8[]":
+                    column = arrayColumn(typeRegistry, int8);
+                    value = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+                    break;
+                case "char[]":
+                    column = arrayColumn(typeRegistry, chars);
+                    value = Arrays.asList("a", "b", "c", "d", "e");
+                    break;
+                case "varchar[]":
+                    column = arrayColumn(typeRegistry, varchar);
+                    value = Arrays.asList("a", "b", "c", "d", "e");
+                    break;
+                case "text[]":
+                    column = arrayColumn(typeRegistry, text);
+                    value = Arrays.asList("a", "b", "c", "d", "e");
+                    break;
+                case "bpchar[]":
+                    column = arrayColumn(typeRegistry, bpchar);
+                    value = Arrays.asList("a", "b", "c", "d", "e");
+                    break;
+                case "numeric[]":
+                    column = arrayColumn(typeRegistry, numeric).length(10).scale(3);
+                    value = Arrays.asList(new SpecialValueDecimal(new BigDecimal("1.5")), new SpecialValueDecimal(new BigDecimal("2.25")),
+                            SpecialValueDecimal.NOT_A_NUMBER);
+                    break;
+                case "float4[]":
+                    column = arrayColumn(typeRegistry, float4);
+                    value = Arrays.asList(1.5f, 2.5f, 3.5f, 4.5f, 5.5f);
+                    break;
+                case "float8[]":
+                    column = arrayColumn(typeRegistry, float8);
+                    value = Arrays.asList(1.5d, 2.5d, 3.5d, 4.5d, 5.5d);
+                    break;
+                case "bool[]":
+                    column = arrayColumn(typeRegistry, bool);
+                    value = Arrays.asList(true, false, true, false, true);
+                    break;
+                case "date[]":
+                    column = arrayColumn(typeRegistry, date);
+                    value = Arrays.asList(Date.valueOf("2018-03-20"), Date.valueOf("2018-03-21"), Date.valueOf("2018-03-22"));
+                    break;
+                case "geometry":
+                    column = column(geometry);
+                    value = GEOMETRY_VALUE;
+                    break;
+                case "geography":
+                    column = column(geography);
+                    value = GEOMETRY_VALUE;
+                    break;
+                case "citext":
+                    column = column(citext);
+                    value = "Some Text";
+                    break;
+                case "geometry[]":
+                    column = arrayColumn(typeRegistry, geometry);
+                    value = Arrays.asList(GEOMETRY_VALUE, GEOMETRY_VALUE, GEOMETRY_VALUE);
+                    break;
+                case "geography[]":
+                    column = arrayColumn(typeRegistry, geography);
+                    value = Arrays.asList(GEOMETRY_VALUE, GEOMETRY_VALUE, GEOMETRY_VALUE);
+                    break;
+                case "citext[]":
+                    column = arrayColumn(typeRegistry, citext);
+                    value = Arrays.asList("a", "b", "c", "d", "e");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown column type " + columnType);
+            }
+
+            final Column definition = column.optional(true).create();
+            final SchemaBuilder schema = converters.schemaBuilder(definition);
+            converter = converters.converter(definition, new Field(definition.name(), 0, schema.optional().build()));
+        }
+
+        private static PostgresType addType(TypeRegistry.Builder types, String name, int oid, int jdbcType, int arrayOid) {
+            final PostgresType type = new PostgresType(name, oid, jdbcType, null);
+            types.addType(type);
+            types.addType(new PostgresType("_" + name, arrayOid, Types.ARRAY, null, type));
+            return type;
+        }
+
+        private static ColumnEditor column(PostgresType type) {
+            return column(type.getName(), type.getOid(), type.getJdbcId());
+        }
+
+        private static ColumnEditor arrayColumn(TypeRegistry typeRegistry, PostgresType elementType) {
+            final PostgresType arrayType = typeRegistry.get("_" + elementType.getName());
+            return column(arrayType.getName(), arrayType.getOid(), Types.ARRAY);
+        }
+
+        private static ColumnEditor column(String typeName, int oid, int jdbcType) {
+            return Column.editor().name("c").type(typeName).nativeType(oid).jdbcType(jdbcType);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Object convert(ConverterState state) {
+        return state.converter.convert(state.value);
+    }
+}
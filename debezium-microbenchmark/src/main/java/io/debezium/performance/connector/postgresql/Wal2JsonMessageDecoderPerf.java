@@ -0,0 +1,143 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoder;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.wal2json.NonStreamingWal2JsonMessageDecoder;
+import io.debezium.connector.postgresql.connection.wal2json.StreamingWal2JsonMessageDecoder;
+
+/**
+ * A basic test to measure the performance of the wal2json decoders depending on the amount of columns in the changed
+ * rows. Each decoded message is a transaction of {@value #CHANGE_COUNT} inserts, formatted like the messages sent by the
+ * plug-in with and without the {@code write-in-chunks} option, respectively.
+ */
+public class Wal2JsonMessageDecoderPerf {
+
+    private static final int CHANGE_COUNT = 10;
+
+    @State(Scope.Thread)
+    public static class DecoderState {
+
+        public TypeRegistry typeRegistry;
+        public MessageDecoder nonStreamingDecoder;
+        public MessageDecoder streamingDecoder;
+        public byte[] message;
+        public List<byte[]> chunks;
+
+        @Param({"5", "50", "200"})
+        public int columnCount;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            typeRegistry = TypeRegistry.create(null)
+                    .addType(new PostgresType("int4", 23, Types.INTEGER, null))
+                    .addType(new PostgresType("int8", 20, Types.BIGINT, null))
+                    .addType(new PostgresType("varchar", 1043, Types.VARCHAR, null))
+                    .addType(new PostgresType("numeric", 1700, Types.NUMERIC, null))
+                    .build();
+            nonStreamingDecoder = new NonStreamingWal2JsonMessageDecoder();
+            streamingDecoder = new StreamingWal2JsonMessageDecoder();
+
+            final String preamble = "{\n\t\"xid\": 563,\n\t\"timestamp\": \"2018-03-20 10:58:43.396355+01\",\n\t\"change\": [";
+            final String end = "\t]\n}";
+            final StringBuilder sb = new StringBuilder(preamble).append('\n');
+            chunks = new ArrayList<>();
+            chunks.add(preamble.getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < CHANGE_COUNT; i++) {
+                final String change = change(i);
+                sb.append(i == 0 ? "" : ",\n").append(change);
+                chunks.add(((i == 0 ? "" : "\t\t,") + change).getBytes(StandardCharsets.UTF_8));
+            }
+            message = sb.append('\n').append(end).toString().getBytes(StandardCharsets.UTF_8);
+            chunks.add(end.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private String change(int row) {
+            final StringBuilder names = new StringBuilder("\"pk\"");
+            final StringBuilder types = new StringBuilder("\"integer\"");
+            final StringBuilder optionals = new StringBuilder("false");
+            final StringBuilder values = new StringBuilder().append(row);
+            for (int i = 0; i < columnCount; i++) {
+                names.append(", \"c").append(i).append('"');
+                optionals.append(", true");
+                switch (i % 4) {
+                    case 0:
+                        types.append(", \"integer\"");
+                        values.append(", ").append(i);
+                        break;
+                    case 1:
+                        types.append(", \"character varying(255)\"");
+                        values.append(", \"value ").append(i).append('"');
+                        break;
+                    case 2:
+                        types.append(", \"bigint\"");
+                        values.append(", ").append(i * 1_000_000_000L);
+                        break;
+                    default:
+                        types.append(", \"numeric(10,2)\"");
+                        values.append(", ").append(i).append(".25");
+                }
+            }
+            return "\t\t{\n\t\t\t\"kind\": \"insert\",\n\t\t\t\"schema\": \"public\",\n\t\t\t\"table\": \"perf\",\n"
+                    + "\t\t\t\"columnnames\": [" + names + "],\n"
+                    + "\t\t\t\"columntypes\": [" + types + "],\n"
+                    + "\t\t\t\"columnoptionals\": [" + optionals + "],\n"
+                    + "\t\t\t\"columnvalues\": [" + values + "]\n\t\t}";
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void nonStreaming(DecoderState state, Blackhole blackhole) throws Exception {
+        state.nonStreamingDecoder.processMessage(ByteBuffer.wrap(state.message), message -> consume(message, blackhole), state.typeRegistry);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void streaming(DecoderState state, Blackhole blackhole) throws Exception {
+        for (byte[] chunk : state.chunks) {
+            state.streamingDecoder.processMessage(ByteBuffer.wrap(chunk), message -> consume(message, blackhole), state.typeRegistry);
+        }
+    }
+
+    private static void consume(ReplicationMessage message, Blackhole blackhole) {
+        for (ReplicationMessage.Column column : message.getNewTupleList()) {
+            blackhole.consume(column.getValue(null, false));
+        }
+    }
+}